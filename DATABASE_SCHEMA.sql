@@ -94,6 +94,47 @@ CREATE INDEX idx_risk_factors_analysis ON stock_analysis_risk_factors(analysis_i
 
 COMMENT ON TABLE stock_analysis_risk_factors IS 'AI 분석 리스크 요인 (다대다)';
 
+-- =====================================================
+-- 6. BatchRun 테이블 (배치 실행 기록)
+-- =====================================================
+CREATE TABLE batch_run (
+  id BIGSERIAL PRIMARY KEY,
+  run_type VARCHAR(30) NOT NULL,
+  run_date DATE NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  total_count INTEGER NOT NULL DEFAULT 0,
+  succeeded_count INTEGER NOT NULL DEFAULT 0,
+  failed_count INTEGER NOT NULL DEFAULT 0,
+  started_at TIMESTAMP NOT NULL,
+  finished_at TIMESTAMP,
+  CONSTRAINT uk_batch_run_type_date UNIQUE (run_type, run_date)
+);
+
+COMMENT ON TABLE batch_run IS '배치 실행 기록 (종류/기준일별 1건, 재시작 시 이어서 사용)';
+COMMENT ON COLUMN batch_run.status IS '실행 상태 (RUNNING/COMPLETED)';
+
+-- =====================================================
+-- 7. BatchRunItem 테이블 (배치 종목별 처리 상태)
+-- =====================================================
+CREATE TABLE batch_run_item (
+  id BIGSERIAL PRIMARY KEY,
+  run_id BIGINT NOT NULL,
+  stock_id BIGINT NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  attempts INTEGER NOT NULL DEFAULT 0,
+  error_message VARCHAR(500),
+  updated_at TIMESTAMP NOT NULL,
+  CONSTRAINT fk_batch_run_item_run FOREIGN KEY (run_id) REFERENCES batch_run(id) ON DELETE CASCADE,
+  CONSTRAINT fk_batch_run_item_stock FOREIGN KEY (stock_id) REFERENCES stock(id) ON DELETE CASCADE,
+  CONSTRAINT uk_batch_run_item UNIQUE (run_id, stock_id)
+);
+
+CREATE INDEX idx_batch_run_item_status ON batch_run_item(run_id, status);
+
+COMMENT ON TABLE batch_run_item IS '배치 종목별 처리 상태 (종목마다 즉시 커밋되는 체크포인트)';
+COMMENT ON COLUMN batch_run_item.status IS '처리 상태 (PENDING/SYNCED/SUCCEEDED/FAILED)';
+COMMENT ON COLUMN batch_run_item.attempts IS '실패 횟수 (재시도 한도 판단)';
+
 -- =====================================================
 -- 샘플 데이터 삽입
 -- =====================================================
@@ -144,3 +185,10 @@ VALUES
 -- WHERE stock_id = (SELECT id FROM stock WHERE stock_code = '005930')
 -- ORDER BY analyzed_date DESC
 -- LIMIT 10;
+
+-- 5. 오늘 배치의 미완료 종목 (재개 대상)
+-- SELECT s.stock_code, i.status, i.attempts, i.error_message
+-- FROM batch_run r
+-- JOIN batch_run_item i ON i.run_id = r.id
+-- JOIN stock s ON s.id = i.stock_id
+-- WHERE r.run_type = 'DAILY_ANALYSIS' AND r.run_date = CURRENT_DATE AND i.status <> 'SUCCEEDED';
@@ -1,11 +1,25 @@
 """
 주식 분석 API 엔드포인트.
 """
+import asyncio
 import logging
+import time
+from collections.abc import AsyncIterator
+from typing import Any
 
 from fastapi import APIRouter, HTTPException
+from fastapi.responses import StreamingResponse
 
-from app.schemas.analysis import AnalysisRequest, AnalysisResponse
+from app.core.config import settings
+from app.schemas.analysis import (
+    AnalysisProgress,
+    AnalysisRequest,
+    AnalysisResponse,
+    AnalysisStage,
+    BatchAnalysisItem,
+    BatchAnalysisRequest,
+    BatchItemStatus,
+)
 from app.services.pattern_service import PatternService
 
 logger = logging.getLogger(__name__)
@@ -14,6 +28,39 @@ router = APIRouter()
 pattern_service = PatternService()
 
 
+async def _run_analysis(request: AnalysisRequest) -> AnalysisResponse:
+    """
+    패턴 분석과 LLM 분석을 수행하여 최종 응답을 구성합니다.
+
+    Args:
+        request: 분석 요청 데이터.
+
+    Returns:
+        분석 결과.
+    """
+    # 1. 패턴 분석 수행 (기술적 지표 + 유사 패턴)
+    pattern_result = await pattern_service.analyze(request)
+
+    # 2. LLM 분석 수행 (투자 추천 생성)
+    return await _run_llm(request, pattern_result)
+
+
+async def _run_llm(request: AnalysisRequest, pattern_result: dict[str, Any]) -> AnalysisResponse:
+    """패턴 분석 결과로 LLM 분석을 수행하여 최종 응답을 구성합니다."""
+    llm_result = await pattern_service.llm_service.generate_analysis(
+        pattern_result, request.model_provider
+    )
+
+    # 3. 최종 응답 구성
+    return AnalysisResponse(
+        recommendation=llm_result["recommendation"],
+        confidence_score=llm_result["confidence_score"],
+        technical_analysis=llm_result["technical_analysis"],
+        supply_analysis=llm_result["supply_analysis"],
+        risk_factors=llm_result["risk_factors"],
+    )
+
+
 @router.post("/", response_model=AnalysisResponse)
 async def analyze_stock(request: AnalysisRequest) -> AnalysisResponse:
     """
@@ -35,22 +82,7 @@ async def analyze_stock(request: AnalysisRequest) -> AnalysisResponse:
             request.lookback_days,
         )
 
-        # 1. 패턴 분석 수행 (기술적 지표 + 유사 패턴)
-        pattern_result = await pattern_service.analyze(request)
-
-        # 2. LLM 분석 수행 (투자 추천 생성)
-        llm_result = await pattern_service.llm_service.generate_analysis(
-            pattern_result, request.model_provider
-        )
-
-        # 3. 최종 응답 구성
-        response = AnalysisResponse(
-            recommendation=llm_result["recommendation"],
-            confidence_score=llm_result["confidence_score"],
-            technical_analysis=llm_result["technical_analysis"],
-            supply_analysis=llm_result["supply_analysis"],
-            risk_factors=llm_result["risk_factors"],
-        )
+        response = await _run_analysis(request)
 
         logger.info(
             "분석 완료: stock_code=%s, recommendation=%s",
@@ -69,3 +101,109 @@ async def analyze_stock(request: AnalysisRequest) -> AnalysisResponse:
     except Exception as e:
         logger.error("분석 중 예외 발생: %s", str(e), exc_info=True)
         raise HTTPException(status_code=500, detail="분석 중 오류가 발생했습니다") from e
+
+
+@router.post("/stream")
+async def analyze_stock_stream(request: AnalysisRequest) -> StreamingResponse:
+    """
+    단건 분석을 수행하며 진행 단계를 NDJSON(한 줄에 AnalysisProgress 하나)으로 스트리밍합니다.
+
+    지표 계산이 끝나면 INDICATORS_COMPUTED, LLM 분석이 끝나면 결과와 함께 LLM_COMPLETED를 전송합니다.
+    응답 헤더가 이미 전송된 뒤이므로 실패는 HTTP 상태 대신 stage=FAILED 줄로 전달됩니다.
+
+    Args:
+        request: 분석 요청 데이터.
+
+    Returns:
+        application/x-ndjson 스트림.
+    """
+    logger.info("분석 스트림 요청 수신: stock_code=%s", request.stock_code)
+    return StreamingResponse(_stream_stages(request), media_type="application/x-ndjson")
+
+
+async def _stream_stages(request: AnalysisRequest) -> AsyncIterator[str]:
+    """분석 단계가 끝날 때마다 진행 줄을 생성합니다."""
+    try:
+        pattern_result = await pattern_service.analyze(request)
+        yield AnalysisProgress(stage=AnalysisStage.INDICATORS_COMPUTED).model_dump_json() + "\n"
+
+        result = await _run_llm(request, pattern_result)
+        yield AnalysisProgress(stage=AnalysisStage.LLM_COMPLETED, result=result).model_dump_json() + "\n"
+        logger.info(
+            "분석 완료: stock_code=%s, recommendation=%s",
+            request.stock_code,
+            result.recommendation,
+        )
+    except Exception as e:
+        logger.error("분석 스트림 실패: stock_code=%s, error=%s", request.stock_code, str(e))
+        yield AnalysisProgress(
+            stage=AnalysisStage.FAILED, error=str(e) or type(e).__name__
+        ).model_dump_json() + "\n"
+
+
+@router.post("/batch")
+async def analyze_stocks_batch(request: BatchAnalysisRequest) -> StreamingResponse:
+    """
+    여러 종목을 한 번의 요청으로 분석합니다.
+
+    종목별 결과는 완료되는 순서대로 NDJSON(한 줄에 BatchAnalysisItem 하나)으로 스트리밍됩니다.
+    한 종목의 실패는 해당 줄의 status=ERROR로만 전달되며 나머지 종목 처리에 영향을 주지 않습니다.
+
+    Args:
+        request: 종목별 분석 요청 목록과 동시 분석 수.
+
+    Returns:
+        application/x-ndjson 스트림.
+
+    Raises:
+        HTTPException: 요청 종목 수가 최대치를 초과한 경우.
+    """
+    if len(request.items) > settings.BATCH_ANALYSIS_MAX_ITEMS:
+        raise HTTPException(
+            status_code=400,
+            detail=f"배치 최대 종목 수({settings.BATCH_ANALYSIS_MAX_ITEMS})를 초과했습니다",
+        )
+
+    concurrency = request.concurrency or settings.BATCH_ANALYSIS_CONCURRENCY
+    logger.info("배치 분석 요청 수신: %d 종목, 동시 분석 수=%d", len(request.items), concurrency)
+
+    return StreamingResponse(
+        _stream_batch(request.items, concurrency),
+        media_type="application/x-ndjson",
+    )
+
+
+async def _stream_batch(items: list[AnalysisRequest], concurrency: int) -> AsyncIterator[str]:
+    """종목별 분석을 동시에 수행하고 완료 순서대로 결과 줄을 생성합니다."""
+    semaphore = asyncio.Semaphore(concurrency)
+
+    async def run(item: AnalysisRequest) -> BatchAnalysisItem:
+        async with semaphore:
+            started = time.perf_counter()
+            try:
+                result = await _run_analysis(item)
+                status, error = BatchItemStatus.OK, None
+            except Exception as e:  # 종목 단위 실패 격리
+                logger.error("배치 항목 분석 실패: stock_code=%s, error=%s", item.stock_code, str(e))
+                result, status, error = None, BatchItemStatus.ERROR, str(e) or type(e).__name__
+            return BatchAnalysisItem(
+                stock_code=item.stock_code,
+                status=status,
+                result=result,
+                error=error,
+                elapsed_ms=int((time.perf_counter() - started) * 1000),
+            )
+
+    tasks = [asyncio.create_task(run(item)) for item in items]
+    succeeded = 0
+    try:
+        for finished in asyncio.as_completed(tasks):
+            item = await finished
+            if item.status == BatchItemStatus.OK:
+                succeeded += 1
+            yield item.model_dump_json() + "\n"
+    finally:
+        # 클라이언트 연결이 끊기면 남은 분석을 취소한다
+        for task in tasks:
+            task.cancel()
+    logger.info("배치 분석 완료: 성공 %d / 전체 %d", succeeded, len(items))
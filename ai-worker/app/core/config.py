@@ -29,6 +29,10 @@ class Settings(BaseSettings):
     DEFAULT_LOOKBACK_DAYS: int = 120
     SIMILARITY_THRESHOLD: float = 0.85
 
+    # 배치 분석 파라미터
+    BATCH_ANALYSIS_CONCURRENCY: int = 4
+    BATCH_ANALYSIS_MAX_ITEMS: int = 100
+
     model_config = {
         "env_file": ".env",
         "env_file_encoding": "utf-8",
@@ -26,3 +26,9 @@ app = FastAPI(
 )
 
 app.include_router(api_router, prefix="/api/v1")
+
+
+@app.get("/health")
+async def health() -> dict[str, str]:
+    """백엔드 AI Worker 풀의 헬스 체크용 엔드포인트."""
+    return {"status": "ok"}
@@ -1,9 +1,10 @@
 """
 분석 관련 Pydantic 스키마 (DTO).
 """
+import datetime
 from enum import Enum
 
-from pydantic import BaseModel, Field
+from pydantic import BaseModel, Field, model_validator
 
 
 class Recommendation(str, Enum):
@@ -20,11 +21,35 @@ class ModelProvider(str, Enum):
     GEMINI = "gemini"
 
 
+class PriceColumns(BaseModel):
+    """컬럼형 OHLCV 시계열 (날짜 오름차순)."""
+
+    date: list[datetime.date] = Field(..., description="거래일")
+    open: list[float] = Field(..., description="시가")
+    high: list[float] = Field(..., description="고가")
+    low: list[float] = Field(..., description="저가")
+    close: list[float] = Field(..., description="종가")
+    volume: list[int] = Field(..., description="거래량")
+
+    @model_validator(mode="after")
+    def check_lengths(self) -> "PriceColumns":
+        """모든 컬럼의 길이가 같은지 검증합니다."""
+        size = len(self.date)
+        for name in ("open", "high", "low", "close", "volume"):
+            if len(getattr(self, name)) != size:
+                raise ValueError(f"prices.{name} 길이가 date와 다릅니다")
+        return self
+
+
 class AnalysisRequest(BaseModel):
     """분석 요청 DTO."""
 
     stock_code: str = Field(..., description="종목 코드", examples=["005930"])
     lookback_days: int = Field(default=120, description="분석 기간(일)")
+    prices: PriceColumns | None = Field(
+        default=None,
+        description="OHLCV 시계열. 있으면 백엔드 시세 API를 호출하지 않고 이 데이터로 분석합니다.",
+    )
     model_provider: ModelProvider = Field(
         default=ModelProvider.OPENAI,
         description="사용할 LLM 프로바이더 (openai / bedrock / gemini)",
@@ -39,3 +64,43 @@ class AnalysisResponse(BaseModel):
     technical_analysis: str = Field(..., description="기술적 분석 요약")
     supply_analysis: str = Field(..., description="수급 분석 요약")
     risk_factors: list[str] = Field(default_factory=list, description="리스크 요인")
+
+
+class BatchAnalysisRequest(BaseModel):
+    """다종목 배치 분석 요청 DTO."""
+
+    items: list[AnalysisRequest] = Field(..., min_length=1, description="종목별 분석 요청")
+    concurrency: int | None = Field(
+        default=None, ge=1, le=32, description="동시 분석 수 (미지정 시 서버 기본값)"
+    )
+
+
+class BatchItemStatus(str, Enum):
+    """배치 항목 처리 결과."""
+    OK = "OK"
+    ERROR = "ERROR"
+
+
+class BatchAnalysisItem(BaseModel):
+    """배치 분석 결과 스트림의 한 줄 (NDJSON)."""
+
+    stock_code: str = Field(..., description="종목 코드")
+    status: BatchItemStatus = Field(..., description="처리 결과")
+    result: AnalysisResponse | None = Field(default=None, description="분석 결과 (성공 시)")
+    error: str | None = Field(default=None, description="오류 메시지 (실패 시)")
+    elapsed_ms: int = Field(..., description="종목 분석 소요 시간(ms)")
+
+
+class AnalysisStage(str, Enum):
+    """단건 분석 진행 단계."""
+    INDICATORS_COMPUTED = "INDICATORS_COMPUTED"
+    LLM_COMPLETED = "LLM_COMPLETED"
+    FAILED = "FAILED"
+
+
+class AnalysisProgress(BaseModel):
+    """단건 분석 진행 스트림의 한 줄 (NDJSON)."""
+
+    stage: AnalysisStage = Field(..., description="진행 단계")
+    result: AnalysisResponse | None = Field(default=None, description="분석 결과 (LLM_COMPLETED 시)")
+    error: str | None = Field(default=None, description="오류 메시지 (FAILED 시)")
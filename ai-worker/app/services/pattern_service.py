@@ -18,7 +18,7 @@ from app.engine.indicators import (
     calculate_sma,
 )
 from app.engine.similarity import calculate_cosine_similarity
-from app.schemas.analysis import AnalysisRequest
+from app.schemas.analysis import AnalysisRequest, PriceColumns
 from app.services.llm_service import LlmService
 
 logger = logging.getLogger(__name__)
@@ -47,17 +47,21 @@ class PatternService:
             request.lookback_days,
         )
 
-        # 1. 백엔드에서 OHLCV 데이터 조회
-        price_data = await self.backend_client.get_stock_prices(
-            request.stock_code, request.lookback_days
-        )
+        # 1. OHLCV 데이터 확보 (요청에 포함되어 있으면 백엔드 재조회 생략)
+        if request.prices is not None:
+            df = self._columns_to_dataframe(request.prices)
+            logger.info("요청에 포함된 시세 사용: %d 건", len(df))
+        else:
+            price_data = await self.backend_client.get_stock_prices(
+                request.stock_code, request.lookback_days
+            )
+            df = self._convert_to_dataframe(price_data) if price_data else pd.DataFrame()
 
-        if not price_data or len(price_data) < 30:
-            logger.warning("데이터가 부족합니다: %d 건", len(price_data) if price_data else 0)
+        if len(df) < 30:
+            logger.warning("데이터가 부족합니다: %d 건", len(df))
             raise ValueError("분석에 필요한 최소 데이터(30일)가 부족합니다")
 
-        # 2. DataFrame 변환
-        df = self._convert_to_dataframe(price_data)
+        # 2. DataFrame 준비 완료
         logger.info("DataFrame 생성 완료: %d rows", len(df))
 
         # 3. 기술적 지표 계산
@@ -80,6 +84,29 @@ class PatternService:
         logger.info("패턴 분석 완료: stock_code=%s", request.stock_code)
         return analysis_result
 
+    @staticmethod
+    def _columns_to_dataframe(prices: PriceColumns) -> pd.DataFrame:
+        """
+        컬럼형 시세를 pandas DataFrame으로 변환합니다.
+
+        Args:
+            prices: 요청에 포함된 컬럼형 OHLCV.
+
+        Returns:
+            OHLCV DataFrame (date 기준 정렬).
+        """
+        df = pd.DataFrame(
+            {
+                "date": pd.to_datetime(prices.date),
+                "open": np.asarray(prices.open, dtype=float),
+                "high": np.asarray(prices.high, dtype=float),
+                "low": np.asarray(prices.low, dtype=float),
+                "close": np.asarray(prices.close, dtype=float),
+                "volume": np.asarray(prices.volume, dtype=np.int64),
+            }
+        )
+        return df.sort_values("date").reset_index(drop=True)
+
     def _convert_to_dataframe(self, price_data: list[dict[str, Any]]) -> pd.DataFrame:
         """
         백엔드 API 응답을 pandas DataFrame으로 변환합니다.
@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * AI Worker 설정.
  */
@@ -15,7 +18,52 @@ import org.springframework.context.annotation.Configuration;
 public class AiWorkerProperties {
 
     /**
-     * AI Worker Base URL.
+     * AI Worker Base URL (endpoints가 비어 있을 때 단일 인스턴스로 사용).
      */
     private String baseUrl;
+
+    /**
+     * AI Worker 인스턴스 목록. 지정하면 baseUrl 대신 이 목록에 부하를 분산합니다.
+     */
+    private List<String> endpoints = new ArrayList<>();
+
+    /**
+     * 인스턴스별 동시 요청 상한 (배치 요청은 Worker 측 동시 분석 수만큼 차지).
+     */
+    private int maxConcurrentPerInstance = 8;
+
+    /**
+     * 모든 인스턴스가 상한에 도달했을 때 빈 슬롯을 기다리는 최대 시간 (ms).
+     */
+    private long acquireTimeoutMs = 30000;
+
+    /**
+     * 헬스 체크 주기 (ms).
+     */
+    private long healthCheckIntervalMs = 5000;
+
+    /**
+     * 헬스 체크 응답 제한 시간 (ms).
+     */
+    private long healthCheckTimeoutMs = 2000;
+
+    /**
+     * 연속 실패가 이 횟수에 도달하면 인스턴스를 제외합니다.
+     */
+    private int failureThreshold = 3;
+
+    /**
+     * 제외된 인스턴스를 다시 시도하기까지의 최소 시간 (ms). 헬스 체크가 성공하면 즉시 복귀합니다.
+     */
+    private long ejectionMs = 30000;
+
+    /**
+     * 분석 입력으로 전달할 최근 일봉 개수.
+     */
+    private int lookbackDays = 120;
+
+    /**
+     * 배치 분석 시 Worker 측 동시 분석 수 (null이면 Worker 기본값).
+     */
+    private Integer batchConcurrency;
 }
@@ -0,0 +1,41 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 분석 결과 캐시 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "analysis-cache")
+@Getter
+@Setter
+public class AnalysisCacheProperties {
+
+    /**
+     * 캐시 사용 여부 (false면 매 요청마다 AI Worker 호출).
+     */
+    private boolean enabled = true;
+
+    /**
+     * Redis 항목 보관 시간 (시간). 키가 입력 내용으로 결정되므로 만료는 저장 공간 회수 용도입니다.
+     */
+    private long ttlHours = 72;
+
+    /**
+     * 인스턴스 간 분석 잠금 임대 시간 (초). AI 분석 최대 소요 시간보다 길어야 합니다.
+     */
+    private long lockLeaseSeconds = 180;
+
+    /**
+     * 진행 중인 분석 결과를 기다리는 최대 시간 (초).
+     */
+    private long waitTimeoutSeconds = 120;
+
+    /**
+     * 다른 인스턴스의 분석 결과 확인 주기 (밀리초).
+     */
+    private long pollIntervalMs = 500;
+}
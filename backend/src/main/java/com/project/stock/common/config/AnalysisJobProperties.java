@@ -0,0 +1,36 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비동기 분석 작업 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "analysis-job")
+@Getter
+@Setter
+public class AnalysisJobProperties {
+
+    /**
+     * 동시에 실행할 분석 작업 수 (AI Worker 동시 호출 상한).
+     */
+    private int poolSize = 4;
+
+    /**
+     * 실행 대기열 크기. 가득 차면 새 작업을 거절합니다.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * 종료된 작업 결과 보관 시간 (분).
+     */
+    private long retentionMinutes = 30;
+
+    /**
+     * SSE 연결 최대 유지 시간 (초).
+     */
+    private long sseTimeoutSeconds = 300;
+}
@@ -0,0 +1,31 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 백테스트 엔진 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "backtest")
+@Getter
+@Setter
+public class BacktestProperties {
+
+    /**
+     * 파라미터 조합 병렬도 (0 이하이면 가용 CPU 수).
+     */
+    private int parallelism = 0;
+
+    /**
+     * 요청당 최대 파라미터 조합 수.
+     */
+    private int maxCombinations = 5000;
+
+    /**
+     * 요청당 최대 종목 수.
+     */
+    private int maxStocks = 500;
+}
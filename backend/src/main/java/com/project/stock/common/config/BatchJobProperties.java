@@ -0,0 +1,37 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 배치 작업 실행기 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "batch.jobs")
+@Getter
+@Setter
+public class BatchJobProperties {
+
+    /**
+     * 동시에 실행할 수 있는 배치 작업 수 (작업 종류마다 하나씩만 실행됩니다).
+     */
+    private int poolSize = 2;
+
+    /**
+     * 실행 대기열 크기. 가득 차면 새 작업을 거절합니다.
+     */
+    private int queueCapacity = 4;
+
+    /**
+     * 보관할 종료 작업 수. 넘으면 오래된 작업부터 정리합니다.
+     */
+    private int historySize = 50;
+
+    /**
+     * 종료 시 진행 중인 작업에 취소를 요청한 뒤 마무리를 기다리는 최대 시간 (초).
+     * 지나면 작업 스레드를 중단하며, 끝나지 않은 종목은 체크포인트로 다음 실행에서 이어서 처리합니다.
+     */
+    private long shutdownGraceSeconds = 30;
+}
@@ -0,0 +1,73 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 일일 분석 배치 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "batch.daily-analysis")
+@Getter
+@Setter
+public class DailyAnalysisBatchProperties {
+
+    /**
+     * 배치 실행 주기 (cron, Asia/Seoul). 스케줄 등록과 HTTP 캐시 만료 계산에 함께 사용합니다.
+     */
+    private String cron = "0 0 16 * * MON-FRI";
+
+    /**
+     * AI Worker 배치 요청 1건에 담을 종목 수. 1이면 종목별 단건 요청으로 동작합니다.
+     */
+    private int analysisBatchSize = 10;
+
+    /**
+     * AI 분석 요청 간 대기 시간 (ms). 단건 모드에서는 종목 간, 배치 모드에서는 배치 간에 적용됩니다.
+     */
+    private long requestDelayMs = 3000;
+
+    /**
+     * 시세 동기화 단계 동시 작업자 수 (KIS 호출 한도 고려).
+     */
+    private int syncConcurrency = 2;
+
+    /**
+     * AI 분석 단계 동시 작업자 수 (AI Worker 동시 요청 수).
+     */
+    private int analyzeConcurrency = 2;
+
+    /**
+     * 분석 이력 저장 단계 동시 작업자 수.
+     */
+    private int persistConcurrency = 1;
+
+    /**
+     * 단계 사이 대기열 크기. 가득 차면 앞 단계가 대기합니다.
+     */
+    private int queueCapacity = 20;
+
+    /**
+     * 분석 단계가 배치를 채우기 위해 추가 종목을 기다리는 최대 시간 (ms).
+     */
+    private long batchLingerMs = 500;
+
+    /**
+     * 여러 백엔드 인스턴스가 Redis 공유 대기열로 종목을 나누어 처리할지 여부.
+     * false이거나 Redis를 쓸 수 없으면 인스턴스마다 단독으로 실행합니다.
+     */
+    private boolean coordinationEnabled = true;
+
+    /**
+     * 종목 임대 시간 (초). 처리 중인 종목은 이 시간의 1/3마다 연장하므로 종목 처리 시간과 무관하며,
+     * 연장이 끊긴 뒤(처리 중 종료된 인스턴스) 다른 인스턴스가 회수하기까지 걸리는 최대 시간입니다.
+     */
+    private long leaseSeconds = 120;
+
+    /**
+     * 종목별 최대 시도 횟수. 실패한 종목은 재시작/수동 실행 때 이 횟수까지 다시 처리합니다.
+     */
+    private int maxAttempts = 3;
+}
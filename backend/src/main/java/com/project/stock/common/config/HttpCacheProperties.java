@@ -0,0 +1,33 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 시세/분석 조회 API의 HTTP 조건부 요청(ETag, Last-Modified) 및 Cache-Control 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "http-cache")
+@Getter
+@Setter
+public class HttpCacheProperties {
+
+    /**
+     * 조건부 GET 사용 여부 (false면 매 요청마다 조회 후 전체 응답).
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cache-Control max-age 상한 (초). 실제 값은 다음 배치 실행까지 남은 시간과 이 값 중 작은 값입니다.
+     * 수동 동기화로 인한 변경을 클라이언트가 늦게 보는 최대 시간이기도 합니다.
+     */
+    private long maxAgeSeconds = 600;
+
+    /**
+     * 종목별 시세 워터마크 보관 기간 (영업일). 만료되면 다음 조회 시 새로 발급되어 클라이언트가 한 번 다시 받습니다.
+     * 휴장일은 세지 않으므로 연휴가 끼면 실제 보관 기간은 그만큼 길어집니다.
+     */
+    private long watermarkTtlDays = 7;
+}
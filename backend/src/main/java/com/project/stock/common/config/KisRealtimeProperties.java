@@ -0,0 +1,69 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한국투자증권 실시간 체결가(WebSocket) 수신 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "kis.realtime")
+@Getter
+@Setter
+public class KisRealtimeProperties {
+
+    /**
+     * 실시간 수신 사용 여부.
+     */
+    private boolean enabled = false;
+
+    /**
+     * WebSocket 주소. 녹화된 틱을 재생하는 로컬 서버로 바꿔 테스트할 수 있습니다.
+     */
+    private String url = "ws://ops.koreainvestment.com:21000";
+
+    /**
+     * 구독 TR ID (H0STCNT0: 국내주식 실시간 체결가).
+     */
+    private String trId = "H0STCNT0";
+
+    /**
+     * 구독할 종목코드. 비어 있으면 활성 관심 종목을 우선순위 순으로 구독합니다.
+     */
+    private List<String> stockCodes = new ArrayList<>();
+
+    /**
+     * 세션당 최대 구독 종목 수 (KIS 세션 등록 한도).
+     */
+    private int maxSubscriptions = 40;
+
+    /**
+     * 장중 틱 저장소 세그먼트당 틱 수 (2의 거듭제곱으로 올림). 세그먼트는 힙 밖(direct buffer)에 할당됩니다.
+     */
+    private int ticksPerSegment = 16384;
+
+    /**
+     * 장중 틱 저장소 전체 메모리 상한 (MB). 초과하면 이후 틱은 저장하지 않고 버린 건수만 기록합니다.
+     */
+    private long maxStoreMemoryMb = 512;
+
+    /**
+     * 장 마감 후 당일 틱을 일봉(stock_price)으로 반영하는 시각 (cron, Asia/Seoul).
+     */
+    private String rolloverCron = "0 40 15 * * MON-FRI";
+
+    /**
+     * 현재가(Stock.currentPrice) 일괄 반영 주기 (ms). 주기 동안의 틱은 종목별 마지막 값 하나로 합쳐집니다.
+     */
+    private long priceFlushIntervalMs = 1000;
+
+    /**
+     * 연결이 끊겼을 때 재연결 대기 시간 (ms).
+     */
+    private long reconnectDelayMs = 5000;
+}
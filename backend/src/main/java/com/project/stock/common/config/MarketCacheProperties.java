@@ -0,0 +1,26 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 시장 전체 일봉 메모리 캐시(컬럼형) 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "market-cache")
+@Getter
+@Setter
+public class MarketCacheProperties {
+
+    /**
+     * 캐시에 적재할 과거 기간 (달력일 기준).
+     */
+    private int historyDays = 3650;
+
+    /**
+     * 기동 시 백그라운드 적재 여부.
+     */
+    private boolean warmOnStartup = true;
+}
@@ -0,0 +1,58 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 차트 패턴 근사 최근접 이웃(ANN) 인덱스 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "pattern-index")
+@Getter
+@Setter
+public class PatternIndexProperties {
+
+    /**
+     * 인덱스 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 인덱싱할 윈도우 크기 목록 (거래일 기준).
+     */
+    private List<Integer> windowSizes = List.of(20, 60);
+
+    /**
+     * LSH 해시 테이블 개수. 많을수록 재현율이 오르고 메모리 사용량이 늘어납니다.
+     */
+    private int tables = 8;
+
+    /**
+     * 테이블당 서명 비트 수 (최대 31). 클수록 버킷이 잘게 나뉘어 후보가 줄어듭니다.
+     */
+    private int bits = 18;
+
+    /**
+     * 기본 멀티 프로브 수 (테이블당 추가로 탐색할 인접 버킷 수).
+     */
+    private int defaultProbes = 4;
+
+    /**
+     * DTW 재정렬 시 Sakoe-Chiba 밴드 반경 (윈도우 길이 대비 비율).
+     */
+    private double dtwBandRatio = 0.1;
+
+    /**
+     * 랜덤 투영 시드. 변경 시 스냅샷을 다시 빌드해야 합니다.
+     */
+    private long seed = 20240601L;
+
+    /**
+     * 스냅샷 저장 디렉토리.
+     */
+    private String snapshotDir = "./data/pattern-index";
+}
@@ -0,0 +1,26 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 시세 누락 점검/보정 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "price-gap")
+@Getter
+@Setter
+public class PriceGapProperties {
+
+    /**
+     * 시작일을 지정하지 않았을 때 점검할 기간 (일). 휴장일 데이터가 없는 연도는 점검하지 않습니다.
+     */
+    private int lookbackDays = 3650;
+
+    /**
+     * 보정 요청 하나로 받을 최대 영업일 수. KIS 기간별 시세 조회가 한 번에 돌려주는 최대 건수(100)에 맞춥니다.
+     */
+    private int pageSize = 100;
+}
@@ -0,0 +1,62 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 호출 할당량(KIS, LLM) 스케줄러 설정.
+ * 할당량은 인스턴스마다 따로 관리되므로, 여러 인스턴스를 띄우면 전체 한도를 인스턴스 수로 나눈 값을 설정합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "quota")
+@Getter
+@Setter
+public class QuotaProperties {
+
+    /**
+     * 할당량 스케줄러 사용 여부. false면 모든 호출을 바로 통과시킵니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * KIS API 초당 호출 수.
+     */
+    private double kisRequestsPerSecond = 15;
+
+    /**
+     * KIS API 순간 최대 호출 수 (쉬는 동안 모아 둘 수 있는 양).
+     */
+    private int kisBurst = 15;
+
+    /**
+     * LLM 분당 분석 종목 수.
+     */
+    private double llmStocksPerMinute = 60;
+
+    /**
+     * LLM 순간 최대 분석 종목 수. 이보다 큰 배치 요청은 보유량이 이만큼 찼을 때 승인하고 차액을 미리 당겨 씁니다.
+     */
+    private int llmBurst = 10;
+
+    /**
+     * 경합 시 사용자 요청 가중치. 배치 가중치와의 비율로 할당량을 나눕니다.
+     */
+    private int interactiveWeight = 3;
+
+    /**
+     * 경합 시 배치 가중치.
+     */
+    private int batchWeight = 1;
+
+    /**
+     * 사용자 요청의 최대 대기 시간 (ms). 예상 대기 시간이 이를 넘으면 대기열에 넣지 않고 바로 거절합니다.
+     */
+    private long interactiveMaxWaitMs = 5000;
+
+    /**
+     * 배치 요청의 최대 대기 시간 (ms).
+     */
+    private long batchMaxWaitMs = 600000;
+}
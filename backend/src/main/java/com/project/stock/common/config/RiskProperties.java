@@ -0,0 +1,36 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 포트폴리오 리스크(상관관계 행렬) 계산 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "risk")
+@Getter
+@Setter
+public class RiskProperties {
+
+    /**
+     * 계산 병렬도 (0 이하이면 가용 CPU 수).
+     */
+    private int parallelism = 0;
+
+    /**
+     * 공분산 블록 크기 (행 수). 블록 두 개의 수익률이 L2 캐시에 들어가는 크기가 적당합니다.
+     */
+    private int blockSize = 64;
+
+    /**
+     * 타임라인 중 실제 거래가 있어야 하는 최소 비율.
+     */
+    private double minCoverage = 0.9;
+
+    /**
+     * 최대 lookback (거래일).
+     */
+    private int maxLookback = 2520;
+}
@@ -0,0 +1,26 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 시장 전체 스크리너 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "screener")
+@Getter
+@Setter
+public class ScreenerProperties {
+
+    /**
+     * 평가 병렬도 (0 이하이면 가용 CPU 수).
+     */
+    private int parallelism = 0;
+
+    /**
+     * 한 번에 반환할 수 있는 최대 결과 수.
+     */
+    private int maxLimit = 500;
+}
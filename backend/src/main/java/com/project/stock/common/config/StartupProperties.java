@@ -0,0 +1,27 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기동/워밍업 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "startup")
+@Getter
+@Setter
+public class StartupProperties {
+
+    /**
+     * 빠른 기동 모드. true면 준비 완료를 바로 보고하고 종목 마스터/주요 종목 시계열 적재를 백그라운드에서 진행합니다.
+     * false면 이 둘을 적재한 뒤 준비 완료를 보고합니다 (전체 시세 캐시와 초기 배치는 어느 쪽이든 백그라운드).
+     */
+    private boolean fast = true;
+
+    /**
+     * 먼저 적재할 주요 종목 수 (활성 관심 종목 우선순위 순).
+     */
+    private int hotStockCount = 50;
+}
@@ -0,0 +1,57 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 종목 갱신 알림(SSE) 스트림 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "stock-updates")
+@Getter
+@Setter
+public class StockUpdateStreamProperties {
+
+    /**
+     * 노드당 최대 동시 구독자 수. 초과하면 새 구독을 거절합니다.
+     */
+    private int maxSubscribers = 5000;
+
+    /**
+     * 구독 하나가 지정할 수 있는 최대 종목 수.
+     */
+    private int maxStockCodes = 50;
+
+    /**
+     * 구독자별 허용 지연 (ms). 보내지 못한 알림이 이 시간 이상 남아 있으면 느린 클라이언트로 보고 연결을 끊습니다.
+     */
+    private long maxLagMs = 5000;
+
+    /**
+     * 전송 작업자 스레드 수 (유휴 스레드는 정리됩니다). 구독자 수와 무관하게 전송에 쓰는 스레드를 이 값으로 제한합니다.
+     * 쓰기 시간 제한을 넘긴 작업자는 그 쓰기가 끝날 때까지 대체 스레드로 보충하며, 대체 스레드도 이 값까지만 늘립니다.
+     */
+    private int dispatchThreads = 32;
+
+    /**
+     * 알림 하나의 쓰기 시간 제한 (ms). 넘기면 그 구독자를 끊고 쓰기 스레드를 인터럽트합니다.
+     */
+    private long writeTimeoutMs = 10000;
+
+    /**
+     * 작업자가 한 구독자에게 연속으로 보내는 최대 이벤트 수 (다른 구독자에게 차례를 넘기기 전).
+     */
+    private int dispatchBatchSize = 16;
+
+    /**
+     * 하트비트 간격 (ms). 프록시 유휴 종료를 막고 끊긴 연결을 찾아냅니다.
+     */
+    private long heartbeatIntervalMs = 15000;
+
+    /**
+     * SSE 연결 최대 유지 시간 (분). 만료되면 EventSource가 자동으로 재연결합니다.
+     */
+    private long timeoutMinutes = 30;
+}
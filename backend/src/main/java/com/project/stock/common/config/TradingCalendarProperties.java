@@ -0,0 +1,22 @@
+package com.project.stock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 거래소 영업일 달력 설정.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "trading-calendar")
+@Getter
+@Setter
+public class TradingCalendarProperties {
+
+    /**
+     * 휴장일 데이터 파일 위치 (classpath: 또는 file: 접두사).
+     * 한 줄에 "yyyy-MM-dd 사유" 형식으로 평일 휴장일을 적고, #으로 시작하는 줄은 주석입니다.
+     */
+    private String holidaysFile = "classpath:calendar/krx-holidays.txt";
+}
@@ -0,0 +1,86 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.common.config.AnalysisJobProperties;
+import com.project.stock.domain.stock.adapter.in.web.dto.AnalysisJobResponse;
+import com.project.stock.domain.stock.application.port.in.AnalysisJobUseCase;
+import com.project.stock.domain.stock.domain.AnalysisJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * 비동기 분석 작업 API 컨트롤러.
+ * 분석 요청은 작업 ID를 즉시 반환하고, 진행 상황은 폴링 또는 SSE로 확인합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class AnalysisJobController {
+
+    private final AnalysisJobUseCase analysisJobUseCase;
+    private final AnalysisJobProperties analysisJobProperties;
+
+    /**
+     * 분석 작업을 등록합니다. 같은 종목의 작업이 진행 중이면 그 작업을 반환합니다.
+     *
+     * @return 202 Accepted, Location: 작업 조회 URL
+     */
+    @PostMapping("/stocks/{stockCode}/analysis")
+    public ResponseEntity<AnalysisJobResponse> submit(@PathVariable String stockCode) {
+        AnalysisJob job = analysisJobUseCase.submit(stockCode);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/analysis-jobs/" + job.jobId()))
+            .body(AnalysisJobResponse.from(job));
+    }
+
+    /**
+     * 작업 상태를 조회합니다 (폴링).
+     */
+    @GetMapping("/analysis-jobs/{jobId}")
+    public ResponseEntity<AnalysisJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(AnalysisJobResponse.from(analysisJobUseCase.getJob(jobId)));
+    }
+
+    /**
+     * 작업 진행 단계를 SSE로 전달합니다.
+     * 이벤트 이름은 단계명(PRICES_LOADED, INDICATORS_COMPUTED, LLM_COMPLETED, COMPLETED, FAILED)이며,
+     * 종료 단계 이벤트에 최종 결과가 포함되고 이후 스트림이 닫힙니다.
+     * 리버스 프록시가 이벤트를 버퍼링하지 않도록 X-Accel-Buffering: no를 함께 보냅니다.
+     */
+    @GetMapping(value = "/analysis-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@PathVariable String jobId) {
+        SseEmitter emitter = new SseEmitter(Duration.ofSeconds(analysisJobProperties.getSseTimeoutSeconds()).toMillis());
+
+        Runnable unsubscribe = analysisJobUseCase.subscribe(jobId, job -> {
+            try {
+                emitter.send(SseEmitter.event()
+                    .name(job.stage().name())
+                    .data(AnalysisJobResponse.from(job), MediaType.APPLICATION_JSON));
+                if (job.isTerminal()) {
+                    emitter.complete();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no")
+            .body(emitter);
+    }
+}
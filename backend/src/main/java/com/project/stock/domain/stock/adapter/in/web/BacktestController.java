@@ -0,0 +1,35 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.domain.stock.adapter.in.web.dto.BacktestRequest;
+import com.project.stock.domain.stock.adapter.in.web.dto.BacktestResponse;
+import com.project.stock.domain.stock.application.port.in.RunBacktestUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 백테스트 컨트롤러.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/backtests")
+@RequiredArgsConstructor
+public class BacktestController {
+
+    private final RunBacktestUseCase runBacktestUseCase;
+
+    /**
+     * 저장된 일봉으로 백테스트를 실행합니다. parameters에 그리드를 지정하면 모든 조합을 병렬로 실행합니다.
+     *
+     * @param request 백테스트 요청
+     * @return 정렬 기준 상위 조합의 통계와 평가금액 곡선
+     */
+    @PostMapping
+    public ResponseEntity<BacktestResponse> runBacktest(@RequestBody BacktestRequest request) {
+        log.info("백테스트 요청: strategy={}, stockCodes={}, entryRule=\"{}\", exitRule=\"{}\", parameters={}",
+            request.strategy(), request.stockCodes(), request.entryRule(), request.exitRule(), request.parameters());
+
+        return ResponseEntity.ok(BacktestResponse.from(runBacktestUseCase.run(request.toSpec())));
+    }
+}
@@ -1,18 +1,29 @@
 package com.project.stock.domain.stock.adapter.in.web;
 
 import com.project.stock.domain.stock.application.batch.DailyAnalysisBatchService;
+import com.project.stock.domain.stock.application.port.in.BatchJobUseCase;
+import com.project.stock.domain.stock.application.port.in.PriceGapUseCase;
+import com.project.stock.domain.stock.domain.batch.BatchJob;
+import com.project.stock.domain.stock.domain.batch.BatchJobTrigger;
+import com.project.stock.domain.stock.domain.batch.BatchRunReport;
+import com.project.stock.domain.stock.domain.market.PriceGapReport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Map;
+import java.time.LocalDate;
+import java.util.List;
 
 /**
- * 배치 작업 수동 실행 컨트롤러.
+ * 배치 작업 수동 실행/조회/취소 컨트롤러.
  * BATCH_ENABLED=false 시 빈 자체가 등록되지 않습니다.
  */
 @Slf4j
@@ -23,28 +34,77 @@ import java.util.Map;
 public class BatchController {
 
     private final DailyAnalysisBatchService dailyAnalysisBatchService;
+    private final BatchJobUseCase batchJobUseCase;
+    private final PriceGapUseCase priceGapUseCase;
 
     /**
-     * 일일 분석 배치를 수동으로 실행합니다.
+     * 일일 분석 배치를 수동으로 실행합니다. 오늘 실행 기록이 있으면 끝나지 않은 종목부터 이어서 처리합니다.
+     * 이미 실행 중이면 새로 시작하지 않고 진행 중인 작업을 반환합니다.
      *
-     * @return 실행 결과 메시지
+     * @return 등록된(또는 진행 중인) 배치 작업
      */
     @PostMapping("/daily-analysis")
-    public ResponseEntity<Map<String, String>> executeDailyAnalysis() {
+    public ResponseEntity<BatchJob> executeDailyAnalysis() {
         log.info("일일 분석 배치 수동 실행 요청");
+        return ResponseEntity.accepted().body(dailyAnalysisBatchService.start(BatchJobTrigger.MANUAL));
+    }
+
+    /**
+     * 실행 중인 배치 작업과 최근 종료된 작업을 최신순으로 조회합니다.
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<List<BatchJob>> getJobs() {
+        return ResponseEntity.ok(batchJobUseCase.recentJobs());
+    }
+
+    /**
+     * 배치 작업 상태와 진행 현황(대상/성공/실패 수)을 조회합니다.
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<BatchJob> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(batchJobUseCase.getJob(jobId));
+    }
+
+    /**
+     * 배치 작업 취소를 요청합니다. 작업은 진행 중인 종목을 마무리한 뒤 CANCELLED로 종료되며,
+     * 끝나지 않은 종목은 다음 실행에서 이어서 처리됩니다.
+     */
+    @PostMapping("/jobs/{jobId}/cancel")
+    public ResponseEntity<BatchJob> cancelJob(@PathVariable String jobId) {
+        log.info("배치 작업 취소 요청: jobId={}", jobId);
+        return ResponseEntity.accepted().body(batchJobUseCase.cancel(jobId));
+    }
+
+    /**
+     * 날짜별 배치 실행 기록과 종목별 처리 상태를 조회합니다. 실행 기록이 없으면 404.
+     */
+    @GetMapping("/daily-analysis/runs/{runDate}")
+    public ResponseEntity<BatchRunReport> getRun(
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate runDate
+    ) {
+        return ResponseEntity.of(dailyAnalysisBatchService.findRun(runDate));
+    }
+
+    /**
+     * 저장된 시세를 영업일 달력과 대조하여 종목별 누락 구간과 보정에 필요한 조회 요청을 점검합니다.
+     *
+     * @param since 점검 시작일 (생략 시 설정된 기간, 휴장일 데이터가 없는 연도는 제외)
+     */
+    @GetMapping("/price-gaps")
+    public ResponseEntity<PriceGapReport> scanPriceGaps(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since
+    ) {
+        return ResponseEntity.ok(priceGapUseCase.scan(since));
+    }
 
-        // 비동기 실행 (요청은 즉시 반환)
-        new Thread(() -> {
-            try {
-                dailyAnalysisBatchService.executeManually();
-            } catch (Exception e) {
-                log.error("배치 실행 중 오류 발생", e);
-            }
-        }).start();
-
-        return ResponseEntity.ok(Map.of(
-            "status", "started",
-            "message", "일일 분석 배치가 백그라운드에서 실행되었습니다. 로그를 확인하세요."
-        ));
+    /**
+     * 누락된 시세를 다시 받아 채우는 보정 작업을 실행합니다. 진행 현황은 배치 작업 조회 API로 확인합니다.
+     */
+    @PostMapping("/price-gaps/repair")
+    public ResponseEntity<BatchJob> repairPriceGaps(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since
+    ) {
+        log.info("시세 누락 보정 요청: since={}", since);
+        return ResponseEntity.accepted().body(priceGapUseCase.repair(since));
     }
 }
@@ -0,0 +1,41 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.domain.stock.adapter.in.web.dto.BulkStockPriceResponse;
+import com.project.stock.domain.stock.application.port.in.GetStockPricesUseCase;
+import com.project.stock.domain.stock.domain.RecentStockPrices;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 다종목 시세 조회 컨트롤러.
+ * 대시보드처럼 여러 종목을 한 화면에 보여줄 때 종목별 호출 대신 사용합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/stocks/prices")
+@RequiredArgsConstructor
+public class BulkStockPriceController {
+
+    private final GetStockPricesUseCase getStockPricesUseCase;
+
+    /**
+     * 여러 종목의 최근 N일 시세를 한 번의 쿼리로 조회합니다.
+     *
+     * @param codes 종목코드 목록 (쉼표 구분, 최대 200개)
+     * @param days  종목별 조회 일수 (기본값: 120일)
+     * @return 종목별로 묶은 시세 데이터
+     */
+    @GetMapping
+    public ResponseEntity<BulkStockPriceResponse> getRecentStockPrices(
+        @RequestParam List<String> codes,
+        @RequestParam(defaultValue = "120") int days
+    ) {
+        log.info("다종목 시세 조회 요청: 종목 수={}, days={}", codes.size(), days);
+        List<RecentStockPrices> result = getStockPricesUseCase.getRecentStockPrices(codes, days);
+        return ResponseEntity.ok(BulkStockPriceResponse.from(codes, days, result));
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.common.config.DailyAnalysisBatchProperties;
+import com.project.stock.common.config.HttpCacheProperties;
+import com.project.stock.domain.stock.application.market.TradingCalendarService;
+import org.springframework.http.CacheControl;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 시세/분석 조회 API의 조건부 GET 정책.
+ * ETag와 Last-Modified는 종목 시세 워터마크에서 만들고, max-age는 다음 배치 실행 시각까지로 제한합니다.
+ * 휴장일에는 배치가 실행되지 않으므로 다음 배치 시각은 영업일의 실행 시각만 셉니다.
+ */
+@Component
+class HttpCachePolicy {
+
+    private static final ZoneId BATCH_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MAX_CRON_LOOKAHEAD = 64;
+
+    private final HttpCacheProperties httpCacheProperties;
+    private final CronExpression batchCron;
+    private final TradingCalendarService tradingCalendarService;
+
+    HttpCachePolicy(HttpCacheProperties httpCacheProperties, DailyAnalysisBatchProperties batchProperties,
+                    TradingCalendarService tradingCalendarService) {
+        this.httpCacheProperties = httpCacheProperties;
+        this.batchCron = CronExpression.parse(batchProperties.getCron());
+        this.tradingCalendarService = tradingCalendarService;
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since가 현재 워터마크와 일치하는지 판정합니다.
+     * 일치하면 응답 상태를 304로 설정하며, 어느 경우든 ETag와 Last-Modified 헤더를 기록합니다.
+     */
+    boolean checkNotModified(WebRequest request, String etag, Instant watermark) {
+        return request.checkNotModified(etag, watermark.toEpochMilli());
+    }
+
+    /**
+     * 다음 배치 실행까지 남은 시간(최대 max-age-seconds) 동안 캐시하고, 이후에는 재검증하도록 합니다.
+     */
+    CacheControl cacheControl() {
+        if (!httpCacheProperties.isEnabled()) {
+            return CacheControl.noStore();
+        }
+        long maxAge = httpCacheProperties.getMaxAgeSeconds();
+        ZonedDateTime now = ZonedDateTime.now(BATCH_ZONE);
+        ZonedDateTime nextBatch = nextBatchOnTradingDay(now);
+        if (nextBatch != null) {
+            maxAge = Math.min(maxAge, Duration.between(now, nextBatch).getSeconds());
+        }
+        return CacheControl.maxAge(Duration.ofSeconds(Math.max(maxAge, 0))).mustRevalidate();
+    }
+
+    /**
+     * 영업일에 해당하는 다음 배치 실행 시각. 찾지 못하면 null.
+     */
+    private ZonedDateTime nextBatchOnTradingDay(ZonedDateTime now) {
+        ZonedDateTime next = batchCron.next(now);
+        for (int i = 0; next != null && i < MAX_CRON_LOOKAHEAD; i++) {
+            if (tradingCalendarService.isTradingDay(next.toLocalDate())) {
+                return next;
+            }
+            next = batchCron.next(next);
+        }
+        return null;
+    }
+
+    static String priceETag(String stockCode, int days, Instant watermark) {
+        return "\"p-" + stockCode + "-" + days + "-" + watermark.toEpochMilli() + "\"";
+    }
+
+    static String analysisETag(String stockCode, Instant watermark) {
+        return "\"a-" + stockCode + "-" + watermark.toEpochMilli() + "\"";
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.domain.stock.adapter.in.web.dto.IntradayBarResponse;
+import com.project.stock.domain.stock.adapter.in.web.dto.QuoteTickResponse;
+import com.project.stock.domain.stock.application.port.in.GetIntradayUseCase;
+import com.project.stock.domain.stock.domain.realtime.IntradaySummary;
+import com.project.stock.domain.stock.domain.realtime.RealtimeQuoteStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 장중 실시간 시세(분봉, 체결 틱) 조회 컨트롤러.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class IntradayController {
+
+    private final GetIntradayUseCase getIntradayUseCase;
+
+    /**
+     * 당일 분봉을 조회합니다. 마지막 봉은 진행 중일 수 있습니다(closed=false).
+     *
+     * @param interval 분봉 간격 (1 또는 5, 기본값: 1)
+     */
+    @GetMapping("/stocks/{stockCode}/intraday/bars")
+    public ResponseEntity<List<IntradayBarResponse>> getBars(
+        @PathVariable String stockCode,
+        @RequestParam(defaultValue = "1") int interval
+    ) {
+        return ResponseEntity.ok(getIntradayUseCase.getBars(stockCode, interval).stream()
+            .map(IntradayBarResponse::from)
+            .toList());
+    }
+
+    /**
+     * 최근 체결 틱을 조회합니다.
+     *
+     * @param limit 최대 건수 (기본값: 100)
+     */
+    @GetMapping("/stocks/{stockCode}/intraday/ticks")
+    public ResponseEntity<List<QuoteTickResponse>> getTicks(
+        @PathVariable String stockCode,
+        @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(getIntradayUseCase.getRecentTicks(stockCode, limit).stream()
+            .map(QuoteTickResponse::from)
+            .toList());
+    }
+
+    /**
+     * 당일 세션 요약(시/고/저/종가, 누적 거래량, VWAP)을 조회합니다. 체결이 없으면 404.
+     */
+    @GetMapping("/stocks/{stockCode}/intraday/summary")
+    public ResponseEntity<IntradaySummary> getSummary(@PathVariable String stockCode) {
+        return ResponseEntity.of(getIntradayUseCase.getSummary(stockCode));
+    }
+
+    /**
+     * 실시간 수신 현황 (연결 상태, 틱/봉 수, 현재가 반영 횟수).
+     */
+    @GetMapping("/realtime/status")
+    public ResponseEntity<RealtimeQuoteStats> status() {
+        return ResponseEntity.ok(getIntradayUseCase.stats());
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.domain.stock.adapter.in.web.dto.SimilarPatternResponse;
+import com.project.stock.domain.stock.application.port.in.FindSimilarPatternsUseCase;
+import com.project.stock.domain.stock.domain.pattern.PatternIndexBenchmark;
+import com.project.stock.domain.stock.domain.pattern.PatternMetric;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유사 차트 패턴 검색 컨트롤러.
+ * PATTERN_INDEX_ENABLED=false 시 빈 자체가 등록되지 않습니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/patterns")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "pattern-index.enabled", havingValue = "true", matchIfMissing = true)
+public class PatternController {
+
+    private final FindSimilarPatternsUseCase findSimilarPatternsUseCase;
+
+    /**
+     * 특정 종목의 최근 차트와 유사한 과거 구간을 검색합니다.
+     *
+     * @param stockCode 종목코드
+     * @param window    윈도우 크기 (기본값: 20일)
+     * @param k         반환 개수 (기본값: 10)
+     * @param probes    멀티 프로브 수 (클수록 재현율↑, 지연시간↑)
+     * @param metric    재정렬 거리 척도 (EUCLIDEAN / DTW)
+     * @return 유사 패턴 리스트 (거리 오름차순)
+     */
+    @GetMapping("/{stockCode}/similar")
+    public ResponseEntity<List<SimilarPatternResponse>> findSimilarPatterns(
+        @PathVariable String stockCode,
+        @RequestParam(defaultValue = "20") int window,
+        @RequestParam(defaultValue = "10") int k,
+        @RequestParam(required = false) Integer probes,
+        @RequestParam(defaultValue = "EUCLIDEAN") PatternMetric metric
+    ) {
+        log.info("유사 패턴 검색 요청: stockCode={}, window={}, k={}, probes={}, metric={}",
+            stockCode, window, k, probes, metric);
+
+        List<SimilarPatternResponse> response = findSimilarPatternsUseCase
+            .findSimilarPatterns(stockCode, window, k, probes, metric)
+            .stream()
+            .map(SimilarPatternResponse::from)
+            .toList();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 인덱스 검색의 recall@K와 지연시간을 전수 탐색과 비교합니다.
+     */
+    @GetMapping("/index/benchmark")
+    public ResponseEntity<PatternIndexBenchmark> benchmark(
+        @RequestParam(defaultValue = "20") int window,
+        @RequestParam(defaultValue = "10") int k,
+        @RequestParam(required = false) Integer probes,
+        @RequestParam(defaultValue = "EUCLIDEAN") PatternMetric metric,
+        @RequestParam(defaultValue = "20") int queries
+    ) {
+        log.info("패턴 인덱스 벤치마크 요청: window={}, k={}, probes={}, metric={}, queries={}",
+            window, k, probes, metric, queries);
+        return ResponseEntity.ok(findSimilarPatternsUseCase.benchmark(window, k, probes, metric, queries));
+    }
+
+    /**
+     * stock_price 전체로부터 인덱스를 다시 빌드합니다.
+     */
+    @PostMapping("/index/rebuild")
+    public ResponseEntity<Map<String, String>> rebuildIndex() {
+        findSimilarPatternsUseCase.rebuildIndex();
+        return ResponseEntity.ok(Map.of(
+            "status", "started",
+            "message", "패턴 인덱스 재빌드가 백그라운드에서 시작되었습니다."
+        ));
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.domain.stock.application.port.in.GetQuotaStatusUseCase;
+import com.project.stock.domain.stock.domain.quota.QuotaStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 외부 호출 할당량(KIS, LLM) 현황 컨트롤러.
+ */
+@RestController
+@RequestMapping("/api/v1/quota")
+@RequiredArgsConstructor
+public class QuotaController {
+
+    private final GetQuotaStatusUseCase getQuotaStatusUseCase;
+
+    /**
+     * 자원별 보유량과 트래픽 종류별 대기 요청 수, 승인/거절 건수, 대기 시간을 조회합니다.
+     */
+    @GetMapping("/status")
+    public ResponseEntity<List<QuotaStats>> status() {
+        return ResponseEntity.ok(getQuotaStatusUseCase.quotaStats());
+    }
+}
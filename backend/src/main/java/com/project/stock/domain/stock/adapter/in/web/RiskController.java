@@ -0,0 +1,38 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.domain.stock.adapter.in.web.dto.CorrelationMatrixResponse;
+import com.project.stock.domain.stock.application.port.in.GetCorrelationMatrixUseCase;
+import com.project.stock.domain.stock.domain.risk.RiskMatrixType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관심 종목 포트폴리오 리스크 컨트롤러.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/risk")
+@RequiredArgsConstructor
+public class RiskController {
+
+    private final GetCorrelationMatrixUseCase getCorrelationMatrixUseCase;
+
+    /**
+     * 활성 관심 종목의 일간 수익률 상관계수 또는 공분산 행렬을 조회합니다.
+     *
+     * @param lookback 관측 거래일 수 (기본값: 250일)
+     * @param type     CORRELATION / COVARIANCE
+     * @return 종목코드 순서의 n×n 행렬
+     */
+    @GetMapping("/correlation")
+    public ResponseEntity<CorrelationMatrixResponse> getCorrelationMatrix(
+        @RequestParam(defaultValue = "250") int lookback,
+        @RequestParam(defaultValue = "CORRELATION") RiskMatrixType type
+    ) {
+        log.info("상관관계 행렬 조회 요청: lookback={}, type={}", lookback, type);
+        return ResponseEntity.ok(CorrelationMatrixResponse.from(
+            getCorrelationMatrixUseCase.getCorrelationMatrix(lookback), type));
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.stock.domain.stock.adapter.in.web.dto.ScreenerHitResponse;
+import com.project.stock.domain.stock.adapter.in.web.dto.ScreenerRequest;
+import com.project.stock.domain.stock.application.port.in.ScreenStocksUseCase;
+import com.project.stock.domain.stock.domain.screener.ScreenerHit;
+import com.project.stock.domain.stock.domain.screener.ScreenerResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * 시장 전체 스크리너 컨트롤러.
+ * 결과는 순위 순서대로 한 줄에 한 건씩 NDJSON으로 스트리밍합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/screener")
+@RequiredArgsConstructor
+public class ScreenerController {
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ScreenStocksUseCase screenStocksUseCase;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 필터 식을 만족하는 종목을 정렬 식 기준으로 반환합니다.
+     * 집계 정보는 X-Screener-* 응답 헤더로 전달합니다.
+     *
+     * @param request 스크리너 요청
+     * @return NDJSON 스트림 (한 줄당 {@link ScreenerHitResponse})
+     */
+    @PostMapping(produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> screen(@RequestBody ScreenerRequest request) {
+        log.info("스크리너 요청: filter=\"{}\", rankBy=\"{}\", order={}, limit={}",
+            request.filter(), request.rankBy(), request.order(), request.limit());
+
+        ScreenerResult result = screenStocksUseCase.screen(
+            request.filter(),
+            request.rankBy(),
+            request.descending(),
+            request.limitOrDefault()
+        );
+
+        List<ScreenerHit> hits = result.hits();
+        StreamingResponseBody body = out -> {
+            for (int i = 0; i < hits.size(); i++) {
+                out.write(objectMapper.writeValueAsBytes(ScreenerHitResponse.from(i + 1, hits.get(i))));
+                out.write('\n');
+            }
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+            .contentType(APPLICATION_NDJSON)
+            .header("X-Screener-Scanned", String.valueOf(result.scanned()))
+            .header("X-Screener-Matched", String.valueOf(result.matched()))
+            .header("X-Screener-Elapsed-Ms", String.valueOf(result.elapsedMillis()))
+            .body(body);
+    }
+}
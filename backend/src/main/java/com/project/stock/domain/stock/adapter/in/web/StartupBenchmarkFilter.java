@@ -0,0 +1,38 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.domain.stock.application.port.in.StartupReportUseCase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 기동 후 첫 요청의 응답 시점을 기동 벤치마크에 알리는 필터.
+ */
+@Component
+@RequiredArgsConstructor
+public class StartupBenchmarkFilter extends OncePerRequestFilter {
+
+    private final StartupReportUseCase startupReportUseCase;
+
+    private volatile boolean recorded;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!recorded) {
+                recorded = true;
+                startupReportUseCase.requestServed(
+                    request.getMethod() + " " + request.getRequestURI() + " " + response.getStatus());
+            }
+        }
+    }
+}
@@ -2,13 +2,20 @@ package com.project.stock.domain.stock.adapter.in.web;
 
 import com.project.stock.domain.stock.adapter.in.web.dto.StockAnalysisResponse;
 import com.project.stock.domain.stock.application.port.in.AnalyzeStockUseCase;
+import com.project.stock.domain.stock.application.port.in.GetPriceWatermarkUseCase;
+import com.project.stock.domain.stock.domain.AnalysisCoalescingStats;
 import com.project.stock.domain.stock.domain.StockAnalysisResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.Optional;
 
 /**
  * 주식 분석 API 컨트롤러 (Driving Adapter).
@@ -19,10 +26,31 @@ import org.springframework.web.bind.annotation.RestController;
 public class StockController {
 
     private final AnalyzeStockUseCase analyzeStockUseCase;
+    private final GetPriceWatermarkUseCase getPriceWatermarkUseCase;
+    private final HttpCachePolicy httpCachePolicy;
 
+    /**
+     * 종목 분석 결과를 조회합니다.
+     * 분석 결과는 분석 기준 일봉 구간에 의해 결정되므로, 시세 워터마크가 바뀌지 않았으면
+     * 분석(캐시 조회 포함)을 수행하지 않고 304를 반환합니다.
+     */
     @GetMapping("/{stockCode}/analysis")
-    public ResponseEntity<StockAnalysisResponse> analyzeStock(@PathVariable String stockCode) {
+    public ResponseEntity<StockAnalysisResponse> analyzeStock(@PathVariable String stockCode, WebRequest webRequest) {
+        Optional<Instant> watermark = getPriceWatermarkUseCase.getPriceWatermark(stockCode);
+        if (watermark.isPresent() && httpCachePolicy.checkNotModified(
+            webRequest, HttpCachePolicy.analysisETag(stockCode, watermark.get()), watermark.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(httpCachePolicy.cacheControl()).build();
+        }
+
         StockAnalysisResult result = analyzeStockUseCase.analyze(stockCode);
-        return ResponseEntity.ok(StockAnalysisResponse.from(result));
+        return ResponseEntity.ok().cacheControl(httpCachePolicy.cacheControl()).body(StockAnalysisResponse.from(result));
+    }
+
+    /**
+     * 동시 분석 요청 합류 통계 (AI Worker 호출 수 대비 합류된 요청 수).
+     */
+    @GetMapping("/analysis/coalescing")
+    public ResponseEntity<AnalysisCoalescingStats> coalescingStats() {
+        return ResponseEntity.ok(analyzeStockUseCase.coalescingStats());
     }
 }
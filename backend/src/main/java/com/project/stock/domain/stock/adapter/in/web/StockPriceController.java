@@ -1,17 +1,32 @@
 package com.project.stock.domain.stock.adapter.in.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.project.stock.domain.stock.adapter.in.web.dto.StockPriceResponse;
 import com.project.stock.domain.stock.adapter.in.web.dto.SyncStockPricesRequest;
+import com.project.stock.domain.stock.application.port.in.GetPriceWatermarkUseCase;
 import com.project.stock.domain.stock.application.port.in.GetStockPricesUseCase;
 import com.project.stock.domain.stock.application.port.in.SyncStockPricesUseCase;
 import com.project.stock.domain.stock.domain.StockPrice;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 주식 시세 조회 및 동기화 컨트롤러.
@@ -24,6 +39,9 @@ public class StockPriceController {
 
     private final SyncStockPricesUseCase syncStockPricesUseCase;
     private final GetStockPricesUseCase getStockPricesUseCase;
+    private final GetPriceWatermarkUseCase getPriceWatermarkUseCase;
+    private final HttpCachePolicy httpCachePolicy;
+    private final ObjectMapper objectMapper;
 
     /**
      * 특정 종목의 시세 데이터를 동기화합니다.
@@ -79,6 +97,7 @@ public class StockPriceController {
 
     /**
      * 특정 종목의 최근 N일 시세 데이터를 조회합니다.
+     * 시세 워터마크 기반 ETag가 If-None-Match와 일치하면 DB 조회 없이 304를 반환합니다.
      *
      * @param stockCode 종목코드
      * @param days      조회할 일수 (기본값: 120일)
@@ -87,8 +106,16 @@ public class StockPriceController {
     @GetMapping
     public ResponseEntity<List<StockPriceResponse>> getStockPrices(
         @PathVariable String stockCode,
-        @RequestParam(defaultValue = "120") int days
+        @RequestParam(defaultValue = "120") int days,
+        WebRequest webRequest
     ) {
+        Optional<Instant> watermark = getPriceWatermarkUseCase.getPriceWatermark(stockCode);
+        if (watermark.isPresent() && httpCachePolicy.checkNotModified(
+            webRequest, HttpCachePolicy.priceETag(stockCode, days, watermark.get()), watermark.get())) {
+            log.debug("시세 조회 304: stockCode={}, days={}", stockCode, days);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(httpCachePolicy.cacheControl()).build();
+        }
+
         log.info("시세 조회 요청: stockCode={}, days={}", stockCode, days);
 
         List<StockPrice> prices = getStockPricesUseCase.getRecentStockPrices(stockCode, days);
@@ -106,6 +133,61 @@ public class StockPriceController {
             .toList();
 
         log.info("시세 조회 완료: stockCode={}, 조회 건수={}", stockCode, response.size());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(httpCachePolicy.cacheControl()).body(response);
+    }
+
+    /**
+     * 특정 종목의 기간별 시세를 NDJSON(한 줄에 한 건)으로 스트리밍합니다.
+     * DB 커서에서 읽는 즉시 응답에 쓰므로 기간 길이와 무관하게 메모리 사용량이 일정합니다.
+     * 첫 행은 바로 flush하여 첫 바이트 도달 시간(TTFB)을 줄이고, 이후에는 출력 버퍼가 찰 때마다 전송됩니다.
+     *
+     * @param stockCode 종목코드
+     * @param startDate 시작일 (포함)
+     * @param endDate   종료일 (포함)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamStockPrices(
+        @PathVariable String stockCode,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        long requestedAt = System.nanoTime();
+        GetStockPricesUseCase.PriceStream stream = getStockPricesUseCase.streamStockPrices(stockCode, startDate, endDate);
+
+        StreamingResponseBody body = outputStream -> {
+            long[] firstByteNanos = {-1};
+            long count;
+            // 행마다 flush하지 않도록 FLUSH_AFTER_WRITE_VALUE를 끈다 (첫 행만 직접 flush)
+            try (SequenceWriter writer = objectMapper.writerFor(StockPriceResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream)) {
+                count = stream.forEach(row -> {
+                    try {
+                        writer.write(StockPriceResponse.from(row));
+                        if (firstByteNanos[0] < 0) {
+                            writer.flush();
+                            firstByteNanos[0] = System.nanoTime() - requestedAt;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (count > 0) {
+                    // 버퍼에 남은 행을 먼저 내보낸 뒤 마지막 줄의 개행을 쓴다
+                    writer.flush();
+                    outputStream.write('\n');
+                }
+            }
+            log.info("시세 스트리밍 완료: stockCode={}, 기간={} ~ {}, 건수={}, TTFB={}ms, 소요 시간={}ms",
+                stockCode, startDate, endDate, count,
+                firstByteNanos[0] < 0 ? -1 : firstByteNanos[0] / 1_000_000,
+                (System.nanoTime() - requestedAt) / 1_000_000);
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
     }
 }
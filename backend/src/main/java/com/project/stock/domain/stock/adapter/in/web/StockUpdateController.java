@@ -0,0 +1,76 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.common.config.StockUpdateStreamProperties;
+import com.project.stock.domain.stock.application.port.in.SubscribeStockUpdatesUseCase;
+import com.project.stock.domain.stock.domain.push.StockUpdate;
+import com.project.stock.domain.stock.domain.push.StockUpdateStats;
+import com.project.stock.domain.stock.domain.push.StockUpdateType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 종목 갱신 알림 SSE 컨트롤러.
+ * 대시보드는 폴링 대신 이 스트림을 열어 두고, 알림을 받은 종목의 시세/분석만 다시 조회합니다.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class StockUpdateController {
+
+    private final SubscribeStockUpdatesUseCase subscribeStockUpdatesUseCase;
+    private final StockUpdateStreamProperties stockUpdateStreamProperties;
+
+    /**
+     * 종목들의 갱신 알림을 SSE로 전달합니다.
+     * 이벤트 이름은 알림 종류(PRICES_SYNCED, ANALYSIS_SAVED, INTRADAY_BAR_CLOSED)이며 data는 JSON입니다.
+     * 하트비트는 SSE 주석으로 보냅니다. 서버가 느린 클라이언트를 끊거나 연결이 만료되면
+     * EventSource가 자동으로 재연결하므로, 클라이언트는 재연결 시 한 번 다시 조회하면 됩니다.
+     *
+     * @param codes 쉼표로 구분한 종목코드
+     */
+    @GetMapping(value = "/stocks/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@RequestParam List<String> codes) {
+        SseEmitter emitter = new SseEmitter(Duration.ofMinutes(stockUpdateStreamProperties.getTimeoutMinutes()).toMillis());
+
+        Runnable unsubscribe = subscribeStockUpdatesUseCase.subscribe(codes, update -> send(emitter, update), emitter::complete);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no")
+            .body(emitter);
+    }
+
+    /**
+     * 스트림 현황 (구독자 수, 전송/드롭 건수).
+     */
+    @GetMapping("/stocks/events/status")
+    public ResponseEntity<StockUpdateStats> status() {
+        return ResponseEntity.ok(subscribeStockUpdatesUseCase.stats());
+    }
+
+    private static void send(SseEmitter emitter, StockUpdate update) {
+        try {
+            if (update.type() == StockUpdateType.HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                emitter.send(SseEmitter.event()
+                    .name(update.type().name())
+                    .data(update, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.project.stock.domain.stock.application.port.in.StartupReportUseCase;
+import com.project.stock.domain.stock.domain.startup.StartupReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 서버 상태 컨트롤러.
+ */
+@RestController
+@RequestMapping("/api/v1/system")
+@RequiredArgsConstructor
+public class SystemController {
+
+    private final StartupReportUseCase startupReportUseCase;
+
+    /**
+     * 기동 벤치마크: JVM 시작 → 준비 완료 → 첫 요청 응답 시간과 워밍업 단계별 소요 시간.
+     */
+    @GetMapping("/startup")
+    public ResponseEntity<StartupReport> startup() {
+        return ResponseEntity.ok(startupReportUseCase.report());
+    }
+}
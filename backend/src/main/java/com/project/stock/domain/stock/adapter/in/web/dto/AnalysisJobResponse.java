@@ -0,0 +1,33 @@
+package com.project.stock.domain.stock.adapter.in.web.dto;
+
+import com.project.stock.domain.stock.domain.AnalysisJob;
+
+import java.time.Instant;
+
+/**
+ * 비동기 분석 작업 응답 DTO.
+ */
+public record AnalysisJobResponse(
+        String jobId,
+        String stockCode,
+        String stage,
+        boolean done,
+        StockAnalysisResponse result,
+        String error,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static AnalysisJobResponse from(AnalysisJob job) {
+        return new AnalysisJobResponse(
+                job.jobId(),
+                job.stockCode(),
+                job.stage().name(),
+                job.isTerminal(),
+                job.result() != null ? StockAnalysisResponse.from(job.result()) : null,
+                job.error(),
+                job.createdAt(),
+                job.updatedAt()
+        );
+    }
+}
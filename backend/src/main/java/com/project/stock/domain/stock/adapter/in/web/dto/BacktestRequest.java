@@ -0,0 +1,79 @@
+package com.project.stock.domain.stock.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.project.stock.domain.stock.domain.backtest.BacktestConfig;
+import com.project.stock.domain.stock.domain.backtest.BacktestMetric;
+import com.project.stock.domain.stock.domain.backtest.BacktestSpec;
+import com.project.stock.domain.stock.domain.backtest.BacktestStrategy;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 백테스트 요청 DTO. 생략한 값은 기본값을 사용합니다.
+ *
+ * <pre>
+ * {
+ *   "strategy": "RULE",
+ *   "stockCodes": ["005930", "000660"],
+ *   "entryRule": "close > sma({fast}) and close[1] &lt;= sma({fast})[1]",
+ *   "exitRule": "close &lt; sma({slow})",
+ *   "parameters": { "fast": [5, 10, 20], "slow": [20, 60], "stop_loss_pct": [0, 5] }
+ * }
+ * </pre>
+ */
+public record BacktestRequest(
+    BacktestStrategy strategy,
+    List<String> stockCodes,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate startDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate endDate,
+
+    String entryRule,
+    String exitRule,
+    Double initialCapital,
+    Double commissionBps,
+    Double sellTaxBps,
+    Double slippageBps,
+    Double positionSizePct,
+    Integer maxPositions,
+    Double stopLossPct,
+    Double takeProfitPct,
+    Integer minConfidence,
+    Map<String, List<Double>> parameters,
+    BacktestMetric rankBy,
+    Integer limit,
+    Integer equityCurves
+) {
+
+    public BacktestSpec toSpec() {
+        BacktestConfig config = new BacktestConfig(
+            initialCapital != null ? initialCapital : 10_000_000,
+            commissionBps != null ? commissionBps : 1.5,
+            sellTaxBps != null ? sellTaxBps : 15,
+            slippageBps != null ? slippageBps : 5,
+            positionSizePct != null ? positionSizePct : 10,
+            maxPositions != null ? maxPositions : 10,
+            stopLossPct != null ? stopLossPct : 0,
+            takeProfitPct != null ? takeProfitPct : 0,
+            minConfidence != null ? minConfidence : 0
+        );
+        return new BacktestSpec(
+            strategy != null ? strategy : BacktestStrategy.RULE,
+            stockCodes != null ? stockCodes : List.of(),
+            startDate,
+            endDate,
+            entryRule,
+            exitRule,
+            config,
+            parameters != null ? parameters : Map.of(),
+            rankBy != null ? rankBy : BacktestMetric.SHARPE,
+            limit != null ? limit : 20,
+            equityCurves != null ? equityCurves : 1
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.stock.domain.stock.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.project.stock.domain.stock.domain.backtest.BacktestMetric;
+import com.project.stock.domain.stock.domain.backtest.BacktestReport;
+import com.project.stock.domain.stock.domain.backtest.BacktestRun;
+import com.project.stock.domain.stock.domain.backtest.BacktestStatistics;
+import com.project.stock.domain.stock.domain.backtest.BacktestStrategy;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 백테스트 응답 DTO.
+ * 평가금액 곡선은 공통 날짜 축(dates)과 조합별 값 배열(equityCurve)로 나누어 전달합니다.
+ */
+public record BacktestResponse(
+    BacktestStrategy strategy,
+    BacktestMetric rankBy,
+    List<String> stockCodes,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate startDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate endDate,
+
+    int tradingDays,
+    int combinations,
+    long elapsedMillis,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    List<LocalDate> dates,
+
+    List<Run> runs
+) {
+
+    public static BacktestResponse from(BacktestReport report) {
+        List<BacktestRun> runs = report.runs();
+        return new BacktestResponse(
+            report.strategy(),
+            report.rankBy(),
+            report.stockCodes(),
+            report.startDate(),
+            report.endDate(),
+            report.tradingDays(),
+            report.combinations(),
+            report.elapsedMillis(),
+            report.dates(),
+            IntStream.range(0, runs.size())
+                .mapToObj(i -> Run.from(i + 1, runs.get(i)))
+                .toList()
+        );
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Run(
+        int rank,
+        Map<String, Double> parameters,
+        double finalEquity,
+        double totalReturnPct,
+        double cagrPct,
+        double maxDrawdownPct,
+        double sharpe,
+        double volatilityPct,
+        int trades,
+        double winRatePct,
+        double avgTradeReturnPct,
+        Double profitFactor,
+        double exposurePct,
+        long[] equityCurve
+    ) {
+
+        static Run from(int rank, BacktestRun run) {
+            BacktestStatistics s = run.statistics();
+            long[] curve = null;
+            if (run.equityCurve() != null) {
+                curve = new long[run.equityCurve().length];
+                for (int i = 0; i < curve.length; i++) {
+                    curve[i] = Math.round(run.equityCurve()[i]);
+                }
+            }
+            return new Run(
+                rank,
+                run.parameters(),
+                s.finalEquity(),
+                s.totalReturnPct(),
+                s.cagrPct(),
+                s.maxDrawdownPct(),
+                s.sharpe(),
+                s.volatilityPct(),
+                s.trades(),
+                s.winRatePct(),
+                s.avgTradeReturnPct(),
+                Double.isNaN(s.profitFactor()) ? null : s.profitFactor(),
+                s.exposurePct(),
+                curve
+            );
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.stock.domain.stock.adapter.in.web.dto;
+
+import com.project.stock.domain.stock.domain.RecentStockPrices;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 다종목 최근 시세 응답 DTO.
+ * stocks는 요청한 종목 순서이며, 존재하지 않는 종목 코드는 notFoundCodes로 돌려줍니다.
+ */
+public record BulkStockPriceResponse(
+    int days,
+    List<StockPrices> stocks,
+    List<String> notFoundCodes
+) {
+
+    public static BulkStockPriceResponse from(Collection<String> requestedCodes, int days, List<RecentStockPrices> result) {
+        Set<String> notFound = new LinkedHashSet<>(requestedCodes);
+        result.forEach(prices -> notFound.remove(prices.stockCode()));
+        return new BulkStockPriceResponse(
+            days,
+            result.stream().map(StockPrices::from).toList(),
+            List.copyOf(notFound)
+        );
+    }
+
+    /**
+     * 종목별 시세 (날짜 내림차순).
+     */
+    public record StockPrices(
+        String stockCode,
+        String stockName,
+        List<StockPriceResponse> prices
+    ) {
+
+        static StockPrices from(RecentStockPrices recent) {
+            return new StockPrices(
+                recent.stockCode(),
+                recent.stockName(),
+                recent.prices().stream().map(StockPriceResponse::from).toList()
+            );
+        }
+    }
+}
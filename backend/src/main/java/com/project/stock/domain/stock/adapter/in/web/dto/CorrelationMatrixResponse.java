@@ -0,0 +1,48 @@
+package com.project.stock.domain.stock.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.project.stock.domain.stock.domain.risk.CorrelationMatrix;
+import com.project.stock.domain.stock.domain.risk.RiskMatrixType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 상관관계/공분산 행렬 응답 DTO.
+ * matrix[i][j]는 stockCodes[i]와 stockCodes[j] 사이의 값입니다.
+ */
+public record CorrelationMatrixResponse(
+    RiskMatrixType type,
+    List<String> stockCodes,
+    List<String> excludedCodes,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate startDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate endDate,
+
+    int observations,
+    long elapsedMillis,
+    double[][] matrix
+) {
+
+    public static CorrelationMatrixResponse from(CorrelationMatrix result, RiskMatrixType type) {
+        int n = result.size();
+        double[] flat = type == RiskMatrixType.COVARIANCE ? result.covariance() : result.correlation();
+        double[][] matrix = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(flat, i * n, matrix[i], 0, n);
+        }
+        return new CorrelationMatrixResponse(
+            type,
+            result.stockCodes(),
+            result.excludedCodes(),
+            result.startDate(),
+            result.endDate(),
+            result.observations(),
+            result.elapsedMillis(),
+            matrix
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.stock.domain.stock.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.project.stock.domain.stock.domain.realtime.IntradayBar;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 분봉 응답 DTO (시각은 KST).
+ */
+public record IntradayBarResponse(
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+    LocalDateTime time,
+
+    double open,
+    double high,
+    double low,
+    double close,
+    long volume,
+    int tickCount,
+    boolean closed
+) {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    public static IntradayBarResponse from(IntradayBar bar) {
+        return new IntradayBarResponse(
+            LocalDateTime.ofInstant(bar.start(), KST),
+            bar.open(),
+            bar.high(),
+            bar.low(),
+            bar.close(),
+            bar.volume(),
+            bar.tickCount(),
+            bar.closed()
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.stock.domain.stock.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.project.stock.domain.stock.domain.realtime.QuoteTick;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 체결 틱 응답 DTO (시각은 KST).
+ */
+public record QuoteTickResponse(
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime time,
+
+    double price,
+    long volume,
+    long cumulativeVolume
+) {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    public static QuoteTickResponse from(QuoteTick tick) {
+        return new QuoteTickResponse(
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(tick.timestamp()), KST),
+            tick.price(),
+            tick.volume(),
+            tick.cumulativeVolume()
+        );
+    }
+}
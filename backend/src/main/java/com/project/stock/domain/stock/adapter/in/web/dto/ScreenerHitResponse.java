@@ -0,0 +1,35 @@
+package com.project.stock.domain.stock.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.project.stock.domain.stock.domain.screener.ScreenerHit;
+
+import java.time.LocalDate;
+
+/**
+ * 스크리너 결과 한 줄 (NDJSON 레코드).
+ */
+public record ScreenerHitResponse(
+    int rank,
+    String stockCode,
+    String stockName,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate date,
+
+    double close,
+    long volume,
+    Double rankValue
+) {
+
+    public static ScreenerHitResponse from(int rank, ScreenerHit hit) {
+        return new ScreenerHitResponse(
+            rank,
+            hit.stockCode(),
+            hit.stockName(),
+            hit.date(),
+            hit.close(),
+            hit.volume(),
+            Double.isNaN(hit.rankValue()) ? null : hit.rankValue()
+        );
+    }
+}
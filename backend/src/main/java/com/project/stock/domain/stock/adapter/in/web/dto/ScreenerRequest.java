@@ -0,0 +1,25 @@
+package com.project.stock.domain.stock.adapter.in.web.dto;
+
+/**
+ * 스크리너 요청 DTO.
+ *
+ * @param filter 필터 식 (예: {@code close > sma(20) and rsi(14) < 30})
+ * @param rankBy 정렬 식 (선택, 예: {@code change_pct(5)})
+ * @param order  정렬 방향 (asc / desc, 기본값: desc)
+ * @param limit  최대 반환 개수 (기본값: 100)
+ */
+public record ScreenerRequest(
+    String filter,
+    String rankBy,
+    String order,
+    Integer limit
+) {
+
+    public boolean descending() {
+        return order == null || !"asc".equalsIgnoreCase(order);
+    }
+
+    public int limitOrDefault() {
+        return limit == null ? 100 : limit;
+    }
+}
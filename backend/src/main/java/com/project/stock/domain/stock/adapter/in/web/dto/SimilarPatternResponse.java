@@ -0,0 +1,33 @@
+package com.project.stock.domain.stock.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.project.stock.domain.stock.domain.pattern.SimilarPattern;
+
+import java.time.LocalDate;
+
+/**
+ * 유사 차트 패턴 응답 DTO.
+ */
+public record SimilarPatternResponse(
+    String stockCode,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate startDate,
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate endDate,
+
+    double distance,
+    Double forwardReturnPct
+) {
+
+    public static SimilarPatternResponse from(SimilarPattern pattern) {
+        return new SimilarPatternResponse(
+            pattern.stockCode(),
+            pattern.startDate(),
+            pattern.endDate(),
+            pattern.distance(),
+            pattern.forwardReturnPct()
+        );
+    }
+}
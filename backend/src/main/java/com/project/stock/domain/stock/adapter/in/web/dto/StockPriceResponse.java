@@ -1,6 +1,7 @@
 package com.project.stock.domain.stock.adapter.in.web.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.project.stock.domain.stock.domain.StockPriceRow;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -19,4 +20,16 @@ public record StockPriceResponse(
     Long volume,
     BigDecimal changeRate
 ) {
+
+    public static StockPriceResponse from(StockPriceRow row) {
+        return new StockPriceResponse(
+            row.date(),
+            row.open(),
+            row.high(),
+            row.low(),
+            row.close(),
+            row.volume(),
+            row.changeRate()
+        );
+    }
 }
@@ -0,0 +1,58 @@
+package com.project.stock.domain.stock.adapter.out.cache;
+
+import com.project.stock.domain.stock.application.port.out.AnalysisLockPort;
+import com.project.stock.domain.stock.domain.AnalysisCacheKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 분석 실행 잠금 어댑터 (Redis SET NX PX).
+ * Redis 장애 시에는 잠금을 획득한 것으로 간주하여 인스턴스 내부 합류만으로 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisLockRedisAdapter implements AnalysisLockPort {
+
+    private static final String KEY_PREFIX = "analysis:inflight:";
+
+    /**
+     * 자신이 획득한 잠금만 삭제 (임대 만료 후 다른 인스턴스가 획득한 잠금 보호).
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Optional<String> tryAcquire(AnalysisCacheKey key, Duration lease) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key.asString(), token, lease);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("분석 잠금 획득 실패, 로컬 실행으로 대체: key={}, error={}", key.asString(), e.getMessage());
+            return Optional.of(token);
+        }
+    }
+
+    @Override
+    public void release(AnalysisCacheKey key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key.asString()), token);
+        } catch (Exception e) {
+            log.warn("분석 잠금 해제 실패: key={}, error={}", key.asString(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.stock.domain.stock.adapter.out.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.stock.common.config.AnalysisCacheProperties;
+import com.project.stock.domain.stock.application.port.out.AnalysisResultCachePort;
+import com.project.stock.domain.stock.domain.AnalysisCacheKey;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 분석 결과 캐시 어댑터 (Redis).
+ * 결과를 JSON 문자열로 저장하며, Redis 장애는 캐시 미스로 취급합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisResultRedisAdapter implements AnalysisResultCachePort {
+
+    private static final String KEY_PREFIX = "analysis:result:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AnalysisCacheProperties analysisCacheProperties;
+
+    @Override
+    public Optional<StockAnalysisResult> find(AnalysisCacheKey key) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + key.asString());
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, StockAnalysisResult.class));
+        } catch (Exception e) {
+            log.warn("분석 결과 캐시 조회 실패: key={}, error={}", key.asString(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(AnalysisCacheKey key, StockAnalysisResult result) {
+        try {
+            redisTemplate.opsForValue().set(
+                KEY_PREFIX + key.asString(),
+                objectMapper.writeValueAsString(result),
+                Duration.ofHours(analysisCacheProperties.getTtlHours())
+            );
+        } catch (Exception e) {
+            log.warn("분석 결과 캐시 저장 실패: key={}, error={}", key.asString(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.project.stock.domain.stock.adapter.out.cache;
+
+import com.project.stock.domain.stock.application.port.out.BatchCoordinationPort;
+import com.project.stock.domain.stock.application.port.out.BatchCoordinationPort.Lease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 배치 작업 분배 어댑터 (Redis 리스트 + 임대 ZSET).
+ *
+ * <ul>
+ *     <li>{@code batch:{runKey}:seeded} - 작업 목록 등록 여부 (SET NX)</li>
+ *     <li>{@code batch:{runKey}:queue} - 아직 배분되지 않은 종목 (LIST)</li>
+ *     <li>{@code batch:{runKey}:leases} - 처리 중인 종목과 임대 만료 시각 (ZSET, score = ms)</li>
+ *     <li>{@code batch:{runKey}:owners} - 처리 중인 종목의 소유 토큰 (HASH)</li>
+ *     <li>{@code batch:{runKey}:done} - 인스턴스별 처리 건수 (HASH)</li>
+ * </ul>
+ * 배분/회수/연장/반납은 모두 Lua 스크립트로 원자적으로 수행하므로 같은 종목이 동시에 두 인스턴스에 배분되지 않고,
+ * 연장과 반납은 소유 토큰을 비교하므로 만료 후 회수된 종목의 새 임대를 이전 임대자가 지우지 못합니다.
+ * 만료 판정은 인스턴스 간 시계 차이를 피하기 위해 Redis 서버 시각을 사용합니다.
+ * Redis 장애 시 참여 단계에서는 단독 실행으로 대체하고, 실행 중 장애는 남은 종목을 다음 실행에 맡깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchCoordinationRedisAdapter implements BatchCoordinationPort {
+
+    private static final String KEY_PREFIX = "batch:";
+
+    /**
+     * 처음 참여한 인스턴스만 작업 목록을 등록합니다. 이미 등록된 실행이라도 대기열과 임대가 모두 비었으면
+     * (이전 실행이 끝났거나 중단 후 재개) 새 목록으로 다시 등록합니다. ARGV[1] = 보관 기간(초), ARGV[2..] = 종목 ID.
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[1]) == 1 "
+            + "  and (redis.call('llen', KEYS[2]) > 0 or redis.call('zcard', KEYS[3]) > 0) then return -1 end "
+            + "redis.call('set', KEYS[1], '1', 'EX', ARGV[1]) "
+            + "for i = 2, #ARGV do redis.call('rpush', KEYS[2], ARGV[i]) end "
+            + "redis.call('expire', KEYS[2], ARGV[1]) "
+            + "return #ARGV - 1",
+        Long.class
+    );
+
+    /**
+     * 대기열에서 하나를 꺼내거나, 비었으면 임대가 만료된 종목 하나를 회수하여 새 만료 시각과 소유 토큰으로 임대합니다.
+     * 임대 ZSET과 소유자 HASH는 등록 플래그(KEYS[3])와 같은 시각에 만료됩니다. ARGV[1] = 임대 시간(ms), ARGV[2] = 소유 토큰.
+     */
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>(
+        "local t = redis.call('time') "
+            + "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) "
+            + "local id = redis.call('lpop', KEYS[1]) "
+            + "if not id then "
+            + "  local expired = redis.call('zrangebyscore', KEYS[2], '-inf', now, 'LIMIT', 0, 1) "
+            + "  if #expired == 0 then return false end "
+            + "  id = expired[1] "
+            + "end "
+            + "redis.call('zadd', KEYS[2], now + tonumber(ARGV[1]), id) "
+            + "redis.call('hset', KEYS[4], id, ARGV[2]) "
+            + "local ttl = redis.call('ttl', KEYS[3]) "
+            + "if ttl > 0 then "
+            + "  redis.call('expire', KEYS[2], ttl) "
+            + "  redis.call('expire', KEYS[4], ttl) "
+            + "end "
+            + "return id",
+        String.class
+    );
+
+    /**
+     * 소유 토큰이 일치하는 임대만 지금부터 다시 임대 시간만큼 연장합니다.
+     * ARGV[1] = 임대 시간(ms), ARGV[2..] = 종목 ID, 소유 토큰 쌍.
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "local t = redis.call('time') "
+            + "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) "
+            + "local renewed = 0 "
+            + "for i = 2, #ARGV, 2 do "
+            + "  if redis.call('hget', KEYS[2], ARGV[i]) == ARGV[i + 1] then "
+            + "    renewed = renewed + redis.call('zadd', KEYS[1], 'XX', 'CH', now + tonumber(ARGV[1]), ARGV[i]) "
+            + "  end "
+            + "end "
+            + "return renewed",
+        Long.class
+    );
+
+    /**
+     * 소유 토큰이 일치하면 임대를 반납하고 인스턴스별 처리 건수를 올립니다 (만료 후 다른 인스턴스가 회수한 임대 보호).
+     * ARGV[1] = 종목 ID, ARGV[2] = 인스턴스 ID, ARGV[3] = 소유 토큰.
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('hget', KEYS[4], ARGV[1]) ~= ARGV[3] then return 0 end "
+            + "redis.call('hdel', KEYS[4], ARGV[1]) "
+            + "local removed = redis.call('zrem', KEYS[1], ARGV[1]) "
+            + "if removed == 1 then "
+            + "  redis.call('hincrby', KEYS[2], ARGV[2], 1) "
+            + "  local ttl = redis.call('ttl', KEYS[3]) "
+            + "  if ttl > 0 then redis.call('expire', KEYS[2], ttl) end "
+            + "end "
+            + "return removed",
+        Long.class
+    );
+
+    private static final String INSTANCE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public boolean join(String runKey, List<Long> stockIds, Duration ttl) {
+        List<String> args = new ArrayList<>(stockIds.size() + 1);
+        args.add(String.valueOf(ttl.toSeconds()));
+        stockIds.forEach(stockId -> args.add(String.valueOf(stockId)));
+        try {
+            Long seeded = redisTemplate.execute(SEED_SCRIPT,
+                List.of(key(runKey, "seeded"), key(runKey, "queue"), key(runKey, "leases")), args.toArray());
+            if (seeded != null && seeded >= 0) {
+                log.info("배치 작업 목록 등록: run={}, 종목={} 개, instance={}", runKey, seeded, INSTANCE_ID);
+            } else {
+                log.info("진행 중인 배치에 참여: run={}, instance={}", runKey, INSTANCE_ID);
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("배치 분배 참여 실패, 단독 실행으로 대체: run={}, error={}", runKey, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<Lease> claim(String runKey, Duration lease) {
+        String token = UUID.randomUUID().toString();
+        try {
+            String stockId = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(key(runKey, "queue"), key(runKey, "leases"), key(runKey, "seeded"), key(runKey, "owners")),
+                String.valueOf(lease.toMillis()), token);
+            return Optional.ofNullable(stockId).map(id -> new Lease(Long.parseLong(id), token));
+        } catch (Exception e) {
+            log.warn("배치 작업 임대 실패, 남은 종목은 다른 인스턴스/다음 실행에 맡깁니다: run={}, error={}", runKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public int renew(String runKey, Collection<Lease> leases, Duration lease) {
+        if (leases.isEmpty()) {
+            return 0;
+        }
+        List<String> args = new ArrayList<>(leases.size() * 2 + 1);
+        args.add(String.valueOf(lease.toMillis()));
+        leases.forEach(held -> {
+            args.add(String.valueOf(held.stockId()));
+            args.add(held.token());
+        });
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT,
+                List.of(key(runKey, "leases"), key(runKey, "owners")), args.toArray());
+            return renewed != null ? renewed.intValue() : 0;
+        } catch (Exception e) {
+            log.warn("배치 작업 임대 연장 실패: run={}, 임대={} 개, error={}", runKey, leases.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public boolean complete(String runKey, Lease lease) {
+        try {
+            Long removed = redisTemplate.execute(COMPLETE_SCRIPT,
+                List.of(key(runKey, "leases"), key(runKey, "done"), key(runKey, "seeded"), key(runKey, "owners")),
+                String.valueOf(lease.stockId()), INSTANCE_ID, lease.token());
+            if (removed == null || removed == 0) {
+                log.warn("배치 작업 임대 만료: 다른 인스턴스가 회수한 종목입니다. run={}, stockId={}", runKey, lease.stockId());
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("배치 작업 반납 실패: run={}, stockId={}, error={}", runKey, lease.stockId(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public String instanceId() {
+        return INSTANCE_ID;
+    }
+
+    private static String key(String runKey, String suffix) {
+        return KEY_PREFIX + runKey + ":" + suffix;
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.stock.domain.stock.adapter.out.cache;
+
+import com.project.stock.domain.stock.application.port.out.PriceWatermarkPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 종목별 시세 워터마크 어댑터 (Redis).
+ * 값은 epoch 밀리초 문자열이며, 여러 인스턴스가 같은 워터마크를 공유합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceWatermarkRedisAdapter implements PriceWatermarkPort {
+
+    private static final String KEY_PREFIX = "price:watermark:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Optional<Instant> getOrInit(String stockCode, Duration ttl) {
+        String key = KEY_PREFIX + stockCode;
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                String now = String.valueOf(System.currentTimeMillis());
+                // 동시에 발급한 다른 인스턴스가 있으면 그 값을 따른다
+                redisTemplate.opsForValue().setIfAbsent(key, now, ttl);
+                value = redisTemplate.opsForValue().get(key);
+            }
+            return value == null ? Optional.empty() : Optional.of(Instant.ofEpochMilli(Long.parseLong(value)));
+        } catch (Exception e) {
+            log.warn("시세 워터마크 조회 실패: stockCode={}, error={}", stockCode, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void advance(String stockCode, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + stockCode, String.valueOf(System.currentTimeMillis()), ttl);
+        } catch (Exception e) {
+            log.warn("시세 워터마크 갱신 실패: stockCode={}, error={}", stockCode, e.getMessage());
+        }
+    }
+}
@@ -3,17 +3,25 @@ package com.project.stock.domain.stock.adapter.out.external.ai;
 import com.project.stock.common.config.AiWorkerProperties;
 import com.project.stock.domain.stock.application.port.out.AiAnalysisPort;
 import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.domain.AnalysisOutcome;
+import com.project.stock.domain.stock.domain.AnalysisStage;
+import com.project.stock.domain.stock.domain.DailyBar;
 import com.project.stock.domain.stock.domain.Stock;
 import com.project.stock.domain.stock.domain.StockAnalysisResult;
-import com.project.stock.domain.stock.domain.StockPrice;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * AI Worker 통신 어댑터 (Driven Adapter).
@@ -24,22 +32,24 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AiAnalysisAdapter implements AiAnalysisPort {
 
-    private static final int DEFAULT_LOOKBACK_DAYS = 120;
-
     private final AiWorkerProperties aiWorkerProperties;
     private final LoadStockPricePort loadStockPricePort;
-    private final WebClient.Builder webClientBuilder;
+    private final AiWorkerPool aiWorkerPool;
 
     @Override
     public StockAnalysisResult requestAnalysis(Stock stock) {
-        log.info("AI 분석 요청 시작: stockCode={}", stock.getStockCode());
-
-        // 1. 최근 120일 시세 데이터 조회
-        List<StockPrice> recentPrices = loadStockPricePort.findTopNByStockIdOrderByDateDesc(
+        // 최근 N일 시세 데이터 조회 (날짜 오름차순)
+        return requestAnalysis(stock, loadStockPricePort.findRecentDailyBars(
             stock.getId(),
-            DEFAULT_LOOKBACK_DAYS
-        );
+            aiWorkerProperties.getLookbackDays()
+        ));
+    }
 
+    @Override
+    public StockAnalysisResult requestAnalysis(Stock stock, List<DailyBar> recentPrices) {
+        log.info("AI 분석 요청 시작: stockCode={}", stock.getStockCode());
+
+        // 1. 입력 시세 확인
         if (recentPrices.isEmpty()) {
             log.warn("시세 데이터가 없습니다: stockCode={}", stock.getStockCode());
             throw new IllegalStateException("분석을 위한 시세 데이터가 없습니다. 먼저 시세 동기화를 진행하세요.");
@@ -47,10 +57,11 @@ public class AiAnalysisAdapter implements AiAnalysisPort {
 
         log.info("시세 데이터 조회 완료: stockCode={}, 데이터 건수={}", stock.getStockCode(), recentPrices.size());
 
-        // 2. AI Worker에 분석 요청
+        // 2. AI Worker에 시세를 함께 전달하여 분석 요청 (Worker → 백엔드 재조회 제거)
         AiAnalysisRequest request = new AiAnalysisRequest(
             stock.getStockCode(),
-            DEFAULT_LOOKBACK_DAYS
+            aiWorkerProperties.getLookbackDays(),
+            AiPriceColumns.from(recentPrices)
         );
 
         AiAnalysisResponse response = callAiWorker(request);
@@ -64,21 +75,177 @@ public class AiAnalysisAdapter implements AiAnalysisPort {
         return result;
     }
 
-    private AiAnalysisResponse callAiWorker(AiAnalysisRequest request) {
-        WebClient webClient = webClientBuilder
-            .baseUrl(aiWorkerProperties.getBaseUrl())
-            .build();
+    @Override
+    public StockAnalysisResult requestAnalysis(Stock stock, List<DailyBar> recentPrices, Consumer<AnalysisStage> onStage) {
+        log.info("AI 분석 스트림 요청 시작: stockCode={}", stock.getStockCode());
 
-        log.info("AI Worker 호출: url={}/api/v1/analysis, stockCode={}",
-            aiWorkerProperties.getBaseUrl(), request.stockCode());
+        if (recentPrices.isEmpty()) {
+            log.warn("시세 데이터가 없습니다: stockCode={}", stock.getStockCode());
+            throw new IllegalStateException("분석을 위한 시세 데이터가 없습니다. 먼저 시세 동기화를 진행하세요.");
+        }
 
-        try {
-            AiAnalysisResponse response = webClient.post()
-                .uri("/api/v1/analysis")
-                .bodyValue(request)
+        AiAnalysisRequest request = new AiAnalysisRequest(
+            stock.getStockCode(),
+            aiWorkerProperties.getLookbackDays(),
+            AiPriceColumns.from(recentPrices)
+        );
+
+        try (AiWorkerPool.Lease lease = aiWorkerPool.acquire()) {
+            try {
+                Iterable<AiAnalysisProgress> progress = lease.webClient().post()
+                    .uri("/api/v1/analysis/stream")
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToFlux(AiAnalysisProgress.class)
+                    .toIterable();
+
+                for (AiAnalysisProgress line : progress) {
+                    switch (line.stage()) {
+                        case "INDICATORS_COMPUTED" -> onStage.accept(AnalysisStage.INDICATORS_COMPUTED);
+                        case "LLM_COMPLETED" -> {
+                            lease.success();
+                            onStage.accept(AnalysisStage.LLM_COMPLETED);
+                            StockAnalysisResult result = mapToAnalysisResult(line.result());
+                            log.info("AI 분석 완료: stockCode={}, recommendation={}",
+                                stock.getStockCode(), result.recommendation());
+                            return result;
+                        }
+                        case "FAILED" -> throw new RuntimeException("AI Worker 분석 실패: " + line.error());
+                        default -> log.debug("알 수 없는 분석 단계: {}", line.stage());
+                    }
+                }
+            } catch (RuntimeException e) {
+                reportFailure(lease, e);
+                throw e;
+            }
+        } catch (WebClientResponseException e) {
+            log.error("AI Worker 호출 실패: status={}, body={}",
+                e.getStatusCode(), e.getResponseBodyAsString());
+            throw new RuntimeException("AI Worker 호출 실패: " + e.getMessage(), e);
+        } catch (WebClientRequestException e) {
+            log.error("AI Worker 통신 오류: {}", e.getMessage(), e);
+            throw new RuntimeException("AI Worker 통신 오류: " + e.getMessage(), e);
+        }
+        throw new RuntimeException("AI Worker 분석 스트림이 결과 없이 종료되었습니다.");
+    }
+
+    @Override
+    public void requestAnalysisBatch(List<Stock> stocks, Consumer<AnalysisOutcome> onOutcome) {
+        long startTime = System.currentTimeMillis();
+        log.info("AI 배치 분석 요청 시작: {} 종목", stocks.size());
+
+        // 1. 종목별 시세 조회 (시세가 없거나 조회에 실패한 종목은 요청에서 제외하고 즉시 실패 처리)
+        int lookbackDays = aiWorkerProperties.getLookbackDays();
+        Map<String, Stock> pending = new LinkedHashMap<>();
+        Set<String> undelivered = new HashSet<>();
+        List<AiAnalysisRequest> items = new ArrayList<>();
+        for (Stock stock : stocks) {
+            List<DailyBar> recentPrices;
+            try {
+                recentPrices = loadStockPricePort.findRecentDailyBars(stock.getId(), lookbackDays);
+            } catch (RuntimeException e) {
+                log.error("시세 조회 실패: stockCode={}, error={}", stock.getStockCode(), e.getMessage(), e);
+                deliver(onOutcome, AnalysisOutcome.failure(stock, "시세 조회 실패: " + e.getMessage(), 0));
+                continue;
+            }
+            if (recentPrices.isEmpty()) {
+                log.warn("시세 데이터가 없습니다: stockCode={}", stock.getStockCode());
+                deliver(onOutcome, AnalysisOutcome.failure(stock, "분석을 위한 시세 데이터가 없습니다.", 0));
+                continue;
+            }
+            pending.put(stock.getStockCode(), stock);
+            items.add(new AiAnalysisRequest(stock.getStockCode(), lookbackDays, AiPriceColumns.from(recentPrices)));
+        }
+        if (items.isEmpty()) {
+            return;
+        }
+
+        // 2. 한 번의 요청으로 전송하고, 종목별 결과를 완료 순서대로 수신
+        //    배치는 Worker 안에서 동시 분석 수만큼 실행되므로 그만큼 슬롯을 차지한다
+        Integer batchConcurrency = aiWorkerProperties.getBatchConcurrency();
+        int weight = Math.min(items.size(), batchConcurrency != null ? batchConcurrency : items.size());
+        try (AiWorkerPool.Lease lease = aiWorkerPool.acquire(weight)) {
+            Iterable<AiBatchAnalysisItem> results = lease.webClient().post()
+                .uri("/api/v1/analysis/batch")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(new AiBatchAnalysisRequest(items, batchConcurrency))
                 .retrieve()
-                .bodyToMono(AiAnalysisResponse.class)
-                .block();
+                .bodyToFlux(AiBatchAnalysisItem.class)
+                .toIterable();
+
+            try {
+                for (AiBatchAnalysisItem item : results) {
+                    Stock stock = pending.get(item.stockCode());
+                    if (stock == null || undelivered.contains(item.stockCode())) {
+                        log.warn("요청하지 않았거나 이미 받은 종목의 배치 응답: stockCode={}", item.stockCode());
+                        continue;
+                    }
+                    long elapsed = item.elapsedMs() != null ? item.elapsedMs() : System.currentTimeMillis() - startTime;
+                    AnalysisOutcome outcome = item.isSuccess()
+                        ? AnalysisOutcome.success(stock, mapToAnalysisResult(item.result()), elapsed)
+                        : AnalysisOutcome.failure(stock, item.error(), elapsed);
+                    // 콜백이 성공한 종목만 목록에서 뺀다. 콜백 오류는 인스턴스 장애가 아니므로 스트림을 계속 읽는다
+                    if (deliver(onOutcome, outcome)) {
+                        pending.remove(item.stockCode());
+                    } else {
+                        undelivered.add(item.stockCode());
+                    }
+                }
+                lease.success();
+            } catch (RuntimeException e) {
+                reportFailure(lease, e);
+                throw e;
+            }
+        } catch (WebClientResponseException e) {
+            log.error("AI Worker 배치 호출 실패: status={}, body={}",
+                e.getStatusCode(), e.getResponseBodyAsString());
+        } catch (Exception e) {
+            log.error("AI Worker 배치 통신 오류: {}", e.getMessage(), e);
+        }
+
+        // 3. 스트림이 중단되어 결과를 받지 못했거나 결과 처리(콜백)에 실패한 종목은 실패 처리
+        long elapsed = System.currentTimeMillis() - startTime;
+        pending.forEach((stockCode, stock) -> deliver(onOutcome, AnalysisOutcome.failure(stock,
+            undelivered.contains(stockCode) ? "분석 결과 처리에 실패했습니다." : "AI Worker 배치 응답에 결과가 없습니다.", elapsed)));
+
+        log.info("AI 배치 분석 종료: {} 종목, 응답 누락 {} 종목, 결과 처리 실패 {} 종목, 소요 시간={}ms",
+            stocks.size(), pending.size() - undelivered.size(), undelivered.size(), elapsed);
+    }
+
+    /**
+     * 종목 결과를 콜백에 전달합니다. 콜백 예외는 전파하지 않고 로그만 남깁니다.
+     *
+     * @return 콜백이 정상 반환했는지 여부
+     */
+    private boolean deliver(Consumer<AnalysisOutcome> onOutcome, AnalysisOutcome outcome) {
+        try {
+            onOutcome.accept(outcome);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("분석 결과 처리 실패: stockCode={}, error={}", outcome.stock().getStockCode(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 인스턴스 상태를 의심할 만한 실패(연결 실패, 5xx)만 풀에 알립니다.
+     * 4xx나 Worker가 보고한 분석 실패는 요청/종목 문제이므로 인스턴스는 정상으로 봅니다.
+     */
+    private void reportFailure(AiWorkerPool.Lease lease, RuntimeException e) {
+        boolean instanceFault = e instanceof WebClientRequestException
+            || (e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError());
+        if (instanceFault) {
+            lease.failure();
+        } else {
+            lease.success();
+        }
+    }
+
+    private AiAnalysisResponse callAiWorker(AiAnalysisRequest request) {
+        try (AiWorkerPool.Lease lease = aiWorkerPool.acquire()) {
+            log.info("AI Worker 호출: url={}/api/v1/analysis, stockCode={}", lease.baseUrl(), request.stockCode());
+            AiAnalysisResponse response = request(lease, request);
 
             if (response == null) {
                 log.error("AI Worker 응답이 null입니다");
@@ -90,6 +257,8 @@ public class AiAnalysisAdapter implements AiAnalysisPort {
 
             return response;
 
+        } catch (IllegalStateException e) {
+            throw e;
         } catch (WebClientResponseException e) {
             log.error("AI Worker 호출 실패: status={}, body={}",
                 e.getStatusCode(), e.getResponseBodyAsString());
@@ -100,6 +269,22 @@ public class AiAnalysisAdapter implements AiAnalysisPort {
         }
     }
 
+    private AiAnalysisResponse request(AiWorkerPool.Lease lease, AiAnalysisRequest request) {
+        try {
+            AiAnalysisResponse response = lease.webClient().post()
+                .uri("/api/v1/analysis")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AiAnalysisResponse.class)
+                .block();
+            lease.success();
+            return response;
+        } catch (RuntimeException e) {
+            reportFailure(lease, e);
+            throw e;
+        }
+    }
+
     private StockAnalysisResult mapToAnalysisResult(AiAnalysisResponse response) {
         // Recommendation enum 변환
         StockAnalysisResult.Recommendation recommendation;
@@ -0,0 +1,18 @@
+package com.project.stock.domain.stock.adapter.out.external.ai;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * AI Worker 단건 분석 진행 스트림의 한 줄 (NDJSON).
+ */
+public record AiAnalysisProgress(
+    @JsonProperty("stage")
+    String stage,  // INDICATORS_COMPUTED, LLM_COMPLETED, FAILED
+
+    @JsonProperty("result")
+    AiAnalysisResponse result,
+
+    @JsonProperty("error")
+    String error
+) {
+}
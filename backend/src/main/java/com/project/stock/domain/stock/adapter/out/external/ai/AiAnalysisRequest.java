@@ -1,18 +1,24 @@
 package com.project.stock.domain.stock.adapter.out.external.ai;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * AI Worker 분석 요청 DTO.
+ * prices가 있으면 Worker는 백엔드 시세 API를 다시 호출하지 않고 전달된 데이터로 분석합니다.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record AiAnalysisRequest(
     @JsonProperty("stock_code")
     String stockCode,
 
     @JsonProperty("lookback_days")
-    Integer lookbackDays
+    Integer lookbackDays,
+
+    @JsonProperty("prices")
+    AiPriceColumns prices
 ) {
     public AiAnalysisRequest(String stockCode) {
-        this(stockCode, 120);
+        this(stockCode, 120, null);
     }
 }
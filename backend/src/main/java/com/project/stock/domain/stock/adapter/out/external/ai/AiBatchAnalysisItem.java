@@ -0,0 +1,28 @@
+package com.project.stock.domain.stock.adapter.out.external.ai;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * AI Worker 배치 분석 응답 스트림의 한 줄 (NDJSON).
+ */
+public record AiBatchAnalysisItem(
+    @JsonProperty("stock_code")
+    String stockCode,
+
+    @JsonProperty("status")
+    String status,  // OK, ERROR
+
+    @JsonProperty("result")
+    AiAnalysisResponse result,
+
+    @JsonProperty("error")
+    String error,
+
+    @JsonProperty("elapsed_ms")
+    Long elapsedMs
+) {
+
+    public boolean isSuccess() {
+        return "OK".equals(status) && result != null;
+    }
+}
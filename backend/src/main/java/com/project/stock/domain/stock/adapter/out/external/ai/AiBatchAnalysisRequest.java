@@ -0,0 +1,19 @@
+package com.project.stock.domain.stock.adapter.out.external.ai;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * AI Worker 다종목 배치 분석 요청 DTO.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AiBatchAnalysisRequest(
+    @JsonProperty("items")
+    List<AiAnalysisRequest> items,
+
+    @JsonProperty("concurrency")
+    Integer concurrency
+) {
+}
@@ -0,0 +1,58 @@
+package com.project.stock.domain.stock.adapter.out.external.ai;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.project.stock.domain.stock.domain.DailyBar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI Worker로 전달하는 OHLCV 시계열 (컬럼형, 날짜 오름차순).
+ * 행마다 키를 반복하는 객체 배열보다 페이로드가 작고, Worker에서 바로 DataFrame 컬럼으로 변환됩니다.
+ */
+public record AiPriceColumns(
+    @JsonProperty("date")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    List<LocalDate> date,
+
+    @JsonProperty("open")
+    double[] open,
+
+    @JsonProperty("high")
+    double[] high,
+
+    @JsonProperty("low")
+    double[] low,
+
+    @JsonProperty("close")
+    double[] close,
+
+    @JsonProperty("volume")
+    long[] volume
+) {
+
+    /**
+     * 날짜 오름차순 일봉 목록으로부터 컬럼형 시계열을 만듭니다.
+     */
+    public static AiPriceColumns from(List<DailyBar> bars) {
+        int size = bars.size();
+        List<LocalDate> date = new ArrayList<>(size);
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        long[] volume = new long[size];
+        for (int i = 0; i < size; i++) {
+            DailyBar bar = bars.get(i);
+            date.add(bar.date());
+            open[i] = bar.open();
+            high[i] = bar.high();
+            low[i] = bar.low();
+            close[i] = bar.close();
+            volume[i] = bar.volume();
+        }
+        return new AiPriceColumns(date, open, high, low, close, volume);
+    }
+}
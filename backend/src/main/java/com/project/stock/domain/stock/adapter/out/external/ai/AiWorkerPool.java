@@ -0,0 +1,256 @@
+package com.project.stock.domain.stock.adapter.out.external.ai;
+
+import com.project.stock.common.config.AiWorkerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AI Worker 인스턴스 풀.
+ *
+ * <p>요청마다 진행 중인 요청 수가 가장 적은 정상 인스턴스를 고르고(least outstanding requests),
+ * 인스턴스별 동시 요청 상한을 넘지 않도록 빈 슬롯이 생길 때까지 대기합니다.
+ * 연속 실패(요청 실패 또는 헬스 체크 실패)가 임계치에 도달한 인스턴스는 일정 시간 제외하며,
+ * 헬스 체크가 성공하면 복귀시킵니다. 모든 인스턴스가 제외되면 전체를 대상으로 다시 시도합니다.
+ */
+@Slf4j
+@Component
+public class AiWorkerPool {
+
+    private final AiWorkerProperties aiWorkerProperties;
+    private final List<Instance> instances;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public AiWorkerPool(AiWorkerProperties aiWorkerProperties, WebClient.Builder webClientBuilder) {
+        this.aiWorkerProperties = aiWorkerProperties;
+        Set<String> urls = new LinkedHashSet<>();
+        aiWorkerProperties.getEndpoints().stream()
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .forEach(urls::add);
+        if (urls.isEmpty() && aiWorkerProperties.getBaseUrl() != null) {
+            urls.add(aiWorkerProperties.getBaseUrl());
+        }
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("AI Worker 주소가 설정되지 않았습니다 (ai-worker.base-url 또는 ai-worker.endpoints).");
+        }
+        this.instances = urls.stream()
+            .map(url -> new Instance(url, webClientBuilder.clone().baseUrl(url).build()))
+            .toList();
+        log.info("AI Worker 풀 구성: {} 개 인스턴스 {}, 인스턴스별 동시 요청 상한={}",
+            instances.size(), urls, aiWorkerProperties.getMaxConcurrentPerInstance());
+    }
+
+    /**
+     * 요청 1건 분량의 슬롯을 빌립니다.
+     */
+    public Lease acquire() {
+        return acquire(1);
+    }
+
+    /**
+     * weight 분량의 슬롯을 빌립니다. 배치 요청처럼 Worker 안에서 여러 건을 동시에 처리하는 요청에 사용합니다.
+     * 빈 인스턴스는 weight가 상한보다 커도 받아들입니다.
+     *
+     * @throws IllegalStateException 대기 시간 안에 빈 슬롯을 얻지 못한 경우
+     */
+    public Lease acquire(int weight) {
+        int cost = Math.max(1, weight);
+        long remaining = TimeUnit.MILLISECONDS.toNanos(aiWorkerProperties.getAcquireTimeoutMs());
+        lock.lock();
+        try {
+            while (true) {
+                Instance selected = select(cost);
+                if (selected != null) {
+                    selected.outstanding += cost;
+                    return new Lease(selected, cost);
+                }
+                if (remaining <= 0) {
+                    throw new IllegalStateException("사용 가능한 AI Worker가 없습니다. 잠시 후 다시 시도하세요.");
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI Worker 대기 중 인터럽트되었습니다.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 주기적으로 모든 인스턴스의 /health를 확인합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai-worker.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        Duration timeout = Duration.ofMillis(aiWorkerProperties.getHealthCheckTimeoutMs());
+        for (Instance instance : instances) {
+            boolean healthy;
+            try {
+                instance.webClient.get()
+                    .uri("/health")
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block(timeout);
+                healthy = true;
+            } catch (Exception e) {
+                log.debug("AI Worker 헬스 체크 실패: url={}, error={}", instance.baseUrl, e.getMessage());
+                healthy = false;
+            }
+            record(instance, healthy);
+        }
+    }
+
+    /**
+     * 인스턴스별 현재 상태 (로그/진단용).
+     */
+    public List<String> describe() {
+        lock.lock();
+        try {
+            List<String> states = new ArrayList<>();
+            long now = System.currentTimeMillis();
+            for (Instance instance : instances) {
+                states.add(String.format("%s outstanding=%d failures=%d %s", instance.baseUrl, instance.outstanding,
+                    instance.consecutiveFailures, instance.isEjected(now) ? "EJECTED" : "UP"));
+            }
+            return states;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 상한 안에서 진행 중인 요청이 가장 적은 정상 인스턴스. 동률이면 순환 시작점부터 고릅니다.
+     */
+    private Instance select(int cost) {
+        long now = System.currentTimeMillis();
+        boolean anyHealthy = instances.stream().anyMatch(instance -> !instance.isEjected(now));
+        int cap = aiWorkerProperties.getMaxConcurrentPerInstance();
+        int start = Math.floorMod(cursor.getAndIncrement(), instances.size());
+
+        Instance best = null;
+        for (int i = 0; i < instances.size(); i++) {
+            Instance candidate = instances.get((start + i) % instances.size());
+            if (anyHealthy && candidate.isEjected(now)) {
+                continue;
+            }
+            if (candidate.outstanding > 0 && candidate.outstanding + cost > cap) {
+                continue;
+            }
+            if (best == null || candidate.outstanding < best.outstanding) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private void release(Instance instance, int cost) {
+        lock.lock();
+        try {
+            instance.outstanding -= cost;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(Instance instance, boolean success) {
+        lock.lock();
+        try {
+            if (success) {
+                if (instance.ejectedUntil > 0) {
+                    log.info("AI Worker 복귀: url={}", instance.baseUrl);
+                    released.signalAll();
+                }
+                instance.consecutiveFailures = 0;
+                instance.ejectedUntil = 0;
+                return;
+            }
+            instance.consecutiveFailures++;
+            if (instance.consecutiveFailures >= aiWorkerProperties.getFailureThreshold()) {
+                if (instance.ejectedUntil == 0) {
+                    log.warn("AI Worker 제외: url={}, 연속 실패={}", instance.baseUrl, instance.consecutiveFailures);
+                }
+                instance.ejectedUntil = System.currentTimeMillis() + aiWorkerProperties.getEjectionMs();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 빌린 슬롯. 요청 종료 후 반드시 close해야 하며, 결과를 success/failure로 알리면 제외 판정에 반영됩니다.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final Instance instance;
+        private final int cost;
+        private boolean closed;
+
+        private Lease(Instance instance, int cost) {
+            this.instance = instance;
+            this.cost = cost;
+        }
+
+        public WebClient webClient() {
+            return instance.webClient;
+        }
+
+        public String baseUrl() {
+            return instance.baseUrl;
+        }
+
+        public void success() {
+            record(instance, true);
+        }
+
+        /**
+         * 연결 실패나 5xx처럼 인스턴스 상태를 의심할 만한 실패를 알립니다. 요청 자체의 4xx 오류에는 호출하지 않습니다.
+         */
+        public void failure() {
+            record(instance, false);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(instance, cost);
+            }
+        }
+    }
+
+    /**
+     * 인스턴스 상태. 모든 가변 필드는 lock 안에서만 읽고 씁니다.
+     */
+    private static final class Instance {
+
+        private final String baseUrl;
+        private final WebClient webClient;
+        private int outstanding;
+        private int consecutiveFailures;
+        private long ejectedUntil;
+
+        private Instance(String baseUrl, WebClient webClient) {
+            this.baseUrl = baseUrl;
+            this.webClient = webClient;
+        }
+
+        private boolean isEjected(long now) {
+            return ejectedUntil > now;
+        }
+    }
+}
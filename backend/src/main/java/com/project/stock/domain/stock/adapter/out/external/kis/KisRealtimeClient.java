@@ -0,0 +1,228 @@
+package com.project.stock.domain.stock.adapter.out.external.kis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.stock.common.config.KisProperties;
+import com.project.stock.common.config.KisRealtimeProperties;
+import com.project.stock.domain.stock.application.port.out.RealtimeQuotePort;
+import com.project.stock.domain.stock.domain.realtime.QuoteTick;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 한국투자증권 실시간 시세 WebSocket 클라이언트.
+ *
+ * <p>접속키(approval key)를 발급받아 종목별로 구독 메시지를 보내고, 데이터 메시지는 {@link KisRealtimeParser}로 해석합니다.
+ * PINGPONG 메시지는 그대로 돌려보내며, 연결이 끊기면 일정 시간 후 재연결하여 같은 종목을 다시 구독합니다.
+ * App Key가 비어 있으면 접속키 없이 연결하므로 로컬 재생 서버에 그대로 붙일 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisRealtimeClient implements RealtimeQuotePort {
+
+    private static final String TR_ID_PINGPONG = "PINGPONG";
+
+    private final KisProperties kisProperties;
+    private final KisRealtimeProperties kisRealtimeProperties;
+    private final WebClient.Builder webClientBuilder;
+    private final ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ScheduledExecutorService reconnectExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kis-realtime");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final LongAdder parseErrors = new LongAdder();
+
+    private volatile WebSocket webSocket;
+    private volatile boolean running;
+    private volatile List<String> stockCodes = List.of();
+    private volatile Consumer<QuoteTick> listener;
+
+    @Override
+    public void connect(Collection<String> stockCodes, Consumer<QuoteTick> listener) {
+        this.stockCodes = List.copyOf(stockCodes);
+        this.listener = listener;
+        this.running = true;
+        reconnectExecutor.execute(this::open);
+    }
+
+    @Override
+    public void disconnect() {
+        running = false;
+        WebSocket current = webSocket;
+        if (current != null) {
+            current.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown");
+        }
+        reconnectExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isConnected() {
+        WebSocket current = webSocket;
+        return current != null && !current.isInputClosed();
+    }
+
+    @Override
+    public long parseErrors() {
+        return parseErrors.sum();
+    }
+
+    private void open() {
+        if (!running) {
+            return;
+        }
+        WebSocket socket = null;
+        try {
+            String approvalKey = issueApprovalKey();
+            socket = httpClient.newWebSocketBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .buildAsync(URI.create(kisRealtimeProperties.getUrl()), new QuoteListener())
+                .join();
+            for (String stockCode : stockCodes) {
+                socket.sendText(subscribeMessage(approvalKey, stockCode), true).join();
+            }
+            webSocket = socket;
+            log.info("KIS 실시간 연결 완료: url={}, 구독 종목={} 개", kisRealtimeProperties.getUrl(), stockCodes.size());
+        } catch (Exception e) {
+            log.error("KIS 실시간 연결 실패: url={}, error={}", kisRealtimeProperties.getUrl(), e.getMessage());
+            if (socket != null) {
+                socket.abort();
+            }
+            scheduleReconnect(null);
+        }
+    }
+
+    /**
+     * 재연결을 예약합니다. 같은 연결의 종료/오류 콜백이 겹쳐도 한 번만 예약합니다.
+     *
+     * @param failed 끊어진 연결 (연결 수립 단계 실패면 null)
+     */
+    private synchronized void scheduleReconnect(WebSocket failed) {
+        if (failed != null && failed != webSocket) {
+            return;
+        }
+        webSocket = null;
+        if (running && !reconnectExecutor.isShutdown()) {
+            reconnectExecutor.schedule(this::open, kisRealtimeProperties.getReconnectDelayMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 실시간 접속키를 발급받습니다. App Key가 없으면(재생 서버) 빈 값을 사용합니다.
+     */
+    private String issueApprovalKey() {
+        if (kisProperties.getAppKey() == null || kisProperties.getAppKey().isBlank()) {
+            return "";
+        }
+        JsonNode response = webClientBuilder.clone()
+            .baseUrl(kisProperties.getBaseUrl())
+            .build()
+            .post()
+            .uri("/oauth2/Approval")
+            .header("Content-Type", "application/json")
+            .bodyValue(Map.of(
+                "grant_type", "client_credentials",
+                "appkey", kisProperties.getAppKey(),
+                "secretkey", kisProperties.getAppSecret()
+            ))
+            .retrieve()
+            .bodyToMono(JsonNode.class)
+            .block(Duration.ofSeconds(10));
+        if (response == null || !response.hasNonNull("approval_key")) {
+            throw new IllegalStateException("KIS 실시간 접속키 발급 실패");
+        }
+        return response.get("approval_key").asText();
+    }
+
+    private String subscribeMessage(String approvalKey, String stockCode) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+            "header", Map.of(
+                "approval_key", approvalKey,
+                "custtype", "P",
+                "tr_type", "1",
+                "content-type", "utf-8"
+            ),
+            "body", Map.of("input", Map.of(
+                "tr_id", kisRealtimeProperties.getTrId(),
+                "tr_key", stockCode
+            ))
+        ));
+    }
+
+    /**
+     * WebSocket 수신 리스너. JDK WebSocket은 리스너를 한 번에 하나씩 호출하므로 틱 전달 순서가 보장됩니다.
+     */
+    private final class QuoteListener implements WebSocket.Listener {
+
+        private final KisRealtimeParser parser = new KisRealtimeParser();
+        private final StringBuilder partial = new StringBuilder();
+
+        @Override
+        public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+            if (!last) {
+                partial.append(data);
+            } else {
+                String message;
+                if (partial.isEmpty()) {
+                    message = data.toString();
+                } else {
+                    message = partial.append(data).toString();
+                    partial.setLength(0);
+                }
+                handle(socket, message);
+            }
+            socket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+            log.warn("KIS 실시간 연결 종료: status={}, reason={}", statusCode, reason);
+            scheduleReconnect(socket);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket socket, Throwable error) {
+            log.error("KIS 실시간 연결 오류: error={}", error.getMessage());
+            scheduleReconnect(socket);
+        }
+
+        private void handle(WebSocket socket, String message) {
+            try {
+                if (KisRealtimeParser.isDataMessage(message)) {
+                    parser.parse(message, kisRealtimeProperties.getTrId(), listener);
+                    return;
+                }
+                JsonNode header = objectMapper.readTree(message).path("header");
+                if (TR_ID_PINGPONG.equals(header.path("tr_id").asText())) {
+                    socket.sendText(message, true);
+                    return;
+                }
+                log.debug("KIS 실시간 제어 메시지: {}", message);
+            } catch (Exception e) {
+                parseErrors.increment();
+                log.warn("KIS 실시간 메시지 처리 실패: error={}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.stock.domain.stock.adapter.out.external.kis;
+
+import com.project.stock.domain.stock.domain.realtime.QuoteTick;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.function.Consumer;
+
+/**
+ * KIS 실시간 체결가(H0STCNT0) 데이터 메시지 해석기.
+ *
+ * <p>메시지 형식: {@code 암호화여부|TR_ID|건수|필드^필드^...}.
+ * 한 메시지에 여러 체결이 올 수 있으며, 체결 한 건은 {@value #FIELDS_PER_RECORD}개 필드로 이어 붙여집니다.
+ */
+final class KisRealtimeParser {
+
+    static final int FIELDS_PER_RECORD = 46;
+
+    private static final int FIELD_STOCK_CODE = 0;      // MKSC_SHRN_ISCD 종목코드
+    private static final int FIELD_TIME = 1;            // STCK_CNTG_HOUR 체결시간 (HHmmss)
+    private static final int FIELD_PRICE = 2;           // STCK_PRPR 현재가
+    private static final int FIELD_VOLUME = 12;         // CNTG_VOL 체결 거래량
+    private static final int FIELD_ACC_VOLUME = 13;     // ACML_VOL 누적 거래량
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private LocalDate sessionDate;
+    private long sessionMidnight;
+
+    /**
+     * 데이터 메시지(평문 {@code 0|...} 또는 암호문 {@code 1|...})인지 판정합니다.
+     * 그 밖의 메시지(구독 응답, PINGPONG)는 JSON 제어 메시지입니다.
+     */
+    static boolean isDataMessage(String message) {
+        return !message.isEmpty() && (message.charAt(0) == '0' || message.charAt(0) == '1');
+    }
+
+    /**
+     * 데이터 메시지를 해석해 체결 틱을 전달합니다. 수신 스레드 하나에서만 호출해야 합니다.
+     *
+     * @return 전달한 틱 수 (암호화 메시지 등 대상이 아니면 0)
+     * @throws IllegalArgumentException 형식이 맞지 않는 메시지
+     */
+    int parse(String message, String trId, Consumer<QuoteTick> sink) {
+        int first = message.indexOf('|');
+        int second = message.indexOf('|', first + 1);
+        int third = message.indexOf('|', second + 1);
+        if (first < 0 || second < 0 || third < 0) {
+            throw new IllegalArgumentException("실시간 메시지 형식 오류: " + abbreviate(message));
+        }
+        if (message.charAt(0) != '0' || !message.regionMatches(first + 1, trId, 0, second - first - 1)) {
+            return 0;
+        }
+        int count = Integer.parseInt(message, second + 1, third, 10);
+        String[] fields = message.substring(third + 1).split("\\^", -1);
+        if (fields.length < count * FIELDS_PER_RECORD) {
+            throw new IllegalArgumentException("실시간 메시지 필드 수 부족: 건수=" + count + ", 필드=" + fields.length);
+        }
+
+        long midnight = midnight();
+        for (int i = 0; i < count; i++) {
+            int base = i * FIELDS_PER_RECORD;
+            String time = fields[base + FIELD_TIME];
+            long secondsOfDay = Integer.parseInt(time, 0, 2, 10) * 3600L
+                + Integer.parseInt(time, 2, 4, 10) * 60L
+                + Integer.parseInt(time, 4, 6, 10);
+            sink.accept(new QuoteTick(
+                fields[base + FIELD_STOCK_CODE],
+                midnight + secondsOfDay * 1000,
+                Double.parseDouble(fields[base + FIELD_PRICE]),
+                Long.parseLong(fields[base + FIELD_VOLUME]),
+                Long.parseLong(fields[base + FIELD_ACC_VOLUME])
+            ));
+        }
+        return count;
+    }
+
+    private long midnight() {
+        LocalDate today = LocalDate.now(KST);
+        if (!today.equals(sessionDate)) {
+            sessionDate = today;
+            sessionMidnight = today.atStartOfDay(KST).toInstant().toEpochMilli();
+        }
+        return sessionMidnight;
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() > 80 ? message.substring(0, 80) + "..." : message;
+    }
+}
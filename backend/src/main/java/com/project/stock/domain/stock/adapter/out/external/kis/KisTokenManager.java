@@ -39,8 +39,15 @@ public class KisTokenManager {
             return cachedToken;
         }
 
-        log.info("토큰이 없거나 만료됨. 새 토큰 발급 요청");
-        return issueNewToken();
+        // 동시 발급 방지: 여러 스레드(배치 동기화 작업자 등)가 동시에 만료를 발견해도 한 번만 발급
+        synchronized (this) {
+            cachedToken = redisTemplate.opsForValue().get(REDIS_KEY_TOKEN);
+            if (cachedToken != null && !cachedToken.isEmpty()) {
+                return cachedToken;
+            }
+            log.info("토큰이 없거나 만료됨. 새 토큰 발급 요청");
+            return issueNewToken();
+        }
     }
 
     /**
@@ -83,7 +90,7 @@ public class KisTokenManager {
     /**
      * 수동으로 토큰을 갱신합니다.
      */
-    public String refreshToken() {
+    public synchronized String refreshToken() {
         log.info("수동 토큰 갱신 요청");
         redisTemplate.delete(REDIS_KEY_TOKEN);
         return issueNewToken();
@@ -0,0 +1,27 @@
+package com.project.stock.domain.stock.adapter.out.persistence;
+
+import com.project.stock.domain.stock.domain.batch.BatchRunItem;
+import com.project.stock.domain.stock.domain.batch.BatchRunReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BatchRunItem JPA Repository.
+ */
+public interface BatchRunItemJpaRepository extends JpaRepository<BatchRunItem, Long> {
+
+    List<BatchRunItem> findByRunId(Long runId);
+
+    Optional<BatchRunItem> findByRunIdAndStockId(Long runId, Long stockId);
+
+    /**
+     * 종목코드와 함께 종목별 상태를 조회합니다 (현황 API용).
+     */
+    @Query("SELECT new com.project.stock.domain.stock.domain.batch.BatchRunReport$Item(i.stockId, s.stockCode, i.status, i.attempts, i.errorMessage, i.updatedAt) " +
+        "FROM BatchRunItem i JOIN Stock s ON s.id = i.stockId WHERE i.runId = :runId ORDER BY i.id")
+    List<BatchRunReport.Item> findReportItems(@Param("runId") Long runId);
+}
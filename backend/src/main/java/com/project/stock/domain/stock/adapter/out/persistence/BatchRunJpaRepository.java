@@ -0,0 +1,15 @@
+package com.project.stock.domain.stock.adapter.out.persistence;
+
+import com.project.stock.domain.stock.domain.batch.BatchRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * BatchRun JPA Repository.
+ */
+public interface BatchRunJpaRepository extends JpaRepository<BatchRun, Long> {
+
+    Optional<BatchRun> findByRunTypeAndRunDate(String runType, LocalDate runDate);
+}
@@ -0,0 +1,119 @@
+package com.project.stock.domain.stock.adapter.out.persistence;
+
+import com.project.stock.domain.stock.application.port.out.BatchRunPort;
+import com.project.stock.domain.stock.domain.StockAnalysisHistory;
+import com.project.stock.domain.stock.domain.batch.BatchRun;
+import com.project.stock.domain.stock.domain.batch.BatchRunItem;
+import com.project.stock.domain.stock.domain.batch.BatchRunReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 배치 실행 기록 영속성 어댑터 (Driven Adapter).
+ * BatchRun, BatchRunItem 데이터 접근과 분석 이력 저장 + 체크포인트를 함께 담당합니다.
+ */
+@Component
+@RequiredArgsConstructor
+class BatchRunPersistenceAdapter implements BatchRunPort {
+
+    private final BatchRunJpaRepository batchRunJpaRepository;
+    private final BatchRunItemJpaRepository batchRunItemJpaRepository;
+    private final StockAnalysisHistoryJpaRepository analysisHistoryJpaRepository;
+
+    /**
+     * 생성은 저장소 메서드 단위 트랜잭션으로 수행하고, 다른 인스턴스와 동시에 만들어 유니크 제약에 걸리면 다시 조회합니다.
+     */
+    @Override
+    public BatchRun openRun(String runType, LocalDate runDate, List<Long> stockIds) {
+        BatchRun run = batchRunJpaRepository.findByRunTypeAndRunDate(runType, runDate).orElseGet(() -> {
+            try {
+                return batchRunJpaRepository.saveAndFlush(new BatchRun(runType, runDate));
+            } catch (DataIntegrityViolationException e) {
+                return batchRunJpaRepository.findByRunTypeAndRunDate(runType, runDate).orElseThrow(() -> e);
+            }
+        });
+
+        for (int attempt = 0; ; attempt++) {
+            Set<Long> existing = batchRunItemJpaRepository.findByRunId(run.getId()).stream()
+                .map(BatchRunItem::getStockId)
+                .collect(Collectors.toSet());
+            List<BatchRunItem> missing = stockIds.stream()
+                .distinct()
+                .filter(stockId -> !existing.contains(stockId))
+                .map(stockId -> new BatchRunItem(run.getId(), stockId))
+                .toList();
+            try {
+                batchRunItemJpaRepository.saveAllAndFlush(missing);
+                return run;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= 2) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<BatchRunItem> findItems(Long runId) {
+        return batchRunItemJpaRepository.findByRunId(runId);
+    }
+
+    @Override
+    @Transactional
+    public void markSynced(Long runId, Long stockId) {
+        updateItem(runId, stockId, BatchRunItem::markSynced);
+    }
+
+    @Override
+    @Transactional
+    public void markSucceeded(Long runId, Long stockId) {
+        updateItem(runId, stockId, BatchRunItem::markSucceeded);
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(Long runId, Long stockId, String errorMessage) {
+        updateItem(runId, stockId, item -> item.markFailed(errorMessage));
+    }
+
+    @Override
+    @Transactional
+    public StockAnalysisHistory saveResult(Long runId, StockAnalysisHistory history) {
+        StockAnalysisHistory saved = analysisHistoryJpaRepository.save(history);
+        updateItem(runId, history.getStock().getId(), BatchRunItem::markSucceeded);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public BatchRun refreshRun(Long runId, int maxAttempts) {
+        BatchRun run = batchRunJpaRepository.findById(runId)
+            .orElseThrow(() -> new IllegalStateException("배치 실행 기록이 없습니다: " + runId));
+        List<BatchRunItem> items = batchRunItemJpaRepository.findByRunId(runId);
+        int succeeded = (int) items.stream().filter(item -> item.getStatus() == BatchRunItem.Status.SUCCEEDED).count();
+        int failed = (int) items.stream().filter(item -> item.getStatus() == BatchRunItem.Status.FAILED).count();
+        boolean finished = items.stream().noneMatch(item -> item.isUnfinished(maxAttempts));
+        run.updateProgress(items.size(), succeeded, failed, finished);
+        return run;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<BatchRunReport> findReport(String runType, LocalDate runDate) {
+        return batchRunJpaRepository.findByRunTypeAndRunDate(runType, runDate)
+            .map(run -> BatchRunReport.of(run, batchRunItemJpaRepository.findReportItems(run.getId())));
+    }
+
+    private void updateItem(Long runId, Long stockId, Consumer<BatchRunItem> change) {
+        batchRunItemJpaRepository.findByRunIdAndStockId(runId, stockId).ifPresent(change);
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.stock.domain.stock.adapter.out.persistence;
+
+import com.project.stock.common.config.PatternIndexProperties;
+import com.project.stock.domain.stock.application.port.out.PatternIndexStorePort;
+import com.project.stock.domain.stock.domain.pattern.LshPatternIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 패턴 인덱스 파일 스냅샷 어댑터 (Driven Adapter).
+ * 임시 파일에 기록한 뒤 원자적으로 교체하여 부분 기록된 스냅샷이 남지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class PatternIndexFileAdapter implements PatternIndexStorePort {
+
+    private final PatternIndexProperties patternIndexProperties;
+
+    @Override
+    public Optional<LshPatternIndex> load(int windowSize) {
+        Path path = snapshotPath(windowSize);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            LshPatternIndex index = LshPatternIndex.readFrom(in);
+            log.info("패턴 인덱스 스냅샷 로드: window={}, windows={}", windowSize, index.windowCount());
+            return Optional.of(index);
+        } catch (IOException e) {
+            log.warn("패턴 인덱스 스냅샷 로드 실패, 재빌드합니다: path={}, error={}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(LshPatternIndex index) {
+        Path path = snapshotPath(index.windowSize());
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                index.writeTo(out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("패턴 인덱스 스냅샷 저장: window={}, windows={}", index.windowSize(), index.windowCount());
+        } catch (IOException e) {
+            throw new UncheckedIOException("패턴 인덱스 스냅샷 저장 실패: " + path, e);
+        }
+    }
+
+    private Path snapshotPath(int windowSize) {
+        return Path.of(patternIndexProperties.getSnapshotDir()).resolve("window-" + windowSize + ".idx");
+    }
+}
@@ -1,11 +1,13 @@
 package com.project.stock.domain.stock.adapter.out.persistence;
 
+import com.project.stock.domain.stock.domain.AnalysisSignal;
 import com.project.stock.domain.stock.domain.StockAnalysisHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,16 @@ public interface StockAnalysisHistoryJpaRepository extends JpaRepository<StockAn
         @Param("date") LocalDate date
     );
 
+    /**
+     * 특정 종목의 특정 날짜 분석 결과를 리스크 요인과 함께 조회합니다 (트랜잭션 밖에서 사용 가능).
+     */
+    @Query("SELECT DISTINCT h FROM StockAnalysisHistory h LEFT JOIN FETCH h.riskFactors " +
+        "WHERE h.stock.id = :stockId AND h.analyzedDate = :date")
+    Optional<StockAnalysisHistory> findWithRiskFactors(
+        @Param("stockId") Long stockId,
+        @Param("date") LocalDate date
+    );
+
     /**
      * 특정 종목의 최근 N개 분석 이력을 조회합니다.
      */
@@ -41,4 +53,16 @@ public interface StockAnalysisHistoryJpaRepository extends JpaRepository<StockAn
      * 특정 날짜의 분석 이력이 존재하는지 확인합니다.
      */
     boolean existsByAnalyzedDate(LocalDate date);
+
+    /**
+     * 종목 목록의 기간 내 매매 신호를 종목/날짜 오름차순으로 조회합니다.
+     */
+    @Query("SELECT new com.project.stock.domain.stock.domain.AnalysisSignal(h.stock.id, h.analyzedDate, h.recommendation, h.confidenceScore) " +
+        "FROM StockAnalysisHistory h WHERE h.stock.id IN :stockIds AND h.analyzedDate BETWEEN :startDate AND :endDate " +
+        "ORDER BY h.stock.id, h.analyzedDate")
+    List<AnalysisSignal> findSignals(
+        @Param("stockIds") Collection<Long> stockIds,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
 }
@@ -3,6 +3,8 @@ package com.project.stock.domain.stock.adapter.out.persistence;
 import com.project.stock.domain.stock.domain.Stock;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,4 +13,6 @@ import java.util.Optional;
 public interface StockJpaRepository extends JpaRepository<Stock, Long> {
 
     Optional<Stock> findByStockCode(String stockCode);
+
+    List<Stock> findByStockCodeIn(Collection<String> stockCodes);
 }
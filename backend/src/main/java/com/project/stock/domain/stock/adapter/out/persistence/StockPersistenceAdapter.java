@@ -5,17 +5,30 @@ import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
 import com.project.stock.domain.stock.application.port.out.LoadWatchlistPort;
 import com.project.stock.domain.stock.application.port.out.SaveAnalysisHistoryPort;
 import com.project.stock.domain.stock.application.port.out.SaveStockPricePort;
+import com.project.stock.domain.stock.application.port.out.UpdateCurrentPricePort;
+import com.project.stock.domain.stock.domain.AnalysisSignal;
+import com.project.stock.domain.stock.domain.DailyBar;
 import com.project.stock.domain.stock.domain.Stock;
 import com.project.stock.domain.stock.domain.StockAnalysisHistory;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
 import com.project.stock.domain.stock.domain.StockPrice;
 import com.project.stock.domain.stock.domain.StockPriceId;
+import com.project.stock.domain.stock.domain.StockPriceRow;
 import com.project.stock.domain.stock.domain.Watchlist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 주식 영속성 어댑터 (Driven Adapter).
@@ -23,7 +36,8 @@ import java.util.Optional;
  */
 @Component
 @RequiredArgsConstructor
-class StockPersistenceAdapter implements LoadStockPort, LoadStockPricePort, SaveStockPricePort, SaveAnalysisHistoryPort, LoadWatchlistPort {
+class StockPersistenceAdapter implements LoadStockPort, LoadStockPricePort, SaveStockPricePort, SaveAnalysisHistoryPort, LoadWatchlistPort,
+    UpdateCurrentPricePort {
 
     private final StockJpaRepository stockJpaRepository;
     private final StockPriceJpaRepository stockPriceJpaRepository;
@@ -35,11 +49,34 @@ class StockPersistenceAdapter implements LoadStockPort, LoadStockPricePort, Save
         return stockJpaRepository.findByStockCode(stockCode);
     }
 
+    @Override
+    public List<Stock> loadByCodes(Collection<String> stockCodes) {
+        return stockJpaRepository.findByStockCodeIn(stockCodes);
+    }
+
+    @Override
+    @Transactional
+    public int updateCurrentPrices(Map<String, BigDecimal> prices) {
+        List<Stock> stocks = stockJpaRepository.findByStockCodeIn(prices.keySet());
+        stocks.forEach(stock -> stock.updatePrice(prices.get(stock.getStockCode())));
+        return stocks.size();
+    }
+
+    @Override
+    public List<Stock> loadAll() {
+        return stockJpaRepository.findAll();
+    }
+
     @Override
     public Optional<StockPrice> findById(StockPriceId id) {
         return stockPriceJpaRepository.findById(id);
     }
 
+    @Override
+    public List<StockPrice> findAllById(Collection<StockPriceId> ids) {
+        return stockPriceJpaRepository.findAllById(ids);
+    }
+
     @Override
     public List<StockPrice> findByStockIdAndDateBetween(Long stockId, LocalDate startDate, LocalDate endDate) {
         return stockPriceJpaRepository.findByStockIdAndDateBetween(stockId, startDate, endDate);
@@ -50,6 +87,55 @@ class StockPersistenceAdapter implements LoadStockPort, LoadStockPricePort, Save
         return stockPriceJpaRepository.findTopNByStockIdOrderByDateDesc(stockId, limit);
     }
 
+    @Override
+    public List<DailyBar> findRecentDailyBars(Long stockId, int limit) {
+        List<DailyBar> bars = new ArrayList<>(stockPriceJpaRepository.findRecentDailyBars(stockId, limit));
+        Collections.reverse(bars);
+        return bars;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachDailyBar(Consumer<DailyBar> consumer) {
+        try (Stream<DailyBar> bars = stockPriceJpaRepository.streamAllDailyBars()) {
+            bars.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachDailyBar(LocalDate since, Consumer<DailyBar> consumer) {
+        try (Stream<DailyBar> bars = stockPriceJpaRepository.streamDailyBarsSince(since)) {
+            bars.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachPriceKey(LocalDate since, Consumer<StockPriceId> consumer) {
+        try (Stream<StockPriceId> keys = stockPriceJpaRepository.streamPriceKeysSince(since)) {
+            keys.forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<StockPriceRow> findRecentPriceRows(Collection<Long> stockIds, int limit) {
+        return stockPriceJpaRepository.findRecentPriceRows(stockIds, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachStockPrice(Long stockId, LocalDate startDate, LocalDate endDate, Consumer<StockPriceRow> consumer) {
+        try (Stream<StockPriceRow> rows = stockPriceJpaRepository.streamPriceRows(stockId, startDate, endDate)) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<DailyBar> findDailyBarsAfter(Long stockId, LocalDate after) {
+        return stockPriceJpaRepository.findDailyBarsAfter(stockId, after);
+    }
+
     @Override
     public StockPrice save(StockPrice stockPrice) {
         return stockPriceJpaRepository.save(stockPrice);
@@ -70,6 +156,12 @@ class StockPersistenceAdapter implements LoadStockPort, LoadStockPricePort, Save
         return analysisHistoryJpaRepository.findByStockIdAndAnalyzedDate(stockId, date);
     }
 
+    @Override
+    public Optional<StockAnalysisResult> findResultByStockIdAndDate(Long stockId, LocalDate date) {
+        return analysisHistoryJpaRepository.findWithRiskFactors(stockId, date)
+            .map(StockAnalysisHistory::toAnalysisResult);
+    }
+
     @Override
     public List<Watchlist> findAllActive() {
         return watchlistJpaRepository.findAllActiveOrderByPriority();
@@ -89,4 +181,9 @@ class StockPersistenceAdapter implements LoadStockPort, LoadStockPricePort, Save
     public List<StockAnalysisHistory> findByAnalyzedDate(LocalDate date) {
         return analysisHistoryJpaRepository.findByAnalyzedDate(date);
     }
+
+    @Override
+    public List<AnalysisSignal> findSignals(Collection<Long> stockIds, LocalDate startDate, LocalDate endDate) {
+        return analysisHistoryJpaRepository.findSignals(stockIds, startDate, endDate);
+    }
 }
@@ -1,13 +1,22 @@
 package com.project.stock.domain.stock.adapter.out.persistence;
 
+import com.project.stock.domain.stock.domain.DailyBar;
 import com.project.stock.domain.stock.domain.StockPrice;
 import com.project.stock.domain.stock.domain.StockPriceId;
+import com.project.stock.domain.stock.domain.StockPriceRow;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * StockPrice JPA Repository.
@@ -32,4 +41,92 @@ public interface StockPriceJpaRepository extends JpaRepository<StockPrice, Stock
         @Param("stockId") Long stockId,
         @Param("limit") int limit
     );
+
+    /**
+     * 특정 종목의 최근 N일 일봉을 날짜 내림차순으로 조회합니다 (엔티티 미적재).
+     */
+    @Query("SELECT new com.project.stock.domain.stock.domain.DailyBar(sp.stock.id, sp.id.date, sp.openPrice, sp.highPrice, sp.lowPrice, sp.closePrice, sp.volume) " +
+        "FROM StockPrice sp WHERE sp.stock.id = :stockId ORDER BY sp.id.date DESC LIMIT :limit")
+    List<DailyBar> findRecentDailyBars(
+        @Param("stockId") Long stockId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 전체 일봉을 종목 ID, 날짜 오름차순으로 스트리밍 조회합니다.
+     * 반드시 트랜잭션 안에서 소비하고 닫아야 합니다.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "5000"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.project.stock.domain.stock.domain.DailyBar(sp.stock.id, sp.id.date, sp.openPrice, sp.highPrice, sp.lowPrice, sp.closePrice, sp.volume) " +
+        "FROM StockPrice sp ORDER BY sp.stock.id ASC, sp.id.date ASC")
+    Stream<DailyBar> streamAllDailyBars();
+
+    /**
+     * 기준일 이후(포함) 일봉을 종목 ID, 날짜 오름차순으로 스트리밍 조회합니다.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "5000"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.project.stock.domain.stock.domain.DailyBar(sp.stock.id, sp.id.date, sp.openPrice, sp.highPrice, sp.lowPrice, sp.closePrice, sp.volume) " +
+        "FROM StockPrice sp WHERE sp.id.date >= :since ORDER BY sp.stock.id ASC, sp.id.date ASC")
+    Stream<DailyBar> streamDailyBarsSince(@Param("since") LocalDate since);
+
+    /**
+     * 기준일 이후(포함) 저장된 시세의 키(종목 ID, 날짜)만 종목 ID, 날짜 오름차순으로 스트리밍 조회합니다.
+     * 기본키 인덱스만으로 읽을 수 있어 전체 테이블 점검에 사용합니다.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "10000"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.project.stock.domain.stock.domain.StockPriceId(sp.id.stockId, sp.id.date) " +
+        "FROM StockPrice sp WHERE sp.id.date >= :since ORDER BY sp.id.stockId ASC, sp.id.date ASC")
+    Stream<StockPriceId> streamPriceKeysSince(@Param("since") LocalDate since);
+
+    /**
+     * 특정 종목의 기간별 시세를 날짜 오름차순으로 스트리밍 조회합니다 (엔티티 미적재).
+     * 반드시 트랜잭션 안에서 소비하고 닫아야 합니다.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.project.stock.domain.stock.domain.StockPriceRow(sp.stock.id, sp.id.date, sp.openPrice, sp.highPrice, sp.lowPrice, sp.closePrice, sp.volume, sp.changeRate) " +
+        "FROM StockPrice sp WHERE sp.stock.id = :stockId AND sp.id.date BETWEEN :startDate AND :endDate ORDER BY sp.id.date ASC")
+    Stream<StockPriceRow> streamPriceRows(
+        @Param("stockId") Long stockId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 여러 종목의 최근 N건 시세를 한 번의 쿼리로 조회합니다 (종목 ID 오름차순, 날짜 내림차순).
+     * 종목별 순번은 ROW_NUMBER() 윈도 함수로 매깁니다.
+     */
+    @Query("SELECT new com.project.stock.domain.stock.domain.StockPriceRow(r.stockId, r.tradeDate, r.openPrice, r.highPrice, r.lowPrice, r.closePrice, r.volume, r.changeRate) " +
+        "FROM (" +
+        "  SELECT sp.stock.id AS stockId, sp.id.date AS tradeDate, sp.openPrice AS openPrice, sp.highPrice AS highPrice, " +
+        "         sp.lowPrice AS lowPrice, sp.closePrice AS closePrice, sp.volume AS volume, sp.changeRate AS changeRate, " +
+        "         ROW_NUMBER() OVER (PARTITION BY sp.stock.id ORDER BY sp.id.date DESC) AS rn " +
+        "  FROM StockPrice sp WHERE sp.stock.id IN :stockIds" +
+        ") r " +
+        "WHERE r.rn <= :limit ORDER BY r.stockId ASC, r.tradeDate DESC")
+    List<StockPriceRow> findRecentPriceRows(
+        @Param("stockIds") Collection<Long> stockIds,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 특정 종목의 기준일 이후 일봉을 날짜 오름차순으로 조회합니다.
+     */
+    @Query("SELECT new com.project.stock.domain.stock.domain.DailyBar(sp.stock.id, sp.id.date, sp.openPrice, sp.highPrice, sp.lowPrice, sp.closePrice, sp.volume) " +
+        "FROM StockPrice sp WHERE sp.stock.id = :stockId AND sp.id.date > :after ORDER BY sp.id.date ASC")
+    List<DailyBar> findDailyBarsAfter(
+        @Param("stockId") Long stockId,
+        @Param("after") LocalDate after
+    );
 }
@@ -0,0 +1,57 @@
+package com.project.stock.domain.stock.adapter.out.persistence;
+
+import com.project.stock.common.config.TradingCalendarProperties;
+import com.project.stock.domain.stock.application.port.out.LoadTradingHolidaysPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 휴장일 데이터 파일 어댑터 (Driven Adapter).
+ * 한 줄에 "yyyy-MM-dd 사유" 하나씩 읽으며, 빈 줄과 #으로 시작하는 줄은 건너뜁니다.
+ */
+@Component
+@RequiredArgsConstructor
+class TradingHolidayFileAdapter implements LoadTradingHolidaysPort {
+
+    private final TradingCalendarProperties tradingCalendarProperties;
+    private final ResourceLoader resourceLoader;
+
+    @Override
+    public List<LocalDate> loadHolidays() {
+        Resource resource = resourceLoader.getResource(tradingCalendarProperties.getHolidaysFile());
+        List<LocalDate> holidays = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String date = trimmed.split("\\s+", 2)[0];
+                try {
+                    holidays.add(LocalDate.parse(date));
+                } catch (DateTimeParseException e) {
+                    throw new IllegalStateException(
+                        "휴장일 파일 형식 오류: " + resource.getDescription() + " " + lineNumber + "행 '" + line + "'");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("휴장일 파일을 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+        return holidays;
+    }
+}
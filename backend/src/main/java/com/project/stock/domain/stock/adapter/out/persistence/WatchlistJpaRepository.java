@@ -12,8 +12,8 @@ import java.util.List;
 public interface WatchlistJpaRepository extends JpaRepository<Watchlist, Long> {
 
     /**
-     * 활성화된 관심 종목을 우선순위 순으로 조회합니다.
+     * 활성화된 관심 종목을 우선순위 순으로 조회합니다 (종목 함께 조회 - 트랜잭션 밖에서 사용 가능).
      */
-    @Query("SELECT w FROM Watchlist w WHERE w.isActive = true ORDER BY w.priority ASC, w.stock.stockCode ASC")
+    @Query("SELECT w FROM Watchlist w JOIN FETCH w.stock s WHERE w.isActive = true ORDER BY w.priority ASC, s.stockCode ASC")
     List<Watchlist> findAllActiveOrderByPriority();
 }
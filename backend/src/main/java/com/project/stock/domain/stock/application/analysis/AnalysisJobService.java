@@ -0,0 +1,191 @@
+package com.project.stock.domain.stock.application.analysis;
+
+import com.project.stock.common.config.AnalysisJobProperties;
+import com.project.stock.domain.stock.application.port.in.AnalysisJobUseCase;
+import com.project.stock.domain.stock.application.port.in.AnalyzeStockUseCase;
+import com.project.stock.domain.stock.application.port.out.LoadStockPort;
+import com.project.stock.domain.stock.domain.AnalysisJob;
+import com.project.stock.domain.stock.domain.AnalysisStage;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 분석 작업 서비스.
+ * 분석을 크기가 고정된 전용 실행기에서 수행하여 요청 스레드를 즉시 반환하고,
+ * AI Worker 동시 호출 수와 대기열 길이를 한 곳에서 제한합니다.
+ * 작업 상태는 메모리에 보관하며 종료 후 보관 시간이 지나면 정리합니다.
+ */
+@Slf4j
+@Service
+class AnalysisJobService implements AnalysisJobUseCase {
+
+    private final AnalyzeStockUseCase analyzeStockUseCase;
+    private final LoadStockPort loadStockPort;
+    private final AnalysisJobProperties analysisJobProperties;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+    private final Map<String, String> activeJobByStock = new ConcurrentHashMap<>();
+
+    AnalysisJobService(AnalyzeStockUseCase analyzeStockUseCase, LoadStockPort loadStockPort,
+                       AnalysisJobProperties analysisJobProperties) {
+        this.analyzeStockUseCase = analyzeStockUseCase;
+        this.loadStockPort = loadStockPort;
+        this.analysisJobProperties = analysisJobProperties;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            analysisJobProperties.getPoolSize(),
+            analysisJobProperties.getPoolSize(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(analysisJobProperties.getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "analysis-job-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public AnalysisJob submit(String stockCode) {
+        if (loadStockPort.loadByCode(stockCode).isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 종목 코드: " + stockCode);
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        String activeJobId = activeJobByStock.putIfAbsent(stockCode, jobId);
+        if (activeJobId != null) {
+            JobState active = jobs.get(activeJobId);
+            if (active != null) {
+                log.info("진행 중인 분석 작업 재사용: stockCode={}, jobId={}", stockCode, activeJobId);
+                return active.snapshot;
+            }
+            // 다른 요청이 아직 등록 중인 경합: 새 작업으로 진행 (분석 자체는 single-flight로 합류)
+            activeJobByStock.put(stockCode, jobId);
+        }
+
+        JobState state = new JobState(AnalysisJob.queued(jobId, stockCode));
+        jobs.put(jobId, state);
+        try {
+            executor.execute(() -> run(state));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            activeJobByStock.remove(stockCode, jobId);
+            log.warn("분석 작업 거절 (대기열 초과): stockCode={}, queued={}", stockCode, executor.getQueue().size());
+            throw new IllegalStateException("분석 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요.");
+        }
+
+        log.info("분석 작업 등록: stockCode={}, jobId={}, 실행 중={}, 대기={}",
+            stockCode, jobId, executor.getActiveCount(), executor.getQueue().size());
+        return state.snapshot;
+    }
+
+    @Override
+    public AnalysisJob getJob(String jobId) {
+        return find(jobId).snapshot;
+    }
+
+    @Override
+    public Runnable subscribe(String jobId, Consumer<AnalysisJob> listener) {
+        JobState state = find(jobId);
+        synchronized (state) {
+            listener.accept(state.snapshot);
+            if (state.snapshot.isTerminal()) {
+                return () -> { };
+            }
+            state.listeners.add(listener);
+        }
+        return () -> state.listeners.remove(listener);
+    }
+
+    /**
+     * 보관 시간이 지난 종료 작업을 정리합니다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    void evictExpired() {
+        Instant threshold = Instant.now().minus(Duration.ofMinutes(analysisJobProperties.getRetentionMinutes()));
+        jobs.values().removeIf(state ->
+            state.snapshot.isTerminal() && state.snapshot.updatedAt().isBefore(threshold));
+    }
+
+    private void run(JobState state) {
+        String stockCode = state.snapshot.stockCode();
+        long start = System.currentTimeMillis();
+        try {
+            StockAnalysisResult result = analyzeStockUseCase.analyze(stockCode,
+                stage -> update(state, state.snapshot.withStage(stage)));
+            update(state, state.snapshot.completed(result));
+            log.info("분석 작업 완료: stockCode={}, jobId={}, 소요 시간={}ms",
+                stockCode, state.snapshot.jobId(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("분석 작업 실패: stockCode={}, jobId={}, error={}", stockCode, state.snapshot.jobId(), e.getMessage());
+            update(state, state.snapshot.failed(e.getMessage()));
+        } finally {
+            activeJobByStock.remove(stockCode, state.snapshot.jobId());
+        }
+    }
+
+    private void update(JobState state, AnalysisJob next) {
+        List<Consumer<AnalysisJob>> listeners;
+        synchronized (state) {
+            state.snapshot = next;
+            listeners = List.copyOf(state.listeners);
+            if (next.isTerminal()) {
+                state.listeners.clear();
+            }
+        }
+        for (Consumer<AnalysisJob> listener : listeners) {
+            try {
+                listener.accept(next);
+            } catch (Exception e) {
+                // 전달에 실패한 구독자(연결 종료 등)는 제거하고 작업은 계속 진행
+                state.listeners.remove(listener);
+                log.debug("분석 작업 구독자 제거: jobId={}, error={}", next.jobId(), e.getMessage());
+            }
+        }
+    }
+
+    private JobState find(String jobId) {
+        JobState state = jobs.get(jobId);
+        if (state == null) {
+            throw new IllegalArgumentException("존재하지 않거나 만료된 분석 작업: " + jobId);
+        }
+        return state;
+    }
+
+    /**
+     * 작업별 최신 스냅샷과 구독자 목록.
+     */
+    private static final class JobState {
+
+        private volatile AnalysisJob snapshot;
+        private final List<Consumer<AnalysisJob>> listeners = new CopyOnWriteArrayList<>();
+
+        private JobState(AnalysisJob snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.project.stock.domain.stock.application.backtest;
+
+import com.project.stock.common.config.BacktestProperties;
+import com.project.stock.domain.stock.application.market.MarketDataCache;
+import com.project.stock.domain.stock.application.port.in.RunBacktestUseCase;
+import com.project.stock.domain.stock.application.port.out.LoadWatchlistPort;
+import com.project.stock.domain.stock.application.port.out.SaveAnalysisHistoryPort;
+import com.project.stock.domain.stock.domain.AnalysisSignal;
+import com.project.stock.domain.stock.domain.StockAnalysisResult.Recommendation;
+import com.project.stock.domain.stock.domain.backtest.BacktestConfig;
+import com.project.stock.domain.stock.domain.backtest.BacktestEngine;
+import com.project.stock.domain.stock.domain.backtest.BacktestReport;
+import com.project.stock.domain.stock.domain.backtest.BacktestRun;
+import com.project.stock.domain.stock.domain.backtest.BacktestSignals;
+import com.project.stock.domain.stock.domain.backtest.BacktestSpec;
+import com.project.stock.domain.stock.domain.backtest.BacktestStrategy;
+import com.project.stock.domain.stock.domain.backtest.BacktestUniverse;
+import com.project.stock.domain.stock.domain.backtest.ParameterGrid;
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+import com.project.stock.domain.stock.domain.screener.ScreenerExpression;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 백테스트 서비스.
+ *
+ * <p>실행은 두 단계로 나뉩니다.
+ * <ol>
+ *     <li>신호 계산: 그리드 전개 후 서로 다른 식만 골라 종목별로 한 번씩 전체 구간 평가 (병렬)</li>
+ *     <li>시뮬레이션: 파라미터 조합마다 독립된 엔진 실행 (병렬). 유니버스와 신호 배열은 읽기 전용으로 공유합니다.</li>
+ * </ol>
+ * 평가금액 곡선은 정렬 후 상위 조합만 다시 실행하여 생성하므로, 스윕 규모와 무관하게 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Service
+class BacktestService implements RunBacktestUseCase {
+
+    private final MarketDataCache marketDataCache;
+    private final LoadWatchlistPort loadWatchlistPort;
+    private final SaveAnalysisHistoryPort saveAnalysisHistoryPort;
+    private final BacktestProperties backtestProperties;
+    private final ForkJoinPool pool;
+
+    BacktestService(
+            MarketDataCache marketDataCache,
+            LoadWatchlistPort loadWatchlistPort,
+            SaveAnalysisHistoryPort saveAnalysisHistoryPort,
+            BacktestProperties backtestProperties
+    ) {
+        this.marketDataCache = marketDataCache;
+        this.loadWatchlistPort = loadWatchlistPort;
+        this.saveAnalysisHistoryPort = saveAnalysisHistoryPort;
+        this.backtestProperties = backtestProperties;
+        int parallelism = backtestProperties.getParallelism() > 0
+                ? backtestProperties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public BacktestReport run(BacktestSpec spec) {
+        validate(spec);
+        long start = System.currentTimeMillis();
+
+        List<PriceSeries> series = resolveSeries(spec.stockCodes());
+        BacktestUniverse universe = BacktestUniverse.of(series, spec.startDate(), spec.endDate());
+        LocalDate startDate = universe.date(0);
+        LocalDate endDate = universe.date(universe.length() - 1);
+
+        List<Map<String, Double>> combinations = ParameterGrid.expand(spec.parameterGrid());
+        List<BacktestConfig> configs = combinations.stream()
+                .map(spec.config()::withOverrides)
+                .toList();
+
+        // 1. 신호 계산 (서로 다른 식/신뢰도 기준마다 한 번)
+        Map<String, boolean[][]> ruleSignals = computeRuleSignals(universe, spec, combinations);
+        Map<Integer, boolean[][][]> aiSignals = spec.strategy() == BacktestStrategy.AI_SIGNAL
+                ? computeAiSignals(universe, configs, startDate, endDate)
+                : Map.of();
+        List<BacktestSignals> signals = IntStream.range(0, combinations.size())
+                .mapToObj(i -> signalsFor(spec, combinations.get(i), configs.get(i), ruleSignals, aiSignals))
+                .toList();
+        long signalMillis = System.currentTimeMillis() - start;
+
+        // 2. 조합별 시뮬레이션
+        List<BacktestRun> runs = inPool(() -> IntStream.range(0, combinations.size())
+                .parallel()
+                .mapToObj(i -> BacktestEngine.run(universe, signals.get(i), configs.get(i), combinations.get(i), false))
+                .toList());
+
+        Comparator<BacktestRun> byMetric = Comparator.comparingDouble(
+                (BacktestRun run) -> {
+                    double score = spec.rankBy().score(run.statistics());
+                    return Double.isNaN(score) ? Double.NEGATIVE_INFINITY : score;
+                }).reversed();
+        List<Integer> ranked = IntStream.range(0, runs.size()).boxed()
+                .sorted(Comparator.comparing(runs::get, byMetric))
+                .limit(spec.limit())
+                .toList();
+
+        List<BacktestRun> top = new ArrayList<>(ranked.size());
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            int i = ranked.get(rank);
+            top.add(rank < spec.equityCurves()
+                    ? BacktestEngine.run(universe, signals.get(i), configs.get(i), combinations.get(i), true)
+                    : runs.get(i));
+        }
+
+        List<LocalDate> dates = spec.equityCurves() > 0 && !top.isEmpty()
+                ? IntStream.range(0, universe.length()).mapToObj(universe::date).toList()
+                : List.of();
+        long elapsed = System.currentTimeMillis() - start;
+
+        log.info("백테스트 완료: strategy={}, 종목={} 개, 거래일={} 일, 조합={} 개, 신호 계산={}ms, 전체={}ms",
+                spec.strategy(), universe.stockCount(), universe.length(), combinations.size(), signalMillis, elapsed);
+
+        return new BacktestReport(
+                spec.strategy(),
+                spec.rankBy(),
+                series.stream().map(PriceSeries::stockCode).toList(),
+                startDate,
+                endDate,
+                universe.length(),
+                combinations.size(),
+                elapsed,
+                dates,
+                top
+        );
+    }
+
+    private void validate(BacktestSpec spec) {
+        if (spec.strategy() == BacktestStrategy.RULE && (spec.entryRule() == null || spec.entryRule().isBlank())) {
+            throw new IllegalArgumentException("RULE 전략에는 진입 식이 필요합니다");
+        }
+        if (spec.startDate() != null && spec.endDate() != null && spec.startDate().isAfter(spec.endDate())) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다");
+        }
+        if (spec.limit() < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다: " + spec.limit());
+        }
+        long size;
+        try {
+            size = ParameterGrid.size(spec.parameterGrid() == null ? Map.of() : spec.parameterGrid());
+        } catch (ArithmeticException e) {
+            size = Long.MAX_VALUE;
+        }
+        if (size > backtestProperties.getMaxCombinations()) {
+            throw new IllegalArgumentException(
+                    "파라미터 조합 수가 최대치를 초과합니다: " + size + " > " + backtestProperties.getMaxCombinations());
+        }
+    }
+
+    private List<PriceSeries> resolveSeries(List<String> stockCodes) {
+        List<PriceSeries> series = new ArrayList<>();
+        if (stockCodes == null || stockCodes.isEmpty()) {
+            loadWatchlistPort.findAllActive().forEach(watchlist ->
+                    marketDataCache.get(watchlist.getStock().getId()).ifPresent(series::add));
+            if (series.isEmpty()) {
+                throw new IllegalArgumentException("활성 관심 종목의 시세 데이터가 없습니다");
+            }
+        } else {
+            for (String code : new LinkedHashSet<>(stockCodes)) {
+                series.add(marketDataCache.findByCode(code)
+                        .orElseThrow(() -> new IllegalArgumentException("시세 데이터가 없는 종목입니다: " + code)));
+            }
+        }
+        if (series.size() > backtestProperties.getMaxStocks()) {
+            throw new IllegalArgumentException(
+                    "종목 수가 최대치를 초과합니다: " + series.size() + " > " + backtestProperties.getMaxStocks());
+        }
+        return series;
+    }
+
+    /**
+     * 치환이 끝난 식마다 [종목][시계열 인덱스] 신호 배열을 계산합니다.
+     */
+    private Map<String, boolean[][]> computeRuleSignals(BacktestUniverse universe, BacktestSpec spec,
+                                                        List<Map<String, Double>> combinations) {
+        Set<String> sources = new LinkedHashSet<>();
+        for (Map<String, Double> parameters : combinations) {
+            String entry = ParameterGrid.substitute(blankToNull(spec.entryRule()), parameters);
+            String exit = ParameterGrid.substitute(blankToNull(spec.exitRule()), parameters);
+            if (entry != null) {
+                sources.add(entry);
+            }
+            if (exit != null) {
+                sources.add(exit);
+            }
+        }
+        Map<String, ScreenerExpression> expressions = new HashMap<>();
+        sources.forEach(source -> expressions.put(source, ScreenerExpression.parse(source)));
+
+        List<String> keys = List.copyOf(sources);
+        int stocks = universe.stockCount();
+        boolean[][][] computed = new boolean[keys.size()][stocks][];
+        inPool(() -> {
+            IntStream.range(0, keys.size() * stocks).parallel().forEach(task -> {
+                int e = task / stocks;
+                int k = task % stocks;
+                computed[e][k] = expressions.get(keys.get(e)).matchesAll(universe.series(k));
+            });
+            return null;
+        });
+
+        Map<String, boolean[][]> result = new HashMap<>();
+        for (int e = 0; e < keys.size(); e++) {
+            result.put(keys.get(e), computed[e]);
+        }
+        return result;
+    }
+
+    /**
+     * 최소 신뢰도별 AI BUY/SELL 신호 배열을 계산합니다. 결과[0]은 BUY, 결과[1]은 SELL입니다.
+     * 분석일 종가 이후 생성된 신호로 보고, 분석일 이하 마지막 거래일에 배치합니다.
+     */
+    private Map<Integer, boolean[][][]> computeAiSignals(BacktestUniverse universe, List<BacktestConfig> configs,
+                                                         LocalDate startDate, LocalDate endDate) {
+        Map<Long, Integer> stockIndex = new HashMap<>();
+        for (int k = 0; k < universe.stockCount(); k++) {
+            stockIndex.put(universe.series(k).stockId(), k);
+        }
+        List<AnalysisSignal> history = saveAnalysisHistoryPort.findSignals(stockIndex.keySet(), startDate, endDate);
+
+        Map<Integer, boolean[][][]> result = new HashMap<>();
+        for (BacktestConfig config : configs) {
+            result.computeIfAbsent(config.minConfidence(), minConfidence -> {
+                boolean[][] buy = new boolean[universe.stockCount()][];
+                boolean[][] sell = new boolean[universe.stockCount()][];
+                for (int k = 0; k < universe.stockCount(); k++) {
+                    buy[k] = new boolean[universe.series(k).size()];
+                    sell[k] = new boolean[universe.series(k).size()];
+                }
+                for (AnalysisSignal signal : history) {
+                    Integer k = stockIndex.get(signal.stockId());
+                    if (k == null || signal.confidenceScore() < minConfidence) {
+                        continue;
+                    }
+                    int i = universe.series(k).indexAtOrBefore(signal.date());
+                    if (i < 0) {
+                        continue;
+                    }
+                    if (signal.recommendation() == Recommendation.BUY) {
+                        buy[k][i] = true;
+                    } else if (signal.recommendation() == Recommendation.SELL) {
+                        sell[k][i] = true;
+                    }
+                }
+                return new boolean[][][]{buy, sell};
+            });
+        }
+        log.debug("AI 신호 적재: 분석 이력={} 건, 신뢰도 기준={} 개", history.size(), result.size());
+        return result;
+    }
+
+    private BacktestSignals signalsFor(BacktestSpec spec, Map<String, Double> parameters, BacktestConfig config,
+                                       Map<String, boolean[][]> ruleSignals, Map<Integer, boolean[][][]> aiSignals) {
+        List<boolean[][]> entries = new ArrayList<>(2);
+        List<boolean[][]> exits = new ArrayList<>(2);
+        if (spec.strategy() == BacktestStrategy.AI_SIGNAL) {
+            boolean[][][] ai = aiSignals.get(config.minConfidence());
+            entries.add(ai[0]);
+            exits.add(ai[1]);
+        }
+        String entry = ParameterGrid.substitute(blankToNull(spec.entryRule()), parameters);
+        String exit = ParameterGrid.substitute(blankToNull(spec.exitRule()), parameters);
+        if (entry != null) {
+            entries.add(ruleSignals.get(entry));
+        }
+        if (exit != null) {
+            exits.add(ruleSignals.get(exit));
+        }
+        return new BacktestSignals(List.copyOf(entries), List.copyOf(exits));
+    }
+
+    private <T> T inPool(Callable<T> task) {
+        try {
+            return pool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("백테스트 실행이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("백테스트 실행 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
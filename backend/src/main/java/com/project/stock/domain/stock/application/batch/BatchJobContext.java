@@ -0,0 +1,95 @@
+package com.project.stock.domain.stock.application.batch;
+
+import com.project.stock.domain.stock.domain.batch.BatchJob;
+import com.project.stock.domain.stock.domain.batch.BatchJobStatus;
+import com.project.stock.domain.stock.domain.batch.BatchJobTrigger;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 중인 배치 작업의 상태.
+ * 작업 본문은 {@link #isCancellationRequested()}를 확인하여 스스로 멈추고, {@link #trackProgress}로 진행 현황을 알립니다.
+ */
+final class BatchJobContext {
+
+    private final String jobId;
+    private final String jobType;
+    private final BatchJobTrigger trigger;
+    private final Instant createdAt = Instant.now();
+
+    private volatile BatchJobStatus status = BatchJobStatus.QUEUED;
+    private volatile boolean cancellationRequested;
+    private volatile String message;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile int total;
+    private volatile AtomicInteger succeeded = new AtomicInteger();
+    private volatile AtomicInteger failed = new AtomicInteger();
+
+    BatchJobContext(String jobId, String jobType, BatchJobTrigger trigger) {
+        this.jobId = jobId;
+        this.jobType = jobType;
+        this.trigger = trigger;
+    }
+
+    String jobId() {
+        return jobId;
+    }
+
+    String jobType() {
+        return jobType;
+    }
+
+    /**
+     * 취소(또는 서버 종료)가 요청되었는지 확인합니다. 작업은 새 처리 단위를 시작하지 말고 진행 중인 단위를 마무리해야 합니다.
+     */
+    boolean isCancellationRequested() {
+        return cancellationRequested;
+    }
+
+    /**
+     * 처리 대상 수와 작업이 갱신하는 성공/실패 카운터를 등록합니다. 상태 조회 시 카운터의 현재 값을 읽습니다.
+     */
+    void trackProgress(int total, AtomicInteger succeeded, AtomicInteger failed) {
+        this.total = total;
+        this.succeeded = succeeded;
+        this.failed = failed;
+    }
+
+    /**
+     * 작업 결과에 남길 메시지 (대상 없음 등 종료 사유).
+     */
+    void note(String message) {
+        this.message = message;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = cancellationRequested ? BatchJobStatus.CANCELLING : BatchJobStatus.RUNNING;
+    }
+
+    void requestCancellation() {
+        cancellationRequested = true;
+        if (status == BatchJobStatus.RUNNING) {
+            status = BatchJobStatus.CANCELLING;
+        }
+    }
+
+    void finish(BatchJobStatus status, String message) {
+        if (message != null) {
+            this.message = message;
+        }
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+
+    boolean isTerminal() {
+        return status.isTerminal();
+    }
+
+    BatchJob snapshot() {
+        return new BatchJob(jobId, jobType, trigger, status, total, succeeded.get(), failed.get(), message,
+            createdAt, startedAt, finishedAt);
+    }
+}
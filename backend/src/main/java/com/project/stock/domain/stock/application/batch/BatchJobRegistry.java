@@ -0,0 +1,199 @@
+package com.project.stock.domain.stock.application.batch;
+
+import com.project.stock.common.config.BatchJobProperties;
+import com.project.stock.domain.stock.application.port.in.BatchJobUseCase;
+import com.project.stock.domain.stock.domain.batch.BatchJob;
+import com.project.stock.domain.stock.domain.batch.BatchJobStatus;
+import com.project.stock.domain.stock.domain.batch.BatchJobTrigger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 배치 작업 실행기와 작업 목록.
+ *
+ * <p>작업은 크기가 고정된 전용 실행기에서 돌며, 같은 종류의 작업은 동시에 하나만 실행됩니다.
+ * 실행 중에 같은 종류를 다시 요청하면(스케줄, 수동 실행, 서버 시작) 새로 만들지 않고 진행 중인 작업을 돌려줍니다.
+ * 취소는 협조적입니다. 작업이 취소 요청을 확인하고 새 처리 단위를 멈춘 뒤 진행 중인 단위를 마무리합니다.
+ *
+ * <p>서버 종료 시(데이터소스 등이 닫히기 전) 진행 중인 작업에 취소를 요청하고 마무리를 기다리며,
+ * 대기 시간이 지나면 작업 스레드를 중단합니다. 끝나지 않은 처리 단위는 작업의 체크포인트로 다음 실행에서 이어집니다.
+ */
+@Slf4j
+@Service
+class BatchJobRegistry implements BatchJobUseCase, SmartLifecycle {
+
+    private final BatchJobProperties batchJobProperties;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, BatchJobContext> jobs = new LinkedHashMap<>();
+    private final Map<String, BatchJobContext> activeByType = new HashMap<>();
+    private volatile boolean running;
+
+    BatchJobRegistry(BatchJobProperties batchJobProperties) {
+        this.batchJobProperties = batchJobProperties;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            batchJobProperties.getPoolSize(),
+            batchJobProperties.getPoolSize(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, batchJobProperties.getQueueCapacity())),
+            runnable -> {
+                Thread thread = new Thread(runnable, "batch-job-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 작업을 등록하고 즉시 반환합니다. 같은 종류의 작업이 실행 중이면 그 작업을 반환합니다.
+     *
+     * @throws IllegalStateException 서버 종료 중이거나 대기열이 가득 찬 경우
+     */
+    synchronized BatchJob submit(String jobType, BatchJobTrigger trigger, Consumer<BatchJobContext> body) {
+        if (!running) {
+            throw new IllegalStateException("서버가 종료 중이어서 배치 작업을 시작할 수 없습니다.");
+        }
+        BatchJobContext active = activeByType.get(jobType);
+        if (active != null) {
+            log.info("배치 작업이 이미 실행 중입니다: type={}, jobId={}, 요청={}", jobType, active.jobId(), trigger);
+            return active.snapshot();
+        }
+
+        BatchJobContext job = new BatchJobContext(UUID.randomUUID().toString(), jobType, trigger);
+        jobs.put(job.jobId(), job);
+        activeByType.put(jobType, job);
+        try {
+            executor.execute(() -> run(job, body));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.jobId());
+            activeByType.remove(jobType);
+            throw new IllegalStateException("배치 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요.");
+        }
+        evictHistory();
+        log.info("배치 작업 등록: type={}, jobId={}, 계기={}", jobType, job.jobId(), trigger);
+        return job.snapshot();
+    }
+
+    @Override
+    public synchronized BatchJob getJob(String jobId) {
+        return find(jobId).snapshot();
+    }
+
+    @Override
+    public synchronized List<BatchJob> recentJobs() {
+        List<BatchJob> result = new ArrayList<>(jobs.size());
+        jobs.values().forEach(job -> result.add(job.snapshot()));
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public synchronized BatchJob cancel(String jobId) {
+        BatchJobContext job = find(jobId);
+        if (job.isTerminal()) {
+            throw new IllegalStateException("이미 종료된 배치 작업입니다: " + jobId);
+        }
+        job.requestCancellation();
+        log.info("배치 작업 취소 요청: type={}, jobId={}", job.jobType(), jobId);
+        return job.snapshot();
+    }
+
+    private void run(BatchJobContext job, Consumer<BatchJobContext> body) {
+        try {
+            if (job.isCancellationRequested()) {
+                job.finish(BatchJobStatus.CANCELLED, "시작 전에 취소되었습니다.");
+                return;
+            }
+            job.start();
+            log.info("배치 작업 시작: type={}, jobId={}", job.jobType(), job.jobId());
+            body.accept(job);
+            job.finish(job.isCancellationRequested() ? BatchJobStatus.CANCELLED : BatchJobStatus.SUCCEEDED, null);
+            log.info("배치 작업 종료: {}", job.snapshot());
+        } catch (Exception e) {
+            log.error("배치 작업 실패: type={}, jobId={}, error={}", job.jobType(), job.jobId(), e.getMessage(), e);
+            job.finish(BatchJobStatus.FAILED, e.getMessage());
+        } finally {
+            synchronized (this) {
+                activeByType.remove(job.jobType(), job);
+            }
+        }
+    }
+
+    private BatchJobContext find(String jobId) {
+        BatchJobContext job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("존재하지 않거나 정리된 배치 작업: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 보관 수를 넘는 종료 작업을 오래된 순으로 정리합니다.
+     */
+    private void evictHistory() {
+        long terminal = jobs.values().stream().filter(BatchJobContext::isTerminal).count();
+        Iterator<BatchJobContext> iterator = jobs.values().iterator();
+        while (terminal > batchJobProperties.getHistorySize() && iterator.hasNext()) {
+            if (iterator.next().isTerminal()) {
+                iterator.remove();
+                terminal--;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * 진행 중인 작업에 취소를 요청하고 마무리를 기다립니다. 대기 시간이 지나면 작업 스레드를 중단합니다.
+     */
+    @Override
+    public void stop() {
+        List<BatchJobContext> active;
+        synchronized (this) {
+            running = false;
+            active = List.copyOf(activeByType.values());
+        }
+        active.forEach(BatchJobContext::requestCancellation);
+        executor.shutdown();
+        if (!active.isEmpty()) {
+            log.info("서버 종료: 진행 중인 배치 작업 {} 개의 마무리를 기다립니다 (최대 {}초)",
+                active.size(), batchJobProperties.getShutdownGraceSeconds());
+        }
+        try {
+            if (!executor.awaitTermination(batchJobProperties.getShutdownGraceSeconds(), TimeUnit.SECONDS)) {
+                log.warn("배치 작업이 제한 시간 안에 끝나지 않아 중단합니다. 끝나지 않은 종목은 다음 실행에서 이어서 처리됩니다.");
+                executor.shutdownNow();
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.stock.domain.stock.application.batch;
 
 import com.project.stock.domain.stock.application.port.out.SaveAnalysisHistoryPort;
+import com.project.stock.domain.stock.domain.batch.BatchJob;
+import com.project.stock.domain.stock.domain.batch.BatchJobTrigger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -10,7 +12,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * 서버 시작 시 DB 상태를 확인하고 필요시 배치를 즉시 실행하는 Runner.
- * 분석 이력 테이블이 비어있으면 즉시 배치를 실행합니다.
+ * 분석 이력 테이블이 비어있으면 즉시 배치 작업을 등록합니다 (배치 작업 실행기에서 실행되므로 기동을 막지 않습니다).
  */
 @Slf4j
 @Component
@@ -31,10 +33,10 @@ public class BatchStartupRunner implements ApplicationRunner {
         if (analysisHistoryCount == 0) {
             log.info("분석 이력 테이블이 비어있습니다. 즉시 배치를 실행합니다.");
             try {
-                dailyAnalysisBatchService.executeDailyAnalysis();
-                log.info("초기 배치 실행 완료");
+                BatchJob job = dailyAnalysisBatchService.start(BatchJobTrigger.STARTUP);
+                log.info("초기 배치 작업 등록: jobId={}", job.jobId());
             } catch (Exception e) {
-                log.error("초기 배치 실행 중 오류 발생: {}", e.getMessage(), e);
+                log.error("초기 배치 등록 중 오류 발생: {}", e.getMessage(), e);
             }
         } else {
             log.info("분석 이력이 존재합니다. 정기 스케줄에 따라 배치가 실행됩니다.");
@@ -1,29 +1,72 @@
 package com.project.stock.domain.stock.application.batch;
 
+import com.project.stock.common.config.DailyAnalysisBatchProperties;
+import com.project.stock.domain.stock.application.market.TradingCalendarService;
 import com.project.stock.domain.stock.application.port.in.SyncStockPricesUseCase;
 import com.project.stock.domain.stock.application.port.out.AiAnalysisPort;
+import com.project.stock.domain.stock.application.port.out.BatchCoordinationPort;
+import com.project.stock.domain.stock.application.port.out.BatchRunPort;
 import com.project.stock.domain.stock.application.port.out.LoadWatchlistPort;
 import com.project.stock.domain.stock.application.port.out.SaveAnalysisHistoryPort;
+import com.project.stock.domain.stock.application.quota.QuotaContext;
+import com.project.stock.domain.stock.application.quota.QuotaScheduler;
+import com.project.stock.domain.stock.domain.AnalysisHistorySavedEvent;
+import com.project.stock.domain.stock.domain.AnalysisOutcome;
 import com.project.stock.domain.stock.domain.Stock;
 import com.project.stock.domain.stock.domain.StockAnalysisHistory;
 import com.project.stock.domain.stock.domain.StockAnalysisResult;
 import com.project.stock.domain.stock.domain.Watchlist;
+import com.project.stock.domain.stock.domain.batch.BatchJob;
+import com.project.stock.domain.stock.domain.batch.BatchJobTrigger;
+import com.project.stock.domain.stock.domain.batch.BatchRun;
+import com.project.stock.domain.stock.domain.batch.BatchRunItem;
+import com.project.stock.domain.stock.domain.batch.BatchRunReport;
+import com.project.stock.domain.stock.domain.batch.PipelineStageReport;
+import com.project.stock.domain.stock.domain.quota.QuotaExceededException;
+import com.project.stock.domain.stock.domain.quota.QuotaResource;
+import com.project.stock.domain.stock.domain.quota.TrafficClass;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 일일 자동 분석 배치 서비스.
  * 평일 오후 4시에 관심 종목의 시세를 동기화하고 AI 분석을 수행합니다.
+ * 동기화 → 분석 → 저장 단계가 유한 대기열로 연결된 파이프라인으로 동작하며, 종료 시 단계별 처리량과 대기열 길이를 기록합니다.
+ * 여러 인스턴스가 동시에 실행되면 Redis 공유 대기열에서 종목을 하나씩 임대해 나누어 처리하므로,
+ * 인스턴스를 늘리면 배치 시간이 줄고 같은 종목을 두 인스턴스가 함께 처리하지 않습니다.
+ * 실행 기록(batch_run)과 종목별 상태(batch_run_item)를 종목마다 짧은 트랜잭션으로 남기므로,
+ * 중단 후 재시작하거나 수동 실행하면 끝나지 않은 종목(미처리, 동기화만 완료, 재시도 한도 내 실패)부터 이어서 처리합니다.
+ * KIS/LLM 호출은 배치 트래픽으로 할당량 스케줄러를 거치므로, 사용자 요청과 가중치 비율로 한도를 나누어 쓰고
+ * 배치 안에서는 관심 종목 우선순위가 높은 종목이 먼저 할당량을 받습니다.
+ * 스케줄/수동/서버 시작 실행은 모두 배치 작업 실행기를 거치므로 동시에 하나만 실행되며,
+ * 취소나 서버 종료 시 새 종목을 더 받지 않고 진행 중인 종목을 마무리합니다.
  * BATCH_ENABLED=false 환경변수로 비활성화할 수 있습니다.
  */
 @Slf4j
@@ -32,31 +75,51 @@ import java.util.Optional;
 @ConditionalOnProperty(name = "batch.daily-analysis.enabled", havingValue = "true", matchIfMissing = true)
 public class DailyAnalysisBatchService {
 
+    static final String RUN_TYPE = "DAILY_ANALYSIS";
+
     private final LoadWatchlistPort loadWatchlistPort;
     private final SyncStockPricesUseCase syncStockPricesUseCase;
     private final AiAnalysisPort aiAnalysisPort;
     private final SaveAnalysisHistoryPort saveAnalysisHistoryPort;
+    private final DailyAnalysisBatchProperties dailyAnalysisBatchProperties;
+    private final BatchCoordinationPort batchCoordinationPort;
+    private final BatchRunPort batchRunPort;
+    private final QuotaScheduler quotaScheduler;
+    private final BatchJobRegistry batchJobRegistry;
+    private final TradingCalendarService tradingCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 평일 오후 4시에 실행되는 배치 작업.
-     * 주식 시장 종료 후 당일 시세를 동기화하고 AI 분석을 수행합니다.
+     * 평일 오후 4시에 배치 작업을 등록합니다.
      */
     @Scheduled(cron = "${batch.daily-analysis.cron:0 0 16 * * MON-FRI}", zone = "Asia/Seoul")
-    @Transactional
     public void executeDailyAnalysis() {
+        start(BatchJobTrigger.SCHEDULED);
+    }
+
+    /**
+     * 일일 분석 배치를 배치 작업 실행기에 등록하고 즉시 반환합니다. 이미 실행 중이면 진행 중인 작업을 반환합니다.
+     *
+     * @throws IllegalStateException 서버 종료 중이거나 작업 대기열이 가득 찬 경우
+     */
+    public BatchJob start(BatchJobTrigger trigger) {
+        return batchJobRegistry.submit(RUN_TYPE, trigger, this::runDailyAnalysis);
+    }
+
+    /**
+     * 주식 시장 종료 후 당일 시세를 동기화하고 AI 분석을 수행합니다.
+     * 단계별 작업자가 각자 짧은 트랜잭션으로 처리하므로 배치 전체를 감싸는 트랜잭션은 두지 않습니다.
+     */
+    private void runDailyAnalysis(BatchJobContext job) {
         LocalDateTime startTime = LocalDateTime.now();
         log.info("========== 일일 분석 배치 시작: {} ==========", startTime);
 
-        // 주말 체크 (혹시 모를 수동 실행 대비)
-        if (isWeekend()) {
-            log.warn("주말에는 배치를 실행하지 않습니다. 배치 종료.");
-            return;
-        }
-
-        // 오늘 이미 배치가 실행되었는지 확인
+        // 휴장일 체크 (주말/공휴일 수동 실행, 평일 휴장일의 스케줄 실행 대비)
         LocalDate today = LocalDate.now();
-        if (saveAnalysisHistoryPort.existsByAnalyzedDate(today)) {
-            log.info("오늘({}) 이미 배치가 실행되었습니다. 배치 종료.", today);
+        if (!tradingCalendarService.isTradingDay(today)) {
+            log.warn("휴장일({})에는 배치를 실행하지 않습니다. 다음 영업일: {}. 배치 종료.",
+                today, tradingCalendarService.nextSession(today));
+            job.note("휴장일에는 배치를 실행하지 않습니다.");
             return;
         }
 
@@ -64,86 +127,554 @@ public class DailyAnalysisBatchService {
         List<Watchlist> activeWatchlist = loadWatchlistPort.findAllActive();
         if (activeWatchlist.isEmpty()) {
             log.warn("활성화된 관심 종목이 없습니다. 배치 종료.");
+            job.note("활성화된 관심 종목이 없습니다.");
             return;
         }
 
-        log.info("분석 대상 종목: {} 개", activeWatchlist.size());
+        // 실행 기록을 열고 끝나지 않은 종목만 우선순위 순으로 추림
+        List<Stock> stocks = activeWatchlist.stream().map(Watchlist::getStock).toList();
+        int maxAttempts = dailyAnalysisBatchProperties.getMaxAttempts();
+        BatchRun run = batchRunPort.openRun(RUN_TYPE, today, stocks.stream().map(Stock::getId).toList());
+        Map<Long, BatchRunItem> items = batchRunPort.findItems(run.getId()).stream()
+            .collect(Collectors.toMap(BatchRunItem::getStockId, Function.identity()));
+        List<Stock> remaining = stocks.stream()
+            .filter(stock -> !items.containsKey(stock.getId()) || items.get(stock.getId()).isUnfinished(maxAttempts))
+            .toList();
+        if (remaining.isEmpty()) {
+            batchRunPort.refreshRun(run.getId(), maxAttempts);
+            log.info("오늘({}) 배치가 이미 완료되었습니다. 배치 종료.", today);
+            job.note("오늘 배치가 이미 완료되었습니다.");
+            return;
+        }
+        if (remaining.size() < stocks.size()) {
+            log.info("중단된 배치 재개: 완료 {} 개, 남은 종목 {} 개 (첫 종목: {})",
+                stocks.size() - remaining.size(), remaining.size(), remaining.get(0).getStockCode());
+        }
 
-        int successCount = 0;
-        int failCount = 0;
+        log.info("분석 대상 종목: {} 개", remaining.size());
 
-        // 각 종목에 대해 시세 동기화 및 분석 수행
-        for (Watchlist watchlistItem : activeWatchlist) {
-            Stock stock = watchlistItem.getStock();
-            String stockCode = stock.getStockCode();
+        RunCheckpoint checkpoint = new RunCheckpoint(run.getId(), items);
+        Map<Long, Integer> priorities = activeWatchlist.stream()
+            .collect(Collectors.toMap(watchlist -> watchlist.getStock().getId(), Watchlist::getPriority, Math::min));
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        job.trackProgress(remaining.size(), successCount, failCount);
 
-            try {
-                log.info("처리 시작: {} ({})", stock.getStockName(), stockCode);
+        WorkSource source = openWorkSource(today, remaining);
+        List<PipelineStageReport> reports;
+        try {
+            reports = runPipeline(job, source, checkpoint, priorities, today, successCount, failCount);
+        } catch (RuntimeException e) {
+            batchRunPort.refreshRun(run.getId(), maxAttempts);
+            throw e;
+        } finally {
+            source.close();
+        }
+        BatchRun result = batchRunPort.refreshRun(run.getId(), maxAttempts);
 
-                // 1. 당일 시세 동기화 (최근 5일 업데이트 - 누락된 데이터 보정)
-                int syncedCount = syncStockPricesUseCase.syncRecentStockPrices(stockCode, 5);
-                log.info("시세 동기화 완료: {} 건", syncedCount);
+        LocalDateTime endTime = LocalDateTime.now();
+        long durationSeconds = Duration.between(startTime, endTime).getSeconds();
 
-                // 2. 이미 오늘 분석한 이력이 있는지 확인
-                Optional<StockAnalysisHistory> existingHistory =
-                    saveAnalysisHistoryPort.findByStockIdAndDate(stock.getId(), today);
+        log.info("========== 일일 분석 배치 종료 ==========");
+        log.info("총 대상: {} 개 | 이 인스턴스 처리: {} 개 | 성공: {} 개 | 실패: {} 개 | 소요 시간: {}초",
+            activeWatchlist.size(), source.claimed(), successCount.get(), failCount.get(), durationSeconds);
+        reports.forEach(report -> log.info("단계 리포트: {}", report));
+        log.info("실행 기록: status={}, 전체={} 개, 성공={} 개, 실패={} 개",
+            result.getStatus(), result.getTotalCount(), result.getSucceededCount(), result.getFailedCount());
+        if (job.isCancellationRequested()) {
+            job.note("취소되었습니다. 끝나지 않은 종목은 다음 실행에서 이어서 처리합니다.");
+        }
+    }
 
-                if (existingHistory.isPresent()) {
-                    log.info("이미 분석 완료: {} - 건너뜀", stockCode);
-                    successCount++;
-                    continue;
-                }
+    /**
+     * 날짜별 실행 기록과 종목별 상태를 조회합니다.
+     */
+    public Optional<BatchRunReport> findRun(LocalDate runDate) {
+        return batchRunPort.findReport(RUN_TYPE, runDate);
+    }
+
+    /**
+     * 종목 공급원을 엽니다. 분산 조정을 쓸 수 있으면 공유 대기열에 참여하고, 아니면 목록을 단독으로 처리합니다.
+     */
+    private WorkSource openWorkSource(LocalDate today, List<Stock> stocks) {
+        if (dailyAnalysisBatchProperties.isCoordinationEnabled()) {
+            String runKey = "daily-analysis:" + today;
+            List<Long> stockIds = stocks.stream().map(Stock::getId).toList();
+            if (batchCoordinationPort.join(runKey, stockIds, Duration.ofHours(36))) {
+                log.info("분산 배치 참여: run={}, instance={}", runKey, batchCoordinationPort.instanceId());
+                return new SharedWorkSource(runKey, stocks);
+            }
+        }
+        return new LocalWorkSource(stocks);
+    }
+
+    /**
+     * 시세 동기화 → AI 분석 → 이력 저장을 단계별 작업자와 유한 대기열로 연결하여 실행합니다.
+     * 네트워크(KIS) 대기와 LLM 대기가 서로 겹쳐 진행되며, 뒤 단계가 느리면 대기열이 차서 앞 단계가 멈춥니다.
+     * 작업 취소가 요청되면 동기화 단계는 새 종목을 받지 않고, 분석 단계는 남은 종목을 분석하지 않고 비우며(동기화 완료 상태로 남김),
+     * 이미 분석된 결과는 저장 단계가 모두 저장한 뒤 끝납니다.
+     * 종목 단위 오류는 그 종목의 실패로 기록하고 작업자는 계속 진행합니다. 그래도 작업자가 오류로 끝나면 실행 전체를 취소하며,
+     * 한 단계의 작업자가 모두 끝나면 앞 단계는 대기열에서 기다리지 않고 멈춥니다.
+     *
+     * @return 단계별 처리량/대기열 리포트
+     * @throws IllegalStateException 작업자가 오류로 끝나 실행을 취소한 경우
+     */
+    private List<PipelineStageReport> runPipeline(BatchJobContext job, WorkSource source, RunCheckpoint checkpoint,
+                                                  Map<Long, Integer> priorities, LocalDate today,
+                                                  AtomicInteger successCount, AtomicInteger failCount) {
+        DailyAnalysisBatchProperties properties = dailyAnalysisBatchProperties;
+        int syncWorkers = Math.max(1, properties.getSyncConcurrency());
+        int analyzeWorkers = Math.max(1, properties.getAnalyzeConcurrency());
+        int persistWorkers = Math.max(1, properties.getPersistConcurrency());
+        int batchSize = Math.max(1, properties.getAnalysisBatchSize());
+
+        StageQueue<Stock> analyzeQueue = new StageQueue<>(properties.getQueueCapacity(), syncWorkers, analyzeWorkers);
+        StageQueue<AnalysisOutcome> persistQueue = new StageQueue<>(properties.getQueueCapacity(), analyzeWorkers, persistWorkers);
+
+        StageMetrics syncMetrics = new StageMetrics("SYNC", syncWorkers);
+        StageMetrics analyzeMetrics = new StageMetrics("ANALYZE", analyzeWorkers);
+        StageMetrics persistMetrics = new StageMetrics("PERSIST", persistWorkers);
 
-                // 3. AI 분석 수행
-                StockAnalysisResult analysisResult = aiAnalysisPort.requestAnalysis(stock);
-                log.info("AI 분석 완료: recommendation={}, confidence={}",
-                    analysisResult.recommendation(), analysisResult.confidenceScore());
+        log.info("파이프라인 시작: 동기화={}, 분석={} (배치 크기={}), 저장={}, 대기열={}",
+            syncWorkers, analyzeWorkers, batchSize, persistWorkers, properties.getQueueCapacity());
+
+        // 1. 시세 동기화: 당일 시세(최근 5일, 누락 보정) 동기화 후 미분석 종목만 다음 단계로 (재개 시 동기화 완료 종목은 생략)
+        Runnable syncStage = () -> {
+            try {
+                Stock stock;
+                while (!job.isCancellationRequested() && (stock = source.next()) != null) {
+                    String stockCode = stock.getStockCode();
+                    long started = syncMetrics.start();
+                    boolean pending = false;
+                    try {
+                        boolean synced = checkpoint.wasSynced(stock);
+                        if (synced) {
+                            log.info("시세 동기화 생략 (이전 실행에서 완료): {}", stockCode);
+                        } else {
+                            int syncedCount;
+                            QuotaContext.Scope scope = QuotaContext.enter(TrafficClass.BATCH, priorityOf(priorities, stock));
+                            try {
+                                syncedCount = syncStockPricesUseCase.syncRecentStockPrices(stockCode, 5);
+                            } finally {
+                                scope.close();
+                            }
+                            log.info("시세 동기화 완료: {} ({}) - {} 건", stock.getStockName(), stockCode, syncedCount);
+                        }
+
+                        if (saveAnalysisHistoryPort.findByStockIdAndDate(stock.getId(), today).isPresent()) {
+                            log.info("이미 분석 완료: {} - 건너뜀", stockCode);
+                            successCount.incrementAndGet();
+                            checkpoint.succeeded(stock);
+                            source.done(stock);
+                        } else {
+                            if (!synced) {
+                                checkpoint.synced(stock);
+                            }
+                            pending = true;
+                        }
+                        syncMetrics.end(started, 1, 0);
+                    } catch (Exception e) {
+                        log.error("시세 동기화 실패: {} - {}", stockCode, e.getMessage(), e);
+                        failCount.incrementAndGet();
+                        checkpoint.failed(stock, e.getMessage());
+                        source.done(stock);
+                        syncMetrics.end(started, 1, 1);
+                    }
+                    if (pending && !analyzeQueue.put(stock)) {
+                        log.error("분석 단계 작업자가 모두 종료되어 동기화를 멈춥니다: {}", stockCode);
+                        source.done(stock);
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                analyzeQueue.producerDone();
+            }
+        };
 
-                // 4. 분석 이력 저장
-                StockAnalysisHistory history = StockAnalysisHistory.fromAnalysisResult(
-                    stock, today, analysisResult
-                );
-                saveAnalysisHistoryPort.save(history);
-                log.info("분석 이력 저장 완료: {}", stockCode);
+        // 2. AI 분석: 배치 크기만큼 묶어 요청하고 성공 결과를 완료 순서대로 저장 단계로 전달
+        Runnable analyzeStage = () -> {
+            try {
+                while (true) {
+                    List<Stock> batch = analyzeQueue.takeBatch(batchSize, properties.getBatchLingerMs());
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    if (job.isCancellationRequested()) {
+                        log.info("작업 취소: 분석 대기 종목 {} 개를 다음 실행으로 넘깁니다.", batch.size());
+                        batch.forEach(source::done);
+                        continue;
+                    }
+                    long started = analyzeMetrics.start();
+                    AtomicInteger failures = new AtomicInteger();
+                    Set<String> reported = ConcurrentHashMap.newKeySet();
+                    Consumer<AnalysisOutcome> onOutcome = outcome -> {
+                        reported.add(outcome.stock().getStockCode());
+                        if (outcome.isSuccess()) {
+                            try {
+                                if (persistQueue.put(outcome)) {
+                                    return;
+                                }
+                                outcome = AnalysisOutcome.failure(outcome.stock(), "저장 단계 작업자가 모두 종료되었습니다.", outcome.elapsedMillis());
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                source.done(outcome.stock());
+                                return;
+                            }
+                        }
+                        log.error("분석 실패: {} - {}", outcome.stock().getStockCode(), outcome.error());
+                        failures.incrementAndGet();
+                        failCount.incrementAndGet();
+                        checkpoint.failed(outcome.stock(), outcome.error());
+                        source.done(outcome.stock());
+                    };
 
-                successCount++;
+                    try {
+                        if (admitAnalysis(batch, priorities, onOutcome)) {
+                            if (batch.size() == 1) {
+                                Stock stock = batch.get(0);
+                                long requestStart = System.currentTimeMillis();
+                                try {
+                                    StockAnalysisResult result = aiAnalysisPort.requestAnalysis(stock);
+                                    onOutcome.accept(AnalysisOutcome.success(stock, result, System.currentTimeMillis() - requestStart));
+                                } catch (Exception e) {
+                                    onOutcome.accept(AnalysisOutcome.failure(stock, e.getMessage(), System.currentTimeMillis() - requestStart));
+                                }
+                            } else {
+                                aiAnalysisPort.requestAnalysisBatch(batch, onOutcome);
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        // 결과를 받지 못한 종목은 리스가 풀리도록 모두 실패로 돌리고 작업자는 다음 묶음으로 넘어간다
+                        log.error("분석 묶음 처리 실패: {} 종목 - {}", batch.size(), e.getMessage(), e);
+                        batch.stream()
+                            .filter(stock -> !reported.contains(stock.getStockCode()))
+                            .forEach(stock -> onOutcome.accept(AnalysisOutcome.failure(stock, e.getMessage(), 0)));
+                    }
+                    analyzeMetrics.end(started, batch.size(), failures.get());
 
-                // API Rate Limit 대응: 종목 간 딜레이 (3초)
-                Thread.sleep(3000);
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new InterruptedException();
+                    }
+                    // API Rate Limit 대응: 요청 간 딜레이
+                    if (!analyzeQueue.isDrained()) {
+                        Thread.sleep(properties.getRequestDelayMs());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                analyzeQueue.consumerDone();
+                persistQueue.producerDone();
+            }
+        };
 
+        // 3. 분석 이력 저장
+        Runnable persistStage = () -> {
+            try {
+                AnalysisOutcome outcome;
+                while ((outcome = persistQueue.take()) != null) {
+                    long started = persistMetrics.start();
+                    try {
+                        saveAnalysis(outcome.stock(), today, outcome.result(), checkpoint);
+                        successCount.incrementAndGet();
+                        persistMetrics.end(started, 1, 0);
+                    } catch (Exception e) {
+                        log.error("분석 이력 저장 실패: {} - {}", outcome.stock().getStockCode(), e.getMessage(), e);
+                        failCount.incrementAndGet();
+                        checkpoint.failed(outcome.stock(), e.getMessage());
+                        persistMetrics.end(started, 1, 1);
+                    } finally {
+                        source.done(outcome.stock());
+                    }
+                }
             } catch (InterruptedException e) {
-                log.error("배치 중단: {}", stockCode, e);
                 Thread.currentThread().interrupt();
-                break;
+            } finally {
+                persistQueue.consumerDone();
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(syncWorkers + analyzeWorkers + persistWorkers,
+            new StageThreadFactory());
+        CompletionService<Void> workers = new ExecutorCompletionService<>(executor);
+        for (int i = 0; i < syncWorkers; i++) {
+            workers.submit(syncStage, null);
+        }
+        for (int i = 0; i < analyzeWorkers; i++) {
+            workers.submit(analyzeStage, null);
+        }
+        for (int i = 0; i < persistWorkers; i++) {
+            workers.submit(persistStage, null);
+        }
+
+        // 끝나는 순서대로 확인하고, 한 작업자라도 오류로 끝나면 실행 전체를 취소한다 (남은 작업자는 진행 중인 종목만 마무리)
+        Throwable failure = null;
+        try {
+            for (int i = 0; i < syncWorkers + analyzeWorkers + persistWorkers; i++) {
+                try {
+                    workers.take().get();
+                } catch (ExecutionException e) {
+                    log.error("파이프라인 작업자 오류: 배치를 취소합니다 - {}", e.getCause().getMessage(), e.getCause());
+                    if (failure == null) {
+                        failure = e.getCause();
+                        job.requestCancellation();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            log.error("배치 중단: 파이프라인 작업자를 종료합니다.");
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 작업자가 모두 끝난 뒤 대기열에 남은 종목은 처리하지 않고 임대만 반납한다 (다음 실행에서 이어서 처리)
+        analyzeQueue.drainRemaining().forEach(source::done);
+        persistQueue.drainRemaining().forEach(outcome -> source.done(outcome.stock()));
+
+        if (failure != null) {
+            throw new IllegalStateException("파이프라인 작업자 오류로 배치를 중단했습니다: " + failure.getMessage(), failure);
+        }
+        return List.of(
+            syncMetrics.report(null),
+            analyzeMetrics.report(analyzeQueue),
+            persistMetrics.report(persistQueue)
+        );
+    }
+
+    /**
+     * 묶음의 분석 종목 수만큼 LLM 할당량을 배치 트래픽으로 받습니다 (우선순위는 묶음에서 가장 높은 종목 기준).
+     * 대기 한도 안에 받지 못하면 묶음 전체를 실패 처리하며, 실패 종목은 다음 실행에서 다시 처리됩니다.
+     */
+    private boolean admitAnalysis(List<Stock> batch, Map<Long, Integer> priorities, Consumer<AnalysisOutcome> onOutcome) {
+        int priority = batch.stream().mapToInt(stock -> priorityOf(priorities, stock)).min().orElse(Integer.MAX_VALUE);
+        QuotaContext.Scope scope = QuotaContext.enter(TrafficClass.BATCH, priority);
+        try {
+            quotaScheduler.acquire(QuotaResource.LLM, batch.size());
+            return true;
+        } catch (QuotaExceededException e) {
+            log.warn("LLM 할당량 대기 한도 초과: {} 종목 - {}", batch.size(), e.getMessage());
+            batch.forEach(stock -> onOutcome.accept(AnalysisOutcome.failure(stock, e.getMessage(), 0)));
+            return false;
+        } finally {
+            scope.close();
+        }
+    }
+
+    private static int priorityOf(Map<Long, Integer> priorities, Stock stock) {
+        return priorities.getOrDefault(stock.getId(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 분석 결과를 이력으로 저장하고(종목 완료 표시와 같은 트랜잭션) 저장 완료 이벤트를 발행합니다.
+     */
+    private void saveAnalysis(Stock stock, LocalDate today, StockAnalysisResult analysisResult, RunCheckpoint checkpoint) {
+        log.info("AI 분석 완료: {} - recommendation={}, confidence={}",
+            stock.getStockCode(), analysisResult.recommendation(), analysisResult.confidenceScore());
+
+        StockAnalysisHistory history = StockAnalysisHistory.fromAnalysisResult(stock, today, analysisResult);
+        batchRunPort.saveResult(checkpoint.runId, history);
+        log.info("분석 이력 저장 완료: {}", stock.getStockCode());
+        eventPublisher.publishEvent(new AnalysisHistorySavedEvent(
+            stock.getId(), stock.getStockCode(), today, analysisResult.recommendation(), analysisResult.confidenceScore()));
+    }
+
+    /**
+     * 종목별 체크포인트 기록. 각 기록은 바로 커밋되며, 기록 실패는 로그만 남기고 배치를 멈추지 않습니다
+     * (기록되지 않은 종목은 다음 실행에서 다시 처리될 뿐입니다).
+     */
+    private final class RunCheckpoint {
+
+        private final long runId;
+        private final Map<Long, BatchRunItem> previous;
+
+        private RunCheckpoint(long runId, Map<Long, BatchRunItem> previous) {
+            this.runId = runId;
+            this.previous = previous;
+        }
+
+        /**
+         * 이전 실행에서 시세 동기화까지 마친 종목인지 확인합니다.
+         */
+        private boolean wasSynced(Stock stock) {
+            BatchRunItem item = previous.get(stock.getId());
+            return item != null && item.getStatus() == BatchRunItem.Status.SYNCED;
+        }
+
+        private void synced(Stock stock) {
+            record(stock, () -> batchRunPort.markSynced(runId, stock.getId()));
+        }
+
+        private void succeeded(Stock stock) {
+            record(stock, () -> batchRunPort.markSucceeded(runId, stock.getId()));
+        }
+
+        private void failed(Stock stock, String error) {
+            record(stock, () -> batchRunPort.markFailed(runId, stock.getId(), error));
+        }
+
+        private void record(Stock stock, Runnable update) {
+            try {
+                update.run();
             } catch (Exception e) {
-                log.error("분석 실패: {} - {}", stockCode, e.getMessage(), e);
-                failCount++;
-                // 실패해도 다음 종목 계속 진행
+                log.warn("체크포인트 기록 실패: {} - {}", stock.getStockCode(), e.getMessage());
             }
         }
+    }
 
-        LocalDateTime endTime = LocalDateTime.now();
-        long durationSeconds = java.time.Duration.between(startTime, endTime).getSeconds();
+    /**
+     * 파이프라인 첫 단계에 종목을 공급합니다. 처리가 끝난 종목(성공/실패/건너뜀)은 {@link #done}으로 알립니다.
+     */
+    private interface WorkSource extends AutoCloseable {
 
-        log.info("========== 일일 분석 배치 종료 ==========");
-        log.info("총 대상: {} 개 | 성공: {} 개 | 실패: {} 개 | 소요 시간: {}초",
-            activeWatchlist.size(), successCount, failCount, durationSeconds);
+        /**
+         * @return 다음 종목, 없으면 null
+         */
+        Stock next();
+
+        void done(Stock stock);
+
+        /**
+         * 이 인스턴스가 가져간 종목 수.
+         */
+        int claimed();
+
+        @Override
+        void close();
+    }
+
+    /**
+     * 단독 실행: 전체 목록을 이 인스턴스가 모두 처리합니다.
+     */
+    private static final class LocalWorkSource implements WorkSource {
+
+        private final Queue<Stock> queue;
+        private final AtomicInteger claimed = new AtomicInteger();
+
+        private LocalWorkSource(List<Stock> stocks) {
+            this.queue = new ConcurrentLinkedQueue<>(stocks);
+        }
+
+        @Override
+        public Stock next() {
+            Stock stock = queue.poll();
+            if (stock != null) {
+                claimed.incrementAndGet();
+            }
+            return stock;
+        }
+
+        @Override
+        public void done(Stock stock) {
+        }
+
+        @Override
+        public int claimed() {
+            return claimed.get();
+        }
+
+        @Override
+        public void close() {
+        }
     }
 
     /**
-     * 주말 여부를 확인합니다.
+     * 분산 실행: 공유 대기열에서 종목을 하나씩 임대합니다.
+     * 처리 중인 종목의 임대는 임대 시간의 1/3마다 연장하므로, 오래 걸리는 종목도 이 인스턴스가 살아 있는 동안에는
+     * 다른 인스턴스가 회수하지 않습니다. 연장이 끊기면(인스턴스 종료) 임대 시간 안에 회수됩니다.
+     * 다른 인스턴스의 관심 종목 목록에만 있는 종목(목록 변경 직후)은 처리하지 않고 반납합니다.
      */
-    private boolean isWeekend() {
-        DayOfWeek dayOfWeek = LocalDate.now().getDayOfWeek();
-        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    private final class SharedWorkSource implements WorkSource {
+
+        private final String runKey;
+        private final Map<Long, Stock> stocksById;
+        private final Duration lease = Duration.ofSeconds(dailyAnalysisBatchProperties.getLeaseSeconds());
+        private final Map<Long, BatchCoordinationPort.Lease> held = new ConcurrentHashMap<>();
+        private final ScheduledExecutorService heartbeat;
+        private final AtomicInteger claimed = new AtomicInteger();
+
+        private SharedWorkSource(String runKey, List<Stock> stocks) {
+            this.runKey = runKey;
+            this.stocksById = stocks.stream().collect(Collectors.toMap(Stock::getId, Function.identity(), (a, b) -> a));
+            this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "daily-batch-lease");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = Math.max(1, lease.toMillis() / 3);
+            heartbeat.scheduleWithFixedDelay(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public Stock next() {
+            Optional<BatchCoordinationPort.Lease> claim;
+            while ((claim = batchCoordinationPort.claim(runKey, lease)).isPresent()) {
+                BatchCoordinationPort.Lease claimedLease = claim.get();
+                Stock stock = stocksById.get(claimedLease.stockId());
+                if (stock != null) {
+                    held.put(stock.getId(), claimedLease);
+                    claimed.incrementAndGet();
+                    return stock;
+                }
+                log.warn("관심 종목 목록에 없는 종목 반납: stockId={}", claimedLease.stockId());
+                batchCoordinationPort.complete(runKey, claimedLease);
+            }
+            return null;
+        }
+
+        /**
+         * 임대를 완료합니다. 완료 기록에 실패해도 작업자를 멈추지 않으며, 그 임대는 만료 후 회수됩니다.
+         */
+        @Override
+        public void done(Stock stock) {
+            BatchCoordinationPort.Lease heldLease = held.remove(stock.getId());
+            if (heldLease == null) {
+                return;
+            }
+            try {
+                batchCoordinationPort.complete(runKey, heldLease);
+            } catch (RuntimeException e) {
+                log.warn("배치 작업 임대 완료 실패: stockId={} - {}", stock.getId(), e.getMessage());
+            }
+        }
+
+        @Override
+        public int claimed() {
+            return claimed.get();
+        }
+
+        @Override
+        public void close() {
+            heartbeat.shutdownNow();
+        }
+
+        private void renew() {
+            List<BatchCoordinationPort.Lease> leases = List.copyOf(held.values());
+            if (leases.isEmpty()) {
+                return;
+            }
+            int renewed = batchCoordinationPort.renew(runKey, leases, lease);
+            if (renewed < leases.size()) {
+                log.warn("배치 작업 임대 연장 누락: 처리 중 {} 개 중 {} 개만 연장 (만료되어 다른 인스턴스가 회수했을 수 있습니다)",
+                    leases.size(), renewed);
+            }
+        }
     }
 
     /**
-     * 수동 배치 실행 (테스트용).
-     * 운영 환경에서는 제거하거나 별도 권한 체크 필요.
+     * 파이프라인 작업자 스레드 (daily-batch-N).
      */
-    public void executeManually() {
-        log.info("수동 배치 실행 요청");
-        executeDailyAnalysis();
+    private static final class StageThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "daily-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
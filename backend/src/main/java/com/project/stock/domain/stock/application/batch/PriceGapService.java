@@ -0,0 +1,122 @@
+package com.project.stock.domain.stock.application.batch;
+
+import com.project.stock.common.config.PriceGapProperties;
+import com.project.stock.domain.stock.application.market.TradingCalendarService;
+import com.project.stock.domain.stock.application.port.in.PriceGapUseCase;
+import com.project.stock.domain.stock.application.port.in.SyncStockPricesUseCase;
+import com.project.stock.domain.stock.application.port.out.LoadStockPort;
+import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.application.quota.QuotaContext;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.batch.BatchJob;
+import com.project.stock.domain.stock.domain.batch.BatchJobTrigger;
+import com.project.stock.domain.stock.domain.market.PriceGapReport;
+import com.project.stock.domain.stock.domain.market.PriceGapReport.RepairRequest;
+import com.project.stock.domain.stock.domain.market.PriceGapReport.StockGaps;
+import com.project.stock.domain.stock.domain.market.PriceGapScanner;
+import com.project.stock.domain.stock.domain.market.TradingCalendar;
+import com.project.stock.domain.stock.domain.quota.TrafficClass;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 시세 누락 점검/보정.
+ *
+ * <p>배치는 종목별 실패를 기록하고 넘어가므로 stock_price에 빈 날짜가 생길 수 있습니다.
+ * 점검은 저장된 시세 키를 한 번 스트리밍하여 영업일 달력과 대조하고(오늘 시세는 일일 배치 몫이므로 직전 영업일까지),
+ * 보정은 점검 결과를 페이지 크기 구간으로 묶은 요청만 기간별 시세 조회로 다시 받습니다.
+ * 보정 요청은 배치 할당량에서 가장 낮은 우선순위로 실행되어 일일 배치 종목을 앞지르지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class PriceGapService implements PriceGapUseCase {
+
+    private static final String JOB_TYPE = "PRICE_GAP_REPAIR";
+
+    private final LoadStockPort loadStockPort;
+    private final LoadStockPricePort loadStockPricePort;
+    private final SyncStockPricesUseCase syncStockPricesUseCase;
+    private final TradingCalendarService tradingCalendarService;
+    private final PriceGapProperties priceGapProperties;
+    private final BatchJobRegistry batchJobRegistry;
+
+    @Override
+    public PriceGapReport scan(LocalDate since) {
+        TradingCalendar calendar = tradingCalendarService.calendar();
+        LocalDate today = LocalDate.now();
+        LocalDate until = calendar.previousSession(today);
+        LocalDate from = since != null ? since : today.minusDays(priceGapProperties.getLookbackDays());
+        LocalDate covered = LocalDate.of(calendar.firstYear(), 1, 1);
+        if (from.isBefore(covered)) {
+            log.info("휴장일 데이터가 없는 기간은 점검하지 않습니다: 시작일 {} → {}", from, covered);
+            from = covered;
+        }
+        if (from.isAfter(until)) {
+            throw new IllegalArgumentException("점검할 영업일이 없습니다: 시작일 " + from + ", 마지막 점검 대상 영업일 " + until);
+        }
+
+        Map<Long, String> stockCodes = loadStockPort.loadAll().stream()
+            .collect(Collectors.toMap(Stock::getId, Stock::getStockCode));
+        long started = System.currentTimeMillis();
+        PriceGapScanner scanner = new PriceGapScanner(calendar, from, until, priceGapProperties.getPageSize(), stockCodes);
+        loadStockPricePort.forEachPriceKey(from, key -> scanner.accept(key.getStockId(), key.getDate()));
+        PriceGapReport report = scanner.finish(System.currentTimeMillis() - started);
+
+        log.info("시세 누락 점검: 기간={} ~ {}, 종목={} 개, 누락 종목={} 개, 누락 영업일={} 일, 보정 요청={} 건, 휴장일 시세={} 건, 시세 없는 종목={} 개, {}ms",
+            report.from(), report.until(), report.stocksScanned(), report.stocks().size(), report.missingSessions(),
+            report.repairRequests(), report.offSessionBars(), report.stocksWithoutPrices().size(), report.durationMs());
+        return report;
+    }
+
+    @Override
+    public BatchJob repair(LocalDate since) {
+        return batchJobRegistry.submit(JOB_TYPE, BatchJobTrigger.MANUAL, job -> runRepair(job, since));
+    }
+
+    private void runRepair(BatchJobContext job, LocalDate since) {
+        PriceGapReport report = scan(since);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        job.trackProgress((int) report.repairRequests(), succeeded, failed);
+        if (report.repairRequests() == 0) {
+            job.note("누락된 시세가 없습니다.");
+            return;
+        }
+
+        int saved = 0;
+        QuotaContext.Scope scope = QuotaContext.enter(TrafficClass.BATCH, Integer.MAX_VALUE);
+        try {
+            for (StockGaps stock : report.stocks()) {
+                for (RepairRequest request : stock.repairs()) {
+                    if (job.isCancellationRequested()) {
+                        job.note("취소되었습니다. 다시 실행하면 남은 누락 구간을 새로 점검하여 보정합니다.");
+                        return;
+                    }
+                    try {
+                        if (stock.stockCode() == null) {
+                            throw new IllegalArgumentException("종목 정보가 없습니다: stockId=" + stock.stockId());
+                        }
+                        saved += syncStockPricesUseCase.syncStockPrices(stock.stockCode(), request.startDate(), request.endDate());
+                        succeeded.incrementAndGet();
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        log.warn("시세 보정 실패: stockId={}, 구간={} ~ {}, error={}",
+                            stock.stockId(), request.startDate(), request.endDate(), e.getMessage());
+                    }
+                }
+            }
+        } finally {
+            scope.close();
+        }
+        log.info("시세 보정 완료: 요청 {} 건 (성공 {} 건, 실패 {} 건), 저장 {} 건",
+            report.repairRequests(), succeeded.get(), failed.get(), saved);
+        job.note("누락 영업일 " + report.missingSessions() + " 일, 보정 요청 " + report.repairRequests() + " 건, 저장 " + saved + " 건");
+    }
+}
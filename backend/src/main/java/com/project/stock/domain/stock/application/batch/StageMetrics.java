@@ -0,0 +1,66 @@
+package com.project.stock.domain.stock.application.batch;
+
+import com.project.stock.domain.stock.domain.batch.PipelineStageReport;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파이프라인 단계별 처리량/가동률 측정.
+ */
+final class StageMetrics {
+
+    private final String stage;
+    private final int concurrency;
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastEnd = new AtomicLong(Long.MIN_VALUE);
+
+    StageMetrics(String stage, int concurrency) {
+        this.stage = stage;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * 작업 시작 시각(nanoTime)을 반환합니다.
+     */
+    long start() {
+        long now = System.nanoTime();
+        firstStart.accumulateAndGet(now, Math::min);
+        return now;
+    }
+
+    /**
+     * 작업 종료를 기록합니다.
+     *
+     * @param startNanos {@link #start()} 반환값
+     * @param items      이번 작업에서 처리한 항목 수
+     * @param failures   그중 실패한 항목 수
+     */
+    void end(long startNanos, int items, int failures) {
+        long now = System.nanoTime();
+        busyNanos.add(now - startNanos);
+        lastEnd.accumulateAndGet(now, Math::max);
+        processed.add(items);
+        failed.add(failures);
+    }
+
+    PipelineStageReport report(StageQueue<?> input) {
+        long elapsedNanos = Math.max(0, lastEnd.get() - firstStart.get());
+        double elapsedSeconds = elapsedNanos / 1e9;
+        long items = processed.sum();
+        return new PipelineStageReport(
+            stage,
+            concurrency,
+            items,
+            failed.sum(),
+            elapsedNanos / 1_000_000,
+            elapsedSeconds > 0 ? items / elapsedSeconds : 0,
+            elapsedNanos > 0 ? (double) busyNanos.sum() / ((double) elapsedNanos * concurrency) : 0,
+            input != null ? input.maxDepth() : 0,
+            input != null ? input.avgDepth() : 0
+        );
+    }
+}
@@ -0,0 +1,142 @@
+package com.project.stock.domain.stock.application.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파이프라인 단계 사이의 유한 대기열.
+ * 가득 차면 생산자가 대기하므로(backpressure) 단계 간 속도 차이가 있어도 메모리 사용량이 일정합니다.
+ * 모든 생산자가 {@link #producerDone()}을 호출하고 대기열이 비면 소비자는 null / 빈 목록을 받아 종료합니다.
+ * 반대로 모든 소비자가 {@link #consumerDone()}을 호출하면(작업자 오류 포함) 대기열이 버려지고,
+ * 생산자는 더 기다리지 않고 {@link #put}에서 false를 받습니다.
+ */
+final class StageQueue<T> {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final BlockingQueue<T> queue;
+    private final AtomicInteger producers;
+    private final AtomicInteger consumers;
+    private volatile boolean closed;
+    private volatile boolean abandoned;
+
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final LongAdder depthSum = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+
+    StageQueue(int capacity, int producers, int consumers) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.producers = new AtomicInteger(producers);
+        this.consumers = new AtomicInteger(consumers);
+    }
+
+    /**
+     * 항목을 넣습니다. 가득 차면 빈 자리가 생길 때까지 기다립니다.
+     *
+     * @return 넣었으면 true, 소비자가 모두 종료되어 넣지 못했으면 false
+     */
+    boolean put(T item) throws InterruptedException {
+        while (!abandoned) {
+            if (queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                int depth = queue.size();
+                maxDepth.accumulateAndGet(depth, Math::max);
+                depthSum.add(depth);
+                samples.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 생산자 한 명의 종료를 알립니다. 마지막 생산자가 종료하면 대기열이 닫힙니다.
+     */
+    void producerDone() {
+        if (producers.decrementAndGet() <= 0) {
+            closed = true;
+        }
+    }
+
+    /**
+     * 소비자 한 명의 종료를 알립니다. 마지막 소비자가 종료하면 대기열이 버려집니다.
+     */
+    void consumerDone() {
+        if (consumers.decrementAndGet() <= 0) {
+            abandoned = true;
+        }
+    }
+
+    /**
+     * 남아 있는 항목을 모두 꺼냅니다 (대기열이 버려진 뒤 남은 항목 정리용).
+     */
+    List<T> drainRemaining() {
+        List<T> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        return remaining;
+    }
+
+    /**
+     * 항목 하나를 꺼냅니다.
+     *
+     * @return 항목, 대기열이 닫히고 비었으면 null
+     */
+    T take() throws InterruptedException {
+        while (true) {
+            T item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (item != null) {
+                return item;
+            }
+            if (closed && queue.isEmpty()) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 최대 maxItems개를 묶어서 꺼냅니다. 첫 항목 이후 lingerMillis 동안 추가 항목을 기다립니다.
+     *
+     * @return 항목 목록, 대기열이 닫히고 비었으면 빈 목록
+     */
+    List<T> takeBatch(int maxItems, long lingerMillis) throws InterruptedException {
+        List<T> batch = new ArrayList<>(maxItems);
+        T first = take();
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (batch.size() < maxItems) {
+            queue.drainTo(batch, maxItems - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxItems || remaining <= 0 || (closed && queue.isEmpty())) {
+                break;
+            }
+            T next = queue.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS)), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * 대기열이 닫히고 모두 소비되었는지 여부.
+     */
+    boolean isDrained() {
+        return closed && queue.isEmpty();
+    }
+
+    int maxDepth() {
+        return maxDepth.get();
+    }
+
+    double avgDepth() {
+        long count = samples.sum();
+        return count == 0 ? 0 : (double) depthSum.sum() / count;
+    }
+}
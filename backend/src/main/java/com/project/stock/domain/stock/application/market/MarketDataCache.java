@@ -0,0 +1,257 @@
+package com.project.stock.domain.stock.application.market;
+
+import com.project.stock.common.config.MarketCacheProperties;
+import com.project.stock.common.config.StartupProperties;
+import com.project.stock.domain.stock.application.port.out.LoadStockPort;
+import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.application.port.out.LoadWatchlistPort;
+import com.project.stock.domain.stock.application.startup.StartupBenchmark;
+import com.project.stock.domain.stock.domain.DailyBar;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.StockPricesSyncedEvent;
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시장 전체 일봉 컬럼형 메모리 캐시.
+ * 기동 시 stock_price를 한 번 스트리밍하여 종목별 원시 배열로 적재하고,
+ * 시세 동기화 이벤트마다 해당 종목 시계열만 다시 읽어 통째로 교체합니다(copy-on-write).
+ * 읽기 측은 잠금 없이 불변 스냅샷을 사용합니다.
+ *
+ * <p>기동 워밍업은 종목 마스터 → 주요 종목(활성 관심 종목) 시계열 → 전체 시계열 순서로 적재합니다.
+ * 전체 적재가 끝나기 전에도 먼저 적재된 종목은 {@link #get}/{@link #findByCode}로 조회할 수 있습니다.
+ * 빠른 기동 모드에서는 모든 단계를 준비 완료 보고 이후 백그라운드에서 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketDataCache {
+
+    private final MarketCacheProperties marketCacheProperties;
+    private final LoadStockPort loadStockPort;
+    private final LoadStockPricePort loadStockPricePort;
+    private final LoadWatchlistPort loadWatchlistPort;
+    private final StartupProperties startupProperties;
+    private final StartupBenchmark startupBenchmark;
+
+    private final Map<Long, PriceSeries> seriesById = new ConcurrentHashMap<>();
+    private final Map<String, Long> stockIdByCode = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "market-cache");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Map<Long, Stock> stockMaster = Map.of();
+    private volatile boolean ready;
+
+    /**
+     * 기동 워밍업. 빠른 기동 모드가 아니면 종목 마스터와 주요 종목 시계열을 적재한 뒤 반환하므로
+     * 그만큼 준비 완료 보고가 늦어집니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!marketCacheProperties.isWarmOnStartup()) {
+            return;
+        }
+        if (startupProperties.isFast()) {
+            refreshExecutor.submit(this::preloadHot);
+        } else {
+            preloadHot();
+        }
+        refreshExecutor.submit(() -> startupBenchmark.measure("market-cache", () -> {
+            reloadAll();
+            return seriesById.size();
+        }));
+    }
+
+    /**
+     * 시세 동기화 커밋 이후 해당 종목 시계열을 다시 적재합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockPricesSynced(StockPricesSyncedEvent event) {
+        refreshExecutor.submit(() -> reloadStock(event.stockId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 캐시 내용이 바뀔 때마다 증가하는 버전. 파생 결과 캐시의 무효화 키로 사용합니다.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 전체 종목 시계열 스냅샷을 반환합니다.
+     *
+     * @throws IllegalStateException 캐시 적재 전
+     */
+    public Collection<PriceSeries> all() {
+        requireReady();
+        return List.copyOf(seriesById.values());
+    }
+
+    /**
+     * @throws IllegalStateException 전체 적재 전이고 이 종목도 아직 적재되지 않은 경우
+     */
+    public Optional<PriceSeries> get(long stockId) {
+        PriceSeries series = seriesById.get(stockId);
+        if (series == null) {
+            requireReady();
+        }
+        return Optional.ofNullable(series);
+    }
+
+    /**
+     * @throws IllegalStateException 전체 적재 전이고 이 종목도 아직 적재되지 않은 경우
+     */
+    public Optional<PriceSeries> findByCode(String stockCode) {
+        Long stockId = stockIdByCode.get(stockCode);
+        PriceSeries series = stockId == null ? null : seriesById.get(stockId);
+        if (series == null) {
+            requireReady();
+        }
+        return Optional.ofNullable(series);
+    }
+
+    /**
+     * 전체 캐시를 동기적으로 다시 적재합니다.
+     */
+    public synchronized void reloadAll() {
+        long start = System.currentTimeMillis();
+        LocalDate since = LocalDate.now().minusDays(marketCacheProperties.getHistoryDays());
+
+        Map<Long, Stock> stocks = loadStockMaster();
+
+        Map<Long, PriceSeries> loaded = new HashMap<>();
+        PriceSeries.Builder[] current = new PriceSeries.Builder[1];
+        loadStockPricePort.forEachDailyBar(since, bar -> {
+            if (current[0] == null || current[0].stockId() != bar.stockId()) {
+                if (current[0] != null) {
+                    loaded.put(current[0].stockId(), current[0].build());
+                }
+                Stock stock = stocks.get(bar.stockId());
+                current[0] = new PriceSeries.Builder(
+                    bar.stockId(),
+                    stock != null ? stock.getStockCode() : String.valueOf(bar.stockId()),
+                    stock != null ? stock.getStockName() : null
+                );
+            }
+            current[0].add(bar.date(), bar.open(), bar.high(), bar.low(), bar.close(), bar.volume());
+        });
+        if (current[0] != null) {
+            loaded.put(current[0].stockId(), current[0].build());
+        }
+
+        seriesById.keySet().retainAll(loaded.keySet());
+        seriesById.putAll(loaded);
+        stockIdByCode.clear();
+        loaded.values().forEach(series -> stockIdByCode.put(series.stockCode(), series.stockId()));
+        version.incrementAndGet();
+        ready = true;
+
+        long bars = loaded.values().stream().mapToLong(PriceSeries::size).sum();
+        log.info("시세 캐시 적재 완료: 종목={} 개, 일봉={} 건, 소요 시간={}ms",
+            loaded.size(), bars, System.currentTimeMillis() - start);
+    }
+
+    private void reloadStock(long stockId) {
+        try {
+            LocalDate since = LocalDate.now().minusDays(marketCacheProperties.getHistoryDays());
+            List<DailyBar> bars = loadStockPricePort.findDailyBarsAfter(stockId, since.minusDays(1));
+
+            Stock stock = stockMaster.get(stockId);
+            if (stock == null) {
+                // 마스터 적재 이후 추가된 종목
+                stock = loadStockMaster().get(stockId);
+            }
+            PriceSeries series = buildSeries(stockId, stock, bars);
+            seriesById.put(stockId, series);
+            stockIdByCode.put(series.stockCode(), stockId);
+            version.incrementAndGet();
+            log.debug("시세 캐시 갱신: stockCode={}, 일봉={} 건", series.stockCode(), bars.size());
+        } catch (Exception e) {
+            log.error("시세 캐시 갱신 실패: stockId={}, error={}", stockId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종목 마스터와 주요 종목 시계열을 적재합니다. 전체 적재가 이미 끝났으면 건너뜁니다.
+     */
+    private void preloadHot() {
+        if (ready) {
+            return;
+        }
+        startupBenchmark.measure("stock-master", () -> loadStockMaster().size());
+        startupBenchmark.measure("hot-series", this::loadHotSeries);
+    }
+
+    private Map<Long, Stock> loadStockMaster() {
+        Map<Long, Stock> stocks = new HashMap<>();
+        loadStockPort.loadAll().forEach(stock -> stocks.put(stock.getId(), stock));
+        stockMaster = Map.copyOf(stocks);
+        return stocks;
+    }
+
+    private synchronized long loadHotSeries() {
+        if (ready) {
+            return 0;
+        }
+        LocalDate since = LocalDate.now().minusDays(marketCacheProperties.getHistoryDays());
+        List<Long> hot = loadWatchlistPort.findAllActive().stream()
+            .map(watchlist -> watchlist.getStock().getId())
+            .distinct()
+            .limit(startupProperties.getHotStockCount())
+            .toList();
+        for (Long stockId : hot) {
+            PriceSeries series = buildSeries(stockId, stockMaster.get(stockId),
+                loadStockPricePort.findDailyBarsAfter(stockId, since.minusDays(1)));
+            seriesById.put(stockId, series);
+            stockIdByCode.put(series.stockCode(), stockId);
+        }
+        version.incrementAndGet();
+        return hot.size();
+    }
+
+    private static PriceSeries buildSeries(long stockId, Stock stock, List<DailyBar> bars) {
+        PriceSeries.Builder builder = new PriceSeries.Builder(
+            stockId,
+            stock != null ? stock.getStockCode() : String.valueOf(stockId),
+            stock != null ? stock.getStockName() : null
+        );
+        bars.forEach(bar -> builder.add(bar.date(), bar.open(), bar.high(), bar.low(), bar.close(), bar.volume()));
+        return builder.build();
+    }
+
+    private void requireReady() {
+        if (!ready) {
+            throw new IllegalStateException("시세 캐시를 준비 중입니다. 잠시 후 다시 시도하세요.");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.stock.domain.stock.application.market;
+
+import com.project.stock.domain.stock.application.port.out.LoadTradingHolidaysPort;
+import com.project.stock.domain.stock.domain.market.TradingCalendar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 거래소 영업일 달력.
+ * 기동 시 휴장일 데이터 파일을 한 번 읽어 메모리에 두며, 이후 조회는 파일/원격 호출 없이 처리합니다.
+ * 배치 실행 여부, 시세 동기화 기간, 캐시 만료 시각 계산이 이 달력을 기준으로 휴장일을 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class TradingCalendarService {
+
+    private final TradingCalendar calendar;
+
+    public TradingCalendarService(LoadTradingHolidaysPort loadTradingHolidaysPort) {
+        List<LocalDate> holidays = loadTradingHolidaysPort.loadHolidays();
+        this.calendar = TradingCalendar.of(holidays);
+        log.info("영업일 달력 로드: 휴장일 {} 일 ({}~{}년)", calendar.holidayCount(), calendar.firstYear(), calendar.lastYear());
+        if (!calendar.covers(LocalDate.now())) {
+            log.warn("휴장일 데이터가 올해({})를 다루지 않습니다. 주말만 휴장으로 판정합니다.", LocalDate.now().getYear());
+        }
+    }
+
+    public TradingCalendar calendar() {
+        return calendar;
+    }
+
+    public boolean isTradingDay(LocalDate date) {
+        return calendar.isTradingDay(date);
+    }
+
+    public LocalDate nextSession(LocalDate date) {
+        return calendar.nextSession(date);
+    }
+
+    public LocalDate previousSession(LocalDate date) {
+        return calendar.previousSession(date);
+    }
+
+    /**
+     * 오늘 기준 가장 최근 영업일 (오늘이 영업일이면 오늘).
+     */
+    public LocalDate latestSession() {
+        return calendar.sessionOnOrBefore(LocalDate.now());
+    }
+}
@@ -0,0 +1,377 @@
+package com.project.stock.domain.stock.application.pattern;
+
+import com.project.stock.common.config.PatternIndexProperties;
+import com.project.stock.domain.stock.application.port.in.FindSimilarPatternsUseCase;
+import com.project.stock.domain.stock.application.port.out.LoadStockPort;
+import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.application.port.out.PatternIndexStorePort;
+import com.project.stock.domain.stock.application.startup.StartupBenchmark;
+import com.project.stock.domain.stock.domain.DailyBar;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.StockPricesSyncedEvent;
+import com.project.stock.domain.stock.domain.pattern.DtwMatcher;
+import com.project.stock.domain.stock.domain.pattern.LshPatternIndex;
+import com.project.stock.domain.stock.domain.pattern.PatternIndexBenchmark;
+import com.project.stock.domain.stock.domain.pattern.PatternMatch;
+import com.project.stock.domain.stock.domain.pattern.PatternMetric;
+import com.project.stock.domain.stock.domain.pattern.SimilarPattern;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 차트 패턴 ANN 인덱스 관리 및 검색 서비스.
+ * 기동 시 스냅샷을 로드(없으면 stock_price 전체로 빌드)하고, 시세 동기화 이벤트마다 신규 일봉을 증분 반영합니다.
+ * 인덱스 변경은 단일 스레드에서만 수행하고, 검색은 읽기 잠금으로 병행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "pattern-index.enabled", havingValue = "true", matchIfMissing = true)
+class PatternIndexService implements FindSimilarPatternsUseCase {
+
+    private static final int MAX_K = 100;
+
+    private final PatternIndexProperties patternIndexProperties;
+    private final LoadStockPort loadStockPort;
+    private final LoadStockPricePort loadStockPricePort;
+    private final PatternIndexStorePort patternIndexStorePort;
+    private final StartupBenchmark startupBenchmark;
+
+    private final Map<Integer, LshPatternIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<Long, String> stockCodes = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "pattern-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean ready;
+    private volatile boolean dirty;
+
+    /**
+     * 애플리케이션 기동 후 백그라운드에서 인덱스를 준비합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        indexExecutor.submit(() -> startupBenchmark.measure("pattern-index", () -> {
+            loadOrBuild();
+            if (!ready) {
+                throw new IllegalStateException("패턴 인덱스를 준비하지 못했습니다.");
+            }
+            return stockCodes.size();
+        }));
+    }
+
+    /**
+     * 시세 동기화 커밋 이후 해당 종목의 신규 일봉(및 다시 동기화된 마지막 일봉)을 인덱스에 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockPricesSynced(StockPricesSyncedEvent event) {
+        stockCodes.put(event.stockId(), event.stockCode());
+        indexExecutor.submit(() -> applyIncrement(event.stockId()));
+    }
+
+    /**
+     * 증분 반영된 인덱스를 주기적으로 스냅샷합니다.
+     */
+    @Scheduled(fixedDelayString = "${pattern-index.snapshot-interval-ms:600000}")
+    public void snapshotIfDirty() {
+        if (ready && dirty) {
+            indexExecutor.submit(this::saveSnapshots);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexExecutor.shutdown();
+        try {
+            if (!indexExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                indexExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            indexExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public List<SimilarPattern> findSimilarPatterns(
+        String stockCode, int windowSize, int k, Integer probes, PatternMetric metric
+    ) {
+        Stock stock = loadStockPort.loadByCode(stockCode)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 종목 코드: " + stockCode));
+        LshPatternIndex index = requireIndex(windowSize);
+        int effectiveK = Math.min(Math.max(k, 1), MAX_K);
+        int effectiveProbes = probes != null ? probes : patternIndexProperties.getDefaultProbes();
+        int dtwBand = dtwBand(windowSize, metric);
+
+        List<PatternMatch> matches;
+        lock.readLock().lock();
+        try {
+            matches = index.search(stock.getId(), effectiveK, effectiveProbes, dtwBand);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        log.info("유사 패턴 검색 완료: stockCode={}, window={}, k={}, probes={}, metric={}, 결과={} 건",
+            stockCode, windowSize, effectiveK, effectiveProbes, metric, matches.size());
+
+        return matches.stream()
+            .map(match -> SimilarPattern.of(resolveStockCode(match.stockId()), match))
+            .toList();
+    }
+
+    @Override
+    public PatternIndexBenchmark benchmark(
+        int windowSize, int k, Integer probes, PatternMetric metric, int sampleSize
+    ) {
+        LshPatternIndex index = requireIndex(windowSize);
+        int effectiveK = Math.min(Math.max(k, 1), MAX_K);
+        int effectiveProbes = probes != null ? probes : patternIndexProperties.getDefaultProbes();
+        int dtwBand = dtwBand(windowSize, metric);
+
+        List<Long> candidates = loadStockPort.loadAll().stream()
+            .map(Stock::getId)
+            .toList();
+
+        int queries = 0;
+        double recallSum = 0;
+        long indexedNanos = 0;
+        long exactNanos = 0;
+        int step = Math.max(1, candidates.size() / Math.max(sampleSize, 1));
+
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < candidates.size() && queries < sampleSize; i += step) {
+                long stockId = candidates.get(i);
+
+                long start = System.nanoTime();
+                List<PatternMatch> approximate = index.search(stockId, effectiveK, effectiveProbes, dtwBand);
+                indexedNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                List<PatternMatch> exact = index.exactSearch(stockId, effectiveK, dtwBand);
+                exactNanos += System.nanoTime() - start;
+
+                if (exact.isEmpty()) {
+                    continue;
+                }
+                Set<String> exactKeys = new HashSet<>();
+                exact.forEach(match -> exactKeys.add(match.stockId() + ":" + match.endDate()));
+                long hits = approximate.stream()
+                    .filter(match -> exactKeys.contains(match.stockId() + ":" + match.endDate()))
+                    .count();
+                recallSum += (double) hits / exact.size();
+                queries++;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        PatternIndexBenchmark result = new PatternIndexBenchmark(
+            windowSize,
+            effectiveK,
+            effectiveProbes,
+            metric,
+            queries,
+            index.windowCount(),
+            queries == 0 ? 0 : recallSum / queries,
+            queries == 0 ? 0 : indexedNanos / 1_000_000.0 / queries,
+            queries == 0 ? 0 : exactNanos / 1_000_000.0 / queries
+        );
+        log.info("패턴 인덱스 벤치마크: {}", result);
+        return result;
+    }
+
+    @Override
+    public void rebuildIndex() {
+        log.info("패턴 인덱스 재빌드 요청");
+        indexExecutor.submit(() -> {
+            boolean previous = ready;
+            ready = false;
+            try {
+                build(patternIndexProperties.getWindowSizes());
+                saveSnapshots();
+                ready = true;
+            } catch (Exception e) {
+                // build()는 새 인덱스를 다 만든 뒤에만 교체하므로, 실패하면 이전 인덱스로 계속 검색합니다
+                ready = previous;
+                log.error("패턴 인덱스 재빌드 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * DTW이면 설정 비율로 밴드 반경을, 유클리드이면 -1을 반환합니다.
+     */
+    private int dtwBand(int windowSize, PatternMetric metric) {
+        return metric == PatternMetric.DTW
+            ? DtwMatcher.bandFor(windowSize, patternIndexProperties.getDtwBandRatio())
+            : -1;
+    }
+
+    private void loadOrBuild() {
+        try {
+            List<Integer> missing = new ArrayList<>();
+            for (int windowSize : patternIndexProperties.getWindowSizes()) {
+                Optional<LshPatternIndex> loaded = patternIndexStorePort.load(windowSize)
+                    .filter(this::matchesConfiguration);
+                if (loaded.isPresent()) {
+                    indexes.put(windowSize, loaded.get());
+                } else {
+                    missing.add(windowSize);
+                }
+            }
+
+            if (!missing.isEmpty()) {
+                build(missing);
+            }
+
+            // 스냅샷 이후 추가된 일봉 반영
+            refreshStockCodes();
+            for (Long stockId : stockCodes.keySet()) {
+                applyIncrement(stockId);
+            }
+            saveSnapshots();
+            ready = true;
+            log.info("패턴 인덱스 준비 완료: windows={}", indexes.keySet());
+        } catch (Exception e) {
+            log.error("패턴 인덱스 준비 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void build(List<Integer> windowSizes) {
+        long start = System.currentTimeMillis();
+        List<LshPatternIndex> building = windowSizes.stream()
+            .map(windowSize -> new LshPatternIndex(
+                windowSize,
+                patternIndexProperties.getTables(),
+                patternIndexProperties.getBits(),
+                patternIndexProperties.getSeed()))
+            .toList();
+
+        loadStockPricePort.forEachDailyBar(bar -> {
+            for (LshPatternIndex index : building) {
+                index.append(bar.stockId(), bar.date(), bar.close());
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            building.forEach(index -> indexes.put(index.windowSize(), index));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        refreshStockCodes();
+        dirty = true;
+
+        log.info("패턴 인덱스 빌드 완료: windows={}, 소요 시간={}ms",
+            windowSizes, System.currentTimeMillis() - start);
+    }
+
+    private void applyIncrement(long stockId) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        // 모든 인덱스 중 가장 오래된 워터마크 이후만 조회
+        LocalDate watermark = LocalDate.of(1900, 1, 1);
+        boolean first = true;
+        for (LshPatternIndex index : indexes.values()) {
+            LocalDate last = index.lastDate(stockId).orElse(LocalDate.of(1900, 1, 1));
+            if (first || last.isBefore(watermark)) {
+                watermark = last;
+                first = false;
+            }
+        }
+
+        // 워터마크 당일도 다시 읽음: 장중 롤오버로 저장된 잠정 일봉이 장 마감 후 시세로 덮어써질 수 있음
+        List<DailyBar> bars = loadStockPricePort.findDailyBarsAfter(stockId, watermark.minusDays(1));
+        if (bars.isEmpty()) {
+            return;
+        }
+
+        int changed = 0;
+        lock.writeLock().lock();
+        try {
+            for (LshPatternIndex index : indexes.values()) {
+                for (DailyBar bar : bars) {
+                    if (index.append(stockId, bar.date(), bar.close())) {
+                        changed++;
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (changed > 0) {
+            dirty = true;
+            log.debug("패턴 인덱스 증분 반영: stockId={}, 일봉={} 건, 반영={} 건", stockId, bars.size(), changed);
+        }
+    }
+
+    private void saveSnapshots() {
+        lock.readLock().lock();
+        try {
+            indexes.values().forEach(patternIndexStorePort::save);
+            dirty = false;
+        } catch (Exception e) {
+            log.error("패턴 인덱스 스냅샷 저장 실패: {}", e.getMessage(), e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matchesConfiguration(LshPatternIndex index) {
+        return index.tables() == patternIndexProperties.getTables()
+            && index.bits() == patternIndexProperties.getBits()
+            && index.seed() == patternIndexProperties.getSeed();
+    }
+
+    private LshPatternIndex requireIndex(int windowSize) {
+        if (!ready) {
+            throw new IllegalStateException("패턴 인덱스를 준비 중입니다. 잠시 후 다시 시도하세요.");
+        }
+        LshPatternIndex index = indexes.get(windowSize);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                "인덱싱되지 않은 윈도우 크기: " + windowSize + " (지원: " + indexes.keySet() + ")");
+        }
+        return index;
+    }
+
+    private void refreshStockCodes() {
+        loadStockPort.loadAll().forEach(stock -> stockCodes.put(stock.getId(), stock.getStockCode()));
+    }
+
+    private String resolveStockCode(long stockId) {
+        String stockCode = stockCodes.get(stockId);
+        if (stockCode == null) {
+            refreshStockCodes();
+            stockCode = stockCodes.get(stockId);
+        }
+        return stockCode;
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.AnalysisJob;
+
+import java.util.function.Consumer;
+
+/**
+ * 비동기 분석 작업 유스케이스 (Driving Port).
+ */
+public interface AnalysisJobUseCase {
+
+    /**
+     * 분석 작업을 등록하고 즉시 반환합니다.
+     * 같은 종목의 작업이 진행 중이면 새로 만들지 않고 그 작업을 반환합니다.
+     *
+     * @throws IllegalArgumentException 존재하지 않는 종목
+     * @throws IllegalStateException    대기열이 가득 찬 경우
+     */
+    AnalysisJob submit(String stockCode);
+
+    /**
+     * 작업 상태를 조회합니다.
+     *
+     * @throws IllegalArgumentException 존재하지 않거나 보관 기간이 지난 작업
+     */
+    AnalysisJob getJob(String jobId);
+
+    /**
+     * 작업 상태 변경을 구독합니다. 현재 상태를 먼저 전달한 뒤 변경될 때마다 전달하며,
+     * 종료 상태 전달 후에는 더 이상 호출되지 않습니다.
+     *
+     * @return 구독 해제 핸들
+     * @throws IllegalArgumentException 존재하지 않거나 보관 기간이 지난 작업
+     */
+    Runnable subscribe(String jobId, Consumer<AnalysisJob> listener);
+}
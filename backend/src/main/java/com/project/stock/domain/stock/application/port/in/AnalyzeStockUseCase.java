@@ -1,11 +1,26 @@
 package com.project.stock.domain.stock.application.port.in;
 
+import com.project.stock.domain.stock.domain.AnalysisCoalescingStats;
+import com.project.stock.domain.stock.domain.AnalysisStage;
 import com.project.stock.domain.stock.domain.StockAnalysisResult;
 
+import java.util.function.Consumer;
+
 /**
  * 주식 분석 유스케이스 인터페이스 (Driving Port).
  */
 public interface AnalyzeStockUseCase {
 
     StockAnalysisResult analyze(String stockCode);
+
+    /**
+     * 분석을 수행하며 진행 단계를 호출 스레드에서 onStage로 전달합니다.
+     * 캐시 적중 또는 진행 중인 분석에 합류한 경우 일부 단계는 생략됩니다.
+     */
+    StockAnalysisResult analyze(String stockCode, Consumer<AnalysisStage> onStage);
+
+    /**
+     * 동시 분석 요청 합류 통계를 조회합니다.
+     */
+    AnalysisCoalescingStats coalescingStats();
 }
@@ -0,0 +1,31 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.batch.BatchJob;
+
+import java.util.List;
+
+/**
+ * 배치 작업 조회/취소 유스케이스 (Driving Port).
+ */
+public interface BatchJobUseCase {
+
+    /**
+     * 작업 상태와 진행 현황을 조회합니다.
+     *
+     * @throws IllegalArgumentException 존재하지 않거나 정리된 작업
+     */
+    BatchJob getJob(String jobId);
+
+    /**
+     * 실행 중인 작업과 최근 종료된 작업을 최신순으로 조회합니다.
+     */
+    List<BatchJob> recentJobs();
+
+    /**
+     * 작업 취소를 요청합니다. 작업은 새 종목을 더 받지 않고 진행 중인 종목을 마무리한 뒤 종료됩니다.
+     *
+     * @throws IllegalArgumentException 존재하지 않거나 정리된 작업
+     * @throws IllegalStateException    이미 종료된 작업
+     */
+    BatchJob cancel(String jobId);
+}
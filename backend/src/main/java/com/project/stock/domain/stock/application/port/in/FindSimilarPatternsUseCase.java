@@ -0,0 +1,34 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.pattern.PatternIndexBenchmark;
+import com.project.stock.domain.stock.domain.pattern.PatternMetric;
+import com.project.stock.domain.stock.domain.pattern.SimilarPattern;
+
+import java.util.List;
+
+/**
+ * 유사 차트 패턴 검색 Use Case.
+ */
+public interface FindSimilarPatternsUseCase {
+
+    /**
+     * 특정 종목의 최근 윈도우와 유사한 과거 구간을 전체 시장에서 검색합니다.
+     *
+     * @param stockCode  종목코드
+     * @param windowSize 윈도우 크기 (인덱싱된 크기만 가능)
+     * @param k          반환할 개수
+     * @param probes     테이블당 멀티 프로브 수 (null이면 기본값)
+     * @param metric     재정렬 거리 척도
+     */
+    List<SimilarPattern> findSimilarPatterns(String stockCode, int windowSize, int k, Integer probes, PatternMetric metric);
+
+    /**
+     * 표본 종목에 대해 인덱스 검색과 전수 탐색을 비교하여 recall@K를 측정합니다.
+     */
+    PatternIndexBenchmark benchmark(int windowSize, int k, Integer probes, PatternMetric metric, int sampleSize);
+
+    /**
+     * stock_price 전체로부터 인덱스를 다시 빌드합니다 (비동기).
+     */
+    void rebuildIndex();
+}
@@ -0,0 +1,18 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.risk.CorrelationMatrix;
+
+/**
+ * 관심 종목 수익률 상관관계 조회 Use Case.
+ */
+public interface GetCorrelationMatrixUseCase {
+
+    /**
+     * 활성 관심 종목의 최근 lookbackDays 거래일 수익률 공분산/상관계수 행렬을 조회합니다.
+     * 결과는 다음 시세 동기화 전까지 캐시됩니다.
+     *
+     * @throws IllegalArgumentException lookback 범위 오류, 대상 종목 부족
+     * @throws IllegalStateException    시세 캐시 적재 전
+     */
+    CorrelationMatrix getCorrelationMatrix(int lookbackDays);
+}
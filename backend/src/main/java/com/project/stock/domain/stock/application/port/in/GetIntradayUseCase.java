@@ -0,0 +1,39 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.realtime.IntradayBar;
+import com.project.stock.domain.stock.domain.realtime.IntradaySummary;
+import com.project.stock.domain.stock.domain.realtime.QuoteTick;
+import com.project.stock.domain.stock.domain.realtime.RealtimeQuoteStats;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 장중 실시간 시세 조회 Use Case.
+ */
+public interface GetIntradayUseCase {
+
+    /**
+     * 당일 분봉을 시간 오름차순으로 조회합니다. 마지막 봉은 진행 중일 수 있습니다.
+     *
+     * @param intervalMinutes 1 또는 5
+     * @throws IllegalArgumentException 지원하지 않는 간격이거나 실시간 수신 중이 아닌 종목
+     */
+    List<IntradayBar> getBars(String stockCode, int intervalMinutes);
+
+    /**
+     * 최근 체결 틱을 시간 오름차순으로 조회합니다.
+     *
+     * @throws IllegalArgumentException 실시간 수신 중이 아닌 종목
+     */
+    List<QuoteTick> getRecentTicks(String stockCode, int limit);
+
+    /**
+     * 당일 세션 요약(시/고/저/종가, 누적 거래량, VWAP)을 조회합니다. 아직 체결이 없으면 빈 값.
+     *
+     * @throws IllegalArgumentException 실시간 수신 중이 아닌 종목
+     */
+    Optional<IntradaySummary> getSummary(String stockCode);
+
+    RealtimeQuoteStats stats();
+}
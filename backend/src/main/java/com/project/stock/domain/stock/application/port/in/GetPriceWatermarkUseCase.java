@@ -0,0 +1,17 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 종목별 시세 워터마크 조회 Use Case.
+ * 시세/분석 조회 API가 DB 조회 전에 조건부 요청을 판정하는 데 사용합니다.
+ */
+public interface GetPriceWatermarkUseCase {
+
+    /**
+     * 종목 일봉이 마지막으로 바뀐 시각을 반환합니다.
+     * 조건부 요청을 사용하지 않거나 워터마크 저장소에 접근할 수 없으면 빈 값을 반환합니다.
+     */
+    Optional<Instant> getPriceWatermark(String stockCode);
+}
@@ -0,0 +1,16 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.quota.QuotaStats;
+
+import java.util.List;
+
+/**
+ * 외부 호출 할당량 현황 조회 유스케이스 (Driving Port).
+ */
+public interface GetQuotaStatusUseCase {
+
+    /**
+     * 자원별 보유량과 트래픽 종류별 대기/승인 현황을 조회합니다.
+     */
+    List<QuotaStats> quotaStats();
+}
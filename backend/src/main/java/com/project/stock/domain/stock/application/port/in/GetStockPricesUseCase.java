@@ -1,9 +1,12 @@
 package com.project.stock.domain.stock.application.port.in;
 
+import com.project.stock.domain.stock.domain.RecentStockPrices;
 import com.project.stock.domain.stock.domain.StockPrice;
+import com.project.stock.domain.stock.domain.StockPriceRow;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 주식 시세 조회 Use Case.
@@ -19,4 +22,33 @@ public interface GetStockPricesUseCase {
      * 특정 종목의 최근 N일 시세 데이터를 조회합니다.
      */
     List<StockPrice> getRecentStockPrices(String stockCode, int days);
+
+    /**
+     * 여러 종목의 최근 N일 시세 데이터를 한 번의 쿼리로 조회합니다.
+     * 요청한 종목 순서대로 반환하며, 존재하지 않는 종목 코드는 결과에서 빠집니다.
+     *
+     * @throws IllegalArgumentException 종목 수가 허용 범위를 벗어난 경우
+     */
+    List<RecentStockPrices> getRecentStockPrices(List<String> stockCodes, int days);
+
+    /**
+     * 특정 종목의 기간별 시세를 날짜 오름차순으로 스트리밍합니다.
+     * 종목과 기간 검증은 호출 즉시 수행하고(응답 커밋 전 오류 반환),
+     * 실제 조회는 반환된 {@link PriceStream}을 실행할 때 DB 커서로 진행합니다.
+     *
+     * @throws IllegalArgumentException 존재하지 않는 종목이거나 시작일이 종료일보다 늦은 경우
+     */
+    PriceStream streamStockPrices(String stockCode, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 지연 실행되는 시세 스트림.
+     */
+    @FunctionalInterface
+    interface PriceStream {
+
+        /**
+         * 조회한 행을 순서대로 전달하고 전달한 건수를 반환합니다.
+         */
+        long forEach(Consumer<StockPriceRow> consumer);
+    }
 }
@@ -0,0 +1,28 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.batch.BatchJob;
+import com.project.stock.domain.stock.domain.market.PriceGapReport;
+
+import java.time.LocalDate;
+
+/**
+ * 시세 누락 점검/보정 유스케이스 (Driving Port).
+ */
+public interface PriceGapUseCase {
+
+    /**
+     * 저장된 시세를 영업일 달력과 대조하여 종목별 누락 구간과 보정 요청 목록을 만듭니다.
+     *
+     * @param since 점검 시작일 (null이면 설정된 기간)
+     * @throws IllegalArgumentException 점검할 영업일이 없는 경우
+     */
+    PriceGapReport scan(LocalDate since);
+
+    /**
+     * 점검 결과의 보정 요청을 배치 작업으로 실행하고 즉시 반환합니다. 이미 실행 중이면 진행 중인 작업을 반환합니다.
+     *
+     * @param since 점검 시작일 (null이면 설정된 기간)
+     * @throws IllegalStateException 서버 종료 중이거나 작업 대기열이 가득 찬 경우
+     */
+    BatchJob repair(LocalDate since);
+}
@@ -0,0 +1,18 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.backtest.BacktestReport;
+import com.project.stock.domain.stock.domain.backtest.BacktestSpec;
+
+/**
+ * 백테스트(파라미터 스윕) Use Case.
+ */
+public interface RunBacktestUseCase {
+
+    /**
+     * 파라미터 그리드의 모든 조합을 병렬로 백테스트하고 정렬 기준 상위 결과를 반환합니다.
+     *
+     * @throws IllegalArgumentException 명세 오류 (식 문법, 종목 없음, 조합 수 초과 등)
+     * @throws IllegalStateException    시세 캐시 적재 전
+     */
+    BacktestReport run(BacktestSpec spec);
+}
@@ -0,0 +1,21 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.screener.ScreenerResult;
+
+/**
+ * 시장 전체 종목 스크리닝 Use Case.
+ */
+public interface ScreenStocksUseCase {
+
+    /**
+     * 모든 종목의 최신 거래일에 대해 필터 식을 평가하고, 정렬 식 기준으로 정렬합니다.
+     *
+     * @param filter     필터 식 (예: {@code close > sma(20) and rsi(14) < 30})
+     * @param rankBy     정렬 식 (null이면 종목코드 순)
+     * @param descending 내림차순 여부
+     * @param limit      최대 반환 개수
+     * @throws IllegalArgumentException 식 문법 오류
+     * @throws IllegalStateException    시세 캐시 적재 전
+     */
+    ScreenerResult screen(String filter, String rankBy, boolean descending, int limit);
+}
@@ -0,0 +1,21 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.startup.StartupReport;
+
+/**
+ * 기동 벤치마크 유스케이스 (Driving Port).
+ */
+public interface StartupReportUseCase {
+
+    /**
+     * 응답을 마친 요청을 알립니다. 기동 후 첫 요청만 기록하고 이후 호출은 무시합니다.
+     *
+     * @param request 요청 요약 (메서드, 경로, 상태 코드)
+     */
+    void requestServed(String request);
+
+    /**
+     * 기동 시간과 워밍업 단계별 현황을 조회합니다.
+     */
+    StartupReport report();
+}
@@ -0,0 +1,30 @@
+package com.project.stock.domain.stock.application.port.in;
+
+import com.project.stock.domain.stock.domain.push.StockUpdate;
+import com.project.stock.domain.stock.domain.push.StockUpdateStats;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * 종목 갱신 알림 구독 유스케이스 (Driving Port).
+ */
+public interface SubscribeStockUpdatesUseCase {
+
+    /**
+     * 종목들의 갱신 알림을 구독합니다.
+     * 리스너는 전송 작업자 스레드에서 구독자별로 순서대로 호출되며, 예외를 던지면 구독이 해제됩니다.
+     * 리스너가 따라오지 못해 대기열이 가득 차도 구독이 해제되며, 이때 {@code onEvicted}가 호출됩니다.
+     *
+     * @param onEvicted 서버 측에서 구독을 해제했을 때 호출 (연결 종료용)
+     * @return 구독 해제 핸들
+     * @throws IllegalArgumentException 종목 목록이 비었거나 상한 초과
+     * @throws IllegalStateException    구독자 수 상한 초과
+     */
+    Runnable subscribe(Collection<String> stockCodes, Consumer<StockUpdate> listener, Runnable onEvicted);
+
+    /**
+     * 스트림 현황을 조회합니다.
+     */
+    StockUpdateStats stats();
+}
@@ -1,12 +1,36 @@
 package com.project.stock.domain.stock.application.port.out;
 
+import com.project.stock.domain.stock.domain.AnalysisOutcome;
+import com.project.stock.domain.stock.domain.AnalysisStage;
+import com.project.stock.domain.stock.domain.DailyBar;
 import com.project.stock.domain.stock.domain.Stock;
 import com.project.stock.domain.stock.domain.StockAnalysisResult;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * AI 분석 요청 포트 (Driven Port).
  */
 public interface AiAnalysisPort {
 
     StockAnalysisResult requestAnalysis(Stock stock);
+
+    /**
+     * 호출자가 이미 조회한 최근 일봉(날짜 오름차순)을 입력으로 분석을 요청합니다.
+     */
+    StockAnalysisResult requestAnalysis(Stock stock, List<DailyBar> recentPrices);
+
+    /**
+     * 분석을 요청하며 AI Worker의 진행 단계(INDICATORS_COMPUTED, LLM_COMPLETED)를 호출 스레드에서 onStage로 전달합니다.
+     */
+    StockAnalysisResult requestAnalysis(Stock stock, List<DailyBar> recentPrices, Consumer<AnalysisStage> onStage);
+
+    /**
+     * 여러 종목을 한 번의 요청으로 분석합니다.
+     * 종목별 결과는 완료되는 순서대로 호출 스레드에서 onOutcome으로 전달되며,
+     * 모든 종목의 결과(성공 또는 실패)가 정확히 한 번씩 전달된 뒤 반환합니다.
+     * onOutcome이 예외를 던지면 나머지 종목은 계속 전달하고, 그 종목은 마지막에 실패 결과로 한 번 더 전달합니다.
+     */
+    void requestAnalysisBatch(List<Stock> stocks, Consumer<AnalysisOutcome> onOutcome);
 }
@@ -0,0 +1,25 @@
+package com.project.stock.domain.stock.application.port.out;
+
+import com.project.stock.domain.stock.domain.AnalysisCacheKey;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인스턴스 간 분석 실행 잠금 Port.
+ * 같은 입력의 분석을 여러 백엔드 인스턴스 중 하나만 수행하도록 임대(lease) 방식 잠금을 제공합니다.
+ */
+public interface AnalysisLockPort {
+
+    /**
+     * 잠금 획득을 시도합니다.
+     *
+     * @return 획득 시 해제에 사용할 소유 토큰, 다른 인스턴스가 보유 중이면 빈 값
+     */
+    Optional<String> tryAcquire(AnalysisCacheKey key, Duration lease);
+
+    /**
+     * 소유 토큰이 일치하는 경우에만 잠금을 해제합니다.
+     */
+    void release(AnalysisCacheKey key, String token);
+}
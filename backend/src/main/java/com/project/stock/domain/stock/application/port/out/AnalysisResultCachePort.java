@@ -0,0 +1,23 @@
+package com.project.stock.domain.stock.application.port.out;
+
+import com.project.stock.domain.stock.domain.AnalysisCacheKey;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
+
+import java.util.Optional;
+
+/**
+ * 분석 결과 캐시 Port.
+ */
+public interface AnalysisResultCachePort {
+
+    /**
+     * 같은 입력으로 분석한 결과를 조회합니다.
+     * 저장소 장애 시에는 예외 대신 빈 값을 반환합니다.
+     */
+    Optional<StockAnalysisResult> find(AnalysisCacheKey key);
+
+    /**
+     * 분석 결과를 저장합니다. 저장 실패는 분석 흐름에 영향을 주지 않습니다.
+     */
+    void put(AnalysisCacheKey key, StockAnalysisResult result);
+}
@@ -0,0 +1,62 @@
+package com.project.stock.domain.stock.application.port.out;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 백엔드 인스턴스 간 배치 작업 분배 Port.
+ * 실행 단위(예: 날짜별 일일 배치)마다 공유 작업 대기열을 두고, 각 인스턴스가 종목을 하나씩 임대(lease)해 처리합니다.
+ * 빨리 끝난 인스턴스가 남은 종목을 계속 가져가므로 인스턴스 수만큼 작업이 자연스럽게 나뉘고,
+ * 임대가 만료된 종목(처리 중 종료된 인스턴스의 몫)은 다른 인스턴스가 회수합니다.
+ * 임대마다 소유 토큰을 발급하므로, 만료 후 회수된 종목을 이전 임대자가 연장하거나 반납하지 못합니다.
+ */
+public interface BatchCoordinationPort {
+
+    /**
+     * 실행에 참여합니다. 처음 참여한 인스턴스만 작업 목록을 대기열에 등록하고, 이후 참여자는 등록된 목록을 함께 소비합니다.
+     * 대기열과 임대가 모두 빈 실행(이미 끝났거나 중단된 실행)에 참여하면 주어진 목록으로 다시 등록합니다.
+     *
+     * @param runKey   실행 식별자
+     * @param stockIds 작업 대상 종목 ID (등록 순서대로 배분)
+     * @param ttl      실행 정보 보관 기간
+     * @return 분산 조정 사용 가능 여부. false면 호출 측이 단독으로 실행해야 합니다.
+     */
+    boolean join(String runKey, List<Long> stockIds, Duration ttl);
+
+    /**
+     * 다음 종목을 임대합니다. 대기열이 비었으면 임대가 만료된 종목을 회수합니다.
+     *
+     * @return 처리할 종목과 소유 토큰, 더 이상 없으면 빈 값
+     */
+    Optional<Lease> claim(String runKey, Duration lease);
+
+    /**
+     * 처리 중인 종목의 임대를 지금부터 임대 시간만큼 연장합니다 (하트비트).
+     * 소유 토큰이 일치하지 않는 임대(만료 후 다른 인스턴스가 회수한 종목)는 연장하지 않습니다.
+     *
+     * @return 연장한 임대 수
+     */
+    int renew(String runKey, Collection<Lease> leases, Duration lease);
+
+    /**
+     * 종목 처리를 끝내고 임대를 반납합니다 (성공/실패 무관). 소유 토큰이 일치할 때만 반납합니다.
+     *
+     * @return 반납 여부. false면 임대가 만료되어 다른 인스턴스가 회수한 종목입니다.
+     */
+    boolean complete(String runKey, Lease lease);
+
+    /**
+     * 이 인스턴스의 식별자 (로그/처리 현황 집계용).
+     */
+    String instanceId();
+
+    /**
+     * 종목 임대.
+     *
+     * @param token 임대마다 새로 발급되는 소유 토큰
+     */
+    record Lease(long stockId, String token) {
+    }
+}
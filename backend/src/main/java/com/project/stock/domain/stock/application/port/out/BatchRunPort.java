@@ -0,0 +1,45 @@
+package com.project.stock.domain.stock.application.port.out;
+
+import com.project.stock.domain.stock.domain.StockAnalysisHistory;
+import com.project.stock.domain.stock.domain.batch.BatchRun;
+import com.project.stock.domain.stock.domain.batch.BatchRunItem;
+import com.project.stock.domain.stock.domain.batch.BatchRunReport;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 배치 실행 기록/종목별 체크포인트 Port.
+ * 모든 변경은 호출마다 짧은 트랜잭션으로 커밋됩니다.
+ */
+public interface BatchRunPort {
+
+    /**
+     * 실행 기록을 찾거나 만들고, 상태 행이 없는 종목을 PENDING으로 추가합니다.
+     * 여러 인스턴스가 동시에 호출해도 실행 기록과 종목 행은 하나씩만 생깁니다.
+     */
+    BatchRun openRun(String runType, LocalDate runDate, List<Long> stockIds);
+
+    List<BatchRunItem> findItems(Long runId);
+
+    void markSynced(Long runId, Long stockId);
+
+    void markSucceeded(Long runId, Long stockId);
+
+    void markFailed(Long runId, Long stockId, String errorMessage);
+
+    /**
+     * 분석 이력 저장과 종목 완료 표시를 한 트랜잭션으로 수행합니다.
+     */
+    StockAnalysisHistory saveResult(Long runId, StockAnalysisHistory history);
+
+    /**
+     * 종목별 상태를 집계해 실행 기록에 반영합니다. 처리할 종목이 없으면 완료 상태가 됩니다.
+     *
+     * @param maxAttempts 실패 종목 재시도 한도 (한도에 도달한 실패는 끝난 것으로 봄)
+     */
+    BatchRun refreshRun(Long runId, int maxAttempts);
+
+    Optional<BatchRunReport> findReport(String runType, LocalDate runDate);
+}
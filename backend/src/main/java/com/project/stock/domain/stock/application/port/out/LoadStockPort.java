@@ -2,6 +2,8 @@ package com.project.stock.domain.stock.application.port.out;
 
 import com.project.stock.domain.stock.domain.Stock;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -10,4 +12,11 @@ import java.util.Optional;
 public interface LoadStockPort {
 
     Optional<Stock> loadByCode(String stockCode);
+
+    /**
+     * 여러 종목을 한 번에 조회합니다. 존재하지 않는 코드는 결과에서 빠집니다.
+     */
+    List<Stock> loadByCodes(Collection<String> stockCodes);
+
+    List<Stock> loadAll();
 }
@@ -1,11 +1,15 @@
 package com.project.stock.domain.stock.application.port.out;
 
+import com.project.stock.domain.stock.domain.DailyBar;
 import com.project.stock.domain.stock.domain.StockPrice;
 import com.project.stock.domain.stock.domain.StockPriceId;
+import com.project.stock.domain.stock.domain.StockPriceRow;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 주식 시세 조회 Port.
@@ -17,6 +21,11 @@ public interface LoadStockPricePort {
      */
     Optional<StockPrice> findById(StockPriceId id);
 
+    /**
+     * 여러 ID의 시세 데이터를 한 번의 쿼리로 조회합니다. 없는 ID는 결과에서 빠집니다.
+     */
+    List<StockPrice> findAllById(Collection<StockPriceId> ids);
+
     /**
      * 특정 종목의 기간별 시세 데이터를 조회합니다.
      */
@@ -26,4 +35,41 @@ public interface LoadStockPricePort {
      * 특정 종목의 최근 N일 시세 데이터를 조회합니다.
      */
     List<StockPrice> findTopNByStockIdOrderByDateDesc(Long stockId, int limit);
+
+    /**
+     * 특정 종목의 최근 N일 일봉을 날짜 오름차순으로 조회합니다.
+     */
+    List<DailyBar> findRecentDailyBars(Long stockId, int limit);
+
+    /**
+     * 전체 일봉을 종목 ID, 날짜 오름차순으로 순회합니다.
+     * 엔티티를 영속성 컨텍스트에 적재하지 않고 스트리밍으로 전달합니다.
+     */
+    void forEachDailyBar(Consumer<DailyBar> consumer);
+
+    /**
+     * 기준일 이후(포함) 일봉을 종목 ID, 날짜 오름차순으로 순회합니다.
+     */
+    void forEachDailyBar(LocalDate since, Consumer<DailyBar> consumer);
+
+    /**
+     * 기준일 이후(포함) 저장된 시세의 키(종목 ID, 날짜)만 종목 ID, 날짜 오름차순으로 순회합니다.
+     */
+    void forEachPriceKey(LocalDate since, Consumer<StockPriceId> consumer);
+
+    /**
+     * 여러 종목의 최근 N건 시세를 한 번의 쿼리로 조회합니다 (종목 ID 오름차순, 날짜 내림차순).
+     */
+    List<StockPriceRow> findRecentPriceRows(Collection<Long> stockIds, int limit);
+
+    /**
+     * 특정 종목의 기간별 시세를 날짜 오름차순으로 순회합니다.
+     * 결과를 모으지 않고 DB 커서에서 읽는 즉시 전달합니다.
+     */
+    void forEachStockPrice(Long stockId, LocalDate startDate, LocalDate endDate, Consumer<StockPriceRow> consumer);
+
+    /**
+     * 특정 종목의 기준일 이후 일봉을 날짜 오름차순으로 조회합니다.
+     */
+    List<DailyBar> findDailyBarsAfter(Long stockId, LocalDate after);
 }
@@ -0,0 +1,15 @@
+package com.project.stock.domain.stock.application.port.out;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 거래소 휴장일 조회 Port.
+ */
+public interface LoadTradingHolidaysPort {
+
+    /**
+     * 평일 휴장일 목록을 불러옵니다.
+     */
+    List<LocalDate> loadHolidays();
+}
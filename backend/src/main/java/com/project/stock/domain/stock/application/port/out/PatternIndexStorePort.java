@@ -0,0 +1,21 @@
+package com.project.stock.domain.stock.application.port.out;
+
+import com.project.stock.domain.stock.domain.pattern.LshPatternIndex;
+
+import java.util.Optional;
+
+/**
+ * 패턴 인덱스 스냅샷 저장소 Port.
+ */
+public interface PatternIndexStorePort {
+
+    /**
+     * 윈도우 크기에 해당하는 인덱스 스냅샷을 불러옵니다.
+     */
+    Optional<LshPatternIndex> load(int windowSize);
+
+    /**
+     * 인덱스 스냅샷을 저장합니다.
+     */
+    void save(LshPatternIndex index);
+}
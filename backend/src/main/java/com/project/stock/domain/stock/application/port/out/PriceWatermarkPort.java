@@ -0,0 +1,23 @@
+package com.project.stock.domain.stock.application.port.out;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 종목별 시세 워터마크 저장소 Port.
+ * 워터마크는 해당 종목의 일봉이 마지막으로 바뀐 시각으로, 조건부 조회의 검증자로 사용합니다.
+ */
+public interface PriceWatermarkPort {
+
+    /**
+     * 워터마크를 조회하고, 없으면 현재 시각으로 발급합니다.
+     * 저장소 장애 시에는 빈 값을 반환합니다.
+     */
+    Optional<Instant> getOrInit(String stockCode, Duration ttl);
+
+    /**
+     * 워터마크를 현재 시각으로 갱신합니다. 실패는 조회 흐름에 영향을 주지 않습니다.
+     */
+    void advance(String stockCode, Duration ttl);
+}
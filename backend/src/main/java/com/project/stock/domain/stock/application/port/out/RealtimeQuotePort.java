@@ -0,0 +1,30 @@
+package com.project.stock.domain.stock.application.port.out;
+
+import com.project.stock.domain.stock.domain.realtime.QuoteTick;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * 실시간 체결가 수신 Port.
+ */
+public interface RealtimeQuotePort {
+
+    /**
+     * 종목을 구독하고 수신한 틱을 listener로 전달합니다.
+     * listener는 수신 스레드 하나에서 순서대로 호출되며, 연결이 끊기면 자동으로 재연결합니다.
+     */
+    void connect(Collection<String> stockCodes, Consumer<QuoteTick> listener);
+
+    /**
+     * 연결을 종료하고 재연결하지 않습니다.
+     */
+    void disconnect();
+
+    boolean isConnected();
+
+    /**
+     * 해석하지 못한 메시지 수.
+     */
+    long parseErrors();
+}
@@ -1,8 +1,11 @@
 package com.project.stock.domain.stock.application.port.out;
 
+import com.project.stock.domain.stock.domain.AnalysisSignal;
 import com.project.stock.domain.stock.domain.StockAnalysisHistory;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +24,11 @@ public interface SaveAnalysisHistoryPort {
      */
     Optional<StockAnalysisHistory> findByStockIdAndDate(Long stockId, LocalDate date);
 
+    /**
+     * 특정 종목의 특정 날짜 분석 결과를 도메인 모델로 조회합니다.
+     */
+    Optional<StockAnalysisResult> findResultByStockIdAndDate(Long stockId, LocalDate date);
+
     /**
      * 특정 날짜의 분석 이력이 존재하는지 확인합니다.
      */
@@ -35,4 +43,9 @@ public interface SaveAnalysisHistoryPort {
      * 특정 날짜의 모든 분석 이력을 조회합니다.
      */
     List<StockAnalysisHistory> findByAnalyzedDate(LocalDate date);
+
+    /**
+     * 종목 목록의 기간 내 매매 신호(추천/신뢰도)를 조회합니다.
+     */
+    List<AnalysisSignal> findSignals(Collection<Long> stockIds, LocalDate startDate, LocalDate endDate);
 }
@@ -0,0 +1,18 @@
+package com.project.stock.domain.stock.application.port.out;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 종목 현재가 갱신 Port.
+ */
+public interface UpdateCurrentPricePort {
+
+    /**
+     * 여러 종목의 현재가를 한 트랜잭션에서 갱신합니다.
+     *
+     * @param prices 종목코드 → 현재가
+     * @return 갱신한 종목 수
+     */
+    int updateCurrentPrices(Map<String, BigDecimal> prices);
+}
@@ -0,0 +1,454 @@
+package com.project.stock.domain.stock.application.push;
+
+import com.project.stock.common.config.StockUpdateStreamProperties;
+import com.project.stock.domain.stock.application.port.in.SubscribeStockUpdatesUseCase;
+import com.project.stock.domain.stock.domain.AnalysisHistorySavedEvent;
+import com.project.stock.domain.stock.domain.StockPricesSyncedEvent;
+import com.project.stock.domain.stock.domain.push.StockUpdate;
+import com.project.stock.domain.stock.domain.push.StockUpdateStats;
+import com.project.stock.domain.stock.domain.push.StockUpdateType;
+import com.project.stock.domain.stock.domain.realtime.IntradayBarClosedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 종목 갱신 알림 브로드캐스터.
+ *
+ * <p>시세 동기화, 배치 분석 저장, 장중 분봉 마감 이벤트를 종목별 구독자에게 전달합니다.
+ * 발행 측은 구독자별 대기 버퍼에 넣기만 하고 바로 반환하며(수신 스레드를 막지 않음),
+ * 실제 전송은 고정 크기 작업자 풀이 구독자 단위로 나누어 수행합니다.
+ * <ul>
+ *     <li>구독자 하나는 한 번에 한 작업자만 처리하므로 구독자별 순서가 보장됩니다.</li>
+ *     <li>대기 버퍼는 (종류, 종목)별 최신 알림 하나만 유지합니다. 알림은 "다시 조회하라"는 신호이므로
+ *         밀린 알림을 합쳐도 의미가 같고, 버퍼 크기는 구독 종목 수로 제한됩니다.</li>
+ *     <li>보내지 못한 알림이 허용 지연 이상 남아 있는 구독자는 느린 클라이언트로 보고 끊습니다.</li>
+ * </ul>
+ * 알림 하나의 쓰기가 제한 시간을 넘기면 감시 스레드가 그 구독자를 끊고 쓰기 스레드를 인터럽트합니다.
+ * 인터럽트로도 풀리지 않는 쓰기는 작업자를 계속 붙잡으므로, 그 쓰기가 끝날 때까지 대체 스레드를 하나 더 두어
+ * 막힌 연결이 쌓여도 나머지 구독자의 전송이 멈추지 않게 합니다.
+ * 구독 해제 콜백(연결 종료)은 전송 작업자와 분리된 스레드에서 실행하며, 쓰는 중인 구독자는 쓰기가 끝난 뒤 실행합니다.
+ */
+@Slf4j
+@Service
+class StockUpdateBroadcaster implements SubscribeStockUpdatesUseCase {
+
+    private final StockUpdateStreamProperties properties;
+    private final ThreadPoolExecutor dispatcher;
+    private final ScheduledThreadPoolExecutor evictor;
+    private final int dispatchThreads;
+    private final long maxLagNanos;
+    private final long writeTimeoutNanos;
+    private int replacementThreads;
+
+    private final Map<String, Set<Subscriber>> subscribersByCode = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder droppedSlow = new LongAdder();
+    private final LongAdder droppedFailed = new LongAdder();
+    private final LongAdder droppedStalled = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    StockUpdateBroadcaster(StockUpdateStreamProperties properties) {
+        this.properties = properties;
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(properties.getMaxLagMs());
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getWriteTimeoutMs());
+        this.dispatchThreads = Math.max(1, properties.getDispatchThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        // 스레드 수는 dispatchThreads로 두고 유휴 스레드만 정리합니다. 쓰기 시간 제한을 넘긴 작업자만큼만 대체 스레드를 더합니다.
+        // 대기열은 제한이 없지만 대기 작업은 구독자당 최대 1개이므로 실제 길이는 구독자 수 상한을 넘지 않습니다.
+        this.dispatcher = new ThreadPoolExecutor(
+            dispatchThreads, dispatchThreads,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "stock-updates-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.dispatcher.allowCoreThreadTimeOut(true);
+        this.evictor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "stock-updates-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkInterval = Math.min(1000, Math.max(10, properties.getWriteTimeoutMs() / 2));
+        this.evictor.scheduleWithFixedDelay(this::checkStalledWrites, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        evictor.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    @Override
+    public Runnable subscribe(Collection<String> stockCodes, Consumer<StockUpdate> listener, Runnable onEvicted) {
+        Set<String> codes = new LinkedHashSet<>();
+        stockCodes.stream().map(String::trim).filter(code -> !code.isEmpty()).forEach(codes::add);
+        if (codes.isEmpty()) {
+            throw new IllegalArgumentException("구독할 종목코드를 하나 이상 지정하세요.");
+        }
+        if (codes.size() > properties.getMaxStockCodes()) {
+            throw new IllegalArgumentException("구독 종목 수는 최대 " + properties.getMaxStockCodes() + " 개입니다: " + codes.size());
+        }
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            rejected.increment();
+            throw new IllegalStateException("구독자 수가 상한(" + properties.getMaxSubscribers() + ")에 도달했습니다. 잠시 후 다시 시도하세요.");
+        }
+
+        Subscriber subscriber = new Subscriber(Set.copyOf(codes), listener, onEvicted);
+        subscribers.add(subscriber);
+        codes.forEach(code -> subscribersByCode.computeIfAbsent(code, key -> ConcurrentHashMap.newKeySet()).add(subscriber));
+        log.debug("갱신 알림 구독: 종목={}, 구독자={} 명", codes, subscriberCount.get());
+        return () -> remove(subscriber);
+    }
+
+    @Override
+    public StockUpdateStats stats() {
+        return new StockUpdateStats(
+            subscriberCount.get(),
+            subscribersByCode.size(),
+            published.sum(),
+            enqueued.sum(),
+            coalesced.sum(),
+            delivered.sum(),
+            droppedSlow.sum(),
+            droppedFailed.sum(),
+            droppedStalled.sum(),
+            rejected.sum()
+        );
+    }
+
+    /**
+     * 시세 동기화 커밋 이후 알립니다. 저장된 일봉이 없으면 알리지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockPricesSynced(StockPricesSyncedEvent event) {
+        if (event.savedCount() > 0) {
+            publish(new StockUpdate(StockUpdateType.PRICES_SYNCED, event.stockCode(), Instant.now(), event));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnalysisHistorySaved(AnalysisHistorySavedEvent event) {
+        publish(new StockUpdate(StockUpdateType.ANALYSIS_SAVED, event.stockCode(), Instant.now(), event));
+    }
+
+    /**
+     * 실시간 수신 스레드에서 호출되므로 대기 버퍼에 넣는 것 외의 작업은 하지 않습니다.
+     */
+    @EventListener
+    public void onIntradayBarClosed(IntradayBarClosedEvent event) {
+        publish(new StockUpdate(StockUpdateType.INTRADAY_BAR_CLOSED, event.bar().stockCode(), Instant.now(), event.bar()));
+    }
+
+    /**
+     * 모든 구독자에게 하트비트를 보내며, 새 알림이 없어도 지연된 구독자를 이 시점에 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${stock-updates.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        StockUpdate heartbeat = StockUpdate.heartbeat();
+        subscribers.forEach(subscriber -> subscriber.offer(heartbeat));
+    }
+
+    void publish(StockUpdate update) {
+        published.increment();
+        Set<Subscriber> targets = subscribersByCode.get(update.stockCode());
+        if (targets != null) {
+            targets.forEach(subscriber -> subscriber.offer(update));
+        }
+    }
+
+    /**
+     * 쓰기 시간 제한을 넘긴 구독자를 끊습니다 (감시 스레드에서 주기적으로 실행).
+     */
+    private void checkStalledWrites() {
+        long now = System.nanoTime();
+        subscribers.forEach(subscriber -> subscriber.checkStalled(now));
+    }
+
+    /**
+     * 막힌 작업자 하나를 대신할 스레드를 더합니다. 대체 스레드는 dispatchThreads까지만 늘립니다.
+     *
+     * @return 더했으면 true
+     */
+    private synchronized boolean addReplacementThread() {
+        if (replacementThreads >= dispatchThreads) {
+            log.warn("쓰기가 막힌 전송 작업자가 너무 많아 대체 스레드를 더 늘리지 않습니다: {} 개", replacementThreads);
+            return false;
+        }
+        replacementThreads++;
+        resizeDispatcher();
+        return true;
+    }
+
+    private synchronized void releaseReplacementThread() {
+        replacementThreads--;
+        resizeDispatcher();
+    }
+
+    private void resizeDispatcher() {
+        int size = dispatchThreads + replacementThreads;
+        if (size > dispatcher.getMaximumPoolSize()) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.remove(subscriber);
+        subscriberCount.decrementAndGet();
+        for (String code : subscriber.stockCodes) {
+            subscribersByCode.computeIfPresent(code, (key, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+        synchronized (subscriber) {
+            subscriber.pending.clear();
+        }
+    }
+
+    /**
+     * 서버 측에서 구독을 끊습니다. 연결 종료 콜백은 전송 중인 쓰기와 잠금을 다투므로
+     * 쓰는 중이면 그 쓰기가 끝난 뒤 작업자가, 아니면 해제 전용 스레드가 실행합니다.
+     */
+    private void evict(Subscriber subscriber, LongAdder reason, String cause) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        subscriber.evicted = true;
+        remove(subscriber);
+        reason.increment();
+        log.debug("갱신 알림 구독 해제: 종목={}, 사유={}", subscriber.stockCodes, cause);
+        if (subscriber.isWriting()) {
+            return;
+        }
+        try {
+            evictor.execute(subscriber::notifyEvicted);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    /**
+     * 구독자별 대기 버퍼.
+     * 작업자 예약 플래그로 한 번에 한 작업자만 전송하고, 정해진 건수를 보내면 다시 예약해 차례를 양보합니다.
+     */
+    private final class Subscriber implements Runnable {
+
+        private final Set<String> stockCodes;
+        private final Consumer<StockUpdate> listener;
+        private final Runnable onEvicted;
+        private final Map<String, Pending> pending = new LinkedHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean evictionNotified = new AtomicBoolean();
+        private volatile boolean evicted;
+
+        // 쓰는 중인 스레드와 쓰기 시작 시각 (nanoTime). writeLock으로 보호합니다.
+        private final Object writeLock = new Object();
+        private Thread writer;
+        private long writingSince;
+        private boolean stalled;
+        private boolean replaced;
+
+        private Subscriber(Set<String> stockCodes, Consumer<StockUpdate> listener, Runnable onEvicted) {
+            this.stockCodes = stockCodes;
+            this.listener = listener;
+            this.onEvicted = onEvicted;
+        }
+
+        private void offer(StockUpdate update) {
+            if (closed.get()) {
+                return;
+            }
+            long now = System.nanoTime();
+            boolean lagging;
+            synchronized (this) {
+                // 가장 오래 기다린 알림(삽입 순서상 첫 항목)의 대기 시간으로 지연을 판단
+                Iterator<Pending> oldest = pending.values().iterator();
+                lagging = oldest.hasNext() && now - oldest.next().since() > maxLagNanos;
+                if (!lagging) {
+                    // 덮어써도 자리와 대기 시작 시각은 처음 들어온 알림 기준으로 유지
+                    Pending previous = pending.putIfAbsent(update.type() + ":" + update.stockCode(), new Pending(update, now));
+                    if (previous != null) {
+                        pending.put(update.type() + ":" + update.stockCode(), new Pending(update, previous.since()));
+                        coalesced.increment();
+                    }
+                }
+            }
+            if (lagging) {
+                evict(this, droppedSlow, "허용 지연 초과");
+                return;
+            }
+            enqueued.increment();
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int budget = Math.max(1, properties.getDispatchBatchSize());
+            try {
+                StockUpdate update;
+                while (budget-- > 0 && !closed.get() && (update = poll()) != null) {
+                    if (write(update)) {
+                        delivered.increment();
+                    }
+                }
+            } catch (RuntimeException e) {
+                evict(this, droppedFailed, e.getMessage());
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            boolean remaining;
+            synchronized (this) {
+                remaining = !pending.isEmpty();
+            }
+            if (remaining && !closed.get()) {
+                schedule();
+            }
+        }
+
+        /**
+         * 알림 하나를 씁니다. 쓰는 동안에는 감시 스레드가 쓰기 시간을 확인할 수 있도록 쓰기 스레드를 기록합니다.
+         *
+         * @return 썼으면 true, 이미 끊긴 구독자여서 쓰지 않았으면 false
+         */
+        private boolean write(StockUpdate update) {
+            synchronized (writeLock) {
+                if (closed.get()) {
+                    return false;
+                }
+                writer = Thread.currentThread();
+                writingSince = System.nanoTime();
+            }
+            try {
+                listener.accept(update);
+                return true;
+            } finally {
+                boolean wasStalled;
+                boolean wasReplaced;
+                synchronized (writeLock) {
+                    writer = null;
+                    wasStalled = stalled;
+                    wasReplaced = replaced;
+                }
+                if (wasStalled) {
+                    // 감시 스레드가 보낸 인터럽트가 다음 작업으로 넘어가지 않도록 지운다
+                    Thread.interrupted();
+                    if (wasReplaced) {
+                        releaseReplacementThread();
+                    }
+                }
+                if (evicted) {
+                    notifyEvicted();
+                }
+            }
+        }
+
+        private boolean isWriting() {
+            synchronized (writeLock) {
+                return writer != null;
+            }
+        }
+
+        /**
+         * 쓰기 시간 제한을 넘겼으면 구독을 끊고 쓰기 스레드를 인터럽트하며, 막힌 작업자 대신 쓸 스레드를 더합니다.
+         */
+        private void checkStalled(long now) {
+            synchronized (writeLock) {
+                if (writer == null || stalled || now - writingSince <= writeTimeoutNanos) {
+                    return;
+                }
+                stalled = true;
+                replaced = addReplacementThread();
+                // 인터럽트로 쓰기가 실패하기 전에 시간 초과로 끊어 둔다
+                evict(this, droppedStalled, "쓰기 시간 초과");
+                writer.interrupt();
+            }
+        }
+
+        /**
+         * 연결 종료 콜백을 한 번만 실행합니다.
+         */
+        private void notifyEvicted() {
+            if (!evictionNotified.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                onEvicted.run();
+            } catch (RuntimeException e) {
+                log.debug("구독 해제 콜백 실패: 종목={}, error={}", stockCodes, e.getMessage());
+            }
+        }
+
+        /**
+         * 가장 먼저 들어온 알림을 꺼냅니다.
+         */
+        private synchronized StockUpdate poll() {
+            Iterator<Pending> iterator = pending.values().iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            StockUpdate update = iterator.next().update();
+            iterator.remove();
+            return update;
+        }
+    }
+
+    /**
+     * 대기 중인 알림과 그 자리가 처음 채워진 시각 (nanoTime).
+     */
+    private record Pending(StockUpdate update, long since) {
+    }
+}
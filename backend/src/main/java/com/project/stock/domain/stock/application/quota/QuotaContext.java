@@ -0,0 +1,68 @@
+package com.project.stock.domain.stock.application.quota;
+
+import com.project.stock.domain.stock.domain.quota.TrafficClass;
+
+/**
+ * 현재 스레드가 어떤 트래픽 종류로 할당량을 쓰는지 나타냅니다.
+ * 지정하지 않은 스레드(웹 요청, 분석 작업)는 사용자 요청({@link TrafficClass#INTERACTIVE})으로 봅니다.
+ *
+ * <pre>{@code
+ * QuotaContext.Scope scope = QuotaContext.enter(TrafficClass.BATCH, watchlist.getPriority());
+ * try {
+ *     syncStockPricesUseCase.syncRecentStockPrices(stockCode, 5);
+ * } finally {
+ *     scope.close();
+ * }
+ * }</pre>
+ */
+public final class QuotaContext {
+
+    private static final QuotaContext INTERACTIVE = new QuotaContext(TrafficClass.INTERACTIVE, 0);
+    private static final ThreadLocal<QuotaContext> CURRENT = new ThreadLocal<>();
+
+    private final TrafficClass trafficClass;
+    private final int priority;
+
+    private QuotaContext(TrafficClass trafficClass, int priority) {
+        this.trafficClass = trafficClass;
+        this.priority = priority;
+    }
+
+    /**
+     * 블록 안의 호출을 주어진 트래픽 종류와 우선순위(낮을수록 먼저)로 처리합니다. 블록을 벗어나면 이전 상태로 돌아갑니다.
+     */
+    public static Scope enter(TrafficClass trafficClass, int priority) {
+        QuotaContext previous = CURRENT.get();
+        CURRENT.set(new QuotaContext(trafficClass, priority));
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    static QuotaContext current() {
+        QuotaContext context = CURRENT.get();
+        return context != null ? context : INTERACTIVE;
+    }
+
+    TrafficClass trafficClass() {
+        return trafficClass;
+    }
+
+    int priority() {
+        return priority;
+    }
+
+    /**
+     * {@link #enter}로 연 범위. 예외를 던지지 않는 close를 가집니다.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
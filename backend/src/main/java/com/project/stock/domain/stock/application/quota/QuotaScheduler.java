@@ -0,0 +1,362 @@
+package com.project.stock.domain.stock.application.quota;
+
+import com.project.stock.common.config.QuotaProperties;
+import com.project.stock.domain.stock.application.port.in.GetQuotaStatusUseCase;
+import com.project.stock.domain.stock.domain.quota.QuotaExceededException;
+import com.project.stock.domain.stock.domain.quota.QuotaResource;
+import com.project.stock.domain.stock.domain.quota.QuotaStats;
+import com.project.stock.domain.stock.domain.quota.TrafficClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 외부 호출 할당량(KIS 초당 호출 수, LLM 분당 분석 수) 스케줄러.
+ *
+ * <p>자원마다 토큰 버킷 하나를 두고, 토큰이 모자라면 트래픽 종류별 대기열에서 기다립니다.
+ * 대기열 사이에서는 가중 공정 큐(stride scheduling)로 순서를 정하므로, 배치와 사용자 요청이 함께 몰려도
+ * 할당량이 가중치 비율로 나뉘어 어느 쪽도 굶지 않습니다. 한쪽만 기다리면 할당량 전부를 씁니다.
+ * 배치 대기열은 관심 종목 우선순위(낮을수록 먼저), 사용자 대기열은 도착 순서로 처리합니다.
+ *
+ * <p>대기열에 넣기 전에 앞선 대기량과 현재 배분 비율로 예상 대기 시간을 계산하여, 트래픽 종류별 최대 대기 시간을 넘으면
+ * {@link QuotaExceededException}으로 바로 거절합니다 (재시도 가능 시각 포함). 대기 중 한도를 넘긴 요청도 같은 예외로 끝납니다.
+ */
+@Slf4j
+@Component
+public class QuotaScheduler implements GetQuotaStatusUseCase {
+
+    private static final int WAIT_BUCKETS = 32;
+
+    private final QuotaProperties quotaProperties;
+    private final Map<QuotaResource, Bucket> buckets = new EnumMap<>(QuotaResource.class);
+
+    public QuotaScheduler(QuotaProperties quotaProperties) {
+        this.quotaProperties = quotaProperties;
+        buckets.put(QuotaResource.KIS, new Bucket(QuotaResource.KIS,
+            quotaProperties.getKisRequestsPerSecond(), quotaProperties.getKisBurst()));
+        buckets.put(QuotaResource.LLM, new Bucket(QuotaResource.LLM,
+            quotaProperties.getLlmStocksPerMinute() / 60.0, quotaProperties.getLlmBurst()));
+        log.info("할당량 스케줄러 구성: enabled={}, KIS={}/s, LLM={}/min, 가중치(사용자:배치)={}:{}",
+            quotaProperties.isEnabled(), quotaProperties.getKisRequestsPerSecond(), quotaProperties.getLlmStocksPerMinute(),
+            quotaProperties.getInteractiveWeight(), quotaProperties.getBatchWeight());
+    }
+
+    /**
+     * 자원을 cost만큼 사용할 때까지 기다립니다. 트래픽 종류와 우선순위는 현재 스레드의 {@link QuotaContext}를 따릅니다.
+     *
+     * @throws QuotaExceededException 최대 대기 시간 안에 할당량을 얻을 수 없는 경우
+     */
+    public void acquire(QuotaResource resource, int cost) {
+        if (!quotaProperties.isEnabled()) {
+            return;
+        }
+        QuotaContext context = QuotaContext.current();
+        long maxWaitMs = context.trafficClass() == TrafficClass.INTERACTIVE
+            ? quotaProperties.getInteractiveMaxWaitMs()
+            : quotaProperties.getBatchMaxWaitMs();
+        buckets.get(resource).acquire(context.trafficClass(), context.priority(), Math.max(1, cost),
+            TimeUnit.MILLISECONDS.toNanos(maxWaitMs));
+    }
+
+    @Override
+    public List<QuotaStats> quotaStats() {
+        return buckets.values().stream().map(Bucket::stats).toList();
+    }
+
+    private int weight(TrafficClass trafficClass) {
+        int weight = trafficClass == TrafficClass.INTERACTIVE
+            ? quotaProperties.getInteractiveWeight()
+            : quotaProperties.getBatchWeight();
+        return Math.max(1, weight);
+    }
+
+    /**
+     * 자원 하나의 토큰 버킷과 트래픽 종류별 대기열. 모든 상태는 lock으로 보호합니다.
+     */
+    private final class Bucket {
+
+        private final QuotaResource resource;
+        private final double ratePerSecond;
+        private final double ratePerNano;
+        private final double capacity;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private final Map<TrafficClass, ClassQueue> queues = new EnumMap<>(TrafficClass.class);
+
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+        private double virtualTime;
+        private long sequence;
+
+        private Bucket(QuotaResource resource, double ratePerSecond, int burst) {
+            this.resource = resource;
+            this.ratePerSecond = ratePerSecond;
+            this.ratePerNano = ratePerSecond / 1e9;
+            this.capacity = Math.max(1, burst);
+            this.tokens = capacity;
+            for (TrafficClass trafficClass : TrafficClass.values()) {
+                queues.put(trafficClass, new ClassQueue(trafficClass));
+            }
+        }
+
+        private void acquire(TrafficClass trafficClass, int priority, int cost, long maxWaitNanos) {
+            if (ratePerSecond <= 0) {
+                return;
+            }
+            ClassQueue queue = queues.get(trafficClass);
+            long arrived = System.nanoTime();
+            lock.lock();
+            try {
+                refill(arrived);
+                // 기다리는 요청이 없고 토큰이 있으면 바로 통과
+                if (noWaiters() && tokens >= required(cost)) {
+                    tokens -= cost;
+                    queue.recordGrant(cost, 0);
+                    return;
+                }
+
+                long estimated = estimateWaitNanos(queue, priority, cost);
+                if (estimated > maxWaitNanos) {
+                    queue.rejected++;
+                    long retryAfterMs = TimeUnit.NANOSECONDS.toMillis(estimated) + 1;
+                    log.debug("할당량 거절: resource={}, class={}, 예상 대기={}ms", resource, trafficClass, retryAfterMs);
+                    throw new QuotaExceededException(resource, trafficClass, retryAfterMs,
+                        resource + " 호출 한도에 도달했습니다. 약 " + retryAfterMs + "ms 후 다시 시도하세요.");
+                }
+
+                Waiter waiter = new Waiter(priority, cost, sequence++);
+                if (queue.waiters.isEmpty()) {
+                    // 쉬던 대기열이 쉬는 동안의 몫을 몰아 쓰지 않도록 현재 가상 시각에서 시작
+                    queue.pass = Math.max(queue.pass, virtualTime);
+                }
+                queue.waiters.add(waiter);
+                long deadline = arrived + maxWaitNanos;
+                while (true) {
+                    dispatch();
+                    if (waiter.granted) {
+                        queue.recordGrant(cost, System.nanoTime() - arrived);
+                        return;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.waiters.remove(waiter);
+                        queue.timedOut++;
+                        changed.signalAll();
+                        throw new QuotaExceededException(resource, trafficClass, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos),
+                            resource + " 호출 한도 대기 시간을 초과했습니다.");
+                    }
+                    try {
+                        changed.awaitNanos(Math.min(remaining, nanosUntilNextGrant()));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        if (waiter.granted) {
+                            queue.recordGrant(cost, System.nanoTime() - arrived);
+                            return;
+                        }
+                        queue.waiters.remove(waiter);
+                        changed.signalAll();
+                        throw new IllegalStateException(resource + " 할당량 대기 중 중단되었습니다.", e);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 토큰이 허락하는 만큼 가중 공정 순서로 대기 요청을 승인합니다.
+         * 다음 차례 요청의 토큰이 모자라면 다른 대기열로 건너뛰지 않고 멈춰서 배분 비율을 지킵니다.
+         */
+        private void dispatch() {
+            refill(System.nanoTime());
+            boolean granted = false;
+            ClassQueue next;
+            while ((next = nextQueue()) != null) {
+                Waiter head = next.waiters.peek();
+                if (tokens < required(head.cost)) {
+                    break;
+                }
+                next.waiters.poll();
+                tokens -= head.cost;
+                virtualTime = next.pass;
+                next.pass += (double) head.cost / next.weight();
+                head.granted = true;
+                granted = true;
+            }
+            if (granted) {
+                changed.signalAll();
+            }
+        }
+
+        /**
+         * 대기 요청이 있는 대기열 중 가상 통과 시각이 가장 이른 대기열 (같으면 가중치가 큰 쪽).
+         */
+        private ClassQueue nextQueue() {
+            ClassQueue next = null;
+            for (ClassQueue queue : queues.values()) {
+                if (queue.waiters.isEmpty()) {
+                    continue;
+                }
+                if (next == null || queue.pass < next.pass
+                    || (queue.pass == next.pass && queue.weight() > next.weight())) {
+                    next = queue;
+                }
+            }
+            return next;
+        }
+
+        /**
+         * 같은 대기열에서 앞서는 요청량과, 현재 대기 중인 대기열들 사이의 배분 비율로 예상 대기 시간을 계산합니다.
+         */
+        private long estimateWaitNanos(ClassQueue queue, int priority, int cost) {
+            double ahead = 0;
+            for (Waiter waiter : queue.waiters) {
+                if (waiter.priority <= priority) {
+                    ahead += waiter.cost;
+                }
+            }
+            int activeWeight = queue.weight();
+            for (ClassQueue other : queues.values()) {
+                if (other != queue && !other.waiters.isEmpty()) {
+                    activeWeight += other.weight();
+                }
+            }
+            double share = ratePerNano * queue.weight() / activeWeight;
+            double deficit = ahead + required(cost) - tokens;
+            return deficit <= 0 ? 0 : (long) Math.ceil(deficit / share);
+        }
+
+        private long nanosUntilNextGrant() {
+            ClassQueue next = nextQueue();
+            if (next == null) {
+                return 0;
+            }
+            double deficit = required(next.waiters.peek().cost) - tokens;
+            return Math.max(TimeUnit.MILLISECONDS.toNanos(1), (long) Math.ceil(deficit / ratePerNano));
+        }
+
+        /**
+         * 승인에 필요한 보유량. 보유 상한보다 큰 요청은 상한만큼 모이면 승인하고 나머지는 빚으로 남깁니다.
+         */
+        private double required(int cost) {
+            return Math.min(cost, capacity);
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * ratePerNano);
+                refilledAt = now;
+            }
+        }
+
+        private boolean noWaiters() {
+            return queues.values().stream().allMatch(queue -> queue.waiters.isEmpty());
+        }
+
+        private QuotaStats stats() {
+            lock.lock();
+            try {
+                refill(System.nanoTime());
+                List<QuotaStats.ClassStats> classes = new ArrayList<>();
+                for (ClassQueue queue : queues.values()) {
+                    classes.add(queue.stats());
+                }
+                return new QuotaStats(resource, ratePerSecond, capacity, tokens, classes);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 트래픽 종류 하나의 대기열과 누적 지표.
+     */
+    private final class ClassQueue {
+
+        private final TrafficClass trafficClass;
+        private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+            Comparator.comparingInt((Waiter waiter) -> waiter.priority).thenComparingLong(waiter -> waiter.sequence));
+        private double pass;
+
+        private long granted;
+        private long consumed;
+        private long rejected;
+        private long timedOut;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+        private final long[] waitHistogram = new long[WAIT_BUCKETS];
+
+        private ClassQueue(TrafficClass trafficClass) {
+            this.trafficClass = trafficClass;
+        }
+
+        private int weight() {
+            return QuotaScheduler.this.weight(trafficClass);
+        }
+
+        private void recordGrant(int cost, long waitNanos) {
+            granted++;
+            consumed += cost;
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+            long waitMs = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+            waitHistogram[Math.min(WAIT_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(waitMs))]++;
+        }
+
+        private QuotaStats.ClassStats stats() {
+            return new QuotaStats.ClassStats(
+                trafficClass,
+                weight(),
+                waiters.size(),
+                granted,
+                consumed,
+                rejected,
+                timedOut,
+                granted == 0 ? 0 : totalWaitNanos / 1e6 / granted,
+                percentileMs(0.95),
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos)
+            );
+        }
+
+        /**
+         * 대기 시간 분포에서 백분위가 속한 구간의 상한 (구간 i는 [2^(i-1), 2^i) ms, 최대 대기 시간을 넘지 않음).
+         */
+        private long percentileMs(double percentile) {
+            if (granted == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(granted * percentile);
+            long seen = 0;
+            for (int i = 0; i < WAIT_BUCKETS; i++) {
+                seen += waitHistogram[i];
+                if (seen >= target) {
+                    return Math.min((1L << i) - 1, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+                }
+            }
+            return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos);
+        }
+    }
+
+    private static final class Waiter {
+
+        private final int priority;
+        private final int cost;
+        private final long sequence;
+        private boolean granted;
+
+        private Waiter(int priority, int cost, long sequence) {
+            this.priority = priority;
+            this.cost = cost;
+            this.sequence = sequence;
+        }
+    }
+}
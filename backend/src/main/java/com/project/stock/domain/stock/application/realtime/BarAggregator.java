@@ -0,0 +1,101 @@
+package com.project.stock.domain.stock.application.realtime;
+
+import com.project.stock.domain.stock.domain.realtime.IntradayBar;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 종목의 한 간격 분봉 집계기.
+ * 틱이 다음 구간에 들어오거나 이벤트 시각이 구간 끝을 지나면 진행 중인 봉을 마감합니다.
+ * 구간은 epoch 기준으로 정렬되며, KST는 UTC와 정시 단위로 차이가 나므로 분 경계가 그대로 맞습니다.
+ */
+final class BarAggregator {
+
+    private final String stockCode;
+    private final int intervalMinutes;
+    private final long intervalMillis;
+    private final List<IntradayBar> closedBars = new ArrayList<>();
+
+    private long start = -1;
+    private double open;
+    private double high;
+    private double low;
+    private double close;
+    private long volume;
+    private int tickCount;
+
+    BarAggregator(String stockCode, int intervalMinutes) {
+        this.stockCode = stockCode;
+        this.intervalMinutes = intervalMinutes;
+        this.intervalMillis = intervalMinutes * 60_000L;
+    }
+
+    /**
+     * 틱을 반영하고, 이 틱으로 인해 마감된 봉이 있으면 반환합니다.
+     * 이미 마감된 구간에 늦게 도착한 틱은 진행 중인 봉에 합칩니다.
+     */
+    synchronized IntradayBar onTick(long timestamp, double price, long tradeVolume) {
+        long bucket = timestamp - Math.floorMod(timestamp, intervalMillis);
+        IntradayBar closedBar = null;
+        if (start >= 0 && bucket > start) {
+            closedBar = closeCurrent();
+        }
+        if (start < 0) {
+            start = Math.max(bucket, lastClosedEnd());
+            open = price;
+            high = price;
+            low = price;
+            volume = 0;
+            tickCount = 0;
+        }
+        high = Math.max(high, price);
+        low = Math.min(low, price);
+        close = price;
+        volume += tradeVolume;
+        tickCount++;
+        return closedBar;
+    }
+
+    /**
+     * 이벤트 시각이 진행 중인 봉의 구간 끝을 지났으면 마감합니다 (체결이 끊긴 종목용).
+     */
+    synchronized IntradayBar closeIfDue(long eventTime) {
+        if (start >= 0 && eventTime >= start + intervalMillis) {
+            return closeCurrent();
+        }
+        return null;
+    }
+
+    /**
+     * 마감된 봉과 진행 중인 봉을 시간 오름차순으로 반환합니다.
+     */
+    synchronized List<IntradayBar> bars() {
+        List<IntradayBar> bars = new ArrayList<>(closedBars.size() + 1);
+        bars.addAll(closedBars);
+        if (start >= 0) {
+            bars.add(current(false));
+        }
+        return bars;
+    }
+
+    private IntradayBar closeCurrent() {
+        IntradayBar bar = current(true);
+        closedBars.add(bar);
+        start = -1;
+        return bar;
+    }
+
+    private IntradayBar current(boolean closed) {
+        return new IntradayBar(stockCode, intervalMinutes, Instant.ofEpochMilli(start),
+            open, high, low, close, volume, tickCount, closed);
+    }
+
+    private long lastClosedEnd() {
+        if (closedBars.isEmpty()) {
+            return 0;
+        }
+        return closedBars.get(closedBars.size() - 1).start().toEpochMilli() + intervalMillis;
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.stock.domain.stock.application.realtime;
+
+import com.project.stock.domain.stock.application.port.out.LoadStockPort;
+import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.application.port.out.SaveStockPricePort;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.StockPrice;
+import com.project.stock.domain.stock.domain.StockPriceId;
+import com.project.stock.domain.stock.domain.StockPriceRow;
+import com.project.stock.domain.stock.domain.StockPricesSyncedEvent;
+import com.project.stock.domain.stock.domain.realtime.IntradaySummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장 마감 후 당일 장중 요약을 일봉(stock_price)으로 반영합니다.
+ * 오후 배치의 KIS 일별 시세 동기화가 같은 날짜 행을 다시 덮어쓰므로, 이 값은 배치 전까지의 잠정 일봉입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class IntradayRolloverService {
+
+    private final LoadStockPort loadStockPort;
+    private final LoadStockPricePort loadStockPricePort;
+    private final SaveStockPricePort saveStockPricePort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 종목별 기존 일봉과 직전 종가는 종목 수와 무관하게 각각 한 번의 쿼리로 미리 읽습니다.
+     *
+     * @return 저장한 일봉 수
+     */
+    @Transactional
+    public int rollover(LocalDate date, List<IntradaySummary> summaries) {
+        Map<String, Stock> stocks = loadStockPort.loadByCodes(
+                summaries.stream().map(IntradaySummary::stockCode).toList()).stream()
+            .collect(Collectors.toMap(Stock::getStockCode, Function.identity()));
+        List<Long> stockIds = stocks.values().stream().map(Stock::getId).toList();
+        Map<Long, StockPrice> existing = loadStockPricePort.findAllById(
+                stockIds.stream().map(stockId -> new StockPriceId(stockId, date)).toList()).stream()
+            .collect(Collectors.toMap(price -> price.getId().getStockId(), Function.identity()));
+        Map<Long, BigDecimal> previousCloses = previousCloses(stockIds, date);
+
+        List<StockPrice> prices = new ArrayList<>();
+        for (IntradaySummary summary : summaries) {
+            Stock stock = stocks.get(summary.stockCode());
+            if (stock == null) {
+                log.warn("일봉 반영 대상 종목 없음: stockCode={}", summary.stockCode());
+                continue;
+            }
+            BigDecimal open = price(summary.open());
+            BigDecimal high = price(summary.high());
+            BigDecimal low = price(summary.low());
+            BigDecimal close = price(summary.close());
+            BigDecimal changeRate = changeRate(previousCloses.get(stock.getId()), summary.close());
+
+            StockPrice price = existing.get(stock.getId());
+            if (price == null) {
+                price = StockPrice.builder()
+                    .stock(stock)
+                    .date(date)
+                    .openPrice(open)
+                    .highPrice(high)
+                    .lowPrice(low)
+                    .closePrice(close)
+                    .volume(summary.volume())
+                    .changeRate(changeRate)
+                    .build();
+            } else {
+                price.updatePriceData(open, high, low, close, summary.volume(), changeRate);
+            }
+            prices.add(price);
+        }
+
+        saveStockPricePort.saveAll(prices);
+        prices.forEach(price -> eventPublisher.publishEvent(
+            new StockPricesSyncedEvent(price.getStock().getId(), price.getStock().getStockCode(), 1)));
+        return prices.size();
+    }
+
+    /**
+     * 종목별 직전 거래일(date 이전 가장 최근) 종가. 당일 행이 이미 있을 수 있으므로 최근 2건에서 찾습니다.
+     */
+    private Map<Long, BigDecimal> previousCloses(List<Long> stockIds, LocalDate date) {
+        Map<Long, BigDecimal> closes = new HashMap<>();
+        if (stockIds.isEmpty()) {
+            return closes;
+        }
+        // 종목 ID 오름차순, 날짜 내림차순이므로 종목별로 처음 만나는 이전 날짜 행이 직전 거래일
+        for (StockPriceRow row : loadStockPricePort.findRecentPriceRows(stockIds, 2)) {
+            if (row.date().isBefore(date)) {
+                closes.putIfAbsent(row.stockId(), row.close());
+            }
+        }
+        return closes;
+    }
+
+    /**
+     * 직전 거래일 종가 대비 등락률 (%). 직전 일봉이 없으면 null.
+     */
+    private static BigDecimal changeRate(BigDecimal previousClose, double close) {
+        if (previousClose == null || previousClose.signum() <= 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(close)
+            .subtract(previousClose)
+            .multiply(BigDecimal.valueOf(100))
+            .divide(previousClose, 4, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal price(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
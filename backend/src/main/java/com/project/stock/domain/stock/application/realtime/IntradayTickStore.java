@@ -0,0 +1,162 @@
+package com.project.stock.domain.stock.application.realtime;
+
+import com.project.stock.common.config.KisRealtimeProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 종목별 장중 틱 저장소 (힙 밖, 추가 전용).
+ *
+ * <p>틱 한 건은 {@value #RECORD_BYTES}바이트(체결 시각, 체결가, 체결량, 누적 거래량)로
+ * {@link ByteBuffer#allocateDirect} 세그먼트에 순서대로 기록됩니다. 하루치 전 종목 틱이 힙에 쌓이지 않으므로
+ * GC 대상 객체는 세그먼트 참조뿐입니다.
+ *
+ * <p>종목별 쓰기는 수신 스레드 하나만 수행합니다. 작성자는 슬롯을 채운 뒤 건수를 발행(release)하고,
+ * 읽기 측은 발행된 건수까지만 보는 스냅샷을 잠금 없이 얻습니다. 기록된 슬롯은 바뀌지 않으므로 스냅샷은 복사 없이 일관됩니다.
+ *
+ * <p>틱은 거래일({@link Day}) 단위로 모읍니다. 새 거래일은 {@link #openDay()}로 통째로 교체하므로,
+ * 교체 중에 도착한 틱은 이전 거래일이나 새 거래일 중 한쪽에만 온전히 기록됩니다.
+ */
+@Component
+class IntradayTickStore {
+
+    static final int RECORD_BYTES = 32;
+
+    private final int ticksPerSegment;
+    private final int segmentShift;
+    private final long maxBytes;
+
+    private final LongAdder droppedTicks = new LongAdder();
+    private volatile Day current = new Day();
+
+    IntradayTickStore(KisRealtimeProperties kisRealtimeProperties) {
+        int requested = Math.max(kisRealtimeProperties.getTicksPerSegment(), 2);
+        this.ticksPerSegment = Integer.highestOneBit(requested - 1) << 1;
+        this.segmentShift = Integer.numberOfTrailingZeros(ticksPerSegment);
+        this.maxBytes = kisRealtimeProperties.getMaxStoreMemoryMb() * 1024 * 1024;
+    }
+
+    /**
+     * 현재 거래일의 틱 기록.
+     */
+    Day currentDay() {
+        return current;
+    }
+
+    /**
+     * 빈 거래일로 교체하고 반환합니다. 이전 거래일의 세그먼트 메모리는 참조가 사라진 뒤 GC가 회수합니다.
+     */
+    Day openDay() {
+        Day day = new Day();
+        current = day;
+        return day;
+    }
+
+    long totalTicks() {
+        return current.totalTicks();
+    }
+
+    long allocatedBytes() {
+        return current.allocatedBytes.get();
+    }
+
+    long droppedTicks() {
+        return droppedTicks.sum();
+    }
+
+    /**
+     * 하루치 종목별 틱 기록과 그 메모리 사용량.
+     */
+    final class Day {
+
+        private final Map<String, SymbolTicks> symbols = new ConcurrentHashMap<>();
+        private final AtomicLong allocatedBytes = new AtomicLong();
+
+        private Day() {
+        }
+
+        /**
+         * 종목의 틱 기록부를 반환합니다 (없으면 생성). 쓰기는 반환된 기록부에 직접 합니다.
+         */
+        SymbolTicks symbol(String stockCode) {
+            return symbols.computeIfAbsent(stockCode, code -> new SymbolTicks(this, code));
+        }
+
+        TickSnapshot snapshot(String stockCode) {
+            SymbolTicks ticks = symbols.get(stockCode);
+            return ticks == null ? TickSnapshot.empty(stockCode) : ticks.snapshot();
+        }
+
+        Collection<String> stockCodes() {
+            return List.copyOf(symbols.keySet());
+        }
+
+        long totalTicks() {
+            return symbols.values().stream().mapToLong(SymbolTicks::size).sum();
+        }
+    }
+
+    /**
+     * 한 종목의 추가 전용 틱 기록부.
+     */
+    final class SymbolTicks {
+
+        private final Day day;
+        private final String stockCode;
+        private final AtomicLong published = new AtomicLong();
+        private volatile ByteBuffer[] segments = new ByteBuffer[0];
+
+        private SymbolTicks(Day day, String stockCode) {
+            this.day = day;
+            this.stockCode = stockCode;
+        }
+
+        /**
+         * 단일 작성자 전용. 세그먼트 경계가 아니면 객체를 할당하지 않습니다.
+         *
+         * @return 메모리 상한으로 저장하지 못했으면 false
+         */
+        boolean append(long timestamp, double price, long volume, long cumulativeVolume) {
+            long index = published.get();
+            int segment = (int) (index >>> segmentShift);
+            ByteBuffer[] current = segments;
+            if (segment == current.length) {
+                long bytes = (long) ticksPerSegment * RECORD_BYTES;
+                if (day.allocatedBytes.addAndGet(bytes) > maxBytes) {
+                    day.allocatedBytes.addAndGet(-bytes);
+                    droppedTicks.increment();
+                    return false;
+                }
+                current = Arrays.copyOf(current, segment + 1);
+                current[segment] = ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+                segments = current;
+            }
+            ByteBuffer buffer = current[segment];
+            int offset = (int) (index & (ticksPerSegment - 1)) * RECORD_BYTES;
+            buffer.putLong(offset, timestamp);
+            buffer.putDouble(offset + 8, price);
+            buffer.putLong(offset + 16, volume);
+            buffer.putLong(offset + 24, cumulativeVolume);
+            published.lazySet(index + 1);
+            return true;
+        }
+
+        TickSnapshot snapshot() {
+            long size = published.get();
+            return new TickSnapshot(stockCode, segments, size, segmentShift, ticksPerSegment - 1);
+        }
+
+        long size() {
+            return published.get();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.project.stock.domain.stock.application.realtime;
+
+import com.project.stock.common.config.KisRealtimeProperties;
+import com.project.stock.domain.stock.application.port.in.GetIntradayUseCase;
+import com.project.stock.domain.stock.application.port.out.LoadWatchlistPort;
+import com.project.stock.domain.stock.application.port.out.RealtimeQuotePort;
+import com.project.stock.domain.stock.application.port.out.UpdateCurrentPricePort;
+import com.project.stock.domain.stock.domain.realtime.IntradayBar;
+import com.project.stock.domain.stock.domain.realtime.IntradayBarClosedEvent;
+import com.project.stock.domain.stock.domain.realtime.IntradaySummary;
+import com.project.stock.domain.stock.domain.realtime.QuoteTick;
+import com.project.stock.domain.stock.domain.realtime.RealtimeQuoteStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실시간 체결가 수신 및 장중 집계 서비스.
+ *
+ * <p>수신 스레드에서 틱마다 다음을 수행합니다 (모두 잠금 없이 또는 종목 단위 잠금으로 처리).
+ * <ol>
+ *     <li>종목별 힙 밖 틱 저장소에 추가</li>
+ *     <li>1분/5분 봉 집계, 구간이 넘어가면 마감 이벤트 발행</li>
+ *     <li>종목별 최신가를 대기 맵에 덮어쓰기</li>
+ * </ol>
+ * 현재가는 주기적으로 대기 맵을 비우며 한 트랜잭션에 일괄 반영하므로, 틱 수와 무관하게 주기당 종목별 한 번만 갱신됩니다.
+ * 봉 마감 판정은 마지막 틱의 체결 시각을 기준으로 흐르는 이벤트 시각을 사용하므로 녹화 데이터 재생에서도 동일하게 동작합니다.
+ * 장 마감 후에는 당일 틱 요약을 일봉으로 반영합니다.
+ * 종목별 상태와 틱 기록은 거래일 단위({@link Session})로 묶어 장 시작 전에 한 번에 교체합니다.
+ */
+@Slf4j
+@Service
+class RealtimeQuoteService implements GetIntradayUseCase {
+
+    static final int[] BAR_INTERVALS = {1, 5};
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final KisRealtimeProperties kisRealtimeProperties;
+    private final RealtimeQuotePort realtimeQuotePort;
+    private final LoadWatchlistPort loadWatchlistPort;
+    private final UpdateCurrentPricePort updateCurrentPricePort;
+    private final IntradayTickStore intradayTickStore;
+    private final IntradayRolloverService intradayRolloverService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, Double> pendingPrices = new ConcurrentHashMap<>();
+
+    private final LongAdder ticksReceived = new LongAdder();
+    private final LongAdder barsClosed = new LongAdder();
+    private final LongAdder priceFlushes = new LongAdder();
+    private final LongAdder pricesWritten = new LongAdder();
+
+    private volatile Session session;
+    private volatile long lastEventTime = -1;
+    private volatile long lastEventArrival;
+
+    RealtimeQuoteService(KisRealtimeProperties kisRealtimeProperties, RealtimeQuotePort realtimeQuotePort,
+                         LoadWatchlistPort loadWatchlistPort, UpdateCurrentPricePort updateCurrentPricePort,
+                         IntradayTickStore intradayTickStore, IntradayRolloverService intradayRolloverService,
+                         ApplicationEventPublisher eventPublisher) {
+        this.kisRealtimeProperties = kisRealtimeProperties;
+        this.realtimeQuotePort = realtimeQuotePort;
+        this.loadWatchlistPort = loadWatchlistPort;
+        this.updateCurrentPricePort = updateCurrentPricePort;
+        this.intradayTickStore = intradayTickStore;
+        this.intradayRolloverService = intradayRolloverService;
+        this.eventPublisher = eventPublisher;
+        this.session = new Session(intradayTickStore.currentDay());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!kisRealtimeProperties.isEnabled()) {
+            return;
+        }
+        List<String> stockCodes = kisRealtimeProperties.getStockCodes().isEmpty()
+            ? loadWatchlistPort.findAllActive().stream().map(watchlist -> watchlist.getStock().getStockCode()).toList()
+            : kisRealtimeProperties.getStockCodes();
+        List<String> subscribed = stockCodes.stream().distinct().limit(kisRealtimeProperties.getMaxSubscriptions()).toList();
+        if (subscribed.size() < stockCodes.size()) {
+            log.warn("실시간 구독 한도 초과: 요청={} 종목, 구독={} 종목", stockCodes.size(), subscribed.size());
+        }
+        Session current = session;
+        subscribed.forEach(current::stateOf);
+        realtimeQuotePort.connect(subscribed, this::onTick);
+        log.info("실시간 시세 수신 시작: 종목={} 개", subscribed.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        realtimeQuotePort.disconnect();
+        flushPrices();
+    }
+
+    /**
+     * 수신 스레드에서 호출됩니다.
+     */
+    void onTick(QuoteTick tick) {
+        StockQuoteState state = session.stateOf(tick.stockCode());
+        state.ticks.append(tick.timestamp(), tick.price(), tick.volume(), tick.cumulativeVolume());
+        for (BarAggregator aggregator : state.aggregators) {
+            publishIfClosed(aggregator.onTick(tick.timestamp(), tick.price(), tick.volume()));
+        }
+        pendingPrices.put(tick.stockCode(), tick.price());
+        if (tick.timestamp() > lastEventTime) {
+            lastEventTime = tick.timestamp();
+            lastEventArrival = System.currentTimeMillis();
+        }
+        ticksReceived.increment();
+    }
+
+    /**
+     * 체결이 끊긴 종목의 봉을 마감하고, 합쳐진 현재가를 일괄 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${kis.realtime.price-flush-interval-ms:1000}")
+    public void flush() {
+        if (lastEventTime >= 0) {
+            long eventNow = lastEventTime + (System.currentTimeMillis() - lastEventArrival);
+            for (StockQuoteState state : session.states.values()) {
+                for (BarAggregator aggregator : state.aggregators) {
+                    publishIfClosed(aggregator.closeIfDue(eventNow));
+                }
+            }
+        }
+        flushPrices();
+    }
+
+    /**
+     * 장 마감 후 당일 틱 요약을 일봉(stock_price)으로 반영합니다.
+     */
+    @Scheduled(cron = "${kis.realtime.rollover-cron:0 40 15 * * MON-FRI}", zone = "Asia/Seoul")
+    public void rolloverSession() {
+        flush();
+        IntradayTickStore.Day day = session.day;
+        List<IntradaySummary> summaries = new ArrayList<>();
+        for (String stockCode : day.stockCodes()) {
+            IntradaySummary summary = day.snapshot(stockCode).summarize();
+            if (summary != null) {
+                summaries.add(summary);
+            }
+        }
+        if (summaries.isEmpty()) {
+            return;
+        }
+        LocalDate sessionDate = LocalDate.ofInstant(
+            summaries.stream().map(IntradaySummary::lastTickAt).max(Instant::compareTo).orElseThrow(), KST);
+        try {
+            int saved = intradayRolloverService.rollover(sessionDate, summaries);
+            log.info("장중 틱 일봉 반영 완료: 날짜={}, 종목={} 개", sessionDate, saved);
+        } catch (Exception e) {
+            log.error("장중 틱 일봉 반영 실패: 날짜={}, error={}", sessionDate, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 장 시작 전 전일 집계와 틱 저장소를 비웁니다.
+     * 수신 중인 종목의 빈 상태를 새 거래일에 미리 만든 뒤 한 번에 교체하므로, 수신 스레드는 교체 전후 어느 한쪽의 완전한 상태만 봅니다.
+     */
+    @Scheduled(cron = "0 30 8 * * MON-FRI", zone = "Asia/Seoul")
+    public void resetSession() {
+        Session previous = session;
+        Session next = new Session(intradayTickStore.openDay());
+        previous.states.keySet().forEach(next::stateOf);
+        session = next;
+        pendingPrices.clear();
+        lastEventTime = -1;
+        log.info("장중 시세 집계 초기화: 종목={} 개", next.states.size());
+    }
+
+    @Override
+    public List<IntradayBar> getBars(String stockCode, int intervalMinutes) {
+        StockQuoteState state = session.require(stockCode);
+        for (int i = 0; i < BAR_INTERVALS.length; i++) {
+            if (BAR_INTERVALS[i] == intervalMinutes) {
+                return state.aggregators[i].bars();
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 분봉 간격입니다 (1 또는 5): " + intervalMinutes);
+    }
+
+    @Override
+    public List<QuoteTick> getRecentTicks(String stockCode, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("조회 건수는 1 이상이어야 합니다: " + limit);
+        }
+        Session current = session;
+        current.require(stockCode);
+        return current.day.snapshot(stockCode).tail(limit);
+    }
+
+    @Override
+    public Optional<IntradaySummary> getSummary(String stockCode) {
+        Session current = session;
+        current.require(stockCode);
+        return Optional.ofNullable(current.day.snapshot(stockCode).summarize());
+    }
+
+    @Override
+    public RealtimeQuoteStats stats() {
+        return new RealtimeQuoteStats(
+            realtimeQuotePort.isConnected(),
+            session.states.size(),
+            ticksReceived.sum(),
+            realtimeQuotePort.parseErrors(),
+            barsClosed.sum(),
+            priceFlushes.sum(),
+            pricesWritten.sum(),
+            intradayTickStore.totalTicks(),
+            intradayTickStore.allocatedBytes(),
+            intradayTickStore.droppedTicks(),
+            lastEventTime >= 0 ? Instant.ofEpochMilli(lastEventTime) : null
+        );
+    }
+
+    private void flushPrices() {
+        if (pendingPrices.isEmpty()) {
+            return;
+        }
+        Map<String, BigDecimal> prices = new HashMap<>();
+        for (String stockCode : pendingPrices.keySet()) {
+            Double price = pendingPrices.remove(stockCode);
+            if (price != null) {
+                prices.put(stockCode, BigDecimal.valueOf(price));
+            }
+        }
+        try {
+            int updated = updateCurrentPricePort.updateCurrentPrices(prices);
+            priceFlushes.increment();
+            pricesWritten.add(updated);
+            log.debug("현재가 일괄 반영: 종목={} 개", updated);
+        } catch (Exception e) {
+            // 반영 실패 시 더 새로운 값이 들어오지 않은 종목만 되돌려 다음 주기에 재시도
+            prices.forEach((stockCode, price) -> pendingPrices.putIfAbsent(stockCode, price.doubleValue()));
+            log.error("현재가 일괄 반영 실패: 종목={} 개, error={}", prices.size(), e.getMessage());
+        }
+    }
+
+    private void publishIfClosed(IntradayBar bar) {
+        if (bar != null) {
+            barsClosed.increment();
+            eventPublisher.publishEvent(new IntradayBarClosedEvent(bar));
+        }
+    }
+
+    /**
+     * 거래일 하나의 종목별 장중 상태와 틱 기록.
+     */
+    private static final class Session {
+
+        private final IntradayTickStore.Day day;
+        private final Map<String, StockQuoteState> states = new ConcurrentHashMap<>();
+
+        private Session(IntradayTickStore.Day day) {
+            this.day = day;
+        }
+
+        private StockQuoteState stateOf(String stockCode) {
+            return states.computeIfAbsent(stockCode, code -> new StockQuoteState(day.symbol(code), code));
+        }
+
+        private StockQuoteState require(String stockCode) {
+            StockQuoteState state = states.get(stockCode);
+            if (state == null) {
+                throw new IllegalArgumentException("실시간 시세를 수신하지 않는 종목입니다: " + stockCode);
+            }
+            return state;
+        }
+    }
+
+    /**
+     * 종목별 장중 상태.
+     */
+    private static final class StockQuoteState {
+
+        private final IntradayTickStore.SymbolTicks ticks;
+        private final BarAggregator[] aggregators = new BarAggregator[BAR_INTERVALS.length];
+
+        private StockQuoteState(IntradayTickStore.SymbolTicks ticks, String stockCode) {
+            this.ticks = ticks;
+            for (int i = 0; i < BAR_INTERVALS.length; i++) {
+                aggregators[i] = new BarAggregator(stockCode, BAR_INTERVALS[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.stock.domain.stock.application.realtime;
+
+import com.project.stock.domain.stock.domain.realtime.IntradaySummary;
+import com.project.stock.domain.stock.domain.realtime.QuoteTick;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장중 틱 저장소의 읽기 전용 스냅샷.
+ * 생성 시점까지 발행된 틱만 보며, 이후 추가되는 틱의 영향을 받지 않습니다.
+ * 값은 힙 밖 세그먼트에서 절대 위치로 직접 읽으므로 복사나 잠금이 없습니다.
+ */
+final class TickSnapshot {
+
+    private static final ByteBuffer[] NO_SEGMENTS = new ByteBuffer[0];
+
+    private final String stockCode;
+    private final ByteBuffer[] segments;
+    private final int size;
+    private final int segmentShift;
+    private final int indexMask;
+
+    TickSnapshot(String stockCode, ByteBuffer[] segments, long size, int segmentShift, int indexMask) {
+        this.stockCode = stockCode;
+        this.segments = segments;
+        this.size = (int) size;
+        this.segmentShift = segmentShift;
+        this.indexMask = indexMask;
+    }
+
+    static TickSnapshot empty(String stockCode) {
+        return new TickSnapshot(stockCode, NO_SEGMENTS, 0, 0, 0);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long timestamp(int index) {
+        return segment(index).getLong(offset(index));
+    }
+
+    double price(int index) {
+        return segment(index).getDouble(offset(index) + 8);
+    }
+
+    long volume(int index) {
+        return segment(index).getLong(offset(index) + 16);
+    }
+
+    long cumulativeVolume(int index) {
+        return segment(index).getLong(offset(index) + 24);
+    }
+
+    /**
+     * 마지막 limit건을 시간 오름차순으로 반환합니다.
+     */
+    List<QuoteTick> tail(int limit) {
+        int from = Math.max(0, size - limit);
+        List<QuoteTick> ticks = new ArrayList<>(size - from);
+        for (int i = from; i < size; i++) {
+            ticks.add(new QuoteTick(stockCode, timestamp(i), price(i), volume(i), cumulativeVolume(i)));
+        }
+        return ticks;
+    }
+
+    /**
+     * 세션 요약(시/고/저/종가, 거래량, VWAP)을 한 번의 순회로 계산합니다. 틱이 없으면 null.
+     */
+    IntradaySummary summarize() {
+        if (size == 0) {
+            return null;
+        }
+        double high = Double.NEGATIVE_INFINITY;
+        double low = Double.POSITIVE_INFINITY;
+        double turnover = 0;
+        long tradedVolume = 0;
+        for (int i = 0; i < size; i++) {
+            double price = price(i);
+            long volume = volume(i);
+            high = Math.max(high, price);
+            low = Math.min(low, price);
+            turnover += price * volume;
+            tradedVolume += volume;
+        }
+        int last = size - 1;
+        return new IntradaySummary(
+            stockCode,
+            Instant.ofEpochMilli(timestamp(0)),
+            Instant.ofEpochMilli(timestamp(last)),
+            price(0),
+            high,
+            low,
+            price(last),
+            Math.max(cumulativeVolume(last), tradedVolume),
+            tradedVolume == 0 ? price(last) : turnover / tradedVolume,
+            size
+        );
+    }
+
+    private ByteBuffer segment(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return segments[index >>> segmentShift];
+    }
+
+    private int offset(int index) {
+        return (index & indexMask) * IntradayTickStore.RECORD_BYTES;
+    }
+}
@@ -0,0 +1,125 @@
+package com.project.stock.domain.stock.application.risk;
+
+import com.project.stock.common.config.RiskProperties;
+import com.project.stock.domain.stock.application.market.MarketDataCache;
+import com.project.stock.domain.stock.application.port.in.GetCorrelationMatrixUseCase;
+import com.project.stock.domain.stock.application.port.out.LoadWatchlistPort;
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+import com.project.stock.domain.stock.domain.risk.CorrelationMatrix;
+import com.project.stock.domain.stock.domain.risk.CovarianceKernel;
+import com.project.stock.domain.stock.domain.risk.ReturnMatrix;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 관심 종목 포트폴리오 리스크 서비스.
+ * 시세 캐시 위에서 수익률 행렬을 만들고 블록 병렬 커널로 공분산/상관계수를 계산합니다.
+ * 결과는 (lookback, 시세 캐시 버전, 관심 종목 구성) 단위로 캐시하며, 시세 동기화로 캐시 버전이 바뀌면 폐기됩니다.
+ */
+@Slf4j
+@Service
+class PortfolioRiskService implements GetCorrelationMatrixUseCase {
+
+    private final MarketDataCache marketDataCache;
+    private final LoadWatchlistPort loadWatchlistPort;
+    private final RiskProperties riskProperties;
+    private final ForkJoinPool pool;
+
+    private final Map<CacheKey, CorrelationMatrix> cache = new ConcurrentHashMap<>();
+
+    PortfolioRiskService(MarketDataCache marketDataCache, LoadWatchlistPort loadWatchlistPort,
+                         RiskProperties riskProperties) {
+        this.marketDataCache = marketDataCache;
+        this.loadWatchlistPort = loadWatchlistPort;
+        this.riskProperties = riskProperties;
+        int parallelism = riskProperties.getParallelism() > 0
+                ? riskProperties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public CorrelationMatrix getCorrelationMatrix(int lookbackDays) {
+        if (lookbackDays < 2 || lookbackDays > riskProperties.getMaxLookback()) {
+            throw new IllegalArgumentException(
+                    "lookback은 2 이상 " + riskProperties.getMaxLookback() + " 이하여야 합니다: " + lookbackDays);
+        }
+
+        long version = marketDataCache.version();
+        List<PriceSeries> series = new ArrayList<>();
+        loadWatchlistPort.findAllActive().forEach(watchlist ->
+                marketDataCache.get(watchlist.getStock().getId()).ifPresent(series::add));
+        if (series.size() < 2) {
+            throw new IllegalArgumentException("상관관계를 계산하려면 시세가 있는 활성 관심 종목이 2개 이상 필요합니다");
+        }
+        List<Long> stockIds = series.stream().map(PriceSeries::stockId).sorted().toList();
+        CacheKey key = new CacheKey(lookbackDays, version, stockIds);
+
+        CorrelationMatrix cached = cache.get(key);
+        if (cached != null) {
+            log.debug("상관관계 행렬 캐시 적중: lookback={}, 종목={} 개", lookbackDays, cached.size());
+            return cached;
+        }
+
+        CorrelationMatrix computed = compute(series, lookbackDays);
+        cache.keySet().removeIf(existing -> existing.version() != version);
+        cache.put(key, computed);
+        return computed;
+    }
+
+    private CorrelationMatrix compute(List<PriceSeries> series, int lookbackDays) {
+        long start = System.currentTimeMillis();
+        ReturnMatrix returns = ReturnMatrix.of(series, lookbackDays, riskProperties.getMinCoverage());
+        if (returns.size() < 2) {
+            throw new IllegalArgumentException("커버리지 기준을 만족하는 종목이 2개 미만입니다");
+        }
+
+        double[][] matrices;
+        try {
+            matrices = pool.submit(() -> {
+                double[] covariance = CovarianceKernel.covariance(returns, riskProperties.getBlockSize());
+                double[] correlation = CovarianceKernel.correlation(covariance, returns.size());
+                return new double[][]{covariance, correlation};
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상관관계 계산이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("상관관계 계산 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("상관관계 행렬 계산 완료: 종목={} 개, 제외={} 개, 관측={} 일, 소요 시간={}ms",
+                returns.size(), returns.excludedCodes().size(), returns.observations(), elapsed);
+
+        return new CorrelationMatrix(
+                returns.stockCodes(),
+                returns.excludedCodes(),
+                returns.startDate(),
+                returns.endDate(),
+                returns.observations(),
+                matrices[0],
+                matrices[1],
+                elapsed
+        );
+    }
+
+    private record CacheKey(int lookbackDays, long version, List<Long> stockIds) {
+    }
+}
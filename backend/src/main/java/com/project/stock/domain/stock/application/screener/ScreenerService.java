@@ -0,0 +1,117 @@
+package com.project.stock.domain.stock.application.screener;
+
+import com.project.stock.common.config.ScreenerProperties;
+import com.project.stock.domain.stock.application.market.MarketDataCache;
+import com.project.stock.domain.stock.application.port.in.ScreenStocksUseCase;
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+import com.project.stock.domain.stock.domain.screener.ScreenerExpression;
+import com.project.stock.domain.stock.domain.screener.ScreenerHit;
+import com.project.stock.domain.stock.domain.screener.ScreenerResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 시장 전체 스크리너 서비스.
+ * 시세 캐시의 컬럼형 스냅샷 위에서 종목 단위로 병렬 평가하며, DB를 조회하지 않습니다.
+ * 평가는 공용 풀과 분리된 전용 ForkJoinPool에서 수행합니다.
+ */
+@Slf4j
+@Service
+class ScreenerService implements ScreenStocksUseCase {
+
+    private static final Comparator<ScreenerHit> BY_CODE = Comparator.comparing(ScreenerHit::stockCode);
+
+    private final MarketDataCache marketDataCache;
+    private final ScreenerProperties screenerProperties;
+    private final ForkJoinPool pool;
+
+    ScreenerService(MarketDataCache marketDataCache, ScreenerProperties screenerProperties) {
+        this.marketDataCache = marketDataCache;
+        this.screenerProperties = screenerProperties;
+        int parallelism = screenerProperties.getParallelism() > 0
+                ? screenerProperties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public ScreenerResult screen(String filter, String rankBy, boolean descending, int limit) {
+        if (limit < 1 || limit > screenerProperties.getMaxLimit()) {
+            throw new IllegalArgumentException(
+                    "limit은 1 이상 " + screenerProperties.getMaxLimit() + " 이하여야 합니다: " + limit);
+        }
+        ScreenerExpression filterExpression = ScreenerExpression.parse(filter);
+        ScreenerExpression rankExpression = rankBy == null || rankBy.isBlank() ? null : ScreenerExpression.parse(rankBy);
+
+        Collection<PriceSeries> universe = marketDataCache.all();
+        long start = System.nanoTime();
+
+        List<ScreenerHit> matched = evaluate(universe, filterExpression, rankExpression);
+
+        Comparator<ScreenerHit> order = BY_CODE;
+        if (rankExpression != null) {
+            // NaN은 방향과 무관하게 항상 뒤로 보낸다
+            Comparator<ScreenerHit> byRank = Comparator.comparingDouble(ScreenerHit::rankValue);
+            Comparator<ScreenerHit> directed = descending ? byRank.reversed() : byRank;
+            order = Comparator.<ScreenerHit, Boolean>comparing(hit -> Double.isNaN(hit.rankValue()))
+                    .thenComparing(directed)
+                    .thenComparing(BY_CODE);
+        }
+        List<ScreenerHit> hits = matched.stream()
+                .sorted(order)
+                .limit(limit)
+                .toList();
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("스크리너 실행: filter=\"{}\", rankBy=\"{}\", 대상={} 종목, 일치={} 종목, 소요 시간={}ms",
+                filterExpression, rankExpression, universe.size(), matched.size(), elapsedMillis);
+
+        return new ScreenerResult(universe.size(), matched.size(), elapsedMillis, hits);
+    }
+
+    private List<ScreenerHit> evaluate(Collection<PriceSeries> universe,
+                                       ScreenerExpression filter,
+                                       ScreenerExpression rankBy) {
+        try {
+            return pool.submit(() -> universe.parallelStream()
+                    .filter(series -> !series.isEmpty())
+                    .filter(series -> filter.matches(series, series.size() - 1))
+                    .map(series -> toHit(series, rankBy))
+                    .toList()
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("스크리너 실행이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("스크리너 실행 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private static ScreenerHit toHit(PriceSeries series, ScreenerExpression rankBy) {
+        int last = series.size() - 1;
+        double rankValue = rankBy == null ? Double.NaN : rankBy.evaluate(series, last);
+        return new ScreenerHit(
+                series.stockCode(),
+                series.stockName(),
+                series.date(last),
+                series.close(last),
+                series.volume(last),
+                rankValue
+        );
+    }
+}
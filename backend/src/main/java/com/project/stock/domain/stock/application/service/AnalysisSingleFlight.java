@@ -0,0 +1,142 @@
+package com.project.stock.domain.stock.application.service;
+
+import com.project.stock.common.config.AnalysisCacheProperties;
+import com.project.stock.domain.stock.application.port.out.AnalysisLockPort;
+import com.project.stock.domain.stock.application.port.out.AnalysisResultCachePort;
+import com.project.stock.domain.stock.domain.AnalysisCacheKey;
+import com.project.stock.domain.stock.domain.AnalysisCoalescingStats;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 입력(캐시 키)의 동시 분석 요청을 하나의 실행으로 합치는 single-flight.
+ *
+ * <p>인스턴스 내부에서는 진행 중인 Future에 합류하고, 인스턴스 간에는 Redis 임대 잠금을 획득한 한 곳만
+ * 분석을 수행합니다. 잠금을 얻지 못한 인스턴스는 결과 캐시에 결과가 올라올 때까지 대기합니다.
+ * 따라서 실행 함수는 반환 전에 결과를 결과 캐시에 저장해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class AnalysisSingleFlight {
+
+    private final AnalysisLockPort analysisLockPort;
+    private final AnalysisResultCachePort analysisResultCachePort;
+    private final AnalysisCacheProperties analysisCacheProperties;
+
+    private final Map<AnalysisCacheKey, CompletableFuture<StockAnalysisResult>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder localJoins = new LongAdder();
+    private final LongAdder remoteJoins = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * 같은 키의 분석이 진행 중이면 그 결과를 기다리고, 아니면 직접 실행합니다.
+     *
+     * @throws IllegalStateException 대기 시간 초과
+     */
+    StockAnalysisResult execute(AnalysisCacheKey key, Supplier<StockAnalysisResult> analysis) {
+        CompletableFuture<StockAnalysisResult> mine = new CompletableFuture<>();
+        CompletableFuture<StockAnalysisResult> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            localJoins.increment();
+            log.debug("진행 중인 분석에 합류: key={}", key.asString());
+            return await(existing);
+        }
+
+        try {
+            StockAnalysisResult result = executeAcrossInstances(key, analysis);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    AnalysisCoalescingStats stats() {
+        long local = localJoins.sum();
+        long remote = remoteJoins.sum();
+        return new AnalysisCoalescingStats(
+            executions.sum(),
+            local,
+            remote,
+            local + remote,
+            timeouts.sum(),
+            inFlight.size()
+        );
+    }
+
+    private StockAnalysisResult executeAcrossInstances(AnalysisCacheKey key, Supplier<StockAnalysisResult> analysis) {
+        Duration lease = Duration.ofSeconds(analysisCacheProperties.getLockLeaseSeconds());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(analysisCacheProperties.getWaitTimeoutSeconds());
+
+        while (true) {
+            Optional<String> token = analysisLockPort.tryAcquire(key, lease);
+            if (token.isPresent()) {
+                try {
+                    // 잠금 직전에 다른 인스턴스가 완료했을 수 있으므로 한 번 더 확인
+                    Optional<StockAnalysisResult> cached = analysisResultCachePort.find(key);
+                    if (cached.isPresent()) {
+                        remoteJoins.increment();
+                        return cached.get();
+                    }
+                    executions.increment();
+                    return analysis.get();
+                } finally {
+                    analysisLockPort.release(key, token.get());
+                }
+            }
+
+            // 다른 인스턴스가 분석 중: 결과 캐시를 확인하며 대기 (실패로 잠금이 풀리면 다음 반복에서 직접 실행)
+            Optional<StockAnalysisResult> cached = analysisResultCachePort.find(key);
+            if (cached.isPresent()) {
+                remoteJoins.increment();
+                log.debug("다른 인스턴스의 분석 결과 사용: key={}", key.asString());
+                return cached.get();
+            }
+            if (System.nanoTime() > deadline) {
+                timeouts.increment();
+                throw new IllegalStateException("같은 종목의 분석이 진행 중입니다. 잠시 후 다시 시도하세요.");
+            }
+            try {
+                Thread.sleep(analysisCacheProperties.getPollIntervalMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("분석 대기 중 인터럽트되었습니다.", e);
+            }
+        }
+    }
+
+    private StockAnalysisResult await(CompletableFuture<StockAnalysisResult> future) {
+        try {
+            return future.get(analysisCacheProperties.getWaitTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("분석 실패: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new IllegalStateException("같은 종목의 분석이 진행 중입니다. 잠시 후 다시 시도하세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("분석 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.stock.domain.stock.application.service;
+
+import com.project.stock.common.config.HttpCacheProperties;
+import com.project.stock.domain.stock.application.market.TradingCalendarService;
+import com.project.stock.domain.stock.application.port.in.GetPriceWatermarkUseCase;
+import com.project.stock.domain.stock.application.port.out.PriceWatermarkPort;
+import com.project.stock.domain.stock.domain.StockPricesSyncedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * 종목별 시세 워터마크 관리.
+ * 시세 동기화가 커밋되면 워터마크를 올려 이전에 발급한 ETag를 무효화합니다.
+ * 조회 측은 워터마크를 데이터보다 먼저 읽으므로, 응답 데이터는 항상 워터마크 시점 이후의 것입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class PriceWatermarkService implements GetPriceWatermarkUseCase {
+
+    private final PriceWatermarkPort priceWatermarkPort;
+    private final HttpCacheProperties httpCacheProperties;
+    private final TradingCalendarService tradingCalendarService;
+
+    @Override
+    public Optional<Instant> getPriceWatermark(String stockCode) {
+        if (!httpCacheProperties.isEnabled()) {
+            return Optional.empty();
+        }
+        return priceWatermarkPort.getOrInit(stockCode, ttl());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockPricesSynced(StockPricesSyncedEvent event) {
+        priceWatermarkPort.advance(event.stockCode(), ttl());
+        log.debug("시세 워터마크 갱신: stockCode={}", event.stockCode());
+    }
+
+    /**
+     * 보관 기간을 영업일로 셉니다. 휴장일에는 시세가 바뀌지 않으므로 긴 연휴 동안 워터마크가 만료되어
+     * 클라이언트가 같은 데이터를 다시 받는 일이 없도록, 만료 시점을 N번째 다음 영업일까지 늘립니다.
+     */
+    private Duration ttl() {
+        LocalDate today = LocalDate.now();
+        LocalDate expiry = today;
+        for (long i = 0; i < httpCacheProperties.getWatermarkTtlDays(); i++) {
+            expiry = tradingCalendarService.nextSession(expiry);
+        }
+        return Duration.ofDays(Math.max(ChronoUnit.DAYS.between(today, expiry), httpCacheProperties.getWatermarkTtlDays()));
+    }
+}
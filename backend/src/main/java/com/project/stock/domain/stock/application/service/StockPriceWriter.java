@@ -0,0 +1,86 @@
+package com.project.stock.domain.stock.application.service;
+
+import com.project.stock.domain.stock.adapter.out.external.kis.KisOhlcvResponse;
+import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.application.port.out.SaveStockPricePort;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.StockPrice;
+import com.project.stock.domain.stock.domain.StockPriceId;
+import com.project.stock.domain.stock.domain.StockPricesSyncedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원격에서 받은 일봉을 저장합니다 (시세 동기화의 DB 쓰기 단계).
+ * 호출 한도 대기와 KIS 호출은 트랜잭션 밖에서 끝내고, 이 저장만 트랜잭션으로 묶어 커넥션 점유 시간을 줄입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class StockPriceWriter {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final LoadStockPricePort loadStockPricePort;
+    private final SaveStockPricePort saveStockPricePort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 일봉을 저장하고(이미 있으면 갱신) 커밋 후 처리할 동기화 이벤트를 발행합니다.
+     *
+     * @return 저장 건수
+     */
+    @Transactional
+    public int save(Stock stock, List<KisOhlcvResponse.DailyPrice> dailyPrices) {
+        List<StockPrice> stockPrices = new ArrayList<>();
+        for (KisOhlcvResponse.DailyPrice dailyPrice : dailyPrices) {
+            LocalDate date = LocalDate.parse(dailyPrice.businessDate(), DATE_FORMATTER);
+            StockPriceId priceId = new StockPriceId(stock.getId(), date);
+
+            // 중복 체크: 이미 존재하면 업데이트, 없으면 생성
+            StockPrice stockPrice = loadStockPricePort.findById(priceId)
+                .orElseGet(() -> StockPrice.builder()
+                    .stock(stock)
+                    .date(date)
+                    .openPrice(new BigDecimal(dailyPrice.openPrice()))
+                    .highPrice(new BigDecimal(dailyPrice.highPrice()))
+                    .lowPrice(new BigDecimal(dailyPrice.lowPrice()))
+                    .closePrice(new BigDecimal(dailyPrice.closePrice()))
+                    .volume(Long.parseLong(dailyPrice.volume()))
+                    .changeRate(new BigDecimal(dailyPrice.changeRate()))
+                    .build());
+
+            // 기존 데이터 업데이트
+            if (loadStockPricePort.findById(priceId).isPresent()) {
+                stockPrice.updatePriceData(
+                    new BigDecimal(dailyPrice.openPrice()),
+                    new BigDecimal(dailyPrice.highPrice()),
+                    new BigDecimal(dailyPrice.lowPrice()),
+                    new BigDecimal(dailyPrice.closePrice()),
+                    Long.parseLong(dailyPrice.volume()),
+                    new BigDecimal(dailyPrice.changeRate())
+                );
+            }
+
+            stockPrices.add(stockPrice);
+        }
+
+        // 일괄 저장
+        List<StockPrice> saved = saveStockPricePort.saveAll(stockPrices);
+        log.info("시세 동기화 완료: stockCode={}, 저장 건수={}", stock.getStockCode(), saved.size());
+
+        // 후속 처리(패턴 인덱스 등)는 커밋 이후 이벤트 리스너에서 수행
+        eventPublisher.publishEvent(new StockPricesSyncedEvent(stock.getId(), stock.getStockCode(), saved.size()));
+
+        return saved.size();
+    }
+}
@@ -1,28 +1,45 @@
 package com.project.stock.domain.stock.application.service;
 
+import com.project.stock.common.config.AiWorkerProperties;
+import com.project.stock.common.config.AnalysisCacheProperties;
 import com.project.stock.domain.stock.adapter.out.external.kis.KisClient;
 import com.project.stock.domain.stock.adapter.out.external.kis.KisOhlcvResponse;
+import com.project.stock.domain.stock.application.market.TradingCalendarService;
 import com.project.stock.domain.stock.application.port.in.AnalyzeStockUseCase;
 import com.project.stock.domain.stock.application.port.in.GetStockPricesUseCase;
 import com.project.stock.domain.stock.application.port.in.SyncStockPricesUseCase;
 import com.project.stock.domain.stock.application.port.out.AiAnalysisPort;
+import com.project.stock.domain.stock.application.port.out.AnalysisResultCachePort;
 import com.project.stock.domain.stock.application.port.out.LoadStockPort;
 import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
-import com.project.stock.domain.stock.application.port.out.SaveStockPricePort;
+import com.project.stock.domain.stock.application.port.out.SaveAnalysisHistoryPort;
+import com.project.stock.domain.stock.application.quota.QuotaScheduler;
+import com.project.stock.domain.stock.domain.AnalysisCacheKey;
+import com.project.stock.domain.stock.domain.AnalysisCoalescingStats;
+import com.project.stock.domain.stock.domain.AnalysisStage;
+import com.project.stock.domain.stock.domain.DailyBar;
+import com.project.stock.domain.stock.domain.RecentStockPrices;
 import com.project.stock.domain.stock.domain.Stock;
 import com.project.stock.domain.stock.domain.StockAnalysisResult;
 import com.project.stock.domain.stock.domain.StockPrice;
-import com.project.stock.domain.stock.domain.StockPriceId;
+import com.project.stock.domain.stock.domain.StockPriceRow;
+import com.project.stock.domain.stock.domain.quota.QuotaResource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 주식 분석 및 시세 동기화 유스케이스 구현체.
@@ -33,16 +50,34 @@ import java.util.List;
 @Transactional(readOnly = true)
 class StockService implements AnalyzeStockUseCase, SyncStockPricesUseCase, GetStockPricesUseCase {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int MAX_BULK_STOCK_CODES = 200;
 
     private final LoadStockPort loadStockPort;
     private final AiAnalysisPort aiAnalysisPort;
     private final LoadStockPricePort loadStockPricePort;
-    private final SaveStockPricePort saveStockPricePort;
     private final KisClient kisClient;
+    private final SaveAnalysisHistoryPort saveAnalysisHistoryPort;
+    private final AnalysisResultCachePort analysisResultCachePort;
+    private final AiWorkerProperties aiWorkerProperties;
+    private final AnalysisCacheProperties analysisCacheProperties;
+    private final AnalysisSingleFlight analysisSingleFlight;
+    private final QuotaScheduler quotaScheduler;
+    private final StockPriceWriter stockPriceWriter;
+    private final TradingCalendarService tradingCalendarService;
 
+    /**
+     * AI 분석은 수십 초가 걸릴 수 있으므로 트랜잭션 없이 실행하여
+     * 분석 및 합류 대기 동안 DB 커넥션을 점유하지 않습니다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StockAnalysisResult analyze(String stockCode) {
+        return analyze(stockCode, stage -> { });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StockAnalysisResult analyze(String stockCode, Consumer<AnalysisStage> onStage) {
         log.info("주식 분석 시작: stockCode={}", stockCode);
 
         Stock stock = loadStockPort.loadByCode(stockCode)
@@ -51,14 +86,57 @@ class StockService implements AnalyzeStockUseCase, SyncStockPricesUseCase, GetSt
                     return new IllegalArgumentException("존재하지 않는 종목 코드: " + stockCode);
                 });
 
-        StockAnalysisResult result = aiAnalysisPort.requestAnalysis(stock);
-        log.info("주식 분석 완료: stockCode={}, recommendation={}", stockCode, result.recommendation());
+        // 분석 입력 구간을 먼저 조회하여 캐시 키를 만든다 (같은 구간을 AI Worker에도 그대로 전달)
+        List<DailyBar> window = loadStockPricePort.findRecentDailyBars(stock.getId(), aiWorkerProperties.getLookbackDays());
+        onStage.accept(AnalysisStage.PRICES_LOADED);
+        if (!analysisCacheProperties.isEnabled() || window.isEmpty()) {
+            return requestAnalysis(stock, window, onStage);
+        }
+
+        AnalysisCacheKey key = AnalysisCacheKey.of(stock.getId(), window);
+
+        // 1. Redis 캐시
+        Optional<StockAnalysisResult> cached = analysisResultCachePort.find(key);
+        if (cached.isPresent()) {
+            log.info("분석 결과 캐시 적중: stockCode={}, key={}", stockCode, key.asString());
+            return cached.get();
+        }
+
+        // 2. 최신 일봉 날짜에 배치가 이미 분석한 이력
+        Optional<StockAnalysisResult> history =
+            saveAnalysisHistoryPort.findResultByStockIdAndDate(stock.getId(), key.latestPriceDate());
+        if (history.isPresent()) {
+            analysisResultCachePort.put(key, history.get());
+            log.info("분석 이력 재사용: stockCode={}, analyzedDate={}", stockCode, key.latestPriceDate());
+            return history.get();
+        }
 
+        // 3. AI Worker 호출 (같은 키의 동시 요청은 하나로 합류), 결과는 대기 중인 다른 인스턴스를 위해 캐시에 저장
+        return analysisSingleFlight.execute(key, () -> {
+            StockAnalysisResult result = requestAnalysis(stock, window, onStage);
+            analysisResultCachePort.put(key, result);
+            return result;
+        });
+    }
+
+    @Override
+    public AnalysisCoalescingStats coalescingStats() {
+        return analysisSingleFlight.stats();
+    }
+
+    private StockAnalysisResult requestAnalysis(Stock stock, List<DailyBar> window, Consumer<AnalysisStage> onStage) {
+        quotaScheduler.acquire(QuotaResource.LLM, 1);
+        StockAnalysisResult result = aiAnalysisPort.requestAnalysis(stock, window, onStage);
+        log.info("주식 분석 완료: stockCode={}, recommendation={}", stock.getStockCode(), result.recommendation());
         return result;
     }
 
+    /**
+     * 호출 한도 대기와 KIS 호출은 트랜잭션 없이 수행하여 대기 중에 DB 커넥션을 점유하지 않고,
+     * 받은 일봉의 저장만 트랜잭션으로 처리합니다.
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int syncStockPrices(String stockCode, LocalDate startDate, LocalDate endDate) {
         log.info("시세 동기화 시작: stockCode={}, 기간={} ~ {}", stockCode, startDate, endDate);
 
@@ -69,59 +147,31 @@ class StockService implements AnalyzeStockUseCase, SyncStockPricesUseCase, GetSt
                 return new IllegalArgumentException("존재하지 않는 종목 코드: " + stockCode);
             });
 
-        // KIS API에서 시세 데이터 조회
-        KisOhlcvResponse response = kisClient.fetchDailyPrices(stockCode, startDate, endDate);
-
-        if (response.output1() == null || response.output1().isEmpty()) {
-            log.warn("조회된 시세 데이터가 없습니다: stockCode={}", stockCode);
+        // 기간을 영업일로 좁히고, 영업일이 없으면 원격 호출 없이 종료
+        LocalDate firstSession = tradingCalendarService.calendar().sessionOnOrAfter(startDate);
+        LocalDate lastSession = tradingCalendarService.calendar().sessionOnOrBefore(endDate);
+        if (firstSession.isAfter(lastSession)) {
+            log.info("기간 안에 영업일이 없어 시세 조회를 생략합니다: stockCode={}, 기간={} ~ {}", stockCode, startDate, endDate);
             return 0;
         }
 
-        // DTO를 엔티티로 변환 및 저장
-        List<StockPrice> stockPrices = new ArrayList<>();
-        for (KisOhlcvResponse.DailyPrice dailyPrice : response.output1()) {
-            LocalDate date = LocalDate.parse(dailyPrice.businessDate(), DATE_FORMATTER);
-            StockPriceId priceId = new StockPriceId(stock.getId(), date);
-
-            // 중복 체크: 이미 존재하면 업데이트, 없으면 생성
-            StockPrice stockPrice = loadStockPricePort.findById(priceId)
-                .orElseGet(() -> StockPrice.builder()
-                    .stock(stock)
-                    .date(date)
-                    .openPrice(new BigDecimal(dailyPrice.openPrice()))
-                    .highPrice(new BigDecimal(dailyPrice.highPrice()))
-                    .lowPrice(new BigDecimal(dailyPrice.lowPrice()))
-                    .closePrice(new BigDecimal(dailyPrice.closePrice()))
-                    .volume(Long.parseLong(dailyPrice.volume()))
-                    .changeRate(new BigDecimal(dailyPrice.changeRate()))
-                    .build());
-
-            // 기존 데이터 업데이트
-            if (loadStockPricePort.findById(priceId).isPresent()) {
-                stockPrice.updatePriceData(
-                    new BigDecimal(dailyPrice.openPrice()),
-                    new BigDecimal(dailyPrice.highPrice()),
-                    new BigDecimal(dailyPrice.lowPrice()),
-                    new BigDecimal(dailyPrice.closePrice()),
-                    Long.parseLong(dailyPrice.volume()),
-                    new BigDecimal(dailyPrice.changeRate())
-                );
-            }
+        // KIS API에서 시세 데이터 조회 (배치/사용자 요청이 나누어 쓰는 호출 한도 안에서)
+        quotaScheduler.acquire(QuotaResource.KIS, 1);
+        KisOhlcvResponse response = kisClient.fetchDailyPrices(stockCode, firstSession, lastSession);
 
-            stockPrices.add(stockPrice);
+        if (response.output1() == null || response.output1().isEmpty()) {
+            log.warn("조회된 시세 데이터가 없습니다: stockCode={}", stockCode);
+            return 0;
         }
 
-        // 일괄 저장
-        List<StockPrice> saved = saveStockPricePort.saveAll(stockPrices);
-        log.info("시세 동기화 완료: stockCode={}, 저장 건수={}", stockCode, saved.size());
-
-        return saved.size();
+        return stockPriceWriter.save(stock, response.output1());
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int syncRecentStockPrices(String stockCode, int days) {
-        LocalDate endDate = LocalDate.now();
+        // 휴장일에 호출되어도 직전 영업일까지의 최근 N일을 받도록 끝을 최근 영업일로 맞춤
+        LocalDate endDate = tradingCalendarService.latestSession();
         LocalDate startDate = endDate.minusDays(days);
         return syncStockPrices(stockCode, startDate, endDate);
     }
@@ -164,4 +214,57 @@ class StockService implements AnalyzeStockUseCase, SyncStockPricesUseCase, GetSt
         log.info("최근 시세 조회 완료: stockCode={}, 조회 건수={}", stockCode, prices.size());
         return prices;
     }
+
+    @Override
+    public List<RecentStockPrices> getRecentStockPrices(List<String> stockCodes, int days) {
+        LinkedHashSet<String> codes = new LinkedHashSet<>(stockCodes);
+        if (codes.isEmpty() || codes.size() > MAX_BULK_STOCK_CODES) {
+            throw new IllegalArgumentException("종목 코드는 1~" + MAX_BULK_STOCK_CODES + "개까지 조회할 수 있습니다: " + codes.size());
+        }
+
+        Map<String, Stock> stocks = loadStockPort.loadByCodes(codes).stream()
+            .collect(Collectors.toMap(Stock::getStockCode, Function.identity()));
+        if (stocks.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<StockPriceRow>> rowsByStockId = new HashMap<>();
+        for (StockPriceRow row : loadStockPricePort.findRecentPriceRows(
+            stocks.values().stream().map(Stock::getId).toList(), days)) {
+            rowsByStockId.computeIfAbsent(row.stockId(), id -> new ArrayList<>()).add(row);
+        }
+
+        List<RecentStockPrices> result = new ArrayList<>(stocks.size());
+        for (String code : codes) {
+            Stock stock = stocks.get(code);
+            if (stock != null) {
+                result.add(new RecentStockPrices(code, stock.getStockName(),
+                    rowsByStockId.getOrDefault(stock.getId(), List.of())));
+            }
+        }
+        log.info("다종목 시세 조회 완료: 요청={} 종목, 조회={} 종목, days={}", codes.size(), result.size(), days);
+        return result;
+    }
+
+    @Override
+    public PriceStream streamStockPrices(String stockCode, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다: " + startDate + " > " + endDate);
+        }
+        Stock stock = loadStockPort.loadByCode(stockCode)
+            .orElseThrow(() -> {
+                log.error("종목을 찾을 수 없습니다: stockCode={}", stockCode);
+                return new IllegalArgumentException("존재하지 않는 종목 코드: " + stockCode);
+            });
+
+        Long stockId = stock.getId();
+        return consumer -> {
+            long[] count = new long[1];
+            loadStockPricePort.forEachStockPrice(stockId, startDate, endDate, row -> {
+                consumer.accept(row);
+                count[0]++;
+            });
+            return count[0];
+        };
+    }
 }
@@ -0,0 +1,109 @@
+package com.project.stock.domain.stock.application.startup;
+
+import com.project.stock.common.config.StartupProperties;
+import com.project.stock.domain.stock.application.port.in.StartupReportUseCase;
+import com.project.stock.domain.stock.domain.startup.StartupReport;
+import com.project.stock.domain.stock.domain.startup.StartupReport.WarmupPhase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 기동 벤치마크.
+ * JVM 시작 → 준비 완료 보고 → 첫 요청 응답까지의 시간과, 백그라운드 워밍업 단계별 소요 시간을 기록합니다.
+ * 첫 요청을 응답하면 한 줄 요약을 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class StartupBenchmark implements StartupReportUseCase {
+
+    private final StartupProperties startupProperties;
+    private final ApplicationAvailability applicationAvailability;
+    private final long jvmStartedAt = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private final Map<String, WarmupPhase> phases = new LinkedHashMap<>();
+    private final AtomicBoolean firstRequestRecorded = new AtomicBoolean();
+    private volatile long readyAt;
+    private volatile long firstRequestAt;
+    private volatile String firstRequest;
+
+    public StartupBenchmark(StartupProperties startupProperties, ApplicationAvailability applicationAvailability) {
+        this.startupProperties = startupProperties;
+        this.applicationAvailability = applicationAvailability;
+    }
+
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC && readyAt == 0) {
+            readyAt = System.currentTimeMillis();
+            log.info("기동 완료: JVM 시작 → 준비 완료 {}ms (빠른 기동={})", readyAt - jvmStartedAt, startupProperties.isFast());
+        }
+    }
+
+    @Override
+    public void requestServed(String request) {
+        if (firstRequestRecorded.get() || !firstRequestRecorded.compareAndSet(false, true)) {
+            return;
+        }
+        firstRequestAt = System.currentTimeMillis();
+        firstRequest = request;
+        StartupReport report = report();
+        log.info("기동 벤치마크: JVM 시작 → 준비 완료 {}ms, 준비 완료 → 첫 응답 {}ms, JVM 시작 → 첫 응답 {}ms ({}), 워밍업={}",
+            report.jvmToReadyMs(), report.readyToFirstRequestMs(), report.jvmToFirstRequestMs(), request, report.warmup());
+    }
+
+    /**
+     * 워밍업 단계를 실행하고 소요 시간을 기록합니다. 실패는 기록만 하고 호출자에게 전파하지 않습니다.
+     *
+     * @param task 적재한 항목 수를 반환하는 작업
+     */
+    public void measure(String phase, LongSupplier task) {
+        long start = System.currentTimeMillis();
+        record(new WarmupPhase(phase, WarmupPhase.Status.RUNNING, 0, start - jvmStartedAt, null, null));
+        try {
+            long items = task.getAsLong();
+            long elapsed = System.currentTimeMillis() - start;
+            record(new WarmupPhase(phase, WarmupPhase.Status.DONE, items, start - jvmStartedAt, elapsed, null));
+            log.info("워밍업 완료: {} - {} 건, {}ms", phase, items, elapsed);
+        } catch (Exception e) {
+            long elapsed = System.currentTimeMillis() - start;
+            record(new WarmupPhase(phase, WarmupPhase.Status.FAILED, 0, start - jvmStartedAt, elapsed, e.getMessage()));
+            log.error("워밍업 실패: {} - {}", phase, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public StartupReport report() {
+        long ready = readyAt;
+        long served = firstRequestAt;
+        List<WarmupPhase> warmup;
+        synchronized (phases) {
+            warmup = List.copyOf(phases.values());
+        }
+        return new StartupReport(
+            startupProperties.isFast(),
+            applicationAvailability.getReadinessState().name(),
+            ready == 0 ? null : ready - jvmStartedAt,
+            ready == 0 || served == 0 ? null : served - ready,
+            served == 0 ? null : served - jvmStartedAt,
+            firstRequest,
+            warmup
+        );
+    }
+
+    private void record(WarmupPhase phase) {
+        synchronized (phases) {
+            phases.put(phase.name(), phase);
+        }
+    }
+}
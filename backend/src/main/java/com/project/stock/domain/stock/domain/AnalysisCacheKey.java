@@ -0,0 +1,70 @@
+package com.project.stock.domain.stock.domain;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 분석 결과 캐시 키 (내용 주소 방식).
+ * 같은 종목이라도 최신 일봉 날짜나 입력 구간의 시세 값이 하나라도 바뀌면 다른 키가 되므로,
+ * 별도의 무효화 없이 데이터가 바뀐 경우에만 새로 분석하게 됩니다.
+ *
+ * @param stockId         종목 ID
+ * @param latestPriceDate 입력 구간의 마지막 일봉 날짜
+ * @param windowHash      입력 구간 OHLCV의 SHA-256 (앞 16바이트, hex)
+ */
+public record AnalysisCacheKey(
+        long stockId,
+        LocalDate latestPriceDate,
+        String windowHash
+) {
+
+    private static final int HASH_BYTES = 16;
+
+    /**
+     * 날짜 오름차순 입력 구간으로부터 키를 만듭니다.
+     *
+     * @throws IllegalArgumentException 입력 구간이 비어 있는 경우
+     */
+    public static AnalysisCacheKey of(long stockId, List<DailyBar> window) {
+        if (window.isEmpty()) {
+            throw new IllegalArgumentException("분석 입력 구간이 비어 있습니다.");
+        }
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 6);
+        for (DailyBar bar : window) {
+            buffer.clear();
+            buffer.putLong(bar.date().toEpochDay())
+                .putDouble(bar.open())
+                .putDouble(bar.high())
+                .putDouble(bar.low())
+                .putDouble(bar.close())
+                .putLong(bar.volume());
+            digest.update(buffer.array());
+        }
+        byte[] hash = digest.digest();
+        return new AnalysisCacheKey(
+            stockId,
+            window.get(window.size() - 1).date(),
+            HexFormat.of().formatHex(hash, 0, HASH_BYTES)
+        );
+    }
+
+    /**
+     * 저장소 키 문자열 (예: {@code 42:2024-05-17:3f2a...}).
+     */
+    public String asString() {
+        return stockId + ":" + latestPriceDate + ":" + windowHash;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.stock.domain.stock.domain;
+
+/**
+ * 분석 요청 합류(single-flight) 통계 (기동 이후 누적).
+ *
+ * @param executions     실제로 AI Worker를 호출한 횟수
+ * @param localJoins     같은 인스턴스의 진행 중인 분석에 합류한 요청 수
+ * @param remoteJoins    다른 인스턴스가 수행한 분석 결과를 받은 요청 수
+ * @param collapsedCalls AI Worker 호출 없이 처리된(합류된) 요청 수
+ * @param timeouts       진행 중인 분석을 기다리다 시간 초과된 요청 수
+ * @param inFlight       현재 이 인스턴스에서 진행 중인 분석 수
+ */
+public record AnalysisCoalescingStats(
+        long executions,
+        long localJoins,
+        long remoteJoins,
+        long collapsedCalls,
+        long timeouts,
+        int inFlight
+) {
+}
@@ -0,0 +1,16 @@
+package com.project.stock.domain.stock.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 분석 이력 저장 완료 이벤트.
+ * 일일 배치가 종목의 분석 결과를 stock_analysis_history에 저장한 뒤 발행됩니다.
+ */
+public record AnalysisHistorySavedEvent(
+        Long stockId,
+        String stockCode,
+        LocalDate analyzedDate,
+        StockAnalysisResult.Recommendation recommendation,
+        Integer confidenceScore
+) {
+}
@@ -0,0 +1,39 @@
+package com.project.stock.domain.stock.domain;
+
+import java.time.Instant;
+
+/**
+ * 비동기 분석 작업 상태 스냅샷 (불변).
+ * 단계가 바뀔 때마다 새 스냅샷으로 교체됩니다.
+ */
+public record AnalysisJob(
+        String jobId,
+        String stockCode,
+        AnalysisStage stage,
+        StockAnalysisResult result,
+        String error,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static AnalysisJob queued(String jobId, String stockCode) {
+        Instant now = Instant.now();
+        return new AnalysisJob(jobId, stockCode, AnalysisStage.QUEUED, null, null, now, now);
+    }
+
+    public AnalysisJob withStage(AnalysisStage stage) {
+        return new AnalysisJob(jobId, stockCode, stage, null, null, createdAt, Instant.now());
+    }
+
+    public AnalysisJob completed(StockAnalysisResult result) {
+        return new AnalysisJob(jobId, stockCode, AnalysisStage.COMPLETED, result, null, createdAt, Instant.now());
+    }
+
+    public AnalysisJob failed(String error) {
+        return new AnalysisJob(jobId, stockCode, AnalysisStage.FAILED, null, error, createdAt, Instant.now());
+    }
+
+    public boolean isTerminal() {
+        return stage.isTerminal();
+    }
+}
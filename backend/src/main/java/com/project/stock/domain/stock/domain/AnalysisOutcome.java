@@ -0,0 +1,25 @@
+package com.project.stock.domain.stock.domain;
+
+/**
+ * 배치 분석의 종목별 결과.
+ * 성공 시 result, 실패 시 error가 채워지며 한 종목의 실패는 다른 종목 결과에 영향을 주지 않습니다.
+ */
+public record AnalysisOutcome(
+        Stock stock,
+        StockAnalysisResult result,
+        String error,
+        long elapsedMillis
+) {
+
+    public static AnalysisOutcome success(Stock stock, StockAnalysisResult result, long elapsedMillis) {
+        return new AnalysisOutcome(stock, result, null, elapsedMillis);
+    }
+
+    public static AnalysisOutcome failure(Stock stock, String error, long elapsedMillis) {
+        return new AnalysisOutcome(stock, null, error, elapsedMillis);
+    }
+
+    public boolean isSuccess() {
+        return result != null;
+    }
+}
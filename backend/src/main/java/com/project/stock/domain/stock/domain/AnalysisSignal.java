@@ -0,0 +1,26 @@
+package com.project.stock.domain.stock.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 분석 이력의 매매 신호 읽기 전용 모델 (백테스트용).
+ */
+public record AnalysisSignal(
+        long stockId,
+        LocalDate date,
+        StockAnalysisResult.Recommendation recommendation,
+        int confidenceScore
+) {
+
+    /**
+     * JPQL 생성자 표현식(select new)용 생성자.
+     */
+    public AnalysisSignal(
+            Long stockId,
+            LocalDate date,
+            StockAnalysisResult.Recommendation recommendation,
+            Integer confidenceScore
+    ) {
+        this(stockId.longValue(), date, recommendation, confidenceScore.intValue());
+    }
+}
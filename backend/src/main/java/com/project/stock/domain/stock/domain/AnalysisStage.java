@@ -0,0 +1,24 @@
+package com.project.stock.domain.stock.domain;
+
+/**
+ * 비동기 분석 작업의 진행 단계.
+ */
+public enum AnalysisStage {
+
+    /** 실행 대기 중 */
+    QUEUED,
+    /** 분석 입력 시세 조회 완료 */
+    PRICES_LOADED,
+    /** AI Worker 지표/패턴 계산 완료 */
+    INDICATORS_COMPUTED,
+    /** LLM 분석 완료 */
+    LLM_COMPLETED,
+    /** 최종 결과 확정 (캐시 적중 포함) */
+    COMPLETED,
+    /** 실패 */
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.stock.domain.stock.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일봉 시세 읽기 전용 모델.
+ * 대량 조회 시 StockPrice 엔티티 대신 사용하는 원시 타입 기반 값 객체입니다.
+ */
+public record DailyBar(
+        long stockId,
+        LocalDate date,
+        double open,
+        double high,
+        double low,
+        double close,
+        long volume
+) {
+
+    /**
+     * JPQL 생성자 표현식(select new)용 생성자.
+     */
+    public DailyBar(
+            Long stockId,
+            LocalDate date,
+            BigDecimal open,
+            BigDecimal high,
+            BigDecimal low,
+            BigDecimal close,
+            Long volume
+    ) {
+        this(stockId, date, open.doubleValue(), high.doubleValue(), low.doubleValue(), close.doubleValue(), volume);
+    }
+}
@@ -0,0 +1,13 @@
+package com.project.stock.domain.stock.domain;
+
+import java.util.List;
+
+/**
+ * 종목별 최근 시세 묶음 (날짜 내림차순).
+ */
+public record RecentStockPrices(
+        String stockCode,
+        String stockName,
+        List<StockPriceRow> prices
+) {
+}
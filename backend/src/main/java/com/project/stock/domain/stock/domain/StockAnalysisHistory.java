@@ -101,4 +101,17 @@ public class StockAnalysisHistory {
             .riskFactors(result.riskFactors())
             .build();
     }
+
+    /**
+     * 저장된 이력을 분석 결과 도메인 모델로 변환합니다.
+     */
+    public StockAnalysisResult toAnalysisResult() {
+        return StockAnalysisResult.builder()
+            .recommendation(recommendation)
+            .confidenceScore(confidenceScore)
+            .technicalAnalysis(technicalAnalysis)
+            .supplyAnalysis(supplyAnalysis)
+            .riskFactors(riskFactors != null ? List.copyOf(riskFactors) : List.of())
+            .build();
+    }
 }
@@ -0,0 +1,20 @@
+package com.project.stock.domain.stock.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 시세 내보내기용 읽기 전용 행.
+ * 엔티티를 영속성 컨텍스트에 적재하지 않으면서 원 단위 정밀도(BigDecimal)와 등락률을 유지합니다.
+ */
+public record StockPriceRow(
+        Long stockId,
+        LocalDate date,
+        BigDecimal open,
+        BigDecimal high,
+        BigDecimal low,
+        BigDecimal close,
+        Long volume,
+        BigDecimal changeRate
+) {
+}
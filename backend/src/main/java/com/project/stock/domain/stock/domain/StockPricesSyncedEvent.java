@@ -0,0 +1,12 @@
+package com.project.stock.domain.stock.domain;
+
+/**
+ * 시세 동기화 완료 이벤트.
+ * 새 일봉이 저장된 뒤 발행되며, 인덱스/캐시 갱신 등 후속 처리의 트리거로 사용됩니다.
+ */
+public record StockPricesSyncedEvent(
+        Long stockId,
+        String stockCode,
+        int savedCount
+) {
+}
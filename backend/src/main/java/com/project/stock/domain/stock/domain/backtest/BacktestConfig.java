@@ -0,0 +1,73 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 체결/자금 관리 설정.
+ *
+ * @param initialCapital  초기 자본 (원)
+ * @param commissionBps   매매 수수료 (bp, 매수/매도 각각)
+ * @param sellTaxBps      매도 시 증권거래세 (bp)
+ * @param slippageBps     슬리피지 (bp, 불리한 방향으로 적용)
+ * @param positionSizePct 신규 진입 1건당 투입 비율 (직전 평가금액 대비 %)
+ * @param maxPositions    동시 보유 종목 수 상한
+ * @param stopLossPct     손절 비율 (%, 0이면 미사용)
+ * @param takeProfitPct   익절 비율 (%, 0이면 미사용)
+ * @param minConfidence   AI 신호 최소 신뢰도 (AI_SIGNAL 전략 전용)
+ */
+public record BacktestConfig(
+        double initialCapital,
+        double commissionBps,
+        double sellTaxBps,
+        double slippageBps,
+        double positionSizePct,
+        int maxPositions,
+        double stopLossPct,
+        double takeProfitPct,
+        int minConfidence
+) {
+
+    /**
+     * 그리드에서 설정값을 덮어쓸 수 있는 예약 파라미터 이름.
+     */
+    public static final Set<String> OVERRIDABLE_KEYS = Set.of(
+            "commission_bps", "sell_tax_bps", "slippage_bps", "position_size_pct",
+            "max_positions", "stop_loss_pct", "take_profit_pct", "min_confidence"
+    );
+
+    public BacktestConfig {
+        if (initialCapital <= 0) {
+            throw new IllegalArgumentException("초기 자본은 0보다 커야 합니다: " + initialCapital);
+        }
+        if (commissionBps < 0 || sellTaxBps < 0 || slippageBps < 0) {
+            throw new IllegalArgumentException("수수료/세금/슬리피지는 음수일 수 없습니다");
+        }
+        if (positionSizePct <= 0 || positionSizePct > 100) {
+            throw new IllegalArgumentException("포지션 비율은 0 초과 100 이하여야 합니다: " + positionSizePct);
+        }
+        if (maxPositions < 1) {
+            throw new IllegalArgumentException("최대 보유 종목 수는 1 이상이어야 합니다: " + maxPositions);
+        }
+        if (stopLossPct < 0 || stopLossPct >= 100 || takeProfitPct < 0) {
+            throw new IllegalArgumentException("손절/익절 비율이 올바르지 않습니다: " + stopLossPct + ", " + takeProfitPct);
+        }
+    }
+
+    /**
+     * 파라미터 조합 중 예약 이름에 해당하는 값으로 설정을 덮어씁니다.
+     */
+    public BacktestConfig withOverrides(Map<String, Double> parameters) {
+        return new BacktestConfig(
+                initialCapital,
+                parameters.getOrDefault("commission_bps", commissionBps),
+                parameters.getOrDefault("sell_tax_bps", sellTaxBps),
+                parameters.getOrDefault("slippage_bps", slippageBps),
+                parameters.getOrDefault("position_size_pct", positionSizePct),
+                (int) Math.round(parameters.getOrDefault("max_positions", (double) maxPositions)),
+                parameters.getOrDefault("stop_loss_pct", stopLossPct),
+                parameters.getOrDefault("take_profit_pct", takeProfitPct),
+                (int) Math.round(parameters.getOrDefault("min_confidence", (double) minConfidence))
+        );
+    }
+}
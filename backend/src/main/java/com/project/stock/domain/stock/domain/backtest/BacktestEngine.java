@@ -0,0 +1,246 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+
+import java.util.Map;
+
+/**
+ * 일봉 기반 이벤트 구동 백테스트 엔진.
+ *
+ * <p>하루는 다음 순서로 처리합니다.
+ * <ol>
+ *     <li>시가: 전일 종가에 발생한 청산 → 진입 주문 체결 (슬리피지/수수료/매도세 적용)</li>
+ *     <li>장중: 고가/저가로 손절·익절 판정 (갭 발생 시 시가 체결, 동시 충족 시 손절 우선)</li>
+ *     <li>종가: 평가금액 기록 후 당일 신호로 다음 날 주문 생성</li>
+ * </ol>
+ * 신호는 항상 다음 거래일 시가에 체결되므로 미래 데이터를 참조하지 않습니다.
+ * 기간 종료 시 보유 포지션은 마지막 종가로 청산합니다.
+ *
+ * <p>모든 상태는 {@link #run} 호출 내부의 지역 변수이므로, 같은 유니버스/신호를 여러 스레드가 동시에 실행해도 안전합니다.
+ */
+public final class BacktestEngine {
+
+    private static final double TRADING_DAYS_PER_YEAR = 252.0;
+
+    private BacktestEngine() {
+    }
+
+    public static BacktestRun run(
+            BacktestUniverse universe,
+            BacktestSignals signals,
+            BacktestConfig config,
+            Map<String, Double> parameters,
+            boolean keepEquityCurve
+    ) {
+        int stocks = universe.stockCount();
+        int days = universe.length();
+
+        double commission = config.commissionBps() / 10_000.0;
+        double sellTax = config.sellTaxBps() / 10_000.0;
+        double slippage = config.slippageBps() / 10_000.0;
+        double positionFraction = config.positionSizePct() / 100.0;
+        double stopLoss = config.stopLossPct() / 100.0;
+        double takeProfit = config.takeProfitPct() / 100.0;
+
+        long[] shares = new long[stocks];
+        double[] entryPrice = new double[stocks];
+        double[] entryCost = new double[stocks];
+        double[] lastClose = new double[stocks];
+        boolean[] pendingEntry = new boolean[stocks];
+        boolean[] pendingExit = new boolean[stocks];
+
+        double cash = config.initialCapital();
+        double equity = cash;
+        int openPositions = 0;
+        double[] curve = new double[days];
+        int exposedDays = 0;
+
+        TradeLog trades = new TradeLog();
+
+        for (int t = 0; t < days; t++) {
+            double equityBeforeOpen = equity;
+
+            // 1. 시가 체결: 청산 먼저, 확보된 현금으로 진입
+            for (int k = 0; k < stocks; k++) {
+                if (!pendingExit[k]) {
+                    continue;
+                }
+                int i = universe.barIndex(k, t);
+                if (i < 0) {
+                    continue;
+                }
+                pendingExit[k] = false;
+                if (shares[k] > 0) {
+                    double fill = universe.series(k).open(i) * (1 - slippage);
+                    cash += sell(shares[k], fill, commission, sellTax, entryCost[k], trades);
+                    shares[k] = 0;
+                    openPositions--;
+                }
+            }
+            for (int k = 0; k < stocks; k++) {
+                if (!pendingEntry[k]) {
+                    continue;
+                }
+                pendingEntry[k] = false;
+                int i = universe.barIndex(k, t);
+                if (i < 0 || shares[k] > 0 || openPositions >= config.maxPositions()) {
+                    continue;
+                }
+                double fill = universe.series(k).open(i) * (1 + slippage);
+                double budget = Math.min(equityBeforeOpen * positionFraction, cash);
+                long quantity = (long) Math.floor(budget / (fill * (1 + commission)));
+                if (quantity <= 0) {
+                    continue;
+                }
+                double cost = quantity * fill * (1 + commission);
+                cash -= cost;
+                shares[k] = quantity;
+                entryPrice[k] = fill;
+                entryCost[k] = cost;
+                openPositions++;
+            }
+
+            // 2. 장중 손절/익절
+            for (int k = 0; k < stocks; k++) {
+                int i = universe.barIndex(k, t);
+                if (i >= 0) {
+                    PriceSeries series = universe.series(k);
+                    lastClose[k] = series.close(i);
+                    if (shares[k] > 0 && (stopLoss > 0 || takeProfit > 0)) {
+                        double stopPrice = entryPrice[k] * (1 - stopLoss);
+                        double targetPrice = entryPrice[k] * (1 + takeProfit);
+                        double exitAt = Double.NaN;
+                        if (stopLoss > 0 && series.low(i) <= stopPrice) {
+                            exitAt = Math.min(series.open(i), stopPrice);
+                        } else if (takeProfit > 0 && series.high(i) >= targetPrice) {
+                            exitAt = Math.max(series.open(i), targetPrice);
+                        }
+                        if (!Double.isNaN(exitAt)) {
+                            cash += sell(shares[k], exitAt * (1 - slippage), commission, sellTax, entryCost[k], trades);
+                            shares[k] = 0;
+                            openPositions--;
+                        }
+                    }
+                }
+            }
+            // 3. 종가 평가
+            equity = cash + positionsValue(shares, lastClose, stocks);
+            curve[t] = equity;
+            if (openPositions > 0) {
+                exposedDays++;
+            }
+
+            // 4. 종가 신호 → 다음 거래일 주문
+            if (t == days - 1) {
+                break;
+            }
+            for (int k = 0; k < stocks; k++) {
+                int i = universe.barIndex(k, t);
+                if (i < 0) {
+                    continue;
+                }
+                if (shares[k] > 0) {
+                    pendingExit[k] = signals.exit(k, i);
+                } else {
+                    pendingEntry[k] = signals.entry(k, i);
+                }
+            }
+        }
+
+        // 기간 종료: 마지막 종가로 청산
+        for (int k = 0; k < stocks; k++) {
+            if (shares[k] > 0) {
+                cash += sell(shares[k], lastClose[k] * (1 - slippage), commission, sellTax, entryCost[k], trades);
+                shares[k] = 0;
+            }
+        }
+        curve[days - 1] = cash;
+
+        BacktestStatistics statistics = statistics(universe, config, curve, exposedDays, trades);
+        return new BacktestRun(parameters, statistics, keepEquityCurve ? curve : null);
+    }
+
+    private static double sell(long quantity, double fill, double commission, double sellTax,
+                               double cost, TradeLog trades) {
+        double proceeds = quantity * fill * (1 - commission - sellTax);
+        trades.record(proceeds - cost, proceeds / cost - 1);
+        return proceeds;
+    }
+
+    private static double positionsValue(long[] shares, double[] lastClose, int stocks) {
+        double value = 0;
+        for (int k = 0; k < stocks; k++) {
+            if (shares[k] > 0) {
+                value += shares[k] * lastClose[k];
+            }
+        }
+        return value;
+    }
+
+    private static BacktestStatistics statistics(BacktestUniverse universe, BacktestConfig config,
+                                                 double[] curve, int exposedDays, TradeLog trades) {
+        int days = curve.length;
+        double initial = config.initialCapital();
+        double finalEquity = curve[days - 1];
+
+        double peak = initial;
+        double maxDrawdown = 0;
+        double sum = 0;
+        double sumSq = 0;
+        double previous = initial;
+        for (double value : curve) {
+            peak = Math.max(peak, value);
+            maxDrawdown = Math.max(maxDrawdown, peak > 0 ? (peak - value) / peak : 0);
+            double dailyReturn = previous > 0 ? value / previous - 1 : 0;
+            sum += dailyReturn;
+            sumSq += dailyReturn * dailyReturn;
+            previous = value;
+        }
+        double mean = sum / days;
+        double variance = days > 1 ? Math.max(0, (sumSq - days * mean * mean) / (days - 1)) : 0;
+        double std = Math.sqrt(variance);
+        double sharpe = std == 0 ? 0 : mean / std * Math.sqrt(TRADING_DAYS_PER_YEAR);
+
+        long calendarDays = universe.date(days - 1).toEpochDay() - universe.date(0).toEpochDay();
+        double years = Math.max(calendarDays, 1) / 365.25;
+        double growth = finalEquity / initial;
+        double cagr = growth > 0 ? Math.pow(growth, 1 / years) - 1 : -1;
+
+        return new BacktestStatistics(
+                finalEquity,
+                (growth - 1) * 100,
+                cagr * 100,
+                maxDrawdown * 100,
+                sharpe,
+                std * Math.sqrt(TRADING_DAYS_PER_YEAR) * 100,
+                trades.count,
+                trades.count == 0 ? 0 : trades.wins * 100.0 / trades.count,
+                trades.count == 0 ? 0 : trades.returnSum / trades.count * 100,
+                trades.grossLoss == 0 ? Double.NaN : trades.grossProfit / trades.grossLoss,
+                exposedDays * 100.0 / days
+        );
+    }
+
+    /**
+     * 거래 단위 누적 통계 (run 호출마다 새로 생성).
+     */
+    private static final class TradeLog {
+
+        private int count;
+        private int wins;
+        private double grossProfit;
+        private double grossLoss;
+        private double returnSum;
+
+        private void record(double pnl, double returnRate) {
+            count++;
+            returnSum += returnRate;
+            if (pnl > 0) {
+                wins++;
+                grossProfit += pnl;
+            } else {
+                grossLoss -= pnl;
+            }
+        }
+    }
+}
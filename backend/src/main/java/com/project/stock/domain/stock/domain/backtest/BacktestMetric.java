@@ -0,0 +1,24 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+/**
+ * 파라미터 조합 정렬 기준.
+ */
+public enum BacktestMetric {
+
+    SHARPE,
+    TOTAL_RETURN,
+    CAGR,
+    MAX_DRAWDOWN;
+
+    /**
+     * 클수록 좋은 값으로 변환합니다 (최대 낙폭은 부호 반전).
+     */
+    public double score(BacktestStatistics statistics) {
+        return switch (this) {
+            case SHARPE -> statistics.sharpe();
+            case TOTAL_RETURN -> statistics.totalReturnPct();
+            case CAGR -> statistics.cagrPct();
+            case MAX_DRAWDOWN -> -statistics.maxDrawdownPct();
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 파라미터 스윕 결과 리포트.
+ *
+ * @param dates         평가금액 곡선의 날짜 축 (곡선을 포함한 경우에만, 아니면 빈 목록)
+ * @param combinations  실행한 파라미터 조합 수
+ * @param elapsedMillis 신호 계산 + 시뮬레이션 소요 시간
+ * @param runs          정렬 기준 상위 결과
+ */
+public record BacktestReport(
+        BacktestStrategy strategy,
+        BacktestMetric rankBy,
+        List<String> stockCodes,
+        LocalDate startDate,
+        LocalDate endDate,
+        int tradingDays,
+        int combinations,
+        long elapsedMillis,
+        List<LocalDate> dates,
+        List<BacktestRun> runs
+) {
+}
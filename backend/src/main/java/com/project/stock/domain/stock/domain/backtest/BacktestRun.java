@@ -0,0 +1,15 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+import java.util.Map;
+
+/**
+ * 파라미터 조합 1건의 백테스트 결과.
+ *
+ * @param equityCurve 일별 평가금액 (타임라인 순서, 요청하지 않았으면 null)
+ */
+public record BacktestRun(
+        Map<String, Double> parameters,
+        BacktestStatistics statistics,
+        double[] equityCurve
+) {
+}
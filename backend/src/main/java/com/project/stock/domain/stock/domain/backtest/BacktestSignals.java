@@ -0,0 +1,35 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+import java.util.List;
+
+/**
+ * 종목별 진입/청산 신호 ([종목][시계열 인덱스]).
+ * 진입은 모든 조건을 만족(AND), 청산은 하나라도 만족(OR)할 때 발생합니다.
+ * 조건 배열은 여러 파라미터 조합이 공유하므로 읽기 전용으로만 사용합니다.
+ */
+public record BacktestSignals(
+        List<boolean[][]> entryConditions,
+        List<boolean[][]> exitConditions
+) {
+
+    public boolean entry(int stock, int index) {
+        if (entryConditions.isEmpty()) {
+            return false;
+        }
+        for (boolean[][] condition : entryConditions) {
+            if (!condition[stock][index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean exit(int stock, int index) {
+        for (boolean[][] condition : exitConditions) {
+            if (condition[stock][index]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 백테스트 실행 명세.
+ *
+ * @param strategy       신호 출처
+ * @param stockCodes     대상 종목 (비어 있으면 활성 관심 종목)
+ * @param startDate      시작일 (null이면 캐시된 전체 기간)
+ * @param endDate        종료일 (null이면 최신 거래일)
+ * @param entryRule      진입 식 템플릿 (RULE 필수, AI_SIGNAL 선택)
+ * @param exitRule       청산 식 템플릿 (선택)
+ * @param config         기본 체결/자금 관리 설정
+ * @param parameterGrid  파라미터 그리드 (식의 {name} 치환 또는 {@link BacktestConfig#OVERRIDABLE_KEYS} 덮어쓰기)
+ * @param rankBy         결과 정렬 기준
+ * @param limit          반환할 상위 조합 수
+ * @param equityCurves   평가금액 곡선을 포함할 상위 조합 수
+ */
+public record BacktestSpec(
+        BacktestStrategy strategy,
+        List<String> stockCodes,
+        LocalDate startDate,
+        LocalDate endDate,
+        String entryRule,
+        String exitRule,
+        BacktestConfig config,
+        Map<String, List<Double>> parameterGrid,
+        BacktestMetric rankBy,
+        int limit,
+        int equityCurves
+) {
+}
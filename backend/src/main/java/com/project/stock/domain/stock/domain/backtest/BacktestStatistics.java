@@ -0,0 +1,31 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+/**
+ * 백테스트 요약 통계.
+ *
+ * @param finalEquity       최종 평가금액
+ * @param totalReturnPct    누적 수익률 (%)
+ * @param cagrPct           연환산 수익률 (%)
+ * @param maxDrawdownPct    최대 낙폭 (%, 양수)
+ * @param sharpe            연환산 샤프 비율 (무위험 수익률 0 가정)
+ * @param volatilityPct     연환산 변동성 (%)
+ * @param trades            청산 완료된 거래 수
+ * @param winRatePct        승률 (%)
+ * @param avgTradeReturnPct 거래당 평균 수익률 (비용 차감, %)
+ * @param profitFactor      총이익 / 총손실 (손실 거래가 없으면 NaN)
+ * @param exposurePct       포지션 보유 일수 비율 (%)
+ */
+public record BacktestStatistics(
+        double finalEquity,
+        double totalReturnPct,
+        double cagrPct,
+        double maxDrawdownPct,
+        double sharpe,
+        double volatilityPct,
+        int trades,
+        double winRatePct,
+        double avgTradeReturnPct,
+        double profitFactor,
+        double exposurePct
+) {
+}
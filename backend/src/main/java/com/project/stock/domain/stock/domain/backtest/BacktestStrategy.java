@@ -0,0 +1,18 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+/**
+ * 백테스트 진입/청산 신호 출처.
+ */
+public enum BacktestStrategy {
+
+    /**
+     * 진입/청산 식(스크리너 식 문법)으로 신호를 생성합니다.
+     */
+    RULE,
+
+    /**
+     * stock_analysis_history의 BUY/SELL 추천을 신호로 사용합니다.
+     * 진입 식이 있으면 추가 필터(AND), 청산 식이 있으면 추가 청산 조건(OR)으로 적용합니다.
+     */
+    AI_SIGNAL
+}
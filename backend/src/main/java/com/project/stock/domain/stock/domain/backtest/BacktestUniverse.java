@@ -0,0 +1,93 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 백테스트 대상 종목과 공통 거래일 타임라인 (불변).
+ * 타임라인은 대상 종목 거래일의 합집합이며, 종목별로 타임라인 위치 → 시계열 인덱스 매핑을 미리 계산해 둡니다.
+ * 여러 파라미터 조합이 동시에 읽기만 하므로 공유해도 안전합니다.
+ */
+public final class BacktestUniverse {
+
+    private final List<PriceSeries> series;
+    private final int[] timeline;
+    private final int[][] barIndex;
+
+    private BacktestUniverse(List<PriceSeries> series, int[] timeline, int[][] barIndex) {
+        this.series = series;
+        this.timeline = timeline;
+        this.barIndex = barIndex;
+    }
+
+    /**
+     * @param startDate 시작일 (null이면 전체)
+     * @param endDate   종료일 (null이면 전체)
+     */
+    public static BacktestUniverse of(List<PriceSeries> series, LocalDate startDate, LocalDate endDate) {
+        int from = startDate == null ? Integer.MIN_VALUE : (int) startDate.toEpochDay();
+        int to = endDate == null ? Integer.MAX_VALUE : (int) endDate.toEpochDay();
+
+        TreeSet<Integer> days = new TreeSet<>();
+        for (PriceSeries s : series) {
+            for (int i = 0; i < s.size(); i++) {
+                int day = s.epochDay(i);
+                if (day >= from && day <= to) {
+                    days.add(day);
+                }
+            }
+        }
+        int[] timeline = days.stream().mapToInt(Integer::intValue).toArray();
+        if (timeline.length < 2) {
+            throw new IllegalArgumentException("백테스트 기간 내 거래일이 부족합니다");
+        }
+
+        int[][] barIndex = new int[series.size()][timeline.length];
+        for (int k = 0; k < series.size(); k++) {
+            PriceSeries s = series.get(k);
+            int[] mapping = barIndex[k];
+            Arrays.fill(mapping, -1);
+            int i = 0;
+            for (int t = 0; t < timeline.length; t++) {
+                while (i < s.size() && s.epochDay(i) < timeline[t]) {
+                    i++;
+                }
+                if (i < s.size() && s.epochDay(i) == timeline[t]) {
+                    mapping[t] = i;
+                }
+            }
+        }
+        return new BacktestUniverse(List.copyOf(series), timeline, barIndex);
+    }
+
+    public int stockCount() {
+        return series.size();
+    }
+
+    public int length() {
+        return timeline.length;
+    }
+
+    public PriceSeries series(int stock) {
+        return series.get(stock);
+    }
+
+    public List<PriceSeries> series() {
+        return series;
+    }
+
+    public LocalDate date(int t) {
+        return LocalDate.ofEpochDay(timeline[t]);
+    }
+
+    /**
+     * 타임라인 위치 t에서 종목의 시계열 인덱스. 해당 일에 거래가 없으면 -1.
+     */
+    public int barIndex(int stock, int t) {
+        return barIndex[stock][t];
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 파라미터 그리드 전개와 식 템플릿 치환.
+ * 식 템플릿은 {@code close > sma({fast})}처럼 중괄호로 파라미터를 참조합니다.
+ */
+public final class ParameterGrid {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([a-zA-Z_][a-zA-Z0-9_]*)}");
+
+    private ParameterGrid() {
+    }
+
+    /**
+     * 조합 개수를 계산합니다 (오버플로 시 Long.MAX_VALUE).
+     */
+    public static long size(Map<String, List<Double>> grid) {
+        long size = 1;
+        for (List<Double> values : grid.values()) {
+            if (values == null || values.isEmpty()) {
+                throw new IllegalArgumentException("파라미터 값 목록이 비어 있습니다");
+            }
+            size = Math.multiplyExact(size, values.size());
+        }
+        return size;
+    }
+
+    /**
+     * 그리드의 모든 조합을 이름 순으로 고정된 순서로 전개합니다.
+     */
+    public static List<Map<String, Double>> expand(Map<String, List<Double>> grid) {
+        if (grid == null || grid.isEmpty()) {
+            return List.of(Map.of());
+        }
+        List<Map.Entry<String, List<Double>>> axes = new ArrayList<>(new TreeMap<>(grid).entrySet());
+        List<Map<String, Double>> combinations = new ArrayList<>((int) size(grid));
+        expand(axes, 0, new LinkedHashMap<>(), combinations);
+        return combinations;
+    }
+
+    /**
+     * 템플릿의 {name}을 파라미터 값으로 치환합니다.
+     *
+     * @throws IllegalArgumentException 정의되지 않은 파라미터 참조
+     */
+    public static String substitute(String template, Map<String, Double> parameters) {
+        if (template == null) {
+            return null;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            Double value = parameters.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("정의되지 않은 파라미터입니다: {" + matcher.group(1) + "}");
+            }
+            matcher.appendReplacement(result, format(value));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static void expand(List<Map.Entry<String, List<Double>>> axes, int depth,
+                               LinkedHashMap<String, Double> current, List<Map<String, Double>> out) {
+        if (depth == axes.size()) {
+            out.add(Collections.unmodifiableMap(new LinkedHashMap<>(current)));
+            return;
+        }
+        Map.Entry<String, List<Double>> axis = axes.get(depth);
+        for (Double value : axis.getValue()) {
+            current.put(axis.getKey(), value);
+            expand(axes, depth + 1, current, out);
+        }
+        current.remove(axis.getKey());
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.stock.domain.stock.domain.batch;
+
+import java.time.Instant;
+
+/**
+ * 배치 작업 상태 스냅샷 (불변).
+ *
+ * @param jobId      작업 ID
+ * @param jobType    작업 종류 (종류마다 동시에 하나만 실행)
+ * @param trigger    실행 계기
+ * @param status     상태
+ * @param total      이번 실행의 처리 대상 수 (시작 전 0)
+ * @param succeeded  성공 수
+ * @param failed     실패 수
+ * @param message    종료 사유나 오류 메시지
+ * @param createdAt  등록 시각
+ * @param startedAt  실행 시작 시각
+ * @param finishedAt 종료 시각
+ */
+public record BatchJob(
+        String jobId,
+        String jobType,
+        BatchJobTrigger trigger,
+        BatchJobStatus status,
+        int total,
+        int succeeded,
+        int failed,
+        String message,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt
+) {
+
+    public boolean isTerminal() {
+        return status.isTerminal();
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.stock.domain.stock.domain.batch;
+
+/**
+ * 배치 작업 상태.
+ */
+public enum BatchJobStatus {
+
+    /** 실행 대기 중 */
+    QUEUED,
+    /** 실행 중 */
+    RUNNING,
+    /** 취소 요청을 받아 진행 중인 종목을 마무리하는 중 */
+    CANCELLING,
+    /** 정상 종료 */
+    SUCCEEDED,
+    /** 취소되어 종료 (끝나지 않은 종목은 다음 실행에서 이어서 처리) */
+    CANCELLED,
+    /** 오류로 종료 */
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == SUCCEEDED || this == CANCELLED || this == FAILED;
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.stock.domain.stock.domain.batch;
+
+/**
+ * 배치 작업 실행 계기.
+ */
+public enum BatchJobTrigger {
+
+    /** 정기 스케줄 */
+    SCHEDULED,
+    /** 수동 실행 API */
+    MANUAL,
+    /** 서버 시작 시 초기 실행 */
+    STARTUP
+}
@@ -0,0 +1,85 @@
+package com.project.stock.domain.stock.domain.batch;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 배치 실행 기록 엔티티.
+ * 실행 종류와 기준일마다 하나만 존재하며, 재시작/수동 실행은 같은 기록을 이어서 사용합니다.
+ */
+@Entity
+@Table(
+    name = "batch_run",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_batch_run_type_date", columnNames = {"run_type", "run_date"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchRun {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_type", nullable = false, length = 30)
+    private String runType;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount;
+
+    @Column(name = "succeeded_count", nullable = false)
+    private Integer succeededCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    public BatchRun(String runType, LocalDate runDate) {
+        this.runType = runType;
+        this.runDate = runDate;
+        this.status = Status.RUNNING;
+        this.totalCount = 0;
+        this.succeededCount = 0;
+        this.failedCount = 0;
+        this.startedAt = Instant.now();
+    }
+
+    /**
+     * 종목별 상태 집계를 반영합니다. 처리할 종목이 남아 있으면 다시 실행 중 상태가 됩니다.
+     */
+    public void updateProgress(int total, int succeeded, int failed, boolean finished) {
+        this.totalCount = total;
+        this.succeededCount = succeeded;
+        this.failedCount = failed;
+        if (finished) {
+            this.status = Status.COMPLETED;
+            this.finishedAt = Instant.now();
+        } else {
+            this.status = Status.RUNNING;
+            this.finishedAt = null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.stock.domain.stock.domain.batch;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 배치 실행의 종목별 처리 상태 엔티티.
+ * 상태 변경은 종목마다 짧은 트랜잭션으로 바로 커밋되므로, 중단된 실행은 끝나지 않은 종목부터 이어서 처리할 수 있습니다.
+ */
+@Entity
+@Table(
+    name = "batch_run_item",
+    indexes = {
+        @Index(name = "idx_batch_run_item_status", columnList = "run_id, status")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_batch_run_item", columnNames = {"run_id", "stock_id"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchRunItem {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    public enum Status {
+        /**
+         * 아직 처리하지 않음.
+         */
+        PENDING,
+        /**
+         * 시세 동기화 완료, 분석 대기 (재개 시 동기화 생략).
+         */
+        SYNCED,
+        /**
+         * 분석 이력 저장 완료 (또는 이미 분석되어 있음).
+         */
+        SUCCEEDED,
+        /**
+         * 실패. 재시도 한도 안에서 다음 실행 때 다시 처리합니다.
+         */
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "stock_id", nullable = false)
+    private Long stockId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "error_message", length = MAX_ERROR_LENGTH)
+    private String errorMessage;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public BatchRunItem(Long runId, Long stockId) {
+        this.runId = runId;
+        this.stockId = stockId;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.updatedAt = Instant.now();
+    }
+
+    public void markSynced() {
+        this.status = Status.SYNCED;
+        this.updatedAt = Instant.now();
+    }
+
+    public void markSucceeded() {
+        this.status = Status.SUCCEEDED;
+        this.errorMessage = null;
+        this.updatedAt = Instant.now();
+    }
+
+    public void markFailed(String errorMessage) {
+        this.status = Status.FAILED;
+        this.attempts++;
+        this.errorMessage = errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH
+            ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+            : errorMessage;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * 다음 실행에서 처리할 종목인지 확인합니다.
+     */
+    public boolean isUnfinished(int maxAttempts) {
+        return status == Status.PENDING || status == Status.SYNCED
+            || (status == Status.FAILED && attempts < maxAttempts);
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.stock.domain.stock.domain.batch;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 배치 실행 현황 (실행 기록 + 종목별 상태).
+ */
+public record BatchRunReport(
+        String runType,
+        LocalDate runDate,
+        BatchRun.Status status,
+        int totalCount,
+        int succeededCount,
+        int failedCount,
+        Instant startedAt,
+        Instant finishedAt,
+        List<Item> items
+) {
+
+    public record Item(
+            Long stockId,
+            String stockCode,
+            BatchRunItem.Status status,
+            Integer attempts,
+            String errorMessage,
+            Instant updatedAt
+    ) {
+    }
+
+    public static BatchRunReport of(BatchRun run, List<Item> items) {
+        return new BatchRunReport(run.getRunType(), run.getRunDate(), run.getStatus(), run.getTotalCount(),
+            run.getSucceededCount(), run.getFailedCount(), run.getStartedAt(), run.getFinishedAt(), items);
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.stock.domain.stock.domain.batch;
+
+/**
+ * 배치 파이프라인 단계별 실행 리포트.
+ *
+ * @param stage              단계 이름
+ * @param concurrency        단계 작업자 수
+ * @param processed          처리한 항목 수 (실패 포함)
+ * @param failed             실패한 항목 수
+ * @param elapsedMillis      첫 항목 시작부터 마지막 항목 종료까지의 시간
+ * @param throughputPerSecond 초당 처리 항목 수 (elapsedMillis 기준)
+ * @param utilization        작업자 가동률 (작업 시간 합 / (작업자 수 × elapsedMillis)), 1에 가까울수록 병목
+ * @param maxQueueDepth      단계 입력 대기열의 최대 길이
+ * @param avgQueueDepth      단계 입력 대기열의 평균 길이 (투입 시점 표본)
+ */
+public record PipelineStageReport(
+        String stage,
+        int concurrency,
+        long processed,
+        long failed,
+        long elapsedMillis,
+        double throughputPerSecond,
+        double utilization,
+        int maxQueueDepth,
+        double avgQueueDepth
+) {
+
+    @Override
+    public String toString() {
+        return String.format("%-8s 작업자=%d 처리=%d 실패=%d 소요=%dms 처리량=%.2f/s 가동률=%.0f%% 대기열(최대/평균)=%d/%.1f",
+            stage, concurrency, processed, failed, elapsedMillis, throughputPerSecond,
+            utilization * 100, maxQueueDepth, avgQueueDepth);
+    }
+}
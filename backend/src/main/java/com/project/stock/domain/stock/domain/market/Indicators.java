@@ -0,0 +1,195 @@
+package com.project.stock.domain.stock.domain.market;
+
+import java.util.Arrays;
+
+/**
+ * 기술적 지표 계산 유틸리티.
+ * ai-worker(app/engine/indicators.py)와 같은 정의를 사용합니다.
+ * 모든 함수는 특정 인덱스 시점의 값을 반환하며, 데이터가 부족하면 NaN을 반환합니다.
+ */
+public final class Indicators {
+
+    private Indicators() {
+    }
+
+    /**
+     * 단순 이동평균.
+     */
+    public static double sma(double[] values, int end, int period) {
+        if (period < 1 || end < period - 1 || end >= values.length) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (int i = end - period + 1; i <= end; i++) {
+            sum += values[i];
+        }
+        return sum / period;
+    }
+
+    /**
+     * 지수 이동평균 (span 기준, adjust=False - 첫 값으로 시작).
+     */
+    public static double ema(double[] values, int end, int period) {
+        if (period < 1 || end < 0 || end >= values.length) {
+            return Double.NaN;
+        }
+        double alpha = 2.0 / (period + 1);
+        double ema = values[0];
+        for (int i = 1; i <= end; i++) {
+            ema = alpha * values[i] + (1 - alpha) * ema;
+        }
+        return ema;
+    }
+
+    /**
+     * 모든 시점의 지수 이동평균. 결과[i]는 {@code ema(values, i, period)}와 같습니다.
+     */
+    public static double[] emaSeries(double[] values, int period) {
+        double[] result = new double[values.length];
+        if (values.length == 0 || period < 1) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+        double alpha = 2.0 / (period + 1);
+        result[0] = values[0];
+        for (int i = 1; i < values.length; i++) {
+            result[i] = alpha * values[i] + (1 - alpha) * result[i - 1];
+        }
+        return result;
+    }
+
+    /**
+     * 표본 표준편차 (ddof=1).
+     */
+    public static double stddev(double[] values, int end, int period) {
+        if (period < 2 || end < period - 1 || end >= values.length) {
+            return Double.NaN;
+        }
+        double mean = sma(values, end, period);
+        double sumSq = 0;
+        for (int i = end - period + 1; i <= end; i++) {
+            double d = values[i] - mean;
+            sumSq += d * d;
+        }
+        return Math.sqrt(sumSq / (period - 1));
+    }
+
+    /**
+     * RSI (기간 내 평균 상승폭/하락폭의 단순 평균 방식).
+     * ai-worker와 같이 첫 시점의 변화량은 0으로 보므로 {@code end == period - 1}부터 값이 있고,
+     * 기간 내 하락이 없으면 NaN입니다.
+     */
+    public static double rsi(double[] close, int end, int period) {
+        if (period < 1 || end < period - 1 || end >= close.length) {
+            return Double.NaN;
+        }
+        double gain = 0;
+        double loss = 0;
+        for (int i = Math.max(1, end - period + 1); i <= end; i++) {
+            double delta = close[i] - close[i - 1];
+            if (delta > 0) {
+                gain += delta;
+            } else {
+                loss -= delta;
+            }
+        }
+        if (loss == 0) {
+            return Double.NaN;
+        }
+        double rs = gain / loss;
+        return 100.0 - 100.0 / (1.0 + rs);
+    }
+
+    /**
+     * MACD 라인 (EMA12 - EMA26).
+     */
+    public static double macd(double[] close, int end) {
+        return ema(close, end, 12) - ema(close, end, 26);
+    }
+
+    /**
+     * MACD 시그널 라인 (MACD의 EMA9).
+     */
+    public static double macdSignal(double[] close, int end) {
+        if (end < 0 || end >= close.length) {
+            return Double.NaN;
+        }
+        double fastAlpha = 2.0 / 13;
+        double slowAlpha = 2.0 / 27;
+        double signalAlpha = 2.0 / 10;
+        double fast = close[0];
+        double slow = close[0];
+        double signal = 0;
+        for (int i = 0; i <= end; i++) {
+            if (i > 0) {
+                fast = fastAlpha * close[i] + (1 - fastAlpha) * fast;
+                slow = slowAlpha * close[i] + (1 - slowAlpha) * slow;
+            }
+            double macd = fast - slow;
+            signal = i == 0 ? macd : signalAlpha * macd + (1 - signalAlpha) * signal;
+        }
+        return signal;
+    }
+
+    /**
+     * 모든 시점의 MACD 라인.
+     */
+    public static double[] macdSeries(double[] close) {
+        double[] fast = emaSeries(close, 12);
+        double[] slow = emaSeries(close, 26);
+        for (int i = 0; i < fast.length; i++) {
+            fast[i] -= slow[i];
+        }
+        return fast;
+    }
+
+    /**
+     * 모든 시점의 MACD 시그널 라인.
+     */
+    public static double[] macdSignalSeries(double[] close) {
+        double[] macd = macdSeries(close);
+        double signalAlpha = 2.0 / 10;
+        for (int i = 1; i < macd.length; i++) {
+            macd[i] = signalAlpha * macd[i] + (1 - signalAlpha) * macd[i - 1];
+        }
+        return macd;
+    }
+
+    /**
+     * 기간 내 최고값.
+     */
+    public static double highest(double[] values, int end, int period) {
+        if (period < 1 || end < period - 1 || end >= values.length) {
+            return Double.NaN;
+        }
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = end - period + 1; i <= end; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /**
+     * 기간 내 최저값.
+     */
+    public static double lowest(double[] values, int end, int period) {
+        if (period < 1 || end < period - 1 || end >= values.length) {
+            return Double.NaN;
+        }
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = end - period + 1; i <= end; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    /**
+     * N일 전 대비 변화율 (%).
+     */
+    public static double changePct(double[] values, int end, int period) {
+        if (period < 1 || end < period || end >= values.length || values[end - period] == 0) {
+            return Double.NaN;
+        }
+        return (values[end] - values[end - period]) / values[end - period] * 100.0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.stock.domain.stock.domain.market;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 시세 누락 점검 결과.
+ * 종목별로 첫 저장일부터 점검 종료일까지의 영업일 중 저장되지 않은 구간과, 이를 메우는 원격 조회 요청 목록을 담습니다.
+ *
+ * @param from                점검 시작일 (휴장일 데이터 범위로 좁혀진 값)
+ * @param until               점검 종료일
+ * @param stocksScanned       저장된 시세가 있어 점검한 종목 수
+ * @param missingSessions     누락 영업일 합계
+ * @param repairRequests      보정에 필요한 원격 조회 요청 합계
+ * @param offSessionBars      휴장일 날짜로 저장된 시세 수 (휴장일 데이터 또는 시세 오류 의심)
+ * @param stocks              누락이 있는 종목 (누락이 많은 순)
+ * @param stocksWithoutPrices 기간 안에 영업일 시세가 하나도 없는 등록 종목의 종목코드 (상장 전이거나 수집된 적 없는 종목, 보정 대상 아님)
+ */
+public record PriceGapReport(
+        LocalDate from,
+        LocalDate until,
+        int stocksScanned,
+        long missingSessions,
+        long repairRequests,
+        long offSessionBars,
+        long durationMs,
+        List<StockGaps> stocks,
+        List<String> stocksWithoutPrices
+) {
+
+    /**
+     * 종목별 누락 현황.
+     *
+     * @param firstDate      점검 범위 안의 첫 저장일 (이전 구간은 상장 전일 수 있어 점검하지 않음)
+     * @param storedSessions 점검 범위 안에 저장된 영업일 수
+     */
+    public record StockGaps(
+            long stockId,
+            String stockCode,
+            LocalDate firstDate,
+            int storedSessions,
+            int missingSessions,
+            List<Gap> gaps,
+            List<RepairRequest> repairs
+    ) {
+    }
+
+    /**
+     * 연속으로 누락된 영업일 구간 (양 끝 포함).
+     */
+    public record Gap(LocalDate startDate, LocalDate endDate, int sessions) {
+    }
+
+    /**
+     * 한 번의 기간별 시세 조회로 받을 구간 (양 끝 포함, 최대 한 페이지 분량의 영업일).
+     *
+     * @param sessions        구간의 영업일 수
+     * @param missingSessions 구간 안의 누락 영업일 수
+     */
+    public record RepairRequest(LocalDate startDate, LocalDate endDate, int sessions, int missingSessions) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.project.stock.domain.stock.domain.market;
+
+import com.project.stock.domain.stock.domain.market.PriceGapReport.Gap;
+import com.project.stock.domain.stock.domain.market.PriceGapReport.RepairRequest;
+import com.project.stock.domain.stock.domain.market.PriceGapReport.StockGaps;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 저장된 시세 키를 종목 ID, 날짜 오름차순으로 한 번 훑으며 종목별 누락 영업일을 찾습니다 (스레드 안전하지 않음).
+ *
+ * <p>점검 기간의 영업일에 0부터 번호를 매겨 두고, 종목마다 저장된 영업일 번호를 비트맵에 표시합니다.
+ * 종목이 바뀌면 그 종목의 첫 저장일부터 기간 끝까지 비어 있는 비트를 누락으로 보고, 누락 영업일을
+ * 한 페이지(영업일 pageSize 개) 구간으로 앞에서부터 탐욕적으로 묶습니다. 고정 길이 구간으로 점을 덮는 문제에서
+ * 이 방식이 요청 수를 최소로 만듭니다. 비트맵은 종목 간에 재사용하므로 메모리는 영업일 수에만 비례합니다.
+ * 기간 안에 영업일 시세가 하나도 없는 등록 종목은 누락 구간을 정할 기준일이 없으므로 따로 모아 보고합니다.
+ */
+public final class PriceGapScanner {
+
+    private final LocalDate from;
+    private final LocalDate until;
+    private final int pageSize;
+    private final Map<Long, String> stockCodes;
+    private final long fromEpochDay;
+    private final int[] sessionIndexByDay;
+    private final LocalDate[] sessions;
+    private final BitSet stored;
+
+    private final List<StockGaps> stocksWithGaps = new ArrayList<>();
+    private final Set<Long> scannedStockIds = new HashSet<>();
+    private boolean hasCurrent;
+    private long currentStockId;
+    private int firstIndex = -1;
+    private int stocksScanned;
+    private long missingSessions;
+    private long repairRequests;
+    private long offSessionBars;
+
+    /**
+     * @param from       점검 시작일 (포함)
+     * @param until      점검 종료일 (포함)
+     * @param pageSize   원격 조회 한 번으로 받을 수 있는 최대 영업일 수
+     * @param stockCodes 보고서에 표시할 종목 ID별 종목코드 (기간 안에 시세가 없는지 확인할 등록 종목 목록이기도 함)
+     */
+    public PriceGapScanner(TradingCalendar calendar, LocalDate from, LocalDate until, int pageSize, Map<Long, String> stockCodes) {
+        if (from.isAfter(until)) {
+            throw new IllegalArgumentException("점검 시작일이 종료일보다 늦습니다: " + from + " > " + until);
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + pageSize);
+        }
+        this.from = from;
+        this.until = until;
+        this.pageSize = pageSize;
+        this.stockCodes = stockCodes;
+        this.fromEpochDay = from.toEpochDay();
+
+        List<LocalDate> sessionList = calendar.sessionsBetween(from, until);
+        this.sessions = sessionList.toArray(new LocalDate[0]);
+        this.sessionIndexByDay = new int[(int) (until.toEpochDay() - fromEpochDay + 1)];
+        Arrays.fill(sessionIndexByDay, -1);
+        for (int i = 0; i < sessions.length; i++) {
+            sessionIndexByDay[(int) (sessions[i].toEpochDay() - fromEpochDay)] = i;
+        }
+        this.stored = new BitSet(sessions.length);
+    }
+
+    /**
+     * 저장된 시세 키 하나를 반영합니다. 종목 ID, 날짜 오름차순으로 넘겨야 합니다.
+     */
+    public void accept(long stockId, LocalDate date) {
+        if (!hasCurrent || stockId != currentStockId) {
+            flush();
+            hasCurrent = true;
+            currentStockId = stockId;
+            firstIndex = -1;
+            stored.clear();
+        }
+        long offset = date.toEpochDay() - fromEpochDay;
+        if (offset < 0 || offset >= sessionIndexByDay.length) {
+            return;
+        }
+        int index = sessionIndexByDay[(int) offset];
+        if (index < 0) {
+            offSessionBars++;
+            return;
+        }
+        if (firstIndex < 0 || index < firstIndex) {
+            firstIndex = index;
+        }
+        stored.set(index);
+    }
+
+    /**
+     * 마지막 종목까지 반영하고 결과를 만듭니다.
+     */
+    public PriceGapReport finish(long durationMs) {
+        flush();
+        hasCurrent = false;
+        List<StockGaps> stocks = new ArrayList<>(stocksWithGaps);
+        stocks.sort(Comparator.comparingInt(StockGaps::missingSessions).reversed().thenComparingLong(StockGaps::stockId));
+        List<String> stocksWithoutPrices = stockCodes.entrySet().stream()
+            .filter(entry -> !scannedStockIds.contains(entry.getKey()))
+            .map(Map.Entry::getValue)
+            .sorted()
+            .toList();
+        return new PriceGapReport(from, until, stocksScanned, missingSessions, repairRequests, offSessionBars, durationMs,
+            stocks, stocksWithoutPrices);
+    }
+
+    private void flush() {
+        if (!hasCurrent || firstIndex < 0) {
+            return;
+        }
+        stocksScanned++;
+        scannedStockIds.add(currentStockId);
+        int last = sessions.length - 1;
+        int storedCount = stored.cardinality();
+        int missing = last - firstIndex + 1 - storedCount;
+        if (missing == 0) {
+            return;
+        }
+
+        List<Gap> gaps = new ArrayList<>();
+        for (int start = stored.nextClearBit(firstIndex); start <= last; ) {
+            int nextStored = stored.nextSetBit(start);
+            int end = nextStored < 0 || nextStored > last ? last : nextStored - 1;
+            gaps.add(new Gap(sessions[start], sessions[end], end - start + 1));
+            start = stored.nextClearBit(end + 1);
+        }
+
+        List<RepairRequest> repairs = new ArrayList<>();
+        for (int start = stored.nextClearBit(firstIndex); start <= last; ) {
+            int limit = Math.min(start + pageSize - 1, last);
+            int end = start;
+            int count = 0;
+            int index = start;
+            while (index <= limit) {
+                end = index;
+                count++;
+                index = stored.nextClearBit(index + 1);
+            }
+            repairs.add(new RepairRequest(sessions[start], sessions[end], end - start + 1, count));
+            start = index;
+        }
+
+        missingSessions += missing;
+        repairRequests += repairs.size();
+        stocksWithGaps.add(new StockGaps(
+            currentStockId, stockCodes.get(currentStockId), sessions[firstIndex], storedCount, missing, gaps, repairs));
+    }
+}
@@ -0,0 +1,183 @@
+package com.project.stock.domain.stock.domain.market;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 종목별 일봉 컬럼형 시계열 (날짜 오름차순, 불변).
+ * 대량 스캔 시 엔티티/박싱 없이 원시 배열을 순차 접근하기 위한 구조입니다.
+ */
+public final class PriceSeries {
+
+    private final long stockId;
+    private final String stockCode;
+    private final String stockName;
+    private final int[] epochDays;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final long[] volume;
+
+    public PriceSeries(
+        long stockId,
+        String stockCode,
+        String stockName,
+        int[] epochDays,
+        double[] open,
+        double[] high,
+        double[] low,
+        double[] close,
+        long[] volume
+    ) {
+        int size = epochDays.length;
+        if (open.length != size || high.length != size || low.length != size
+            || close.length != size || volume.length != size) {
+            throw new IllegalArgumentException("컬럼 길이가 일치하지 않습니다: stockCode=" + stockCode);
+        }
+        this.stockId = stockId;
+        this.stockCode = stockCode;
+        this.stockName = stockName;
+        this.epochDays = epochDays;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+    }
+
+    public long stockId() {
+        return stockId;
+    }
+
+    public String stockCode() {
+        return stockCode;
+    }
+
+    public String stockName() {
+        return stockName;
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    public LocalDate date(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    public int epochDay(int index) {
+        return epochDays[index];
+    }
+
+    public double open(int index) {
+        return open[index];
+    }
+
+    public double high(int index) {
+        return high[index];
+    }
+
+    public double low(int index) {
+        return low[index];
+    }
+
+    public double close(int index) {
+        return close[index];
+    }
+
+    public long volume(int index) {
+        return volume[index];
+    }
+
+    /**
+     * 종가 컬럼. 지표 계산용이며 수정하면 안 됩니다.
+     */
+    public double[] closes() {
+        return close;
+    }
+
+    /**
+     * 거래량 컬럼을 double로 변환하여 반환합니다.
+     */
+    public double[] volumesAsDouble() {
+        double[] values = new double[volume.length];
+        for (int i = 0; i < volume.length; i++) {
+            values[i] = volume[i];
+        }
+        return values;
+    }
+
+    /**
+     * 날짜 이하인 마지막 인덱스를 반환합니다. 없으면 -1.
+     */
+    public int indexAtOrBefore(LocalDate date) {
+        int pos = Arrays.binarySearch(epochDays, (int) date.toEpochDay());
+        return pos >= 0 ? pos : -pos - 2;
+    }
+
+    /**
+     * 일봉을 순서대로 누적하여 PriceSeries를 만드는 빌더.
+     */
+    public static final class Builder {
+
+        private final long stockId;
+        private final String stockCode;
+        private final String stockName;
+        private int[] epochDays = new int[64];
+        private double[] open = new double[64];
+        private double[] high = new double[64];
+        private double[] low = new double[64];
+        private double[] close = new double[64];
+        private long[] volume = new long[64];
+        private int size;
+
+        public Builder(long stockId, String stockCode, String stockName) {
+            this.stockId = stockId;
+            this.stockCode = stockCode;
+            this.stockName = stockName;
+        }
+
+        public long stockId() {
+            return stockId;
+        }
+
+        public Builder add(LocalDate date, double o, double h, double l, double c, long v) {
+            if (size == epochDays.length) {
+                int capacity = size * 2;
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                open = Arrays.copyOf(open, capacity);
+                high = Arrays.copyOf(high, capacity);
+                low = Arrays.copyOf(low, capacity);
+                close = Arrays.copyOf(close, capacity);
+                volume = Arrays.copyOf(volume, capacity);
+            }
+            epochDays[size] = (int) date.toEpochDay();
+            open[size] = o;
+            high[size] = h;
+            low[size] = l;
+            close[size] = c;
+            volume[size] = v;
+            size++;
+            return this;
+        }
+
+        public PriceSeries build() {
+            return new PriceSeries(
+                stockId,
+                stockCode,
+                stockName,
+                Arrays.copyOf(epochDays, size),
+                Arrays.copyOf(open, size),
+                Arrays.copyOf(high, size),
+                Arrays.copyOf(low, size),
+                Arrays.copyOf(close, size),
+                Arrays.copyOf(volume, size)
+            );
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.project.stock.domain.stock.domain.market;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 거래소 영업일 달력 (불변).
+ * 토/일과 휴장일 목록에 있는 날을 제외한 날이 영업일(세션)입니다.
+ * 휴장일 목록이 다루는 연도 범위 밖의 날짜는 주말만 휴장으로 봅니다.
+ */
+public final class TradingCalendar {
+
+    /**
+     * 어떤 날짜에서도 이 일수 안에는 영업일이 있습니다 (가장 긴 연휴보다 넉넉하게).
+     */
+    private static final int MAX_CLOSED_STREAK = 31;
+
+    private final int firstYear;
+    private final int lastYear;
+    private final long baseEpochDay;
+    private final BitSet holidays;
+    private final int holidayCount;
+
+    private TradingCalendar(int firstYear, int lastYear, BitSet holidays, int holidayCount) {
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.baseEpochDay = LocalDate.of(firstYear, 1, 1).toEpochDay();
+        this.holidays = holidays;
+        this.holidayCount = holidayCount;
+    }
+
+    /**
+     * 휴장일 목록으로 달력을 만듭니다. 목록에 나온 연도의 최소~최대 범위를 휴장일 데이터 범위로 봅니다.
+     *
+     * @throws IllegalArgumentException 휴장일이 비어 있는 경우
+     */
+    public static TradingCalendar of(Collection<LocalDate> holidayDates) {
+        if (holidayDates.isEmpty()) {
+            throw new IllegalArgumentException("휴장일 목록이 비어 있습니다.");
+        }
+        int firstYear = holidayDates.stream().mapToInt(LocalDate::getYear).min().getAsInt();
+        int lastYear = holidayDates.stream().mapToInt(LocalDate::getYear).max().getAsInt();
+        long base = LocalDate.of(firstYear, 1, 1).toEpochDay();
+        BitSet bits = new BitSet();
+        holidayDates.forEach(date -> bits.set((int) (date.toEpochDay() - base)));
+        return new TradingCalendar(firstYear, lastYear, bits, bits.cardinality());
+    }
+
+    public boolean isTradingDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            return false;
+        }
+        return !covers(date) || !holidays.get((int) (date.toEpochDay() - baseEpochDay));
+    }
+
+    /**
+     * 주어진 날짜 다음(당일 제외)의 첫 영업일.
+     */
+    public LocalDate nextSession(LocalDate date) {
+        return sessionOnOrAfter(date.plusDays(1));
+    }
+
+    /**
+     * 주어진 날짜 이전(당일 제외)의 마지막 영업일.
+     */
+    public LocalDate previousSession(LocalDate date) {
+        return sessionOnOrBefore(date.minusDays(1));
+    }
+
+    /**
+     * 주어진 날짜가 영업일이면 그날, 아니면 그 다음 첫 영업일.
+     */
+    public LocalDate sessionOnOrAfter(LocalDate date) {
+        LocalDate day = date;
+        for (int i = 0; i <= MAX_CLOSED_STREAK; i++, day = day.plusDays(1)) {
+            if (isTradingDay(day)) {
+                return day;
+            }
+        }
+        throw new IllegalStateException("휴장일 데이터가 잘못되었습니다: " + date + " 이후 영업일이 없습니다.");
+    }
+
+    /**
+     * 주어진 날짜가 영업일이면 그날, 아니면 그 이전 마지막 영업일.
+     */
+    public LocalDate sessionOnOrBefore(LocalDate date) {
+        LocalDate day = date;
+        for (int i = 0; i <= MAX_CLOSED_STREAK; i++, day = day.minusDays(1)) {
+            if (isTradingDay(day)) {
+                return day;
+            }
+        }
+        throw new IllegalStateException("휴장일 데이터가 잘못되었습니다: " + date + " 이전 영업일이 없습니다.");
+    }
+
+    /**
+     * 기간(양 끝 포함) 안의 영업일 목록 (오름차순). 영업일이 없으면 빈 목록입니다.
+     */
+    public List<LocalDate> sessionsBetween(LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> sessions = new ArrayList<>();
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            if (isTradingDay(day)) {
+                sessions.add(day);
+            }
+        }
+        return sessions;
+    }
+
+    /**
+     * 휴장일 데이터가 이 날짜를 다루는지 여부. 범위 밖이면 주말만 휴장으로 판정합니다.
+     */
+    public boolean covers(LocalDate date) {
+        return date.getYear() >= firstYear && date.getYear() <= lastYear;
+    }
+
+    public int firstYear() {
+        return firstYear;
+    }
+
+    public int lastYear() {
+        return lastYear;
+    }
+
+    public int holidayCount() {
+        return holidayCount;
+    }
+}
@@ -0,0 +1,263 @@
+package com.project.stock.domain.stock.domain.pattern;
+
+import java.util.Arrays;
+
+/**
+ * 질의 단위로 재사용하는 Sakoe-Chiba 밴드 DTW 계산기.
+ * 질의의 z-정규화와 LB_Keogh 엔벨로프를 한 번만 계산해 두고, 후보마다 아래 순서로 가지치기합니다.
+ * <ol>
+ *     <li>LB_Kim (시작/끝 점) - O(1)</li>
+ *     <li>LB_Keogh (질의 엔벨로프 vs 후보) - O(n), 누적 하한을 DTW 조기 종료에 재사용</li>
+ *     <li>밴드 DTW - 행 최소값 + 남은 LB_Keogh 합이 현재 최선값을 넘으면 조기 종료</li>
+ * </ol>
+ * 거리는 제곱 오차 누적의 제곱근으로, 밴드가 0이면 z-정규화 유클리드 거리와 같습니다.
+ *
+ * <p>내부 버퍼를 재사용하므로 스레드 안전하지 않습니다. 질의(스레드)마다 인스턴스를 생성하세요.
+ */
+public final class DtwMatcher {
+
+    private final int length;
+    private final int band;
+    private final double[] query;
+    private final double[] upper;
+    private final double[] lower;
+    private final double[] candidate;
+    private final double[] lbSuffix;
+    private double[] previousRow;
+    private double[] currentRow;
+
+    private long kimPruned;
+    private long keoghPruned;
+    private long dtwAbandoned;
+    private long dtwCompleted;
+
+    /**
+     * @param query 질의 시계열 (원시값, 내부에서 z-정규화)
+     * @param band  Sakoe-Chiba 밴드 반경 (0 이상)
+     */
+    public DtwMatcher(double[] query, int band) {
+        if (query.length < 2) {
+            throw new IllegalArgumentException("DTW 질의 길이는 2 이상이어야 합니다: " + query.length);
+        }
+        if (band < 0) {
+            throw new IllegalArgumentException("DTW 밴드 반경은 0 이상이어야 합니다: " + band);
+        }
+        this.length = query.length;
+        this.band = Math.min(band, length - 1);
+        this.query = zNormalize(query);
+        this.upper = new double[length];
+        this.lower = new double[length];
+        this.candidate = new double[length];
+        this.lbSuffix = new double[length + 1];
+        this.previousRow = new double[length];
+        this.currentRow = new double[length];
+
+        for (int i = 0; i < length; i++) {
+            double max = Double.NEGATIVE_INFINITY;
+            double min = Double.POSITIVE_INFINITY;
+            for (int j = Math.max(0, i - this.band); j <= Math.min(length - 1, i + this.band); j++) {
+                max = Math.max(max, this.query[j]);
+                min = Math.min(min, this.query[j]);
+            }
+            upper[i] = max;
+            lower[i] = min;
+        }
+    }
+
+    /**
+     * 윈도우 길이와 비율로 밴드 반경을 계산합니다 (최소 1).
+     */
+    public static int bandFor(int length, double ratio) {
+        return Math.max(1, (int) Math.round(length * ratio));
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int band() {
+        return band;
+    }
+
+    /**
+     * 원시 후보 구간(closes[from .. from+length))과의 DTW 거리를 계산합니다.
+     *
+     * @param bound 현재 최선 거리. 하한이 이를 넘으면 계산을 중단합니다.
+     * @return DTW 거리, 가지치기되면 {@link Double#POSITIVE_INFINITY}
+     */
+    public double distance(float[] closes, int from, double bound) {
+        double sum = 0;
+        double sumSq = 0;
+        for (int i = 0; i < length; i++) {
+            double v = closes[from + i];
+            sum += v;
+            sumSq += v * v;
+        }
+        double mean = sum / length;
+        double std = Math.sqrt(Math.max(0, sumSq / length - mean * mean));
+        for (int i = 0; i < length; i++) {
+            candidate[i] = std == 0 ? 0 : (closes[from + i] - mean) / std;
+        }
+        return prunedDistance(bound);
+    }
+
+    /**
+     * 원시 후보 시계열과의 DTW 거리를 계산합니다.
+     *
+     * @see #distance(float[], int, double)
+     */
+    public double distance(double[] series, double bound) {
+        if (series.length != length) {
+            throw new IllegalArgumentException("후보 길이가 질의와 다릅니다: " + series.length + " != " + length);
+        }
+        double[] normalized = zNormalize(series);
+        System.arraycopy(normalized, 0, candidate, 0, length);
+        return prunedDistance(bound);
+    }
+
+    /**
+     * z-정규화된 질의를 float 배열로 반환합니다 (LSH 서명 계산용).
+     */
+    public float[] queryAsFloat() {
+        float[] copy = new float[length];
+        for (int i = 0; i < length; i++) {
+            copy[i] = (float) query[i];
+        }
+        return copy;
+    }
+
+    public long kimPruned() {
+        return kimPruned;
+    }
+
+    public long keoghPruned() {
+        return keoghPruned;
+    }
+
+    public long dtwAbandoned() {
+        return dtwAbandoned;
+    }
+
+    public long dtwCompleted() {
+        return dtwCompleted;
+    }
+
+    /**
+     * 제약 없는(full) DTW 거리. 가지치기 구현의 정확성 검증용 기준값입니다.
+     * 입력은 이미 정규화된 값으로 간주합니다.
+     */
+    public static double fullDistance(double[] a, double[] b) {
+        return bandedDistance(a, b, Math.max(a.length, b.length));
+    }
+
+    /**
+     * 가지치기 없는 Sakoe-Chiba 밴드 DTW 거리. 입력은 이미 정규화된 값으로 간주합니다.
+     */
+    public static double bandedDistance(double[] a, double[] b, int band) {
+        int n = a.length;
+        int m = b.length;
+        double[][] cost = new double[n + 1][m + 1];
+        for (double[] row : cost) {
+            Arrays.fill(row, Double.POSITIVE_INFINITY);
+        }
+        cost[0][0] = 0;
+        int r = Math.max(band, Math.abs(n - m));
+        for (int i = 1; i <= n; i++) {
+            for (int j = Math.max(1, i - r); j <= Math.min(m, i + r); j++) {
+                double d = a[i - 1] - b[j - 1];
+                cost[i][j] = d * d + Math.min(cost[i - 1][j - 1], Math.min(cost[i - 1][j], cost[i][j - 1]));
+            }
+        }
+        return Math.sqrt(cost[n][m]);
+    }
+
+    private double prunedDistance(double bound) {
+        double boundSq = bound == Double.POSITIVE_INFINITY ? Double.POSITIVE_INFINITY : bound * bound;
+
+        // 1. LB_Kim: 모든 경로는 (0,0)과 (n-1,n-1)을 지난다
+        double first = query[0] - candidate[0];
+        double last = query[length - 1] - candidate[length - 1];
+        if (first * first + last * last >= boundSq) {
+            kimPruned++;
+            return Double.POSITIVE_INFINITY;
+        }
+
+        // 2. LB_Keogh: 후보 각 점은 질의 엔벨로프 밖으로 벗어난 만큼 최소 비용을 가진다
+        double lb = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            double c = candidate[i];
+            double d = c > upper[i] ? c - upper[i] : (c < lower[i] ? c - lower[i] : 0);
+            lb += d * d;
+            lbSuffix[i] = lb;
+        }
+        lbSuffix[length] = 0;
+        if (lb >= boundSq) {
+            keoghPruned++;
+            return Double.POSITIVE_INFINITY;
+        }
+
+        // 3. 밴드 DTW + 누적 하한 기반 조기 종료
+        double[] prev = previousRow;
+        double[] curr = currentRow;
+        Arrays.fill(prev, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < length; i++) {
+            Arrays.fill(curr, Double.POSITIVE_INFINITY);
+            int jStart = Math.max(0, i - band);
+            int jEnd = Math.min(length - 1, i + band);
+            double rowMin = Double.POSITIVE_INFINITY;
+
+            for (int j = jStart; j <= jEnd; j++) {
+                double d = query[i] - candidate[j];
+                double best;
+                if (i == 0 && j == 0) {
+                    best = 0;
+                } else {
+                    best = prev[j];
+                    if (j > 0) {
+                        best = Math.min(best, Math.min(curr[j - 1], prev[j - 1]));
+                    }
+                }
+                curr[j] = d * d + best;
+                rowMin = Math.min(rowMin, curr[j]);
+            }
+
+            int rest = i + band + 1;
+            double remaining = rest < length ? lbSuffix[rest] : 0;
+            if (rowMin + remaining >= boundSq) {
+                dtwAbandoned++;
+                previousRow = prev;
+                currentRow = curr;
+                return Double.POSITIVE_INFINITY;
+            }
+
+            double[] swap = prev;
+            prev = curr;
+            curr = swap;
+        }
+        previousRow = prev;
+        currentRow = curr;
+        if (prev[length - 1] >= boundSq) {
+            dtwAbandoned++;
+            return Double.POSITIVE_INFINITY;
+        }
+        dtwCompleted++;
+        return Math.sqrt(prev[length - 1]);
+    }
+
+    private static double[] zNormalize(double[] series) {
+        int n = series.length;
+        double sum = 0;
+        double sumSq = 0;
+        for (double v : series) {
+            sum += v;
+            sumSq += v * v;
+        }
+        double mean = sum / n;
+        double std = Math.sqrt(Math.max(0, sumSq / n - mean * mean));
+        double[] normalized = new double[n];
+        for (int i = 0; i < n; i++) {
+            normalized[i] = std == 0 ? 0 : (series[i] - mean) / std;
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,618 @@
+package com.project.stock.domain.stock.domain.pattern;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * 고정 길이 종가 윈도우에 대한 랜덤 투영 LSH(SimHash) 인덱스.
+ * z-정규화된 윈도우는 모두 같은 노름을 가지므로 각도 기반 해시가 유클리드 거리 순서를 보존합니다.
+ * 후보는 여러 해시 테이블과 멀티 프로브로 수집하고, 실제 거리로 재정렬해 상위 K개를 반환합니다.
+ *
+ * <p>스레드 안전하지 않습니다. 호출 측에서 읽기/쓰기 잠금을 관리해야 합니다.
+ */
+public class LshPatternIndex {
+
+    private static final int MAGIC = 0x4C534831; // "LSH1"
+    private static final int FORWARD_RETURN_DAYS = 5;
+
+    private final int windowSize;
+    private final int tables;
+    private final int bits;
+    private final long seed;
+    private final float[][] planes;
+    private final List<Series> seriesList = new ArrayList<>();
+    private final Map<Long, Integer> slotByStockId = new HashMap<>();
+    private final List<Map<Integer, LongList>> buckets;
+    private long windowCount;
+
+    public LshPatternIndex(int windowSize, int tables, int bits, long seed) {
+        if (windowSize < 2) {
+            throw new IllegalArgumentException("윈도우 크기는 2 이상이어야 합니다: " + windowSize);
+        }
+        if (tables < 1 || bits < 1 || bits > 31) {
+            throw new IllegalArgumentException("LSH 파라미터가 올바르지 않습니다: tables=" + tables + ", bits=" + bits);
+        }
+        this.windowSize = windowSize;
+        this.tables = tables;
+        this.bits = bits;
+        this.seed = seed;
+        this.planes = new float[tables * bits][windowSize];
+        this.buckets = new ArrayList<>(tables);
+
+        Random random = new Random(seed ^ windowSize);
+        for (float[] plane : planes) {
+            for (int i = 0; i < windowSize; i++) {
+                plane[i] = (float) random.nextGaussian();
+            }
+        }
+        for (int t = 0; t < tables; t++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    public int windowSize() {
+        return windowSize;
+    }
+
+    public int tables() {
+        return tables;
+    }
+
+    public int bits() {
+        return bits;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public long windowCount() {
+        return windowCount;
+    }
+
+    public int seriesCount() {
+        return seriesList.size();
+    }
+
+    /**
+     * 종목의 마지막 인덱싱 일자(워터마크)를 반환합니다.
+     */
+    public Optional<LocalDate> lastDate(long stockId) {
+        Integer slot = slotByStockId.get(stockId);
+        if (slot == null || seriesList.get(slot).size == 0) {
+            return Optional.empty();
+        }
+        Series series = seriesList.get(slot);
+        return Optional.of(LocalDate.ofEpochDay(series.days[series.size - 1]));
+    }
+
+    /**
+     * 일봉 종가를 추가하고 새로 완성된 윈도우를 해시 테이블에 등록합니다.
+     * 이미 인덱싱된 날짜가 다시 들어오면(잠정 일봉을 장 마감 후 시세로 덮어쓴 경우 등) 종가를 고치고
+     * 그 일봉을 포함하는 윈도우를 다시 등록합니다. 인덱싱된 적 없는 워터마크 이전 날짜는 무시합니다
+     * (중간 삽입은 윈도우 참조를 모두 밀어내므로 재빌드로 반영합니다).
+     *
+     * @return 추가 또는 수정 여부
+     */
+    public boolean append(long stockId, LocalDate date, double close) {
+        Integer slot = slotByStockId.get(stockId);
+        if (slot == null) {
+            slot = seriesList.size();
+            seriesList.add(new Series(stockId));
+            slotByStockId.put(stockId, slot);
+        }
+
+        Series series = seriesList.get(slot);
+        int epochDay = (int) date.toEpochDay();
+        if (series.size > 0 && epochDay <= series.days[series.size - 1]) {
+            return revise(slot, series, epochDay, (float) close);
+        }
+        series.add(epochDay, (float) close);
+
+        if (series.size >= windowSize) {
+            int end = series.size - 1;
+            float[] z = new float[windowSize];
+            for (int t = 0; t < tables; t++) {
+                bucketOf(series, end, t, z).add(ref(slot, end));
+            }
+            windowCount++;
+        }
+        return true;
+    }
+
+    /**
+     * 이미 인덱싱된 날짜의 종가를 고치고, 그 일봉을 포함하는 윈도우를 이전 버킷에서 빼 새 서명으로 다시 등록합니다.
+     */
+    private boolean revise(int slot, Series series, int epochDay, float close) {
+        int position = Arrays.binarySearch(series.days, 0, series.size, epochDay);
+        if (position < 0 || series.closes[position] == close) {
+            return false;
+        }
+
+        int firstEnd = Math.max(position, windowSize - 1);
+        int lastEnd = Math.min(position + windowSize - 1, series.size - 1);
+        float[] z = new float[windowSize];
+        for (int end = firstEnd; end <= lastEnd; end++) {
+            for (int t = 0; t < tables; t++) {
+                bucketOf(series, end, t, z).remove(ref(slot, end));
+            }
+        }
+        series.closes[position] = close;
+        for (int end = firstEnd; end <= lastEnd; end++) {
+            for (int t = 0; t < tables; t++) {
+                bucketOf(series, end, t, z).add(ref(slot, end));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * end에서 끝나는 윈도우가 속하는 테이블의 버킷 (없으면 생성).
+     */
+    private LongList bucketOf(Series series, int end, int table, float[] z) {
+        zNormalize(series.closes, end - windowSize + 1, z);
+        return buckets.get(table).computeIfAbsent(signature(z, table, null), k -> new LongList());
+    }
+
+    /**
+     * 종목의 최근 윈도우와 유사한 구간을 인덱스로 근사 검색합니다.
+     * 같은 종목에서 질의 구간과 겹치는 윈도우는 제외합니다.
+     *
+     * @param probes  테이블당 추가 탐색할 인접 버킷 수 (재현율/지연시간 조절값)
+     * @param dtwBand 0 이상이면 해당 밴드 반경의 DTW로 재정렬, 음수이면 z-정규화 유클리드 거리
+     */
+    public List<PatternMatch> search(long stockId, int k, int probes, int dtwBand) {
+        Integer slot = slotByStockId.get(stockId);
+        if (slot == null || seriesList.get(slot).size < windowSize) {
+            return List.of();
+        }
+        int end = seriesList.get(slot).size - 1;
+        Scorer scorer = scorer(seriesList.get(slot).closes, end - windowSize + 1, dtwBand);
+        return searchInternal(scorer, k, probes, slot, end - windowSize);
+    }
+
+    /**
+     * z-정규화 유클리드 거리 기준 근사 검색.
+     */
+    public List<PatternMatch> search(long stockId, int k, int probes) {
+        return search(stockId, k, probes, -1);
+    }
+
+    /**
+     * 종목의 최근 윈도우와 유사한 구간을 전수 탐색합니다 (재현율 측정 기준값).
+     *
+     * @param dtwBand 0 이상이면 DTW, 음수이면 z-정규화 유클리드 거리
+     */
+    public List<PatternMatch> exactSearch(long stockId, int k, int dtwBand) {
+        Integer slot = slotByStockId.get(stockId);
+        if (slot == null || seriesList.get(slot).size < windowSize) {
+            return List.of();
+        }
+        int querySlot = slot;
+        int queryEnd = seriesList.get(slot).size - 1;
+        Scorer scorer = scorer(seriesList.get(slot).closes, queryEnd - windowSize + 1, dtwBand);
+
+        TopK topK = new TopK(k);
+        for (int s = 0; s < seriesList.size(); s++) {
+            Series series = seriesList.get(s);
+            int maxEnd = s == querySlot ? queryEnd - windowSize : series.size - 1;
+            for (int end = windowSize - 1; end <= maxEnd; end++) {
+                double distance = scorer.score(series.closes, end - windowSize + 1, topK.bound());
+                if (distance < Double.POSITIVE_INFINITY) {
+                    topK.offer(ref(s, end), distance);
+                }
+            }
+        }
+        return toMatches(topK);
+    }
+
+    /**
+     * z-정규화 유클리드 거리 기준 전수 탐색.
+     */
+    public List<PatternMatch> exactSearch(long stockId, int k) {
+        return exactSearch(stockId, k, -1);
+    }
+
+    /**
+     * 인덱스 내용을 바이너리 스냅샷으로 기록합니다.
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(windowSize);
+        out.writeInt(tables);
+        out.writeInt(bits);
+        out.writeLong(seed);
+        out.writeLong(windowCount);
+
+        out.writeInt(seriesList.size());
+        for (Series series : seriesList) {
+            out.writeLong(series.stockId);
+            out.writeInt(series.size);
+            for (int i = 0; i < series.size; i++) {
+                out.writeInt(series.days[i]);
+                out.writeFloat(series.closes[i]);
+            }
+        }
+
+        for (Map<Integer, LongList> table : buckets) {
+            out.writeInt(table.size());
+            for (Map.Entry<Integer, LongList> entry : table.entrySet()) {
+                LongList refs = entry.getValue();
+                out.writeInt(entry.getKey());
+                out.writeInt(refs.size);
+                for (int i = 0; i < refs.size; i++) {
+                    out.writeLong(refs.data[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 바이너리 스냅샷으로부터 인덱스를 복원합니다.
+     */
+    public static LshPatternIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("패턴 인덱스 스냅샷 형식이 올바르지 않습니다");
+        }
+        LshPatternIndex index = new LshPatternIndex(in.readInt(), in.readInt(), in.readInt(), in.readLong());
+        index.windowCount = in.readLong();
+
+        int seriesCount = in.readInt();
+        for (int s = 0; s < seriesCount; s++) {
+            Series series = new Series(in.readLong());
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                series.add(in.readInt(), in.readFloat());
+            }
+            index.slotByStockId.put(series.stockId, index.seriesList.size());
+            index.seriesList.add(series);
+        }
+
+        for (Map<Integer, LongList> table : index.buckets) {
+            int bucketCount = in.readInt();
+            for (int b = 0; b < bucketCount; b++) {
+                int key = in.readInt();
+                int size = in.readInt();
+                LongList refs = new LongList(size);
+                for (int i = 0; i < size; i++) {
+                    refs.add(in.readLong());
+                }
+                table.put(key, refs);
+            }
+        }
+        return index;
+    }
+
+    private Scorer scorer(float[] closes, int from, int dtwBand) {
+        if (dtwBand >= 0) {
+            double[] raw = new double[windowSize];
+            for (int i = 0; i < windowSize; i++) {
+                raw[i] = closes[from + i];
+            }
+            DtwMatcher matcher = new DtwMatcher(raw, dtwBand);
+            return new Scorer(matcher.queryAsFloat(), matcher::distance);
+        }
+        float[] query = new float[windowSize];
+        zNormalize(closes, from, query);
+        return new Scorer(query, (candidate, start, bound) -> distance(query, candidate, start, bound));
+    }
+
+    private List<PatternMatch> searchInternal(Scorer scorer, int k, int probes, int excludeSlot, int excludeAfter) {
+        float[] query = scorer.query();
+        TopK topK = new TopK(k);
+        LongHashSet seen = new LongHashSet();
+        float[] margins = new float[bits];
+        Integer[] order = new Integer[bits];
+        int probeCount = Math.max(0, Math.min(probes, bits));
+
+        for (int t = 0; t < tables; t++) {
+            int key = signature(query, t, margins);
+            scanBucket(t, key, scorer, excludeSlot, excludeAfter, seen, topK);
+
+            // 멀티 프로브: 초평면에 가장 가까운(뒤집힐 가능성이 높은) 비트부터 하나씩 뒤집어 인접 버킷 탐색
+            if (probeCount > 0) {
+                for (int b = 0; b < bits; b++) {
+                    order[b] = b;
+                }
+                Arrays.sort(order, Comparator.comparingDouble(b -> margins[b]));
+                for (int p = 0; p < probeCount; p++) {
+                    scanBucket(t, key ^ (1 << order[p]), scorer, excludeSlot, excludeAfter, seen, topK);
+                }
+            }
+        }
+        return toMatches(topK);
+    }
+
+    private void scanBucket(
+            int table, int key, Scorer scorer, int excludeSlot, int excludeAfter, LongHashSet seen, TopK topK
+    ) {
+        LongList refs = buckets.get(table).get(key);
+        if (refs == null) {
+            return;
+        }
+        for (int i = 0; i < refs.size; i++) {
+            long ref = refs.data[i];
+            int slot = slotOf(ref);
+            int end = endOf(ref);
+            if (slot == excludeSlot && end > excludeAfter) {
+                continue;
+            }
+            if (!seen.add(ref)) {
+                continue;
+            }
+            double distance = scorer.score(seriesList.get(slot).closes, end - windowSize + 1, topK.bound());
+            if (distance < Double.POSITIVE_INFINITY) {
+                topK.offer(ref, distance);
+            }
+        }
+    }
+
+    private List<PatternMatch> toMatches(TopK topK) {
+        List<long[]> entries = topK.sorted();
+        List<PatternMatch> matches = new ArrayList<>(entries.size());
+        for (long[] entry : entries) {
+            long ref = entry[0];
+            Series series = seriesList.get(slotOf(ref));
+            int end = endOf(ref);
+            Double forwardReturn = null;
+            int forwardEnd = end + FORWARD_RETURN_DAYS;
+            if (forwardEnd < series.size && series.closes[end] != 0) {
+                forwardReturn = (series.closes[forwardEnd] - series.closes[end]) / series.closes[end] * 100.0;
+            }
+            matches.add(new PatternMatch(
+                series.stockId,
+                LocalDate.ofEpochDay(series.days[end - windowSize + 1]),
+                LocalDate.ofEpochDay(series.days[end]),
+                Double.longBitsToDouble(entry[1]),
+                forwardReturn
+            ));
+        }
+        return matches;
+    }
+
+    private int signature(float[] z, int table, float[] margins) {
+        int key = 0;
+        for (int b = 0; b < bits; b++) {
+            float[] plane = planes[table * bits + b];
+            double dot = 0;
+            for (int i = 0; i < windowSize; i++) {
+                dot += plane[i] * z[i];
+            }
+            if (dot >= 0) {
+                key |= 1 << b;
+            }
+            if (margins != null) {
+                margins[b] = (float) Math.abs(dot);
+            }
+        }
+        return key;
+    }
+
+    private void zNormalize(float[] closes, int from, float[] target) {
+        double sum = 0;
+        double sumSq = 0;
+        for (int i = 0; i < windowSize; i++) {
+            double v = closes[from + i];
+            sum += v;
+            sumSq += v * v;
+        }
+        double mean = sum / windowSize;
+        double std = Math.sqrt(Math.max(0, sumSq / windowSize - mean * mean));
+        for (int i = 0; i < windowSize; i++) {
+            target[i] = std == 0 ? 0f : (float) ((closes[from + i] - mean) / std);
+        }
+    }
+
+    /**
+     * 질의(z-정규화 완료)와 후보 윈도우 간 z-정규화 유클리드 거리를 계산합니다.
+     * 누적 거리가 bound를 넘으면 즉시 중단하고 무한대를 반환합니다.
+     */
+    private double distance(float[] query, float[] closes, int from, double bound) {
+        double sum = 0;
+        double sumSq = 0;
+        for (int i = 0; i < windowSize; i++) {
+            double v = closes[from + i];
+            sum += v;
+            sumSq += v * v;
+        }
+        double mean = sum / windowSize;
+        double std = Math.sqrt(Math.max(0, sumSq / windowSize - mean * mean));
+        double boundSq = bound * bound;
+
+        double acc = 0;
+        for (int i = 0; i < windowSize; i++) {
+            double z = std == 0 ? 0 : (closes[from + i] - mean) / std;
+            double d = query[i] - z;
+            acc += d * d;
+            if (acc > boundSq) {
+                return Double.POSITIVE_INFINITY;
+            }
+        }
+        return Math.sqrt(acc);
+    }
+
+    private static long ref(int slot, int end) {
+        return ((long) slot << 32) | (end & 0xFFFFFFFFL);
+    }
+
+    private static int slotOf(long ref) {
+        return (int) (ref >>> 32);
+    }
+
+    private static int endOf(long ref) {
+        return (int) ref;
+    }
+
+    /**
+     * 후보 구간 거리 함수. 가지치기되면 무한대를 반환합니다.
+     */
+    @FunctionalInterface
+    private interface Distance {
+
+        double compute(float[] closes, int from, double bound);
+    }
+
+    /**
+     * 해시 서명용 z-정규화 질의와 재정렬용 거리 함수의 묶음.
+     */
+    private record Scorer(float[] query, Distance distance) {
+
+        private double score(float[] closes, int from, double bound) {
+            return distance.compute(closes, from, bound);
+        }
+    }
+
+    /**
+     * 종목별 종가 시계열 (날짜 오름차순, 끝에 추가하거나 기존 날짜의 종가만 수정).
+     */
+    private static final class Series {
+
+        private final long stockId;
+        private int[] days = new int[256];
+        private float[] closes = new float[256];
+        private int size;
+
+        private Series(long stockId) {
+            this.stockId = stockId;
+        }
+
+        private void add(int epochDay, float close) {
+            if (size == days.length) {
+                days = Arrays.copyOf(days, size * 2);
+                closes = Arrays.copyOf(closes, size * 2);
+            }
+            days[size] = epochDay;
+            closes[size] = close;
+            size++;
+        }
+    }
+
+    /**
+     * 박싱 없는 long 가변 배열.
+     */
+    private static final class LongList {
+
+        private long[] data;
+        private int size;
+
+        private LongList() {
+            this(8);
+        }
+
+        private LongList(int capacity) {
+            this.data = new long[Math.max(capacity, 1)];
+        }
+
+        private void add(long value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+
+        /**
+         * 값을 하나 제거합니다 (순서 무관, 마지막 원소로 자리를 채움).
+         */
+        private void remove(long value) {
+            for (int i = 0; i < size; i++) {
+                if (data[i] == value) {
+                    data[i] = data[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 박싱 없는 개방 주소법 long 집합 (후보 중복 제거용).
+     */
+    private static final class LongHashSet {
+
+        private static final long EMPTY = -1L;
+
+        private long[] table = new long[1 << 12];
+        private int size;
+
+        private LongHashSet() {
+            Arrays.fill(table, EMPTY);
+        }
+
+        private boolean add(long value) {
+            if (size * 2 >= table.length) {
+                rehash();
+            }
+            int mask = table.length - 1;
+            int i = (int) mix(value) & mask;
+            while (table[i] != EMPTY) {
+                if (table[i] == value) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = value;
+            size++;
+            return true;
+        }
+
+        private void rehash() {
+            long[] old = table;
+            table = new long[old.length * 2];
+            Arrays.fill(table, EMPTY);
+            size = 0;
+            for (long value : old) {
+                if (value != EMPTY) {
+                    add(value);
+                }
+            }
+        }
+
+        private static long mix(long value) {
+            long h = value * 0x9E3779B97F4A7C15L;
+            return h ^ (h >>> 32);
+        }
+    }
+
+    /**
+     * 거리 기준 상위 K개를 유지하는 최대 힙.
+     */
+    private static final class TopK {
+
+        private final int k;
+        private final PriorityQueue<long[]> heap =
+            new PriorityQueue<>(Comparator.comparingDouble((long[] e) -> Double.longBitsToDouble(e[1])).reversed());
+
+        private TopK(int k) {
+            this.k = Math.max(k, 1);
+        }
+
+        private double bound() {
+            return heap.size() < k ? Double.POSITIVE_INFINITY : Double.longBitsToDouble(heap.peek()[1]);
+        }
+
+        private void offer(long ref, double distance) {
+            if (heap.size() < k) {
+                heap.add(new long[]{ref, Double.doubleToLongBits(distance)});
+            } else if (distance < bound()) {
+                heap.poll();
+                heap.add(new long[]{ref, Double.doubleToLongBits(distance)});
+            }
+        }
+
+        private List<long[]> sorted() {
+            List<long[]> entries = new ArrayList<>(heap);
+            entries.sort(Comparator.comparingDouble(e -> Double.longBitsToDouble(e[1])));
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.stock.domain.stock.domain.pattern;
+
+/**
+ * 패턴 인덱스 재현율/지연시간 측정 결과.
+ *
+ * @param windowSize       윈도우 크기
+ * @param k                상위 K
+ * @param probes           테이블당 멀티 프로브 수
+ * @param metric           재정렬 거리 척도
+ * @param queries          측정에 사용한 질의 수
+ * @param indexedWindows   인덱스에 등록된 전체 윈도우 수
+ * @param recallAtK        전수 탐색 대비 recall@K (0.0 ~ 1.0)
+ * @param avgIndexedMillis 인덱스 검색 평균 소요 시간 (ms)
+ * @param avgExactMillis   전수 탐색 평균 소요 시간 (ms)
+ */
+public record PatternIndexBenchmark(
+        int windowSize,
+        int k,
+        int probes,
+        PatternMetric metric,
+        int queries,
+        long indexedWindows,
+        double recallAtK,
+        double avgIndexedMillis,
+        double avgExactMillis
+) {
+}
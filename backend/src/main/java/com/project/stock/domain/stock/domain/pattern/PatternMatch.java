@@ -0,0 +1,21 @@
+package com.project.stock.domain.stock.domain.pattern;
+
+import java.time.LocalDate;
+
+/**
+ * 유사 차트 패턴 검색 결과.
+ *
+ * @param stockId          매칭된 구간의 종목 ID
+ * @param startDate        매칭 구간 시작일
+ * @param endDate          매칭 구간 종료일
+ * @param distance         z-정규화 유클리드 거리 (작을수록 유사)
+ * @param forwardReturnPct 매칭 구간 이후 수익률 (%), 이후 데이터가 부족하면 null
+ */
+public record PatternMatch(
+        long stockId,
+        LocalDate startDate,
+        LocalDate endDate,
+        double distance,
+        Double forwardReturnPct
+) {
+}
@@ -0,0 +1,16 @@
+package com.project.stock.domain.stock.domain.pattern;
+
+/**
+ * 유사 패턴 재정렬 거리 척도.
+ */
+public enum PatternMetric {
+    /**
+     * z-정규화 유클리드 거리.
+     */
+    EUCLIDEAN,
+
+    /**
+     * Sakoe-Chiba 밴드 DTW 거리 (시간축 신축 허용).
+     */
+    DTW
+}
@@ -0,0 +1,25 @@
+package com.project.stock.domain.stock.domain.pattern;
+
+import java.time.LocalDate;
+
+/**
+ * 종목 코드가 결합된 유사 차트 패턴.
+ */
+public record SimilarPattern(
+        String stockCode,
+        LocalDate startDate,
+        LocalDate endDate,
+        double distance,
+        Double forwardReturnPct
+) {
+
+    public static SimilarPattern of(String stockCode, PatternMatch match) {
+        return new SimilarPattern(
+                stockCode,
+                match.startDate(),
+                match.endDate(),
+                match.distance(),
+                match.forwardReturnPct()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.stock.domain.stock.domain.push;
+
+import java.time.Instant;
+
+/**
+ * 구독자에게 전달하는 종목 갱신 알림.
+ *
+ * @param type       알림 종류
+ * @param stockCode  종목코드 (하트비트는 null)
+ * @param occurredAt 발생 시각
+ * @param data       알림 내용 (원본 이벤트). 클라이언트는 이를 보고 필요한 REST 조회만 다시 수행합니다.
+ */
+public record StockUpdate(
+        StockUpdateType type,
+        String stockCode,
+        Instant occurredAt,
+        Object data
+) {
+
+    public static StockUpdate heartbeat() {
+        return new StockUpdate(StockUpdateType.HEARTBEAT, null, Instant.now(), null);
+    }
+}
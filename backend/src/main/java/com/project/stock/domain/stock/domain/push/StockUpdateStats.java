@@ -0,0 +1,29 @@
+package com.project.stock.domain.stock.domain.push;
+
+/**
+ * 종목 갱신 알림 스트림 현황 (기동 이후 누적).
+ *
+ * @param subscribers       현재 구독자 수
+ * @param watchedStocks     구독자가 하나 이상 있는 종목 수
+ * @param published         발행된 알림 수 (하트비트 제외)
+ * @param enqueued          구독자 대기열에 넣은 알림 수 (발행 × 해당 종목 구독자)
+ * @param coalesced         아직 보내지 않은 같은 종목/종류 알림을 덮어써 합친 수
+ * @param delivered         전송 완료한 알림 수
+ * @param droppedSlow       허용 지연을 넘겨 끊은 구독자 수
+ * @param droppedFailed     전송 오류로 끊은 구독자 수
+ * @param droppedStalled    쓰기 시간 제한을 넘겨 끊은 구독자 수
+ * @param rejected          구독자 수 상한으로 거절한 구독 수
+ */
+public record StockUpdateStats(
+        int subscribers,
+        int watchedStocks,
+        long published,
+        long enqueued,
+        long coalesced,
+        long delivered,
+        long droppedSlow,
+        long droppedFailed,
+        long droppedStalled,
+        long rejected
+) {
+}
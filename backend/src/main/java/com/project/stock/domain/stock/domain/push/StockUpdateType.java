@@ -0,0 +1,27 @@
+package com.project.stock.domain.stock.domain.push;
+
+/**
+ * 종목 갱신 알림 종류 (SSE 이벤트 이름).
+ */
+public enum StockUpdateType {
+
+    /**
+     * 시세 동기화로 새 일봉이 저장됨.
+     */
+    PRICES_SYNCED,
+
+    /**
+     * 일일 배치가 새 분석 결과를 저장함.
+     */
+    ANALYSIS_SAVED,
+
+    /**
+     * 장중 분봉이 마감됨.
+     */
+    INTRADAY_BAR_CLOSED,
+
+    /**
+     * 연결 유지용 하트비트 (종목 없음).
+     */
+    HEARTBEAT
+}
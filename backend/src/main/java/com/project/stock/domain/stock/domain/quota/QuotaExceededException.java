@@ -0,0 +1,24 @@
+package com.project.stock.domain.stock.domain.quota;
+
+import lombok.Getter;
+
+/**
+ * 할당량을 대기 한도 안에 얻을 수 없어 요청을 받지 않았을 때 발생합니다.
+ * 호출자는 {@link #getRetryAfterMs()} 이후 다시 시도하면 됩니다.
+ */
+@Getter
+public class QuotaExceededException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final QuotaResource resource;
+    private final TrafficClass trafficClass;
+    private final long retryAfterMs;
+
+    public QuotaExceededException(QuotaResource resource, TrafficClass trafficClass, long retryAfterMs, String message) {
+        super(message);
+        this.resource = resource;
+        this.trafficClass = trafficClass;
+        this.retryAfterMs = retryAfterMs;
+    }
+}
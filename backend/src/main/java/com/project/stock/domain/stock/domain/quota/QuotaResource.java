@@ -0,0 +1,17 @@
+package com.project.stock.domain.stock.domain.quota;
+
+/**
+ * 호출 할당량이 정해진 외부 자원.
+ */
+public enum QuotaResource {
+
+    /**
+     * 한국투자증권 OpenAPI (초당 호출 수 제한).
+     */
+    KIS,
+
+    /**
+     * AI Worker의 LLM 분석 (분당 분석 종목 수 예산).
+     */
+    LLM
+}
@@ -0,0 +1,49 @@
+package com.project.stock.domain.stock.domain.quota;
+
+import java.util.List;
+
+/**
+ * 자원별 할당량 현황 (기동 이후 누적).
+ *
+ * @param resource        자원
+ * @param ratePerSecond   초당 보충량
+ * @param burst           한 번에 쓸 수 있는 최대 보유량
+ * @param availableTokens 현재 보유량 (큰 요청이 먼저 당겨 쓰면 음수)
+ * @param classes         트래픽 종류별 현황
+ */
+public record QuotaStats(
+        QuotaResource resource,
+        double ratePerSecond,
+        double burst,
+        double availableTokens,
+        List<ClassStats> classes
+) {
+
+    /**
+     * 트래픽 종류별 대기/승인 현황.
+     *
+     * @param trafficClass 트래픽 종류
+     * @param weight       경합 시 할당량 배분 가중치
+     * @param queued       현재 대기 중인 요청 수
+     * @param granted      승인된 요청 수
+     * @param consumed     승인된 요청이 사용한 할당량 합계
+     * @param rejected     예상 대기 시간이 한도를 넘어 바로 거절한 요청 수
+     * @param timedOut     기다리다 한도를 넘겨 포기한 요청 수
+     * @param avgWaitMs    승인까지의 평균 대기 시간 (ms)
+     * @param p95WaitMs    승인까지의 대기 시간 95 백분위 (ms, 2의 거듭제곱 구간 상한)
+     * @param maxWaitMs    승인까지의 최대 대기 시간 (ms)
+     */
+    public record ClassStats(
+            TrafficClass trafficClass,
+            int weight,
+            int queued,
+            long granted,
+            long consumed,
+            long rejected,
+            long timedOut,
+            double avgWaitMs,
+            long p95WaitMs,
+            long maxWaitMs
+    ) {
+    }
+}
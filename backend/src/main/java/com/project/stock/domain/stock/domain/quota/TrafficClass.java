@@ -0,0 +1,17 @@
+package com.project.stock.domain.stock.domain.quota;
+
+/**
+ * 외부 호출 할당량(KIS, LLM)을 나누어 쓰는 트래픽 종류.
+ */
+public enum TrafficClass {
+
+    /**
+     * 사용자 요청 (시세 동기화, 분석). 대기 한도가 짧고, 넘을 것 같으면 바로 거절합니다.
+     */
+    INTERACTIVE,
+
+    /**
+     * 일일 분석 배치. 관심 종목 우선순위 순으로 처리하며 오래 기다릴 수 있습니다.
+     */
+    BATCH
+}
@@ -0,0 +1,25 @@
+package com.project.stock.domain.stock.domain.realtime;
+
+import java.time.Instant;
+
+/**
+ * 분봉 (체결 틱을 구간별로 집계한 OHLCV).
+ *
+ * @param intervalMinutes 봉 간격 (분)
+ * @param start           구간 시작 시각 (포함)
+ * @param tickCount       구간 내 체결 건수
+ * @param closed          구간 종료 여부 (false면 진행 중인 봉)
+ */
+public record IntradayBar(
+        String stockCode,
+        int intervalMinutes,
+        Instant start,
+        double open,
+        double high,
+        double low,
+        double close,
+        long volume,
+        int tickCount,
+        boolean closed
+) {
+}
@@ -0,0 +1,10 @@
+package com.project.stock.domain.stock.domain.realtime;
+
+/**
+ * 분봉 마감 이벤트.
+ * 실시간 수신 스레드에서 동기적으로 발행되므로 리스너는 오래 걸리는 작업을 하면 안 됩니다.
+ */
+public record IntradayBarClosedEvent(
+        IntradayBar bar
+) {
+}
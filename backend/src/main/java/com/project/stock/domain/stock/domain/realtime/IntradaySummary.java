@@ -0,0 +1,26 @@
+package com.project.stock.domain.stock.domain.realtime;
+
+import java.time.Instant;
+
+/**
+ * 장중 세션 요약. 장 마감 후 일봉으로 반영할 때도 사용합니다.
+ *
+ * @param firstTickAt 첫 체결 시각
+ * @param lastTickAt  마지막 체결 시각
+ * @param volume      당일 누적 거래량
+ * @param vwap        거래량 가중 평균가
+ * @param tickCount   체결 건수
+ */
+public record IntradaySummary(
+        String stockCode,
+        Instant firstTickAt,
+        Instant lastTickAt,
+        double open,
+        double high,
+        double low,
+        double close,
+        long volume,
+        double vwap,
+        int tickCount
+) {
+}
@@ -0,0 +1,19 @@
+package com.project.stock.domain.stock.domain.realtime;
+
+/**
+ * 실시간 체결 틱.
+ *
+ * @param stockCode        종목코드
+ * @param timestamp        체결 시각 (epoch ms)
+ * @param price            체결가
+ * @param volume           체결 수량
+ * @param cumulativeVolume 당일 누적 거래량
+ */
+public record QuoteTick(
+        String stockCode,
+        long timestamp,
+        double price,
+        long volume,
+        long cumulativeVolume
+) {
+}
@@ -0,0 +1,33 @@
+package com.project.stock.domain.stock.domain.realtime;
+
+import java.time.Instant;
+
+/**
+ * 실시간 시세 수신 현황 (기동 이후 누적).
+ *
+ * @param connected        WebSocket 연결 여부
+ * @param subscribedStocks 구독 종목 수
+ * @param ticksReceived    수신한 체결 틱 수
+ * @param parseErrors      해석하지 못한 메시지 수
+ * @param barsClosed       마감된 분봉 수 (1분/5분 합계)
+ * @param priceFlushes     현재가 일괄 반영 횟수
+ * @param pricesWritten    반영한 종목 현재가 수 (틱 수 대비 합쳐진 정도)
+ * @param storedTicks      장중 틱 저장소에 보관 중인 틱 수
+ * @param storeBytes       장중 틱 저장소가 할당한 힙 밖 메모리 (바이트)
+ * @param droppedTicks     메모리 상한으로 저장하지 못한 틱 수
+ * @param lastTickAt       마지막 틱 체결 시각
+ */
+public record RealtimeQuoteStats(
+        boolean connected,
+        int subscribedStocks,
+        long ticksReceived,
+        long parseErrors,
+        long barsClosed,
+        long priceFlushes,
+        long pricesWritten,
+        long storedTicks,
+        long storeBytes,
+        long droppedTicks,
+        Instant lastTickAt
+) {
+}
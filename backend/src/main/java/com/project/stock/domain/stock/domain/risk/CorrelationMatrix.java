@@ -0,0 +1,30 @@
+package com.project.stock.domain.stock.domain.risk;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 관심 종목 수익률 공분산/상관계수 행렬.
+ *
+ * @param stockCodes    행/열 순서의 종목코드
+ * @param excludedCodes 커버리지 부족 등으로 제외된 종목코드
+ * @param observations  일간 수익률 관측 수
+ * @param covariance    일간 로그 수익률 공분산 (행 우선 n×n)
+ * @param correlation   상관계수 (행 우선 n×n)
+ * @param elapsedMillis 계산 소요 시간 (캐시 적중 시 최초 계산 시간)
+ */
+public record CorrelationMatrix(
+        List<String> stockCodes,
+        List<String> excludedCodes,
+        LocalDate startDate,
+        LocalDate endDate,
+        int observations,
+        double[] covariance,
+        double[] correlation,
+        long elapsedMillis
+) {
+
+    public int size() {
+        return stockCodes.size();
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.stock.domain.stock.domain.risk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 블록 단위 공분산/상관계수 계산기.
+ *
+ * <p>C = X·Xᵀ / (T-1)을 행 블록 쌍(대각 포함 상삼각)으로 나눠 계산합니다.
+ * 한 블록 쌍이 참조하는 두 행 묶음({@code blockSize × T × 8바이트})이 L2 캐시에 머무르도록 블록 크기를 잡고,
+ * 블록 쌍들은 서로 겹치지 않는 출력 영역에 쓰므로 병렬로 실행해도 동기화가 필요 없습니다.
+ * 호출 스레드가 ForkJoinPool 작업자이면 해당 풀에서 병렬 실행됩니다.
+ */
+public final class CovarianceKernel {
+
+    private CovarianceKernel() {
+    }
+
+    /**
+     * 공분산 행렬을 계산합니다 (행 우선 n×n).
+     */
+    public static double[] covariance(ReturnMatrix returns, int blockSize) {
+        int n = returns.size();
+        int t = returns.observations();
+        double[] x = returns.values();
+        double[] result = new double[n * n];
+        int block = Math.max(1, blockSize);
+        double scale = 1.0 / (t - 1);
+
+        List<int[]> tiles = new ArrayList<>();
+        for (int bi = 0; bi < n; bi += block) {
+            for (int bj = bi; bj < n; bj += block) {
+                tiles.add(new int[]{bi, bj});
+            }
+        }
+        IntStream.range(0, tiles.size()).parallel().forEach(index -> {
+            int[] tile = tiles.get(index);
+            int iEnd = Math.min(tile[0] + block, n);
+            int jEnd = Math.min(tile[1] + block, n);
+            for (int i = tile[0]; i < iEnd; i++) {
+                int rowI = i * t;
+                for (int j = Math.max(tile[1], i); j < jEnd; j++) {
+                    double value = dot(x, rowI, j * t, t) * scale;
+                    result[i * n + j] = value;
+                    result[j * n + i] = value;
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 공분산 행렬로부터 상관계수 행렬을 계산합니다. 분산이 0인 종목의 상관계수는 0(대각은 1)입니다.
+     */
+    public static double[] correlation(double[] covariance, int n) {
+        double[] std = new double[n];
+        for (int i = 0; i < n; i++) {
+            std[i] = Math.sqrt(covariance[i * n + i]);
+        }
+        double[] result = new double[n * n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            for (int j = 0; j < n; j++) {
+                double denominator = std[i] * std[j];
+                result[i * n + j] = i == j ? 1.0 : (denominator == 0 ? 0.0 : covariance[i * n + j] / denominator);
+            }
+        });
+        return result;
+    }
+
+    private static double dot(double[] x, int a, int b, int length) {
+        double s0 = 0;
+        double s1 = 0;
+        double s2 = 0;
+        double s3 = 0;
+        int k = 0;
+        for (; k + 3 < length; k += 4) {
+            s0 += x[a + k] * x[b + k];
+            s1 += x[a + k + 1] * x[b + k + 1];
+            s2 += x[a + k + 2] * x[b + k + 2];
+            s3 += x[a + k + 3] * x[b + k + 3];
+        }
+        for (; k < length; k++) {
+            s0 += x[a + k] * x[b + k];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+}
@@ -0,0 +1,173 @@
+package com.project.stock.domain.stock.domain.risk;
+
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 공통 거래일로 정렬된 종목별 일간 로그 수익률 행렬 (불변).
+ * 한 종목의 수익률은 연속된 원시 배열 구간({@code values[row * observations ...]})에 저장되며,
+ * 공분산 계산을 위해 종목별 평균을 미리 뺀(demeaned) 값입니다.
+ *
+ * <p>타임라인은 대상 종목 거래일 합집합의 최근 lookback+1일입니다.
+ * 거래가 없는 날은 직전 종가로 채우고(수익률 0), 커버리지가 기준에 못 미치는 종목은 제외합니다.
+ */
+public final class ReturnMatrix {
+
+    private final List<String> stockCodes;
+    private final List<String> excludedCodes;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int observations;
+    private final double[] values;
+
+    private ReturnMatrix(List<String> stockCodes, List<String> excludedCodes,
+                         LocalDate startDate, LocalDate endDate, int observations, double[] values) {
+        this.stockCodes = stockCodes;
+        this.excludedCodes = excludedCodes;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.observations = observations;
+        this.values = values;
+    }
+
+    /**
+     * @param lookback    수익률 관측 일수
+     * @param minCoverage 타임라인 중 실제 거래가 있어야 하는 최소 비율 (0~1)
+     */
+    public static ReturnMatrix of(Collection<PriceSeries> series, int lookback, double minCoverage) {
+        if (lookback < 2) {
+            throw new IllegalArgumentException("lookback은 2 이상이어야 합니다: " + lookback);
+        }
+        TreeSet<Integer> allDays = new TreeSet<>();
+        for (PriceSeries s : series) {
+            int from = Math.max(0, s.size() - lookback - 1);
+            for (int i = from; i < s.size(); i++) {
+                allDays.add(s.epochDay(i));
+            }
+        }
+        int[] timeline = allDays.descendingSet().stream()
+                .limit(lookback + 1L)
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray();
+        if (timeline.length < 3) {
+            throw new IllegalArgumentException("상관관계 계산에 필요한 거래일이 부족합니다");
+        }
+        int observations = timeline.length - 1;
+
+        List<String> codes = new ArrayList<>();
+        List<String> excluded = new ArrayList<>();
+        double[] buffer = new double[series.size() * observations];
+        double[] closes = new double[timeline.length];
+        int rows = 0;
+        for (PriceSeries s : series) {
+            if (!alignCloses(s, timeline, closes, minCoverage)) {
+                excluded.add(s.stockCode());
+                continue;
+            }
+            int offset = rows * observations;
+            double sum = 0;
+            for (int t = 0; t < observations; t++) {
+                double r = Math.log(closes[t + 1] / closes[t]);
+                buffer[offset + t] = r;
+                sum += r;
+            }
+            double mean = sum / observations;
+            for (int t = 0; t < observations; t++) {
+                buffer[offset + t] -= mean;
+            }
+            codes.add(s.stockCode());
+            rows++;
+        }
+        double[] values = new double[rows * observations];
+        System.arraycopy(buffer, 0, values, 0, values.length);
+
+        return new ReturnMatrix(
+                List.copyOf(codes),
+                List.copyOf(excluded),
+                LocalDate.ofEpochDay(timeline[0]),
+                LocalDate.ofEpochDay(timeline[timeline.length - 1]),
+                observations,
+                values
+        );
+    }
+
+    public List<String> stockCodes() {
+        return stockCodes;
+    }
+
+    public List<String> excludedCodes() {
+        return excludedCodes;
+    }
+
+    public LocalDate startDate() {
+        return startDate;
+    }
+
+    public LocalDate endDate() {
+        return endDate;
+    }
+
+    public int size() {
+        return stockCodes.size();
+    }
+
+    public int observations() {
+        return observations;
+    }
+
+    /**
+     * 평균을 뺀 수익률 원시 배열 (행 우선). 수정하면 안 됩니다.
+     */
+    double[] values() {
+        return values;
+    }
+
+    /**
+     * 타임라인에 맞춰 종가를 정렬하고 빈 날은 직전 종가로 채웁니다.
+     *
+     * @return 커버리지 기준 충족 여부
+     */
+    private static boolean alignCloses(PriceSeries s, int[] timeline, double[] out, double minCoverage) {
+        int i = Math.max(0, s.indexAtOrBefore(LocalDate.ofEpochDay(timeline[0])));
+        int present = 0;
+        double last = Double.NaN;
+        for (int t = 0; t < timeline.length; t++) {
+            while (i < s.size() && s.epochDay(i) < timeline[t]) {
+                last = s.close(i);
+                i++;
+            }
+            if (i < s.size() && s.epochDay(i) == timeline[t]) {
+                last = s.close(i);
+                present++;
+                i++;
+            }
+            out[t] = last;
+        }
+        if (present < minCoverage * timeline.length) {
+            return false;
+        }
+        // 타임라인 앞부분에 상장 전 구간이 있으면 첫 종가로 채워 수익률 0으로 둔다
+        int first = 0;
+        while (first < out.length && !(out[first] > 0)) {
+            first++;
+        }
+        if (first == out.length) {
+            return false;
+        }
+        for (int t = 0; t < first; t++) {
+            out[t] = out[first];
+        }
+        for (int t = first; t < out.length; t++) {
+            if (!(out[t] > 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.stock.domain.stock.domain.risk;
+
+/**
+ * 리스크 행렬 종류.
+ */
+public enum RiskMatrixType {
+    CORRELATION,
+    COVARIANCE
+}
@@ -0,0 +1,591 @@
+package com.project.stock.domain.stock.domain.screener;
+
+import com.project.stock.domain.stock.domain.market.Indicators;
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 스크리너 필터/정렬 식.
+ * 한 번 파싱하여 트리로 컴파일한 뒤, 종목 시계열의 특정 시점에 대해 평가합니다.
+ *
+ * <pre>
+ * expr    := or
+ * or      := and (OR and)*
+ * and     := not (AND not)*
+ * not     := NOT not | compare
+ * compare := sum ((&lt; | &lt;= | &gt; | &gt;= | == | !=) sum)?
+ * sum     := product ((+ | -) product)*
+ * product := unary ((* | /) unary)*
+ * unary   := - unary | postfix
+ * postfix := primary ([ n ])*          -- n봉 전 값
+ * primary := number | field | function ( args ) | ( expr )
+ * </pre>
+ *
+ * 필드: open, high, low, close, volume<br>
+ * 함수: sma(n), ema(n), rsi(n), stddev(n), highest(n), lowest(n), change_pct(n),
+ * volume_sma(n), bb_upper(n), bb_lower(n), macd(), macd_signal(), macd_hist()<br>
+ * 불리언은 1/0으로 표현하며, NaN과의 비교는 항상 거짓입니다.
+ *
+ * <p>단일 시점 평가({@link #evaluate})와 전체 구간 평가({@link #evaluateAll})를 모두 지원합니다.
+ * 전체 구간 평가는 지수 이동평균 계열을 한 번의 순회로 계산하므로 백테스트처럼 모든 시점이 필요할 때 사용합니다.
+ */
+public final class ScreenerExpression {
+
+    private static final int MAX_LENGTH = 1000;
+    private static final int MAX_PERIOD = 1000;
+
+    private final String source;
+    private final Node root;
+
+    private ScreenerExpression(String source, Node root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /**
+     * 식을 파싱합니다.
+     *
+     * @throws IllegalArgumentException 문법 오류
+     */
+    public static ScreenerExpression parse(String source) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("스크리너 식이 비어 있습니다");
+        }
+        if (source.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("스크리너 식이 너무 깁니다 (최대 " + MAX_LENGTH + "자)");
+        }
+        Parser parser = new Parser(tokenize(source));
+        Node root = parser.parseExpression();
+        parser.expectEnd();
+        return new ScreenerExpression(source, root);
+    }
+
+    public String source() {
+        return source;
+    }
+
+    /**
+     * 시점 index에서 식의 값을 계산합니다.
+     */
+    public double evaluate(PriceSeries series, int index) {
+        if (index < 0 || index >= series.size()) {
+            return Double.NaN;
+        }
+        return root.eval(series, index);
+    }
+
+    /**
+     * 시점 index에서 식이 참(0이 아니고 NaN이 아님)인지 확인합니다.
+     */
+    public boolean matches(PriceSeries series, int index) {
+        return truthy(evaluate(series, index));
+    }
+
+    /**
+     * 모든 시점의 값을 계산합니다. 결과[i]는 {@code evaluate(series, i)}와 같습니다.
+     */
+    public double[] evaluateAll(PriceSeries series) {
+        return root.evalAll(series);
+    }
+
+    /**
+     * 모든 시점에 대해 식이 참인지 계산합니다.
+     */
+    public boolean[] matchesAll(PriceSeries series) {
+        double[] values = evaluateAll(series);
+        boolean[] result = new boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = truthy(values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    // ------------------------------------------------------------------
+    // 식 트리
+    // ------------------------------------------------------------------
+
+    private interface Node {
+
+        double eval(PriceSeries series, int index);
+
+        double[] evalAll(PriceSeries series);
+    }
+
+    @FunctionalInterface
+    private interface Scalar {
+
+        double at(PriceSeries series, int index);
+    }
+
+    private record Constant(double value) implements Node {
+
+        @Override
+        public double eval(PriceSeries series, int index) {
+            return value;
+        }
+
+        @Override
+        public double[] evalAll(PriceSeries series) {
+            double[] result = new double[series.size()];
+            Arrays.fill(result, value);
+            return result;
+        }
+    }
+
+    /**
+     * 필드/지표. 전체 구간 계산식이 없으면 시점별 계산을 반복합니다.
+     */
+    private record Column(Scalar scalar, SeriesFunction vector) implements Node {
+
+        private static Column of(Scalar scalar) {
+            return new Column(scalar, null);
+        }
+
+        @Override
+        public double eval(PriceSeries series, int index) {
+            return scalar.at(series, index);
+        }
+
+        @Override
+        public double[] evalAll(PriceSeries series) {
+            if (vector != null) {
+                return vector.apply(series);
+            }
+            double[] result = new double[series.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = scalar.at(series, i);
+            }
+            return result;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SeriesFunction {
+
+        double[] apply(PriceSeries series);
+    }
+
+    private record Unary(Node operand, DoubleUnaryOperator op) implements Node {
+
+        @Override
+        public double eval(PriceSeries series, int index) {
+            return op.applyAsDouble(operand.eval(series, index));
+        }
+
+        @Override
+        public double[] evalAll(PriceSeries series) {
+            double[] result = operand.evalAll(series).clone();
+            for (int i = 0; i < result.length; i++) {
+                result[i] = op.applyAsDouble(result[i]);
+            }
+            return result;
+        }
+    }
+
+    private record Binary(Node left, Node right, DoubleBinaryOperator op) implements Node {
+
+        @Override
+        public double eval(PriceSeries series, int index) {
+            return op.applyAsDouble(left.eval(series, index), right.eval(series, index));
+        }
+
+        @Override
+        public double[] evalAll(PriceSeries series) {
+            double[] l = left.evalAll(series);
+            double[] r = right.evalAll(series);
+            double[] result = new double[l.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = op.applyAsDouble(l[i], r[i]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 단락 평가 논리 연산 (AND/OR). 단일 시점 평가에서 오른쪽 식 계산을 생략합니다.
+     */
+    private record Logical(Node left, Node right, boolean and) implements Node {
+
+        @Override
+        public double eval(PriceSeries series, int index) {
+            boolean l = truthy(left.eval(series, index));
+            if (and ? !l : l) {
+                return l ? 1 : 0;
+            }
+            return truthy(right.eval(series, index)) ? 1 : 0;
+        }
+
+        @Override
+        public double[] evalAll(PriceSeries series) {
+            double[] l = left.evalAll(series);
+            double[] r = right.evalAll(series);
+            double[] result = new double[l.length];
+            for (int i = 0; i < result.length; i++) {
+                boolean value = and ? truthy(l[i]) && truthy(r[i]) : truthy(l[i]) || truthy(r[i]);
+                result[i] = value ? 1 : 0;
+            }
+            return result;
+        }
+    }
+
+    private record Lag(Node inner, int lag) implements Node {
+
+        @Override
+        public double eval(PriceSeries series, int index) {
+            return index - lag < 0 ? Double.NaN : inner.eval(series, index - lag);
+        }
+
+        @Override
+        public double[] evalAll(PriceSeries series) {
+            double[] values = inner.evalAll(series);
+            double[] result = new double[values.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = i - lag < 0 ? Double.NaN : values[i - lag];
+            }
+            return result;
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // 토크나이저
+    // ------------------------------------------------------------------
+
+    private enum TokenType {
+        NUMBER, IDENT, OPERATOR, LPAREN, RPAREN, LBRACKET, RBRACKET, COMMA, END
+    }
+
+    private record Token(TokenType type, String text, int position) {
+    }
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isDigit(c) || (c == '.' && i + 1 < source.length() && Character.isDigit(source.charAt(i + 1)))) {
+                int start = i;
+                while (i < source.length() && (Character.isDigit(source.charAt(i)) || source.charAt(i) == '.')) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.NUMBER, source.substring(start, i), start));
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < source.length() && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_')) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.IDENT, source.substring(start, i).toLowerCase(Locale.ROOT), start));
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LPAREN, "(", i++));
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RPAREN, ")", i++));
+            } else if (c == '[') {
+                tokens.add(new Token(TokenType.LBRACKET, "[", i++));
+            } else if (c == ']') {
+                tokens.add(new Token(TokenType.RBRACKET, "]", i++));
+            } else if (c == ',') {
+                tokens.add(new Token(TokenType.COMMA, ",", i++));
+            } else {
+                String two = i + 1 < source.length() ? source.substring(i, i + 2) : "";
+                if (two.equals("<=") || two.equals(">=") || two.equals("==") || two.equals("!=")
+                    || two.equals("&&") || two.equals("||")) {
+                    tokens.add(new Token(TokenType.OPERATOR, two, i));
+                    i += 2;
+                } else if ("<>+-*/!=".indexOf(c) >= 0) {
+                    tokens.add(new Token(TokenType.OPERATOR, c == '=' ? "==" : String.valueOf(c), i++));
+                } else {
+                    throw new IllegalArgumentException("스크리너 식 오류: 알 수 없는 문자 '" + c + "' (위치 " + i + ")");
+                }
+            }
+        }
+        tokens.add(new Token(TokenType.END, "", source.length()));
+        return tokens;
+    }
+
+    // ------------------------------------------------------------------
+    // 재귀 하강 파서
+    // ------------------------------------------------------------------
+
+    private static final class Parser {
+
+        private final List<Token> tokens;
+        private int pos;
+
+        private Parser(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        private Node parseExpression() {
+            return parseOr();
+        }
+
+        private void expectEnd() {
+            if (peek().type() != TokenType.END) {
+                throw error("예상치 못한 토큰 '" + peek().text() + "'");
+            }
+        }
+
+        private Node parseOr() {
+            Node left = parseAnd();
+            while (acceptKeyword("or") || acceptOperator("||")) {
+                left = new Logical(left, parseAnd(), false);
+            }
+            return left;
+        }
+
+        private Node parseAnd() {
+            Node left = parseNot();
+            while (acceptKeyword("and") || acceptOperator("&&")) {
+                left = new Logical(left, parseNot(), true);
+            }
+            return left;
+        }
+
+        private Node parseNot() {
+            if (acceptKeyword("not") || acceptOperator("!")) {
+                return new Unary(parseNot(), v -> truthy(v) ? 0 : 1);
+            }
+            return parseCompare();
+        }
+
+        private Node parseCompare() {
+            Node left = parseSum();
+            Token token = peek();
+            if (token.type() == TokenType.OPERATOR) {
+                String op = token.text();
+                if (op.equals("<") || op.equals("<=") || op.equals(">") || op.equals(">=")
+                    || op.equals("==") || op.equals("!=")) {
+                    pos++;
+                    DoubleBinaryOperator compare = switch (op) {
+                        case "<" -> (a, b) -> a < b ? 1 : 0;
+                        case "<=" -> (a, b) -> a <= b ? 1 : 0;
+                        case ">" -> (a, b) -> a > b ? 1 : 0;
+                        case ">=" -> (a, b) -> a >= b ? 1 : 0;
+                        case "==" -> (a, b) -> a == b ? 1 : 0;
+                        default -> (a, b) -> !Double.isNaN(a) && !Double.isNaN(b) && a != b ? 1 : 0;
+                    };
+                    return new Binary(left, parseSum(), compare);
+                }
+            }
+            return left;
+        }
+
+        private Node parseSum() {
+            Node left = parseProduct();
+            while (true) {
+                if (acceptOperator("+")) {
+                    left = new Binary(left, parseProduct(), Double::sum);
+                } else if (acceptOperator("-")) {
+                    left = new Binary(left, parseProduct(), (a, b) -> a - b);
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseProduct() {
+            Node left = parseUnary();
+            while (true) {
+                if (acceptOperator("*")) {
+                    left = new Binary(left, parseUnary(), (a, b) -> a * b);
+                } else if (acceptOperator("/")) {
+                    left = new Binary(left, parseUnary(), (a, b) -> b == 0 ? Double.NaN : a / b);
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node parseUnary() {
+            if (acceptOperator("-")) {
+                return new Unary(parseUnary(), v -> -v);
+            }
+            return parsePostfix();
+        }
+
+        private Node parsePostfix() {
+            Node node = parsePrimary();
+            while (peek().type() == TokenType.LBRACKET) {
+                pos++;
+                int lag = parsePeriod("[n]", 0);
+                expect(TokenType.RBRACKET, "']'");
+                node = new Lag(node, lag);
+            }
+            return node;
+        }
+
+        private Node parsePrimary() {
+            Token token = next();
+            switch (token.type()) {
+                case NUMBER -> {
+                    double value;
+                    try {
+                        value = Double.parseDouble(token.text());
+                    } catch (NumberFormatException e) {
+                        throw error("잘못된 숫자 '" + token.text() + "'");
+                    }
+                    return new Constant(value);
+                }
+                case LPAREN -> {
+                    Node inner = parseExpression();
+                    expect(TokenType.RPAREN, "')'");
+                    return inner;
+                }
+                case IDENT -> {
+                    if (peek().type() == TokenType.LPAREN) {
+                        pos++;
+                        return parseFunction(token);
+                    }
+                    return field(token);
+                }
+                default -> throw error("값이 필요한 위치에 '" + token.text() + "'");
+            }
+        }
+
+        private Node field(Token token) {
+            return switch (token.text()) {
+                case "open" -> Column.of(PriceSeries::open);
+                case "high" -> Column.of(PriceSeries::high);
+                case "low" -> Column.of(PriceSeries::low);
+                case "close" -> new Column(PriceSeries::close, s -> s.closes().clone());
+                case "volume" -> new Column((s, i) -> s.volume(i), PriceSeries::volumesAsDouble);
+                default -> throw error("알 수 없는 필드 '" + token.text() + "'");
+            };
+        }
+
+        private Node parseFunction(Token name) {
+            String fn = name.text();
+            switch (fn) {
+                case "macd", "macd_signal", "macd_hist" -> {
+                    expect(TokenType.RPAREN, "')'");
+                    return switch (fn) {
+                        case "macd" -> new Column(
+                            (s, i) -> Indicators.macd(s.closes(), i),
+                            s -> Indicators.macdSeries(s.closes()));
+                        case "macd_signal" -> new Column(
+                            (s, i) -> Indicators.macdSignal(s.closes(), i),
+                            s -> Indicators.macdSignalSeries(s.closes()));
+                        default -> new Column(
+                            (s, i) -> Indicators.macd(s.closes(), i) - Indicators.macdSignal(s.closes(), i),
+                            s -> {
+                                double[] macd = Indicators.macdSeries(s.closes());
+                                double[] signal = Indicators.macdSignalSeries(s.closes());
+                                for (int i = 0; i < macd.length; i++) {
+                                    macd[i] -= signal[i];
+                                }
+                                return macd;
+                            });
+                    };
+                }
+                default -> {
+                    int period = parsePeriod(fn + "(n)", 1);
+                    expect(TokenType.RPAREN, "')'");
+                    return switch (fn) {
+                        case "sma" -> Column.of((s, i) -> Indicators.sma(s.closes(), i, period));
+                        case "ema" -> new Column(
+                            (s, i) -> Indicators.ema(s.closes(), i, period),
+                            s -> Indicators.emaSeries(s.closes(), period));
+                        case "rsi" -> Column.of((s, i) -> Indicators.rsi(s.closes(), i, period));
+                        case "stddev" -> Column.of((s, i) -> Indicators.stddev(s.closes(), i, period));
+                        case "highest" -> Column.of((s, i) -> Indicators.highest(s.closes(), i, period));
+                        case "lowest" -> Column.of((s, i) -> Indicators.lowest(s.closes(), i, period));
+                        case "change_pct" -> Column.of((s, i) -> Indicators.changePct(s.closes(), i, period));
+                        case "volume_sma" -> Column.of((s, i) -> volumeSma(s, i, period));
+                        case "bb_upper" -> Column.of((s, i) ->
+                            Indicators.sma(s.closes(), i, period) + 2 * Indicators.stddev(s.closes(), i, period));
+                        case "bb_lower" -> Column.of((s, i) ->
+                            Indicators.sma(s.closes(), i, period) - 2 * Indicators.stddev(s.closes(), i, period));
+                        default -> throw error("알 수 없는 함수 '" + fn + "'");
+                    };
+                }
+            }
+        }
+
+        private int parsePeriod(String context, int min) {
+            Token token = next();
+            if (token.type() != TokenType.NUMBER) {
+                throw error(context + "에는 정수 기간이 필요합니다");
+            }
+            int value;
+            try {
+                value = Integer.parseInt(token.text());
+            } catch (NumberFormatException e) {
+                throw error(context + "의 기간은 정수여야 합니다: " + token.text());
+            }
+            if (value < min || value > MAX_PERIOD) {
+                throw error(context + "의 기간 범위는 " + min + " ~ " + MAX_PERIOD + " 입니다: " + value);
+            }
+            return value;
+        }
+
+        private static double volumeSma(PriceSeries series, int end, int period) {
+            if (end < period - 1) {
+                return Double.NaN;
+            }
+            double sum = 0;
+            for (int i = end - period + 1; i <= end; i++) {
+                sum += series.volume(i);
+            }
+            return sum / period;
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            Token token = peek();
+            if (token.type() == TokenType.IDENT && token.text().equals(keyword)) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean acceptOperator(String operator) {
+            Token token = peek();
+            if (token.type() == TokenType.OPERATOR && token.text().equals(operator)) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(TokenType type, String description) {
+            Token token = next();
+            if (token.type() != type) {
+                throw new IllegalArgumentException(
+                    "스크리너 식 오류: " + description + "이(가) 필요합니다 (위치 " + token.position() + ")");
+            }
+        }
+
+        private Token peek() {
+            return tokens.get(pos);
+        }
+
+        private Token next() {
+            Token token = tokens.get(pos);
+            if (token.type() != TokenType.END) {
+                pos++;
+            }
+            return token;
+        }
+
+        private IllegalArgumentException error(String message) {
+            Token token = tokens.get(Math.max(0, Math.min(pos, tokens.size() - 1)));
+            return new IllegalArgumentException("스크리너 식 오류: " + message + " (위치 " + token.position() + ")");
+        }
+    }
+
+    private static boolean truthy(double value) {
+        return !Double.isNaN(value) && value != 0;
+    }
+}
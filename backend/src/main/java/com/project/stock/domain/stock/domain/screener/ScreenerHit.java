@@ -0,0 +1,18 @@
+package com.project.stock.domain.stock.domain.screener;
+
+import java.time.LocalDate;
+
+/**
+ * 스크리너 조건을 만족한 종목 한 건.
+ *
+ * @param rankValue 정렬 식의 값 (정렬 식이 없으면 NaN)
+ */
+public record ScreenerHit(
+        String stockCode,
+        String stockName,
+        LocalDate date,
+        double close,
+        long volume,
+        double rankValue
+) {
+}
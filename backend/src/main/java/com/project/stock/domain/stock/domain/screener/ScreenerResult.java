@@ -0,0 +1,19 @@
+package com.project.stock.domain.stock.domain.screener;
+
+import java.util.List;
+
+/**
+ * 스크리너 실행 결과.
+ *
+ * @param scanned       평가한 종목 수
+ * @param matched       조건을 만족한 종목 수 (limit 적용 전)
+ * @param elapsedMillis 평가 소요 시간
+ * @param hits          정렬 및 limit이 적용된 결과
+ */
+public record ScreenerResult(
+        int scanned,
+        int matched,
+        long elapsedMillis,
+        List<ScreenerHit> hits
+) {
+}
@@ -0,0 +1,51 @@
+package com.project.stock.domain.stock.domain.startup;
+
+import java.util.List;
+
+/**
+ * 기동 벤치마크 (이번 기동 기준).
+ *
+ * @param fastStartup           빠른 기동 모드 여부 (워밍업을 준비 완료 보고 이후 백그라운드에서 실행)
+ * @param readiness             현재 준비 상태 (ACCEPTING_TRAFFIC / REFUSING_TRAFFIC)
+ * @param jvmToReadyMs          JVM 시작부터 준비 완료 보고까지 (ms, 보고 전이면 null)
+ * @param readyToFirstRequestMs 준비 완료 보고부터 첫 요청 응답까지 (ms, 첫 요청 전이면 null)
+ * @param jvmToFirstRequestMs   JVM 시작부터 첫 요청 응답까지 (ms, 첫 요청 전이면 null)
+ * @param firstRequest          첫 요청 (메서드, 경로, 상태 코드)
+ * @param warmup                워밍업 단계별 진행 현황 (등록 순)
+ */
+public record StartupReport(
+        boolean fastStartup,
+        String readiness,
+        Long jvmToReadyMs,
+        Long readyToFirstRequestMs,
+        Long jvmToFirstRequestMs,
+        String firstRequest,
+        List<WarmupPhase> warmup
+) {
+
+    /**
+     * 워밍업 단계 하나의 진행 현황.
+     *
+     * @param name         단계 이름
+     * @param status       상태
+     * @param items        적재한 항목 수 (종목 수 등)
+     * @param startedAtMs  JVM 시작 기준 시작 시각 (ms)
+     * @param durationMs   소요 시간 (ms, 진행 중이면 null)
+     * @param error        실패 사유
+     */
+    public record WarmupPhase(
+            String name,
+            Status status,
+            long items,
+            long startedAtMs,
+            Long durationMs,
+            String error
+    ) {
+
+        public enum Status {
+            RUNNING,
+            DONE,
+            FAILED
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.stock.common.config.DailyAnalysisBatchProperties;
+import com.project.stock.common.config.HttpCacheProperties;
+import com.project.stock.domain.stock.application.market.TradingCalendarService;
+import com.project.stock.domain.stock.application.port.in.GetPriceWatermarkUseCase;
+import com.project.stock.domain.stock.application.port.in.GetStockPricesUseCase;
+import com.project.stock.domain.stock.application.port.in.SyncStockPricesUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StockPriceControllerCacheTest {
+
+    private static final String PRICES = "/api/v1/stocks/005930/prices?days=120";
+
+    private final GetStockPricesUseCase getStockPricesUseCase = mock(GetStockPricesUseCase.class);
+    private Instant watermark = Instant.parse("2026-10-16T07:00:00Z");
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        when(getStockPricesUseCase.getRecentStockPrices(anyString(), anyInt())).thenReturn(List.of());
+        GetPriceWatermarkUseCase watermarks = stockCode -> Optional.of(watermark);
+        TradingCalendarService calendar = new TradingCalendarService(() -> List.of(LocalDate.of(2026, 1, 1)));
+        HttpCachePolicy policy = new HttpCachePolicy(new HttpCacheProperties(), new DailyAnalysisBatchProperties(), calendar);
+
+        StockPriceController controller = new StockPriceController(
+            mock(SyncStockPricesUseCase.class), getStockPricesUseCase, watermarks, policy, new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 시세를 조회하지 않고 304를 반환한다")
+    void returnsNotModifiedForMatchingETag() throws Exception {
+        String etag = fetchETag();
+
+        mockMvc.perform(get(PRICES).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(getStockPricesUseCase, times(1)).getRecentStockPrices("005930", 120);
+    }
+
+    @Test
+    @DisplayName("워터마크가 바뀌면 이전 ETag로 요청해도 200과 새 ETag를 반환한다")
+    void returnsFreshBodyAfterWatermarkAdvances() throws Exception {
+        String stale = fetchETag();
+        watermark = watermark.plusSeconds(60);
+
+        MvcResult result = mockMvc.perform(get(PRICES).header(HttpHeaders.IF_NONE_MATCH, stale))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        String fresh = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(fresh).isNotNull().isNotEqualTo(stale);
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=", "must-revalidate");
+        verify(getStockPricesUseCase, times(2)).getRecentStockPrices("005930", 120);
+    }
+
+    @Test
+    @DisplayName("조회 일수가 다르면 다른 ETag를 발급한다")
+    void etagDependsOnRequestedDays() throws Exception {
+        String etag = fetchETag();
+
+        mockMvc.perform(get("/api/v1/stocks/005930/prices?days=30").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+        verify(getStockPricesUseCase).getRecentStockPrices("005930", 30);
+    }
+
+    private String fetchETag() throws Exception {
+        String etag = mockMvc.perform(get(PRICES))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        return etag;
+    }
+}
@@ -0,0 +1,144 @@
+package com.project.stock.domain.stock.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.stock.domain.stock.application.port.in.GetPriceWatermarkUseCase;
+import com.project.stock.domain.stock.application.port.in.GetStockPricesUseCase;
+import com.project.stock.domain.stock.application.port.in.SyncStockPricesUseCase;
+import com.project.stock.domain.stock.domain.StockPriceRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StockPriceControllerStreamTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+    private final GetStockPricesUseCase getStockPricesUseCase = mock(GetStockPricesUseCase.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private StockPriceController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new StockPriceController(mock(SyncStockPricesUseCase.class), getStockPricesUseCase,
+            mock(GetPriceWatermarkUseCase.class), mock(HttpCachePolicy.class), objectMapper);
+    }
+
+    @Test
+    @DisplayName("한 줄에 한 건씩 JSON으로 쓰고 마지막 줄도 개행으로 끝낸다")
+    void writesOneJsonObjectPerLine() throws Exception {
+        rows(3, null);
+
+        String body = new String(stream(new ByteArrayOutputStream()).toByteArray(), StandardCharsets.UTF_8);
+
+        assertThat(body).endsWith("\n").doesNotContain("\n\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode row = objectMapper.readTree(lines[i]);
+            assertThat(row.get("date").asText()).isEqualTo(START.plusDays(i).toString());
+            assertThat(row.get("close").decimalValue()).isEqualByComparingTo(BigDecimal.valueOf(1000 + i));
+        }
+    }
+
+    @Test
+    @DisplayName("행이 없으면 빈 본문을 보낸다")
+    void writesEmptyBodyForNoRows() throws Exception {
+        rows(0, null);
+
+        assertThat(stream(new ByteArrayOutputStream()).toByteArray()).isEmpty();
+    }
+
+    /**
+     * 행마다 flush하면 작은 청크가 행 수만큼 나가므로, 첫 행 이후에는 출력 버퍼가 찰 때만 전송되는지 확인합니다.
+     * 행을 만드는 시점에 이미 앞선 행들이 출력으로 나가 있는지 확인해, 응답 전체를 모았다가 쓰지 않는다(메모리 일정)는 것도 함께 봅니다.
+     */
+    @Test
+    @DisplayName("첫 행만 flush하고 이후에는 버퍼 단위로 흘려 보내며 응답을 메모리에 모으지 않는다")
+    void streamsWithoutPerRowFlush() throws Exception {
+        int rowCount = 200_000;
+        CountingOutputStream out = new CountingOutputStream();
+        long[] pendingAtMidpoint = {-1};
+        rows(rowCount, index -> {
+            if (index == rowCount / 2) {
+                pendingAtMidpoint[0] = index - out.lines;
+            }
+        });
+
+        stream(out);
+
+        assertThat(out.lines).isEqualTo(rowCount);
+        // 첫 행, 마지막 개행 전, 닫을 때
+        assertThat(out.flushes).isLessThanOrEqualTo(3);
+        // 절반을 만들었을 때 출력으로 나가지 않은 행은 직렬화 버퍼 하나(수십 행) 분량이어야 한다
+        assertThat(pendingAtMidpoint[0]).isBetween(0L, 1_000L);
+    }
+
+    private <T extends OutputStream> T stream(T out) throws Exception {
+        ResponseEntity<StreamingResponseBody> response = controller.streamStockPrices("005930", START, START.plusYears(1));
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        response.getBody().writeTo(out);
+        return out;
+    }
+
+    /**
+     * count개의 행을 지연 생성하는 스트림을 설정합니다. onRow는 각 행을 만들기 직전에 호출됩니다.
+     */
+    private void rows(int count, IntConsumer onRow) {
+        when(getStockPricesUseCase.streamStockPrices(anyString(), any(), any())).thenReturn(consumer -> {
+            for (int i = 0; i < count; i++) {
+                if (onRow != null) {
+                    onRow.accept(i);
+                }
+                BigDecimal price = BigDecimal.valueOf(1000 + i);
+                consumer.accept(new StockPriceRow(1L, START.plusDays(i), price, price, price, price, 100L, BigDecimal.ZERO));
+            }
+            return count;
+        });
+    }
+
+    /**
+     * 받은 줄/flush 수만 세고 내용은 버리는 출력.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long lines;
+        private int flushes;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(buffer[i]);
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
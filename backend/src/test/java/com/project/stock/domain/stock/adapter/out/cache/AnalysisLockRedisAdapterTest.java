@@ -0,0 +1,82 @@
+package com.project.stock.domain.stock.adapter.out.cache;
+
+import com.project.stock.domain.stock.domain.AnalysisCacheKey;
+import com.project.stock.support.RedisTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class AnalysisLockRedisAdapterTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = RedisTestSupport.container();
+
+    private static final AnalysisCacheKey KEY = new AnalysisCacheKey(1L, LocalDate.of(2026, 10, 16), "0123456789abcdef");
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+    private AnalysisLockRedisAdapter adapter;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = RedisTestSupport.connectionFactory(REDIS);
+        redisTemplate = RedisTestSupport.template(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        adapter = new AnalysisLockRedisAdapter(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("잠금은 한 곳만 획득하고, 소유 토큰으로만 해제된다")
+    void onlyOwnerReleases() {
+        Optional<String> owner = adapter.tryAcquire(KEY, Duration.ofMinutes(1));
+
+        assertThat(owner).isPresent();
+        assertThat(adapter.tryAcquire(KEY, Duration.ofMinutes(1))).isEmpty();
+
+        adapter.release(KEY, "not-the-owner");
+        assertThat(adapter.tryAcquire(KEY, Duration.ofMinutes(1))).isEmpty();
+
+        adapter.release(KEY, owner.get());
+        assertThat(adapter.tryAcquire(KEY, Duration.ofMinutes(1))).isPresent();
+    }
+
+    @Test
+    @DisplayName("임대가 만료되면 다른 곳이 획득하고, 늦게 끝난 이전 소유자는 새 잠금을 지우지 못한다")
+    void expiredLeaseIsNotReleasedByStaleOwner() throws InterruptedException {
+        String stale = adapter.tryAcquire(KEY, Duration.ofMillis(200)).orElseThrow();
+        Thread.sleep(400);
+
+        Optional<String> current = adapter.tryAcquire(KEY, Duration.ofMinutes(1));
+        assertThat(current).isPresent();
+
+        adapter.release(KEY, stale);
+        assertThat(adapter.tryAcquire(KEY, Duration.ofMinutes(1))).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.stock.domain.stock.adapter.out.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.stock.common.config.AnalysisCacheProperties;
+import com.project.stock.domain.stock.domain.AnalysisCacheKey;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 장애를 흉내 내야 하므로 컨테이너 대신 RedisTemplate 목으로 확인합니다.
+ */
+class AnalysisResultRedisAdapterTest {
+
+    private static final AnalysisCacheKey KEY = new AnalysisCacheKey(1L, LocalDate.of(2026, 10, 16), "0123456789abcdef");
+    private static final StockAnalysisResult RESULT = StockAnalysisResult.builder()
+        .recommendation(StockAnalysisResult.Recommendation.BUY)
+        .confidenceScore(80)
+        .technicalAnalysis("상승 추세")
+        .supplyAnalysis("외국인 순매수")
+        .riskFactors(List.of("변동성"))
+        .build();
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AnalysisResultRedisAdapter adapter =
+        new AnalysisResultRedisAdapter(redisTemplate, objectMapper, new AnalysisCacheProperties());
+
+    @Test
+    @DisplayName("저장된 JSON을 분석 결과로 읽는다")
+    void readsStoredResult() throws Exception {
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.get("analysis:result:" + KEY.asString())).thenReturn(objectMapper.writeValueAsString(RESULT));
+
+        assertThat(adapter.find(KEY)).contains(RESULT);
+    }
+
+    @Test
+    @DisplayName("Redis 연결이 실패하면 조회는 캐시 미스로, 저장은 무시로 처리한다")
+    void treatsConnectionFailureAsMiss() {
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenThrow(new RedisConnectionFailureException("연결 거부"));
+        doThrow(new RedisConnectionFailureException("연결 거부"))
+            .when(values).set(anyString(), anyString(), any(Duration.class));
+
+        assertThat(adapter.find(KEY)).isEmpty();
+        assertThatCode(() -> adapter.put(KEY, RESULT)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("손상된 캐시 값은 캐시 미스로 처리한다")
+    void treatsCorruptValueAsMiss() {
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenReturn("{not json");
+
+        assertThat(adapter.find(KEY)).isEmpty();
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.stock.domain.stock.adapter.out.cache;
+
+import com.project.stock.domain.stock.application.port.out.BatchCoordinationPort.Lease;
+import com.project.stock.support.RedisTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class BatchCoordinationRedisAdapterTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = RedisTestSupport.container();
+
+    private static final String RUN_KEY = "daily-analysis:2026-10-16";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = RedisTestSupport.connectionFactory(REDIS);
+        redisTemplate = RedisTestSupport.template(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("두 인스턴스가 한 대기열을 함께 소비하면 모든 종목이 정확히 한 번씩 처리된다")
+    void twoClaimersProcessEveryStockExactlyOnce() throws Exception {
+        List<Long> stockIds = LongStream.rangeClosed(1, 500).boxed().toList();
+        BatchCoordinationRedisAdapter first = new BatchCoordinationRedisAdapter(redisTemplate);
+        BatchCoordinationRedisAdapter second = new BatchCoordinationRedisAdapter(redisTemplate);
+        assertThat(first.join(RUN_KEY, stockIds, TTL)).isTrue();
+        assertThat(second.join(RUN_KEY, stockIds, TTL)).isTrue();
+
+        Map<Long, AtomicInteger> processed = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Integer>> claimers = List.of(
+                executor.submit(() -> drain(first, processed, start)),
+                executor.submit(() -> drain(second, processed, start)));
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> claimer : claimers) {
+                int count = claimer.get(30, TimeUnit.SECONDS);
+                assertThat(count).isPositive();
+                total += count;
+            }
+            assertThat(total).isEqualTo(stockIds.size());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(processed).containsOnlyKeys(stockIds);
+        assertThat(processed.values()).allMatch(count -> count.get() == 1);
+        assertThat(first.claim(RUN_KEY, Duration.ofMinutes(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료 후 회수된 종목은 이전 임대자가 반납하거나 연장하지 못한다")
+    void staleHolderCannotTouchReclaimedLease() throws InterruptedException {
+        BatchCoordinationRedisAdapter first = new BatchCoordinationRedisAdapter(redisTemplate);
+        BatchCoordinationRedisAdapter second = new BatchCoordinationRedisAdapter(redisTemplate);
+        first.join(RUN_KEY, List.of(1L), TTL);
+
+        Lease stale = first.claim(RUN_KEY, Duration.ofMillis(100)).orElseThrow();
+        TimeUnit.MILLISECONDS.sleep(200);
+        Lease current = second.claim(RUN_KEY, Duration.ofMinutes(1)).orElseThrow();
+        assertThat(current.stockId()).isEqualTo(stale.stockId());
+        assertThat(current.token()).isNotEqualTo(stale.token());
+
+        assertThat(first.renew(RUN_KEY, List.of(stale), Duration.ofMinutes(1))).isZero();
+        assertThat(first.complete(RUN_KEY, stale)).isFalse();
+        assertThat(first.claim(RUN_KEY, Duration.ofMinutes(1))).as("새 임대가 남아 있어 회수되지 않음").isEmpty();
+
+        assertThat(second.complete(RUN_KEY, current)).isTrue();
+        assertThat(second.complete(RUN_KEY, current)).isFalse();
+    }
+
+    @Test
+    @DisplayName("연장된 임대는 처음 임대 시간이 지나도 회수되지 않는다")
+    void renewedLeaseIsNotReclaimed() throws InterruptedException {
+        BatchCoordinationRedisAdapter first = new BatchCoordinationRedisAdapter(redisTemplate);
+        BatchCoordinationRedisAdapter second = new BatchCoordinationRedisAdapter(redisTemplate);
+        first.join(RUN_KEY, List.of(1L, 2L), TTL);
+
+        Lease renewed = first.claim(RUN_KEY, Duration.ofMillis(300)).orElseThrow();
+        Lease expiring = first.claim(RUN_KEY, Duration.ofMillis(300)).orElseThrow();
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(first.renew(RUN_KEY, List.of(renewed), Duration.ofMinutes(1))).isEqualTo(1);
+        TimeUnit.MILLISECONDS.sleep(400);
+
+        Optional<Lease> reclaimed = second.claim(RUN_KEY, Duration.ofMinutes(1));
+        assertThat(reclaimed).map(Lease::stockId).contains(expiring.stockId());
+        assertThat(second.claim(RUN_KEY, Duration.ofMinutes(1))).isEmpty();
+        assertThat(first.complete(RUN_KEY, renewed)).isTrue();
+    }
+
+    /**
+     * 대기열이 빌 때까지 임대 → 처리 → 반납을 반복하고 처리 건수를 반환합니다.
+     */
+    private static int drain(BatchCoordinationRedisAdapter adapter, Map<Long, AtomicInteger> processed,
+                             CountDownLatch start) throws InterruptedException {
+        start.await();
+        int count = 0;
+        Optional<Lease> lease;
+        while ((lease = adapter.claim(RUN_KEY, Duration.ofMinutes(1))).isPresent()) {
+            processed.computeIfAbsent(lease.get().stockId(), id -> new AtomicInteger()).incrementAndGet();
+            assertThat(adapter.complete(RUN_KEY, lease.get())).isTrue();
+            count++;
+        }
+        return count;
+    }
+}
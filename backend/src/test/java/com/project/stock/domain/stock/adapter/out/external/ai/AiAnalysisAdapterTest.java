@@ -0,0 +1,242 @@
+package com.project.stock.domain.stock.adapter.out.external.ai;
+
+import com.project.stock.common.config.AiWorkerProperties;
+import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.domain.AnalysisOutcome;
+import com.project.stock.domain.stock.domain.DailyBar;
+import com.project.stock.domain.stock.domain.Stock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AiAnalysisAdapterTest {
+
+    private static final long LATENCY_MS = 100;
+    private static final int SLOTS_PER_INSTANCE = 4;
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    private final LoadStockPricePort loadStockPricePort = mock(LoadStockPricePort.class);
+    private StubAiWorker worker;
+    private AiAnalysisAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        worker = new StubAiWorker(LATENCY_MS);
+        AiWorkerProperties properties = new AiWorkerProperties();
+        properties.setBaseUrl(worker.baseUrl());
+        properties.setBatchConcurrency(4);
+        properties.setLookbackDays(5);
+        adapter = new AiAnalysisAdapter(properties, loadStockPricePort, new AiWorkerPool(properties, WebClient.builder()));
+        when(loadStockPricePort.findRecentDailyBars(anyLong(), anyInt()))
+            .thenAnswer(invocation -> bars(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.close();
+    }
+
+    @Test
+    @DisplayName("시세 조회에 실패한 종목만 실패로 전달하고 나머지 종목은 분석한다")
+    void failsOnlyStockWhoseBarsCannotBeLoaded() {
+        List<Stock> stocks = stocks(3);
+        when(loadStockPricePort.findRecentDailyBars(eq(2L), anyInt())).thenThrow(new IllegalStateException("DB 연결 실패"));
+        List<AnalysisOutcome> outcomes = new CopyOnWriteArrayList<>();
+
+        adapter.requestAnalysisBatch(stocks, outcomes::add);
+
+        assertThat(outcomes).hasSize(3);
+        assertThat(outcomes).filteredOn(AnalysisOutcome::isSuccess)
+            .extracting(outcome -> outcome.stock().getStockCode())
+            .containsExactlyInAnyOrder("000001", "000003");
+        assertThat(outcomes).filteredOn(outcome -> !outcome.isSuccess())
+            .singleElement()
+            .satisfies(outcome -> {
+                assertThat(outcome.stock().getStockCode()).isEqualTo("000002");
+                assertThat(outcome.error()).contains("시세 조회 실패");
+            });
+        assertThat(worker.analyzedStockCodes()).containsExactlyInAnyOrder("000001", "000003");
+    }
+
+    @Test
+    @DisplayName("모든 종목의 시세 조회가 실패하면 Worker를 호출하지 않고 종목마다 실패를 전달한다")
+    void skipsWorkerWhenNoStockHasBars() {
+        List<Stock> stocks = stocks(3);
+        when(loadStockPricePort.findRecentDailyBars(anyLong(), anyInt())).thenThrow(new IllegalStateException("DB 연결 실패"));
+        List<AnalysisOutcome> outcomes = new CopyOnWriteArrayList<>();
+
+        adapter.requestAnalysisBatch(stocks, outcomes::add);
+
+        assertThat(outcomes).hasSize(3).noneMatch(AnalysisOutcome::isSuccess);
+        assertThat(worker.requestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("콜백이 실패한 종목은 스트림을 끝까지 읽은 뒤 실패로 한 번 더 전달한다")
+    void redeliversFailedCallbackAsFailure() {
+        List<Stock> stocks = stocks(3);
+        List<AnalysisOutcome> outcomes = new CopyOnWriteArrayList<>();
+
+        adapter.requestAnalysisBatch(stocks, outcome -> {
+            if (outcome.isSuccess() && outcome.stock().getStockCode().equals("000002")) {
+                throw new IllegalStateException("저장 대기열 오류");
+            }
+            outcomes.add(outcome);
+        });
+
+        assertThat(outcomes).hasSize(3);
+        assertThat(outcomes).filteredOn(outcome -> !outcome.isSuccess())
+            .singleElement()
+            .satisfies(outcome -> assertThat(outcome.stock().getStockCode()).isEqualTo("000002"));
+    }
+
+    /**
+     * 로컬 스텁 Worker(분석당 고정 지연)로 배치 모드와 종목별 모드를 비교합니다.
+     * 종목별 모드는 지연이 종목 수만큼 쌓이고, 배치 모드는 Worker의 동시 분석 수만큼 겹쳐 처리됩니다.
+     */
+    @Test
+    @DisplayName("배치 요청은 Worker 안에서 동시에 분석되어 종목별 요청보다 빨리 끝난다")
+    void batchOverlapsWorkerLatency() {
+        List<Stock> stocks = stocks(12);
+        // 커넥션/코덱 초기화 비용이 비교에 섞이지 않도록 한 번 호출해 둔다
+        adapter.requestAnalysis(stocks.get(0));
+
+        long perStockStarted = System.nanoTime();
+        stocks.forEach(adapter::requestAnalysis);
+        long perStockMillis = (System.nanoTime() - perStockStarted) / 1_000_000;
+
+        List<AnalysisOutcome> outcomes = new CopyOnWriteArrayList<>();
+        long batchStarted = System.nanoTime();
+        adapter.requestAnalysisBatch(stocks, outcomes::add);
+        long batchMillis = (System.nanoTime() - batchStarted) / 1_000_000;
+
+        assertThat(outcomes).hasSize(12).allMatch(AnalysisOutcome::isSuccess);
+        assertThat(perStockMillis).isGreaterThanOrEqualTo(12 * LATENCY_MS);
+        assertThat(worker.maxInFlight()).isEqualTo(4);
+        assertThat(batchMillis).isLessThan(perStockMillis / 2);
+    }
+
+    /**
+     * 인스턴스당 동시 요청 상한이 4인 스텁 Worker 1/2/4대에 같은 동시 요청 32건을 보내 처리 시간을 비교합니다.
+     * 한 대는 4건씩 8번에 나눠 처리하므로, 인스턴스를 늘리면 처리 시간이 인스턴스 수에 거의 반비례해야 합니다.
+     */
+    @Test
+    @DisplayName("Worker 인스턴스를 늘리면 같은 동시 요청의 처리 시간이 인스턴스 수에 거의 반비례해 줄어든다")
+    void throughputScalesWithInstances() throws Exception {
+        long one = timeConcurrentRequests(1);
+        long two = timeConcurrentRequests(2);
+        long four = timeConcurrentRequests(4);
+
+        assertThat(one).isGreaterThanOrEqualTo(CONCURRENT_REQUESTS / SLOTS_PER_INSTANCE * LATENCY_MS);
+        assertThat(two).isLessThan(one * 2 / 3);
+        assertThat(four).isLessThan(one / 2);
+    }
+
+    @Test
+    @DisplayName("중단된 인스턴스는 헬스 체크가 연속으로 실패하면 제외되고 요청은 남은 인스턴스로만 간다")
+    void ejectsStoppedInstanceAfterFailedHealthChecks() throws Exception {
+        try (StubAiWorker live = new StubAiWorker(0); StubAiWorker stopped = new StubAiWorker(0)) {
+            AiWorkerPool pool = new AiWorkerPool(properties(List.of(live.baseUrl(), stopped.baseUrl())), WebClient.builder());
+            AiAnalysisAdapter pooled = new AiAnalysisAdapter(properties(List.of()), loadStockPricePort, pool);
+            stopped.close();
+
+            pool.checkHealth();
+            pool.checkHealth();
+            assertThat(pool.describe()).allSatisfy(state -> assertThat(state).endsWith("UP"));
+            pool.checkHealth();
+            assertThat(pool.describe())
+                .anySatisfy(state -> assertThat(state).startsWith(stopped.baseUrl()).endsWith("EJECTED"))
+                .anySatisfy(state -> assertThat(state).startsWith(live.baseUrl()).endsWith("UP"));
+
+            stocks(8).forEach(pooled::requestAnalysis);
+            assertThat(live.requestCount()).isEqualTo(8);
+        }
+    }
+
+    /**
+     * instances 대의 스텁 Worker에 동시 요청을 보내 모두 끝날 때까지 걸린 시간(ms)을 잽니다.
+     * 커넥션 초기화 비용이 섞이지 않도록 같은 부하를 한 번 먼저 보내 둡니다.
+     */
+    private long timeConcurrentRequests(int instances) throws Exception {
+        List<StubAiWorker> workers = new ArrayList<>();
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        try {
+            for (int i = 0; i < instances; i++) {
+                workers.add(new StubAiWorker(LATENCY_MS));
+            }
+            AiWorkerProperties properties = properties(workers.stream().map(StubAiWorker::baseUrl).toList());
+            AiAnalysisAdapter pooled = new AiAnalysisAdapter(properties, loadStockPricePort,
+                new AiWorkerPool(properties, WebClient.builder()));
+            List<Stock> stocks = stocks(CONCURRENT_REQUESTS);
+            sendConcurrently(callers, pooled, stocks);
+
+            long started = System.nanoTime();
+            sendConcurrently(callers, pooled, stocks);
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+            assertThat(workers).allSatisfy(worker -> {
+                assertThat(worker.maxInFlight()).isLessThanOrEqualTo(SLOTS_PER_INSTANCE);
+                assertThat(worker.requestCount()).isPositive();
+            });
+            assertThat(workers.stream().mapToLong(StubAiWorker::requestCount).sum()).isEqualTo(2L * CONCURRENT_REQUESTS);
+            return elapsedMillis;
+        } finally {
+            callers.shutdownNow();
+            workers.forEach(StubAiWorker::close);
+        }
+    }
+
+    private static void sendConcurrently(ExecutorService callers, AiAnalysisAdapter pooled, List<Stock> stocks)
+            throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (Stock stock : stocks) {
+            futures.add(callers.submit(() -> pooled.requestAnalysis(stock)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static AiWorkerProperties properties(List<String> endpoints) {
+        AiWorkerProperties properties = new AiWorkerProperties();
+        properties.setEndpoints(endpoints);
+        properties.setMaxConcurrentPerInstance(SLOTS_PER_INSTANCE);
+        properties.setLookbackDays(5);
+        return properties;
+    }
+
+    private static List<Stock> stocks(int count) {
+        return LongStream.rangeClosed(1, count).mapToObj(id -> {
+            Stock stock = Stock.builder().stockCode(String.format("%06d", id)).stockName("종목" + id).market("KOSPI").build();
+            ReflectionTestUtils.setField(stock, "id", id);
+            return stock;
+        }).toList();
+    }
+
+    private static List<DailyBar> bars(long stockId) {
+        LocalDate start = LocalDate.of(2024, 1, 2);
+        return IntStream.range(0, 5)
+            .mapToObj(day -> new DailyBar(stockId, start.plusDays(day), 100, 101, 99, 100 + day, 1_000L))
+            .toList();
+    }
+}
@@ -0,0 +1,162 @@
+package com.project.stock.domain.stock.adapter.out.external.ai;
+
+import com.project.stock.common.config.AiWorkerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiWorkerPoolTest {
+
+    private static final String A = "http://worker-a:8000";
+    private static final String B = "http://worker-b:8000";
+    private static final String C = "http://worker-c:8000";
+
+    private AiWorkerProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiWorkerProperties();
+        properties.setEndpoints(List.of(A, B, C));
+        properties.setMaxConcurrentPerInstance(2);
+        properties.setAcquireTimeoutMs(200);
+        properties.setFailureThreshold(2);
+        properties.setEjectionMs(300);
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청이 가장 적은 인스턴스를 고른다")
+    void selectsLeastOutstanding() {
+        AiWorkerPool pool = pool();
+
+        List<AiWorkerPool.Lease> first = List.of(pool.acquire(), pool.acquire(), pool.acquire());
+        assertThat(first).extracting(AiWorkerPool.Lease::baseUrl).containsExactlyInAnyOrder(A, B, C);
+
+        AiWorkerPool.Lease released = first.get(1);
+        released.close();
+        try (AiWorkerPool.Lease next = pool.acquire()) {
+            assertThat(next.baseUrl()).isEqualTo(released.baseUrl());
+        }
+        first.forEach(AiWorkerPool.Lease::close);
+    }
+
+    @Test
+    @DisplayName("가중치만큼 슬롯을 차지하고, 상한을 넘는 인스턴스는 건너뛴다")
+    void weightedLeaseRespectsCap() {
+        AiWorkerPool pool = pool();
+
+        try (AiWorkerPool.Lease batch = pool.acquire(5)) {
+            Set<String> others = new HashSet<>();
+            List<AiWorkerPool.Lease> leases = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                AiWorkerPool.Lease lease = pool.acquire();
+                leases.add(lease);
+                others.add(lease.baseUrl());
+            }
+            assertThat(others).doesNotContain(batch.baseUrl()).hasSize(2);
+            leases.forEach(AiWorkerPool.Lease::close);
+        }
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 제외하고, 제외 시간이 지나면 다시 고른다")
+    void ejectsAfterConsecutiveFailuresUntilEjectionExpires() throws InterruptedException {
+        AiWorkerPool pool = pool();
+        String ejected = failUntilEjected(pool);
+
+        for (int i = 0; i < 12; i++) {
+            try (AiWorkerPool.Lease lease = pool.acquire()) {
+                assertThat(lease.baseUrl()).isNotEqualTo(ejected);
+            }
+        }
+        assertThat(pool.describe()).anyMatch(state -> state.startsWith(ejected) && state.endsWith("EJECTED"));
+
+        TimeUnit.MILLISECONDS.sleep(properties.getEjectionMs() + 100);
+        Set<String> selected = new HashSet<>();
+        for (int i = 0; i < 12; i++) {
+            try (AiWorkerPool.Lease lease = pool.acquire()) {
+                selected.add(lease.baseUrl());
+            }
+        }
+        assertThat(selected).contains(ejected);
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 수가 초기화된다")
+    void successResetsFailureCount() {
+        properties.setEndpoints(List.of(A));
+        AiWorkerPool pool = pool();
+
+        try (AiWorkerPool.Lease lease = pool.acquire()) {
+            lease.failure();
+            lease.success();
+            lease.failure();
+        }
+
+        assertThat(pool.describe()).singleElement().asString().endsWith("UP");
+    }
+
+    @Test
+    @DisplayName("모든 인스턴스가 제외되면 전체를 대상으로 다시 고른다 (패닉 모드)")
+    void fallsBackToAllWhenEveryInstanceIsEjected() {
+        AiWorkerPool pool = pool();
+        Set<String> ejected = new HashSet<>();
+        while (ejected.size() < 3) {
+            ejected.add(failUntilEjected(pool));
+        }
+        assertThat(pool.describe()).allMatch(state -> state.endsWith("EJECTED"));
+
+        try (AiWorkerPool.Lease lease = pool.acquire()) {
+            assertThat(lease.baseUrl()).isIn(A, B, C);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 슬롯이 없으면 기다리다가 반납되면 받고, 대기 시간이 지나면 실패한다")
+    void waitsForReleasedSlotOrTimesOut() throws Exception {
+        properties.setEndpoints(List.of(A));
+        properties.setMaxConcurrentPerInstance(1);
+        AiWorkerPool pool = pool();
+
+        AiWorkerPool.Lease held = pool.acquire();
+        assertThatThrownBy(pool::acquire).isInstanceOf(IllegalStateException.class);
+
+        properties.setAcquireTimeoutMs(5_000);
+        CompletableFuture<AiWorkerPool.Lease> waiter = CompletableFuture.supplyAsync(pool::acquire);
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(waiter).isNotDone();
+        held.close();
+
+        try (AiWorkerPool.Lease next = waiter.get(2, TimeUnit.SECONDS)) {
+            assertThat(next.baseUrl()).isEqualTo(A);
+        }
+    }
+
+    private AiWorkerPool pool() {
+        return new AiWorkerPool(properties, WebClient.builder());
+    }
+
+    /**
+     * 정상 인스턴스 하나를 임계치만큼 실패시켜 제외하고 그 주소를 반환합니다.
+     */
+    private String failUntilEjected(AiWorkerPool pool) {
+        String target;
+        try (AiWorkerPool.Lease lease = pool.acquire()) {
+            target = lease.baseUrl();
+            for (int i = 0; i < properties.getFailureThreshold(); i++) {
+                lease.failure();
+            }
+        }
+        return target;
+    }
+}
@@ -0,0 +1,147 @@
+package com.project.stock.domain.stock.adapter.out.external.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 분석마다 고정 지연을 두는 로컬 AI Worker 스텁.
+ * 단건(/api/v1/analysis)과 배치(/api/v1/analysis/batch, NDJSON) 엔드포인트를 흉내 내며,
+ * 배치는 요청의 concurrency만큼 동시에 분석하고 끝난 순서대로 한 줄씩 내보냅니다. 헬스 체크(/health)는 항상 200입니다.
+ */
+class StubAiWorker implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int DEFAULT_BATCH_CONCURRENCY = 4;
+
+    private final long latencyMs;
+    private final HttpServer server;
+    private final ExecutorService handlers = Executors.newCachedThreadPool();
+    private final List<String> analyzed = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+
+    StubAiWorker(long latencyMs) throws IOException {
+        this.latencyMs = latencyMs;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/analysis/batch", this::batch);
+        server.createContext("/api/v1/analysis", this::single);
+        server.createContext("/health", StubAiWorker::health);
+        server.setExecutor(handlers);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    synchronized List<String> analyzedStockCodes() {
+        return List.copyOf(analyzed);
+    }
+
+    long requestCount() {
+        return requests.get();
+    }
+
+    /**
+     * 동시에 진행된 분석 수의 최댓값.
+     */
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    private void single(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        JsonNode body = readBody(exchange);
+        byte[] response = MAPPER.writeValueAsBytes(analyze(body.get("stock_code").asText()));
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private static void health(HttpExchange exchange) throws IOException {
+        exchange.sendResponseHeaders(200, -1);
+        exchange.close();
+    }
+
+    private void batch(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        JsonNode body = readBody(exchange);
+        int concurrency = body.path("concurrency").asInt(DEFAULT_BATCH_CONCURRENCY);
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(200, 0);
+
+        ExecutorService analyzers = Executors.newFixedThreadPool(concurrency);
+        try (OutputStream out = exchange.getResponseBody()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (JsonNode item : body.get("items")) {
+                String stockCode = item.get("stock_code").asText();
+                futures.add(analyzers.submit(() -> {
+                    long started = System.currentTimeMillis();
+                    AiAnalysisResponse result = analyze(stockCode);
+                    AiBatchAnalysisItem line = new AiBatchAnalysisItem(
+                        stockCode, "OK", result, null, System.currentTimeMillis() - started);
+                    synchronized (out) {
+                        out.write(MAPPER.writeValueAsBytes(line));
+                        out.write('\n');
+                        out.flush();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new IOException(e);
+        } finally {
+            analyzers.shutdownNow();
+        }
+    }
+
+    private AiAnalysisResponse analyze(String stockCode) {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        synchronized (this) {
+            analyzed.add(stockCode);
+        }
+        return new AiAnalysisResponse("BUY", 70, "상승 추세", "외국인 순매수", List.of("변동성"));
+    }
+
+    private static JsonNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return MAPPER.readTree(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+}
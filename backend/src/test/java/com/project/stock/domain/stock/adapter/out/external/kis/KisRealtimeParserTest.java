@@ -0,0 +1,93 @@
+package com.project.stock.domain.stock.adapter.out.external.kis;
+
+import com.project.stock.domain.stock.domain.realtime.QuoteTick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KisRealtimeParserTest {
+
+    private static final String TR_ID = "H0STCNT0";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /**
+     * KIS 실시간 체결가(H0STCNT0) 응답 예시의 체결 한 건 (46개 필드)과, 1초 뒤 같은 종목의 다음 체결.
+     */
+    private static final String SAMSUNG_093354 = "005930^093354^71900^5^-100^-0.14^72023.83^72100^72400^71700^71900^71800^1"
+        + "^3052507^219853241700^5105^6937^1832^84.90^1366314^1159996^1^0.39^20.28^090020^5^-200^090820^5^-500^092619^2"
+        + "^200^20230612^20^N^65945^216924^1118750^2199375^0.05^2770130^110.19^0^^72100";
+    private static final String SAMSUNG_093355 = "005930^093355^72000^2^0^0.00^72023.85^72100^72400^71700^72000^71900^30"
+        + "^3052537^219855401700^5106^6938^1832^84.91^1366314^1160026^1^0.39^20.28^090020^5^-100^090820^5^-400^092619^2"
+        + "^300^20230612^20^N^65915^216924^1118750^2199375^0.05^2770160^110.19^0^^72100";
+
+    private static final String PINGPONG = "{\"header\":{\"tr_id\":\"PINGPONG\",\"datetime\":\"20230612093400\"}}";
+
+    private final KisRealtimeParser parser = new KisRealtimeParser();
+
+    @Test
+    @DisplayName("체결 한 건 메시지에서 종목코드, 체결 시각, 가격, 체결량, 누적 거래량을 읽는다")
+    void parsesSingleRecord() {
+        List<QuoteTick> ticks = new ArrayList<>();
+
+        int parsed = parser.parse("0|" + TR_ID + "|001|" + SAMSUNG_093354, TR_ID, ticks::add);
+
+        assertThat(parsed).isEqualTo(1);
+        QuoteTick tick = ticks.get(0);
+        assertThat(tick.stockCode()).isEqualTo("005930");
+        assertThat(tick.price()).isEqualTo(71900);
+        assertThat(tick.volume()).isEqualTo(1);
+        assertThat(tick.cumulativeVolume()).isEqualTo(3052507);
+        assertThat(Instant.ofEpochMilli(tick.timestamp()).atZone(KST).toLocalTime()).isEqualTo(LocalTime.of(9, 33, 54));
+        assertThat(Instant.ofEpochMilli(tick.timestamp()).atZone(KST).toLocalDate()).isEqualTo(LocalDate.now(KST));
+    }
+
+    @Test
+    @DisplayName("여러 건이 이어 붙은 메시지는 건수만큼 순서대로 전달한다")
+    void parsesMultiRecordFrame() {
+        List<QuoteTick> ticks = new ArrayList<>();
+
+        int parsed = parser.parse("0|" + TR_ID + "|002|" + SAMSUNG_093354 + "^" + SAMSUNG_093355, TR_ID, ticks::add);
+
+        assertThat(parsed).isEqualTo(2);
+        assertThat(ticks).extracting(QuoteTick::price).containsExactly(71900.0, 72000.0);
+        assertThat(ticks).extracting(QuoteTick::volume).containsExactly(1L, 30L);
+        assertThat(ticks.get(1).timestamp() - ticks.get(0).timestamp()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("PINGPONG은 데이터 메시지가 아니므로 해석기로 보내지 않는다")
+    void pingPongIsControlMessage() {
+        assertThat(KisRealtimeParser.isDataMessage(PINGPONG)).isFalse();
+        assertThat(KisRealtimeParser.isDataMessage("")).isFalse();
+        assertThat(KisRealtimeParser.isDataMessage("0|" + TR_ID + "|001|" + SAMSUNG_093354)).isTrue();
+        assertThatThrownBy(() -> parser.parse(PINGPONG, TR_ID, tick -> { }))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("암호화 메시지나 다른 TR은 무시한다")
+    void ignoresEncryptedAndOtherTr() {
+        List<QuoteTick> ticks = new ArrayList<>();
+
+        assertThat(parser.parse("1|" + TR_ID + "|001|ciphertext", TR_ID, ticks::add)).isZero();
+        assertThat(parser.parse("0|H0STASP0|001|" + SAMSUNG_093354, TR_ID, ticks::add)).isZero();
+        assertThat(ticks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("건수보다 필드가 모자라면 거부한다")
+    void rejectsTruncatedFrame() {
+        assertThatThrownBy(() -> parser.parse("0|" + TR_ID + "|002|" + SAMSUNG_093354, TR_ID, tick -> { }))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("필드 수 부족");
+    }
+}
@@ -0,0 +1,161 @@
+package com.project.stock.domain.stock.adapter.out.persistence;
+
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.StockAnalysisHistory;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
+import com.project.stock.domain.stock.domain.batch.BatchRun;
+import com.project.stock.domain.stock.domain.batch.BatchRunItem;
+import com.project.stock.support.PostgresTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 배치 실행 기록 어댑터의 동시 생성 충돌 재시도와 분석 결과 저장의 원자성을 PostgreSQL에서 확인합니다.
+ * 어댑터가 저장소 메서드 단위로 커밋하는 흐름을 그대로 재현하도록 테스트 트랜잭션은 쓰지 않습니다.
+ */
+@DataJpaTest(properties = PostgresTestSupport.SCHEMA_FROM_ENTITIES)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BatchRunPersistenceAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class BatchRunPersistenceAdapterTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = PostgresTestSupport.container();
+
+    private static final String RUN_TYPE = "DAILY_ANALYSIS";
+    private static final LocalDate RUN_DATE = LocalDate.of(2026, 10, 16);
+
+    @Autowired
+    private BatchRunPersistenceAdapter adapter;
+
+    @Autowired
+    private BatchRunJpaRepository batchRunJpaRepository;
+
+    @SpyBean
+    private BatchRunItemJpaRepository batchRunItemJpaRepository;
+
+    @Autowired
+    private StockAnalysisHistoryJpaRepository analysisHistoryJpaRepository;
+
+    @Autowired
+    private StockJpaRepository stockJpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        analysisHistoryJpaRepository.deleteAllInBatch();
+        batchRunItemJpaRepository.deleteAllInBatch();
+        batchRunJpaRepository.deleteAllInBatch();
+        stockJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 실행 기록을 만들었으면 유니크 제약 충돌 후 그 기록을 다시 조회해 쓴다")
+    void openRunReusesRunCreatedConcurrently() {
+        BatchRun other = batchRunJpaRepository.saveAndFlush(new BatchRun(RUN_TYPE, RUN_DATE));
+        BatchRunJpaRepository runs = mock(BatchRunJpaRepository.class, delegatesTo(batchRunJpaRepository));
+        // 첫 조회는 다른 인스턴스의 커밋 전 시점처럼 비어 있음
+        doReturn(Optional.empty()).doAnswer(delegatesTo(batchRunJpaRepository))
+            .when(runs).findByRunTypeAndRunDate(RUN_TYPE, RUN_DATE);
+        BatchRunPersistenceAdapter racing = new BatchRunPersistenceAdapter(runs, batchRunItemJpaRepository, analysisHistoryJpaRepository);
+
+        BatchRun run = racing.openRun(RUN_TYPE, RUN_DATE, List.of(1L, 2L));
+
+        assertThat(run.getId()).isEqualTo(other.getId());
+        assertThat(batchRunJpaRepository.count()).isEqualTo(1);
+        assertThat(batchRunItemJpaRepository.findByRunId(run.getId()))
+            .extracting(BatchRunItem::getStockId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("종목 상태를 다른 인스턴스와 동시에 등록해 충돌하면 다시 조회해 빠진 종목만 등록한다")
+    void openRunRetriesItemInsertAfterConflict() {
+        BatchRun run = adapter.openRun(RUN_TYPE, RUN_DATE, List.of(1L, 2L));
+        BatchRunItemJpaRepository items = mock(BatchRunItemJpaRepository.class, delegatesTo(batchRunItemJpaRepository));
+        // 첫 조회는 다른 인스턴스가 등록한 종목을 아직 보지 못함
+        doReturn(List.of()).doAnswer(delegatesTo(batchRunItemJpaRepository)).when(items).findByRunId(run.getId());
+        BatchRunPersistenceAdapter racing = new BatchRunPersistenceAdapter(batchRunJpaRepository, items, analysisHistoryJpaRepository);
+
+        BatchRun reopened = racing.openRun(RUN_TYPE, RUN_DATE, List.of(1L, 2L, 3L));
+
+        assertThat(reopened.getId()).isEqualTo(run.getId());
+        verify(items, times(2)).findByRunId(run.getId());
+        assertThat(batchRunItemJpaRepository.findByRunId(run.getId()))
+            .extracting(BatchRunItem::getStockId).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("분석 이력 저장과 종목 완료 표시는 한 트랜잭션으로 커밋된다")
+    void saveResultCommitsHistoryAndItemTogether() {
+        Stock stock = saveStock();
+        BatchRun run = adapter.openRun(RUN_TYPE, RUN_DATE, List.of(stock.getId()));
+
+        adapter.saveResult(run.getId(), history(stock));
+
+        assertThat(analysisHistoryJpaRepository.count()).isEqualTo(1);
+        assertThat(batchRunItemJpaRepository.findByRunIdAndStockId(run.getId(), stock.getId()))
+            .get().extracting(BatchRunItem::getStatus).isEqualTo(BatchRunItem.Status.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("종목 완료 표시가 실패하면 분석 이력도 저장되지 않는다")
+    void saveResultRollsBackHistoryWhenItemUpdateFails() {
+        Stock stock = saveStock();
+        BatchRun run = adapter.openRun(RUN_TYPE, RUN_DATE, List.of(stock.getId()));
+        doThrow(new IllegalStateException("체크포인트 기록 실패"))
+            .when(batchRunItemJpaRepository).findByRunIdAndStockId(anyLong(), anyLong());
+
+        assertThatThrownBy(() -> adapter.saveResult(run.getId(), history(stock)))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(analysisHistoryJpaRepository.count()).isZero();
+        assertThat(batchRunItemJpaRepository.findByRunId(run.getId()))
+            .extracting(BatchRunItem::getStatus).containsExactly(BatchRunItem.Status.PENDING);
+    }
+
+    private Stock saveStock() {
+        return stockJpaRepository.save(Stock.builder()
+            .stockCode("005930")
+            .stockName("삼성전자")
+            .market("KOSPI")
+            .build());
+    }
+
+    private static StockAnalysisHistory history(Stock stock) {
+        return StockAnalysisHistory.fromAnalysisResult(stock, RUN_DATE, StockAnalysisResult.builder()
+            .recommendation(StockAnalysisResult.Recommendation.HOLD)
+            .confidenceScore(70)
+            .technicalAnalysis("횡보")
+            .supplyAnalysis("중립")
+            .riskFactors(List.of("변동성"))
+            .build());
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.stock.domain.stock.adapter.out.persistence;
+
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.StockPrice;
+import com.project.stock.domain.stock.domain.StockPriceRow;
+import com.project.stock.support.PostgresTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+/**
+ * 여러 종목 최근 시세 조회(ROW_NUMBER 윈도 쿼리)가 종목마다 최근 N건으로 잘리는지 확인합니다.
+ */
+@DataJpaTest(properties = PostgresTestSupport.SCHEMA_FROM_ENTITIES)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class StockPriceJpaRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = PostgresTestSupport.container();
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 10, 1);
+
+    @Autowired
+    private StockJpaRepository stockJpaRepository;
+
+    @Autowired
+    private StockPriceJpaRepository stockPriceJpaRepository;
+
+    private Stock samsung;
+    private Stock hynix;
+    private Stock naver;
+    private Stock kakao;
+
+    @BeforeEach
+    void setUp() {
+        samsung = saveStock("005930", 5);
+        hynix = saveStock("000660", 2);
+        naver = saveStock("035420", 0);
+        kakao = saveStock("035720", 4);
+    }
+
+    @Test
+    @DisplayName("종목마다 최근 N건만 종목 ID 오름차순, 날짜 내림차순으로 반환한다")
+    void truncatesEachStockToItsLatestRows() {
+        List<StockPriceRow> rows = stockPriceJpaRepository.findRecentPriceRows(
+            List.of(samsung.getId(), hynix.getId(), naver.getId()), 3);
+
+        assertThat(rows)
+            .extracting(StockPriceRow::stockId, StockPriceRow::date)
+            .containsExactly(
+                tuple(samsung.getId(), FIRST_DAY.plusDays(4)),
+                tuple(samsung.getId(), FIRST_DAY.plusDays(3)),
+                tuple(samsung.getId(), FIRST_DAY.plusDays(2)),
+                tuple(hynix.getId(), FIRST_DAY.plusDays(1)),
+                tuple(hynix.getId(), FIRST_DAY)
+            );
+    }
+
+    @Test
+    @DisplayName("요청하지 않은 종목의 시세는 섞이지 않는다")
+    void excludesStocksNotRequested() {
+        List<StockPriceRow> rows = stockPriceJpaRepository.findRecentPriceRows(List.of(kakao.getId()), 10);
+
+        assertThat(rows).hasSize(4).allMatch(row -> row.stockId().equals(kakao.getId()));
+        assertThat(rows.get(0).close()).isEqualByComparingTo(close(3));
+    }
+
+    private Stock saveStock(String stockCode, int bars) {
+        Stock stock = stockJpaRepository.save(Stock.builder()
+            .stockCode(stockCode)
+            .stockName(stockCode)
+            .market("KOSPI")
+            .build());
+        for (int i = 0; i < bars; i++) {
+            stockPriceJpaRepository.save(StockPrice.builder()
+                .stock(stock)
+                .date(FIRST_DAY.plusDays(i))
+                .openPrice(close(i))
+                .highPrice(close(i))
+                .lowPrice(close(i))
+                .closePrice(close(i))
+                .volume(1_000L)
+                .build());
+        }
+        return stock;
+    }
+
+    private static BigDecimal close(int day) {
+        return BigDecimal.valueOf(10_000 + day * 100L);
+    }
+}
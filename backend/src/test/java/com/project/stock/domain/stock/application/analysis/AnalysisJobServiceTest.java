@@ -0,0 +1,209 @@
+package com.project.stock.domain.stock.application.analysis;
+
+import com.project.stock.common.config.AnalysisJobProperties;
+import com.project.stock.domain.stock.application.port.in.AnalyzeStockUseCase;
+import com.project.stock.domain.stock.application.port.out.LoadStockPort;
+import com.project.stock.domain.stock.domain.AnalysisJob;
+import com.project.stock.domain.stock.domain.AnalysisStage;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실행기는 스레드 1개, 대기열 1칸으로 두고, 분석은 release 래치가 열릴 때까지 멈췄다가 단계를 차례로 알린 뒤 끝납니다.
+ */
+class AnalysisJobServiceTest {
+
+    private static final StockAnalysisResult RESULT = StockAnalysisResult.builder()
+        .recommendation(StockAnalysisResult.Recommendation.BUY)
+        .confidenceScore(70)
+        .technicalAnalysis("상승 추세")
+        .supplyAnalysis("외국인 순매수")
+        .riskFactors(List.of())
+        .build();
+
+    private final AnalyzeStockUseCase analyzeStockUseCase = mock(AnalyzeStockUseCase.class);
+    private final LoadStockPort loadStockPort = mock(LoadStockPort.class);
+    private final AnalysisJobProperties properties = new AnalysisJobProperties();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AnalysisJobService service;
+
+    @BeforeEach
+    void setUp() {
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        when(loadStockPort.loadByCode(anyString()))
+            .thenAnswer(invocation -> Optional.of(Stock.builder().stockCode(invocation.getArgument(0)).build()));
+        when(analyzeStockUseCase.analyze(anyString(), any())).thenAnswer(invocation -> {
+            Consumer<AnalysisStage> onStage = invocation.getArgument(1);
+            release.await(5, TimeUnit.SECONDS);
+            onStage.accept(AnalysisStage.PRICES_LOADED);
+            onStage.accept(AnalysisStage.INDICATORS_COMPUTED);
+            onStage.accept(AnalysisStage.LLM_COMPLETED);
+            return RESULT;
+        });
+        service = new AnalysisJobService(analyzeStockUseCase, loadStockPort, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 종목의 작업이 진행 중이면 그 작업을 돌려주고, 끝난 뒤에는 새 작업을 만든다")
+    void reusesActiveJobPerStock() {
+        AnalysisJob first = service.submit("005930");
+
+        assertThat(service.submit("005930").jobId()).isEqualTo(first.jobId());
+
+        release.countDown();
+        awaitTerminal(first.jobId());
+        AnalysisJob next = service.submit("005930");
+        assertThat(next.jobId()).isNotEqualTo(first.jobId());
+        awaitTerminal(next.jobId());
+    }
+
+    @Test
+    @DisplayName("실행 중 1건, 대기 1건이 차 있으면 새 종목 작업을 거절하고, 거절된 종목은 나중에 다시 등록할 수 있다")
+    void rejectsWhenQueueIsFull() {
+        AnalysisJob running = service.submit("005930");
+        AnalysisJob queued = service.submit("000660");
+
+        assertThatThrownBy(() -> service.submit("035420"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("대기열");
+        // 대기 중인 종목의 재요청은 새 자리를 차지하지 않고 기존 작업을 돌려준다
+        assertThat(service.submit("000660").jobId()).isEqualTo(queued.jobId());
+
+        release.countDown();
+        awaitTerminal(running.jobId());
+        awaitTerminal(queued.jobId());
+        AnalysisJob retried = service.submit("035420");
+        awaitTerminal(retried.jobId());
+        assertThat(service.getJob(retried.jobId()).stage()).isEqualTo(AnalysisStage.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("없는 종목은 작업을 만들지 않고 거절한다")
+    void rejectsUnknownStock() {
+        when(loadStockPort.loadByCode("999999")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.submit("999999")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("진행 단계를 모든 구독자에게 순서대로 전달하고, 전달에 실패한 구독자만 제외한다")
+    void fansOutStagesToSubscribers() {
+        AnalysisJob job = service.submit("005930");
+        List<AnalysisStage> first = new CopyOnWriteArrayList<>();
+        List<AnalysisStage> second = new CopyOnWriteArrayList<>();
+        List<AnalysisStage> broken = new CopyOnWriteArrayList<>();
+        List<AnalysisStage> unsubscribed = new CopyOnWriteArrayList<>();
+        service.subscribe(job.jobId(), update -> first.add(update.stage()));
+        service.subscribe(job.jobId(), update -> second.add(update.stage()));
+        service.subscribe(job.jobId(), update -> {
+            broken.add(update.stage());
+            if (update.stage() == AnalysisStage.PRICES_LOADED) {
+                throw new IllegalStateException("연결 종료");
+            }
+        });
+        service.subscribe(job.jobId(), update -> unsubscribed.add(update.stage())).run();
+
+        release.countDown();
+        awaitTerminal(job.jobId());
+
+        List<AnalysisStage> expected = List.of(AnalysisStage.QUEUED, AnalysisStage.PRICES_LOADED,
+            AnalysisStage.INDICATORS_COMPUTED, AnalysisStage.LLM_COMPLETED, AnalysisStage.COMPLETED);
+        assertThat(first).isEqualTo(expected);
+        assertThat(second).isEqualTo(expected);
+        assertThat(broken).containsExactly(AnalysisStage.QUEUED, AnalysisStage.PRICES_LOADED);
+        assertThat(unsubscribed).containsExactly(AnalysisStage.QUEUED);
+    }
+
+    @Test
+    @DisplayName("끝난 작업을 구독하면 최종 결과 하나만 받고 구독자로 남지 않는다")
+    void subscribeAfterFinishReceivesFinalSnapshotOnly() {
+        AnalysisJob job = service.submit("005930");
+        release.countDown();
+        awaitTerminal(job.jobId());
+        List<AnalysisJob> received = new CopyOnWriteArrayList<>();
+
+        Runnable unsubscribe = service.subscribe(job.jobId(), received::add);
+
+        assertThat(received).singleElement().satisfies(update -> {
+            assertThat(update.stage()).isEqualTo(AnalysisStage.COMPLETED);
+            assertThat(update.result()).isEqualTo(RESULT);
+        });
+        unsubscribe.run();
+    }
+
+    @Test
+    @DisplayName("분석이 실패하면 실패 단계와 오류 메시지를 전달한다")
+    void reportsFailure() {
+        doThrow(new IllegalStateException("AI Worker 응답 없음")).when(analyzeStockUseCase).analyze(anyString(), any());
+
+        AnalysisJob job = service.submit("005930");
+        awaitTerminal(job.jobId());
+
+        AnalysisJob failed = service.getJob(job.jobId());
+        assertThat(failed.stage()).isEqualTo(AnalysisStage.FAILED);
+        assertThat(failed.error()).isEqualTo("AI Worker 응답 없음");
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 종료 작업만 정리하고, 진행 중인 작업은 남긴다")
+    void evictsOnlyExpiredTerminalJobs() {
+        AnalysisJob finished = service.submit("005930");
+        release.countDown();
+        awaitTerminal(finished.jobId());
+
+        service.evictExpired();
+        assertThat(service.getJob(finished.jobId()).stage()).isEqualTo(AnalysisStage.COMPLETED);
+
+        properties.setRetentionMinutes(0);
+        CountDownLatch hold = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            hold.await(5, TimeUnit.SECONDS);
+            return RESULT;
+        }).when(analyzeStockUseCase).analyze(anyString(), any());
+        AnalysisJob running = service.submit("000660");
+        await().atMost(Duration.ofSeconds(1))
+            .until(() -> Instant.now().isAfter(service.getJob(running.jobId()).updatedAt()));
+
+        service.evictExpired();
+
+        assertThatThrownBy(() -> service.getJob(finished.jobId()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("만료");
+        assertThat(service.getJob(running.jobId()).isTerminal()).isFalse();
+        hold.countDown();
+    }
+
+    private void awaitTerminal(String jobId) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> service.getJob(jobId).isTerminal());
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.stock.domain.stock.application.backtest;
+
+import com.project.stock.common.config.BacktestProperties;
+import com.project.stock.domain.stock.application.market.MarketDataCache;
+import com.project.stock.domain.stock.application.port.out.LoadWatchlistPort;
+import com.project.stock.domain.stock.application.port.out.SaveAnalysisHistoryPort;
+import com.project.stock.domain.stock.domain.AnalysisSignal;
+import com.project.stock.domain.stock.domain.StockAnalysisResult.Recommendation;
+import com.project.stock.domain.stock.domain.backtest.BacktestConfig;
+import com.project.stock.domain.stock.domain.backtest.BacktestEngine;
+import com.project.stock.domain.stock.domain.backtest.BacktestMetric;
+import com.project.stock.domain.stock.domain.backtest.BacktestReport;
+import com.project.stock.domain.stock.domain.backtest.BacktestRun;
+import com.project.stock.domain.stock.domain.backtest.BacktestSignals;
+import com.project.stock.domain.stock.domain.backtest.BacktestSpec;
+import com.project.stock.domain.stock.domain.backtest.BacktestStrategy;
+import com.project.stock.domain.stock.domain.backtest.BacktestUniverse;
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+import com.project.stock.domain.stock.domain.screener.ScreenerExpression;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BacktestServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 2);
+    private static final int DAYS = 80;
+    private static final BacktestConfig CONFIG = new BacktestConfig(10_000_000, 15, 20, 10, 50, 2, 0, 0, 0);
+
+    private final MarketDataCache marketDataCache = mock(MarketDataCache.class);
+    private final SaveAnalysisHistoryPort saveAnalysisHistoryPort = mock(SaveAnalysisHistoryPort.class);
+    private final Map<String, PriceSeries> seriesByCode = new LinkedHashMap<>();
+    private BacktestService service;
+
+    @BeforeEach
+    void setUp() {
+        seriesByCode.put("000001", series(1, 0.0));
+        seriesByCode.put("000002", series(2, 1.3));
+        when(marketDataCache.findByCode(anyString()))
+            .thenAnswer(invocation -> Optional.ofNullable(seriesByCode.get(invocation.<String>getArgument(0))));
+
+        BacktestProperties properties = new BacktestProperties();
+        properties.setParallelism(2);
+        properties.setMaxCombinations(20);
+        service = new BacktestService(marketDataCache, mock(LoadWatchlistPort.class), saveAnalysisHistoryPort, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("파라미터 조합마다 엔진을 실행하고, 정렬 기준 순으로 상위 조합만 평가금액 곡선과 함께 반환한다")
+    void sweepsGridAndRanksRuns() {
+        BacktestSpec spec = ruleSpec(Map.of("n", List.of(3.0, 5.0, 10.0), "stop_loss_pct", List.of(0.0, 3.0)), 4, 1);
+
+        BacktestReport report = service.run(spec);
+
+        assertThat(report.combinations()).isEqualTo(6);
+        assertThat(report.tradingDays()).isEqualTo(DAYS);
+        assertThat(report.stockCodes()).containsExactly("000001", "000002");
+        assertThat(report.runs()).hasSize(4);
+        assertThat(report.runs()).extracting(run -> run.statistics().totalReturnPct())
+            .isSortedAccordingTo((a, b) -> Double.compare(b, a));
+        assertThat(report.runs().get(0).equityCurve()).hasSize(DAYS);
+        assertThat(report.runs().subList(1, 4)).allSatisfy(run -> assertThat(run.equityCurve()).isNull());
+        assertThat(report.dates()).hasSize(DAYS).startsWith(START);
+    }
+
+    @Test
+    @DisplayName("조합별 결과는 치환된 식으로 엔진을 직접 실행한 결과와 같다")
+    void runMatchesEngineWithSubstitutedRules() {
+        BacktestSpec spec = ruleSpec(Map.of("n", List.of(5.0)), 1, 0);
+
+        BacktestRun run = service.run(spec).runs().get(0);
+
+        List<PriceSeries> series = List.copyOf(seriesByCode.values());
+        BacktestUniverse universe = BacktestUniverse.of(series, null, null);
+        boolean[][] entry = series.stream().map(ScreenerExpression.parse("close > sma(5)")::matchesAll).toArray(boolean[][]::new);
+        boolean[][] exit = series.stream().map(ScreenerExpression.parse("close < sma(5)")::matchesAll).toArray(boolean[][]::new);
+        BacktestRun expected = BacktestEngine.run(universe, new BacktestSignals(List.<boolean[][]>of(entry), List.<boolean[][]>of(exit)),
+            CONFIG, Map.of("n", 5.0), false);
+        assertThat(run.statistics()).isEqualTo(expected.statistics());
+        assertThat(run.statistics().trades()).isPositive();
+    }
+
+    @Test
+    @DisplayName("AI 신호 전략은 최소 신뢰도 이상인 BUY/SELL 추천으로 매매한다")
+    void aiSignalsRespectMinConfidence() {
+        when(saveAnalysisHistoryPort.findSignals(any(), any(), any())).thenReturn(List.of(
+            new AnalysisSignal(1L, START.plusDays(10), Recommendation.BUY, 80),
+            new AnalysisSignal(1L, START.plusDays(30), Recommendation.SELL, 80)));
+        BacktestSpec spec = new BacktestSpec(BacktestStrategy.AI_SIGNAL, List.of("000001"), null, null, null, null,
+            CONFIG, Map.of("min_confidence", List.of(50.0, 90.0)), BacktestMetric.TOTAL_RETURN, 2, 0);
+
+        BacktestReport report = service.run(spec);
+
+        Map<Double, Integer> trades = new LinkedHashMap<>();
+        report.runs().forEach(run -> trades.put(run.parameters().get("min_confidence"), run.statistics().trades()));
+        assertThat(trades).containsEntry(50.0, 1).containsEntry(90.0, 0);
+    }
+
+    @Test
+    @DisplayName("잘못된 명세는 실행 전에 거부한다")
+    void rejectsInvalidSpecs() {
+        assertThatThrownBy(() -> service.run(ruleSpec(Map.of("n", List.of(1.0, 2.0, 3.0, 4.0, 5.0),
+            "stop_loss_pct", List.of(0.0, 1.0, 2.0, 3.0, 4.0)), 1, 0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("파라미터 조합 수");
+        assertThatThrownBy(() -> service.run(ruleSpec(Map.of("m", List.of(5.0)), 1, 0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("{n}");
+        assertThatThrownBy(() -> service.run(new BacktestSpec(BacktestStrategy.RULE, List.of("000001"), null, null,
+            " ", null, CONFIG, Map.of(), BacktestMetric.SHARPE, 1, 0)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.run(new BacktestSpec(BacktestStrategy.RULE, List.of("999999"), null, null,
+            "close > 0", null, CONFIG, Map.of(), BacktestMetric.SHARPE, 1, 0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("999999");
+    }
+
+    private static BacktestSpec ruleSpec(Map<String, List<Double>> grid, int limit, int equityCurves) {
+        return new BacktestSpec(BacktestStrategy.RULE, List.of("000001", "000002"), null, null,
+            "close > sma({n})", "close < sma({n})", CONFIG, grid, BacktestMetric.TOTAL_RETURN, limit, equityCurves);
+    }
+
+    /**
+     * 완만한 상승 추세에 주기 12일의 등락을 더한 결정적 시계열.
+     */
+    private static PriceSeries series(long stockId, double phase) {
+        PriceSeries.Builder builder = new PriceSeries.Builder(stockId, String.format("%06d", stockId), null);
+        double previous = 10_000;
+        for (int i = 0; i < DAYS; i++) {
+            double close = 10_000 * (1 + 0.002 * i) * (1 + 0.05 * Math.sin(i * Math.PI / 6 + phase));
+            builder.add(START.plusDays(i), previous, Math.max(previous, close) * 1.01, Math.min(previous, close) * 0.99,
+                close, 100_000L);
+            previous = close;
+        }
+        return builder.build();
+    }
+}
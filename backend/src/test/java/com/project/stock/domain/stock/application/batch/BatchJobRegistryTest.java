@@ -0,0 +1,201 @@
+package com.project.stock.domain.stock.application.batch;
+
+import com.project.stock.common.config.BatchJobProperties;
+import com.project.stock.domain.stock.domain.batch.BatchJob;
+import com.project.stock.domain.stock.domain.batch.BatchJobStatus;
+import com.project.stock.domain.stock.domain.batch.BatchJobTrigger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class BatchJobRegistryTest {
+
+    private final BatchJobProperties properties = new BatchJobProperties();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BatchJobRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setHistorySize(2);
+        properties.setShutdownGraceSeconds(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (registry != null) {
+            registry.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 종류의 작업이 실행 중이면 새로 만들지 않고 진행 중인 작업을 돌려준다")
+    void returnsActiveJobOfSameType() {
+        start();
+        BatchJob first = registry.submit("daily", BatchJobTrigger.SCHEDULED, this::awaitRelease);
+        awaitStatus(first, BatchJobStatus.RUNNING);
+
+        BatchJob again = registry.submit("daily", BatchJobTrigger.MANUAL, job -> {
+            throw new AssertionError("중복 실행");
+        });
+        BatchJob other = registry.submit("backfill", BatchJobTrigger.MANUAL, job -> { });
+
+        assertThat(again.jobId()).isEqualTo(first.jobId());
+        assertThat(other.jobId()).isNotEqualTo(first.jobId());
+        release.countDown();
+        awaitStatus(first, BatchJobStatus.SUCCEEDED);
+        awaitStatus(other, BatchJobStatus.SUCCEEDED);
+
+        // 끝난 뒤에는 같은 종류를 다시 실행할 수 있다
+        BatchJob next = registry.submit("daily", BatchJobTrigger.MANUAL, job -> { });
+        assertThat(next.jobId()).isNotEqualTo(first.jobId());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 새 작업을 거절하고 목록에 남기지 않는다")
+    void rejectsWhenQueueIsFull() {
+        start();
+        BatchJob running = registry.submit("a", BatchJobTrigger.MANUAL, this::awaitRelease);
+        awaitStatus(running, BatchJobStatus.RUNNING);
+        registry.submit("b", BatchJobTrigger.MANUAL, job -> { });
+
+        assertThatThrownBy(() -> registry.submit("c", BatchJobTrigger.MANUAL, job -> { }))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(registry.recentJobs()).extracting(BatchJob::jobType).containsExactly("b", "a");
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업을 취소하면 작업이 취소 요청을 확인하고 멈춘 뒤 취소 상태로 끝난다")
+    void cancelsRunningJobCooperatively() {
+        start();
+        BatchJob job = registry.submit("daily", BatchJobTrigger.MANUAL, this::runUntilCancelled);
+        awaitStatus(job, BatchJobStatus.RUNNING);
+
+        BatchJob cancelling = registry.cancel(job.jobId());
+
+        assertThat(cancelling.status()).isEqualTo(BatchJobStatus.CANCELLING);
+        awaitStatus(job, BatchJobStatus.CANCELLED);
+        assertThatThrownBy(() -> registry.cancel(job.jobId())).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> registry.cancel("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("시작 전에 취소된 작업은 본문을 실행하지 않고 취소로 끝난다")
+    void cancelsQueuedJobBeforeStart() {
+        start();
+        BatchJob running = registry.submit("a", BatchJobTrigger.MANUAL, this::awaitRelease);
+        awaitStatus(running, BatchJobStatus.RUNNING);
+        BatchJob queued = registry.submit("b", BatchJobTrigger.MANUAL, job -> {
+            throw new AssertionError("취소된 작업 실행");
+        });
+        assertThat(queued.status()).isEqualTo(BatchJobStatus.QUEUED);
+
+        registry.cancel(queued.jobId());
+        release.countDown();
+
+        awaitStatus(queued, BatchJobStatus.CANCELLED);
+        assertThat(registry.getJob(queued.jobId()).startedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("종료 시 협조하는 작업은 취소 요청을 받고 제한 시간 안에 마무리한다")
+    void stopsCooperativeJobWithinGrace() {
+        start();
+        BatchJob job = registry.submit("daily", BatchJobTrigger.MANUAL, this::runUntilCancelled);
+        awaitStatus(job, BatchJobStatus.RUNNING);
+
+        long started = System.nanoTime();
+        registry.stop();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1_000);
+        assertThat(registry.getJob(job.jobId()).status()).isEqualTo(BatchJobStatus.CANCELLED);
+        assertThat(registry.isRunning()).isFalse();
+        assertThatThrownBy(() -> registry.submit("daily", BatchJobTrigger.MANUAL, ignored -> { }))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나도 끝나지 않는 작업은 작업 스레드를 중단해 종료를 마친다")
+    void interruptsJobAfterGrace() {
+        start();
+        BatchJob job = registry.submit("daily", BatchJobTrigger.MANUAL, ignored -> {
+            try {
+                TimeUnit.MINUTES.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("작업 스레드 중단", e);
+            }
+        });
+        awaitStatus(job, BatchJobStatus.RUNNING);
+
+        long started = System.nanoTime();
+        registry.stop();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isBetween(1_000L, 3_000L);
+        BatchJob stopped = registry.getJob(job.jobId());
+        assertThat(stopped.status()).isEqualTo(BatchJobStatus.FAILED);
+        assertThat(stopped.message()).isEqualTo("작업 스레드 중단");
+    }
+
+    @Test
+    @DisplayName("종료 작업이 보관 수를 넘으면 오래된 것부터 정리하고, 실행 중인 작업은 남긴다")
+    void evictsOldestFinishedJobs() {
+        properties.setPoolSize(2);
+        start();
+        BatchJob running = registry.submit("long", BatchJobTrigger.MANUAL, this::awaitRelease);
+        awaitStatus(running, BatchJobStatus.RUNNING);
+        BatchJob first = submitAndFinish("first");
+        BatchJob second = submitAndFinish("second");
+        BatchJob third = submitAndFinish("third");
+        // 정리 시점에 아직 끝나지 않은 작업
+        BatchJob fourth = registry.submit("fourth", BatchJobTrigger.MANUAL, this::awaitRelease);
+
+        assertThat(registry.recentJobs()).extracting(BatchJob::jobId)
+            .containsExactly(fourth.jobId(), third.jobId(), second.jobId(), running.jobId());
+        assertThatThrownBy(() -> registry.getJob(first.jobId())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void start() {
+        registry = new BatchJobRegistry(properties);
+        registry.start();
+    }
+
+    private BatchJob submitAndFinish(String jobType) {
+        BatchJob job = registry.submit(jobType, BatchJobTrigger.MANUAL, ignored -> { });
+        awaitStatus(job, BatchJobStatus.SUCCEEDED);
+        return job;
+    }
+
+    private void awaitStatus(BatchJob job, BatchJobStatus status) {
+        await().atMost(Duration.ofSeconds(2)).until(() -> registry.getJob(job.jobId()).status() == status);
+    }
+
+    private void awaitRelease(BatchJobContext job) {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runUntilCancelled(BatchJobContext job) {
+        try {
+            while (!job.isCancellationRequested()) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
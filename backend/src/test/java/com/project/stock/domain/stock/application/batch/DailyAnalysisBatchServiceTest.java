@@ -0,0 +1,194 @@
+package com.project.stock.domain.stock.application.batch;
+
+import com.project.stock.common.config.BatchJobProperties;
+import com.project.stock.common.config.DailyAnalysisBatchProperties;
+import com.project.stock.domain.stock.application.market.TradingCalendarService;
+import com.project.stock.domain.stock.application.port.in.SyncStockPricesUseCase;
+import com.project.stock.domain.stock.application.port.out.AiAnalysisPort;
+import com.project.stock.domain.stock.application.port.out.BatchCoordinationPort;
+import com.project.stock.domain.stock.application.port.out.BatchRunPort;
+import com.project.stock.domain.stock.application.port.out.LoadWatchlistPort;
+import com.project.stock.domain.stock.application.port.out.SaveAnalysisHistoryPort;
+import com.project.stock.domain.stock.application.quota.QuotaScheduler;
+import com.project.stock.domain.stock.domain.AnalysisOutcome;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
+import com.project.stock.domain.stock.domain.Watchlist;
+import com.project.stock.domain.stock.domain.batch.BatchJob;
+import com.project.stock.domain.stock.domain.batch.BatchJobStatus;
+import com.project.stock.domain.stock.domain.batch.BatchJobTrigger;
+import com.project.stock.domain.stock.domain.batch.BatchRun;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DailyAnalysisBatchServiceTest {
+
+    private static final long RUN_ID = 1L;
+    private static final StockAnalysisResult RESULT = StockAnalysisResult.builder()
+        .recommendation(StockAnalysisResult.Recommendation.BUY)
+        .confidenceScore(70)
+        .technicalAnalysis("상승 추세")
+        .supplyAnalysis("외국인 순매수")
+        .riskFactors(List.of())
+        .build();
+
+    private final LoadWatchlistPort loadWatchlistPort = mock(LoadWatchlistPort.class);
+    private final SyncStockPricesUseCase syncStockPricesUseCase = mock(SyncStockPricesUseCase.class);
+    private final AiAnalysisPort aiAnalysisPort = mock(AiAnalysisPort.class);
+    private final SaveAnalysisHistoryPort saveAnalysisHistoryPort = mock(SaveAnalysisHistoryPort.class);
+    private final BatchCoordinationPort batchCoordinationPort = mock(BatchCoordinationPort.class);
+    private final BatchRunPort batchRunPort = mock(BatchRunPort.class);
+    private final QuotaScheduler quotaScheduler = mock(QuotaScheduler.class);
+    private final TradingCalendarService tradingCalendarService = mock(TradingCalendarService.class);
+    private final DailyAnalysisBatchProperties properties = new DailyAnalysisBatchProperties();
+    private BatchJobRegistry registry;
+    private DailyAnalysisBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        properties.setCoordinationEnabled(false);
+        properties.setAnalysisBatchSize(3);
+        properties.setRequestDelayMs(0);
+        properties.setBatchLingerMs(20);
+        properties.setQueueCapacity(1);
+
+        BatchRun run = new BatchRun(DailyAnalysisBatchService.RUN_TYPE, LocalDate.now());
+        ReflectionTestUtils.setField(run, "id", RUN_ID);
+        when(tradingCalendarService.isTradingDay(any())).thenReturn(true);
+        when(batchRunPort.openRun(anyString(), any(), anyList())).thenReturn(run);
+        when(batchRunPort.findItems(RUN_ID)).thenReturn(List.of());
+        when(batchRunPort.refreshRun(eq(RUN_ID), anyInt())).thenReturn(run);
+        when(saveAnalysisHistoryPort.findByStockIdAndDate(anyLong(), any())).thenReturn(Optional.empty());
+        when(aiAnalysisPort.requestAnalysis(any(Stock.class))).thenReturn(RESULT);
+        doAnswer(invocation -> {
+            List<Stock> batch = invocation.getArgument(0);
+            Consumer<AnalysisOutcome> onOutcome = invocation.getArgument(1);
+            batch.forEach(stock -> onOutcome.accept(AnalysisOutcome.success(stock, RESULT, 1)));
+            return null;
+        }).when(aiAnalysisPort).requestAnalysisBatch(anyList(), any());
+
+        registry = new BatchJobRegistry(new BatchJobProperties());
+        registry.start();
+        service = new DailyAnalysisBatchService(loadWatchlistPort, syncStockPricesUseCase, aiAnalysisPort,
+            saveAnalysisHistoryPort, properties, batchCoordinationPort, batchRunPort, quotaScheduler, registry,
+            tradingCalendarService, mock(ApplicationEventPublisher.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stop();
+    }
+
+    @Test
+    @DisplayName("모든 종목이 동기화 → 분석 → 저장 단계를 거쳐 저장된다")
+    void persistsEveryStock() {
+        watch(7);
+
+        BatchJob job = runToEnd();
+
+        assertThat(job.status()).isEqualTo(BatchJobStatus.SUCCEEDED);
+        assertThat(job.succeeded()).isEqualTo(7);
+        verify(batchRunPort, times(7)).saveResult(eq(RUN_ID), any());
+    }
+
+    @Test
+    @DisplayName("배치 분석 요청이 예외를 던지면 묶음의 모든 종목을 실패로 기록하고 실행을 마친다")
+    void failsEveryStockOfBatchWhenRequestThrows() {
+        watch(6);
+        doThrow(new IllegalStateException("Worker 연결 실패")).when(aiAnalysisPort).requestAnalysisBatch(anyList(), any());
+        when(aiAnalysisPort.requestAnalysis(any(Stock.class))).thenThrow(new IllegalStateException("Worker 연결 실패"));
+
+        BatchJob job = runToEnd();
+
+        assertThat(job.status()).isEqualTo(BatchJobStatus.SUCCEEDED);
+        assertThat(job.failed()).isEqualTo(6);
+        verify(batchRunPort, times(6)).markFailed(eq(RUN_ID), anyLong(), eq("Worker 연결 실패"));
+        verify(batchRunPort, times(0)).saveResult(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("저장 작업자가 죽어도 앞 단계가 대기열에서 멈추지 않고, 실행 전체를 취소해 실패로 끝낸다")
+    void cancelsRunWhenWorkerDies() {
+        watch(20);
+        when(batchRunPort.saveResult(anyLong(), any())).thenThrow(new Error("저장 작업자 중단"));
+
+        BatchJob job = runToEnd();
+
+        assertThat(job.status()).isEqualTo(BatchJobStatus.FAILED);
+        assertThat(job.message()).contains("저장 작업자 중단");
+        verify(batchRunPort, times(1)).saveResult(anyLong(), any());
+        verify(batchRunPort, atLeastOnce()).refreshRun(eq(RUN_ID), anyInt());
+        assertThat(job.succeeded() + job.failed()).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("분산 실행 중 취소되면 분석하지 않고 넘기는 종목의 임대도 모두 반납한다")
+    void releasesLeasesOfDroppedStocksOnCancel() {
+        watch(9);
+        properties.setCoordinationEnabled(true);
+        when(batchCoordinationPort.join(anyString(), anyList(), any())).thenReturn(true);
+        AtomicLong nextStockId = new AtomicLong();
+        when(batchCoordinationPort.claim(anyString(), any())).thenAnswer(invocation -> {
+            long stockId = nextStockId.incrementAndGet();
+            return stockId <= 9 ? Optional.of(new BatchCoordinationPort.Lease(stockId, "token-" + stockId)) : Optional.empty();
+        });
+        // 첫 묶음을 분석하는 동안 작업을 취소하여, 이미 임대해 대기열에 있던 종목이 분석 없이 넘어가게 한다
+        doAnswer(invocation -> {
+            registry.cancel(registry.recentJobs().get(0).jobId());
+            List<Stock> batch = invocation.getArgument(0);
+            Consumer<AnalysisOutcome> onOutcome = invocation.getArgument(1);
+            batch.forEach(stock -> onOutcome.accept(AnalysisOutcome.success(stock, RESULT, 1)));
+            return null;
+        }).when(aiAnalysisPort).requestAnalysisBatch(anyList(), any());
+
+        BatchJob job = runToEnd();
+
+        assertThat(job.status()).isEqualTo(BatchJobStatus.CANCELLED);
+        int claimed = (int) Math.min(nextStockId.get(), 9);
+        assertThat(job.succeeded()).isLessThan(claimed);
+        verify(batchCoordinationPort, times(claimed)).complete(anyString(), any());
+    }
+
+    private void watch(int count) {
+        List<Watchlist> watchlist = LongStream.rangeClosed(1, count).mapToObj(id -> {
+            Stock stock = Stock.builder().stockCode(String.format("%06d", id)).stockName("종목" + id).market("KOSPI").build();
+            ReflectionTestUtils.setField(stock, "id", id);
+            return Watchlist.builder().stock(stock).isActive(true).priority((int) id).build();
+        }).toList();
+        when(loadWatchlistPort.findAllActive()).thenReturn(watchlist);
+    }
+
+    private BatchJob runToEnd() {
+        String jobId = service.start(BatchJobTrigger.MANUAL).jobId();
+        await().atMost(Duration.ofSeconds(10)).until(() -> registry.getJob(jobId).isTerminal());
+        return registry.getJob(jobId);
+    }
+}
@@ -0,0 +1,95 @@
+package com.project.stock.domain.stock.application.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StageQueueTest {
+
+    @Test
+    @DisplayName("가득 차면 생산자는 소비자가 꺼낼 때까지 기다린다")
+    void blocksProducerWhenFull() throws Exception {
+        StageQueue<Integer> queue = new StageQueue<>(2, 1, 1);
+        assertThat(queue.put(1)).isTrue();
+        assertThat(queue.put(2)).isTrue();
+
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> put(queue, 3));
+        TimeUnit.MILLISECONDS.sleep(300);
+        assertThat(blocked).isNotDone();
+
+        assertThat(queue.take()).isEqualTo(1);
+        assertThat(blocked.get(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(queue.maxDepth()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("생산자가 모두 끝나면 남은 항목을 다 꺼낸 뒤 소비자가 종료 신호를 받는다")
+    void drainsBeforeSignallingEnd() throws Exception {
+        StageQueue<Integer> queue = new StageQueue<>(10, 2, 1);
+        queue.put(1);
+        queue.put(2);
+        queue.producerDone();
+        assertThat(queue.isDrained()).isFalse();
+
+        queue.put(3);
+        queue.producerDone();
+
+        assertThat(queue.takeBatch(2, 0)).containsExactly(1, 2);
+        assertThat(queue.isDrained()).isFalse();
+        assertThat(queue.take()).isEqualTo(3);
+        assertThat(queue.take()).isNull();
+        assertThat(queue.takeBatch(2, 0)).isEmpty();
+        assertThat(queue.isDrained()).isTrue();
+    }
+
+    @Test
+    @DisplayName("첫 항목 이후 대기 시간 동안 들어온 항목을 한 묶음으로 꺼낸다")
+    void lingersForBatch() throws Exception {
+        StageQueue<Integer> queue = new StageQueue<>(10, 1, 1);
+        queue.put(1);
+        CompletableFuture.runAsync(() -> {
+            sleep(50);
+            put(queue, 2);
+        });
+
+        assertThat(queue.takeBatch(5, 1_000)).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("소비자가 모두 종료되면 기다리던 생산자는 넣지 못하고 바로 돌아온다")
+    void releasesProducerWhenConsumersAreGone() throws Exception {
+        StageQueue<Integer> queue = new StageQueue<>(1, 1, 2);
+        queue.put(1);
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> put(queue, 2));
+
+        queue.consumerDone();
+        TimeUnit.MILLISECONDS.sleep(300);
+        assertThat(blocked).isNotDone();
+
+        queue.consumerDone();
+        assertThat(blocked.get(2, TimeUnit.SECONDS)).isFalse();
+        assertThat(queue.put(3)).isFalse();
+        assertThat(queue.drainRemaining()).containsExactly(1);
+    }
+
+    private static boolean put(StageQueue<Integer> queue, int item) {
+        try {
+            return queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
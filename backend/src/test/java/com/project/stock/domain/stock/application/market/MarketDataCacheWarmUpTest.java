@@ -0,0 +1,182 @@
+package com.project.stock.domain.stock.application.market;
+
+import com.project.stock.common.config.MarketCacheProperties;
+import com.project.stock.common.config.StartupProperties;
+import com.project.stock.domain.stock.application.port.out.LoadStockPort;
+import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.application.port.out.LoadWatchlistPort;
+import com.project.stock.domain.stock.application.startup.StartupBenchmark;
+import com.project.stock.domain.stock.domain.DailyBar;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.Watchlist;
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+import com.project.stock.domain.stock.domain.startup.StartupReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기동 워밍업 순서 검증 (기동 벤치마크의 스텁 구성).
+ * 종목 마스터와 전체 시세 적재는 래치로 붙잡아 두고, 단계가 어떤 순서로 열리는지만 확인합니다.
+ * 실제 소요 시간은 환경에 따라 달라지므로 검증하지 않습니다.
+ */
+class MarketDataCacheWarmUpTest {
+
+    private static final int STOCKS = 200;
+    private static final int HOT_STOCKS = 5;
+    private static final LocalDate LAST_SESSION = LocalDate.now().minusDays(1);
+
+    private final CountDownLatch masterGate = new CountDownLatch(1);
+    private final CountDownLatch fullLoadGate = new CountDownLatch(1);
+    private final StartupProperties startupProperties = new StartupProperties();
+    private StartupBenchmark startupBenchmark;
+    private MarketDataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        List<Stock> stocks = LongStream.rangeClosed(1, STOCKS).mapToObj(MarketDataCacheWarmUpTest::stock).toList();
+
+        LoadStockPort loadStockPort = mock(LoadStockPort.class);
+        when(loadStockPort.loadAll()).thenAnswer(invocation -> {
+            masterGate.await();
+            return stocks;
+        });
+
+        LoadWatchlistPort loadWatchlistPort = mock(LoadWatchlistPort.class);
+        when(loadWatchlistPort.findAllActive()).thenReturn(stocks.subList(0, HOT_STOCKS).stream()
+            .map(stock -> Watchlist.builder().stock(stock).build())
+            .toList());
+
+        LoadStockPricePort loadStockPricePort = mock(LoadStockPricePort.class);
+        when(loadStockPricePort.findDailyBarsAfter(anyLong(), any())).thenAnswer(invocation ->
+            bars(invocation.getArgument(0, Long.class)));
+        doAnswer(invocation -> {
+            fullLoadGate.await();
+            Consumer<DailyBar> consumer = invocation.getArgument(1);
+            stocks.forEach(stock -> bars(stock.getId()).forEach(consumer));
+            return null;
+        }).when(loadStockPricePort).forEachDailyBar(any(LocalDate.class), any());
+
+        startupProperties.setHotStockCount(HOT_STOCKS);
+        startupBenchmark = new StartupBenchmark(startupProperties, new ApplicationAvailabilityBean());
+        cache = new MarketDataCache(new MarketCacheProperties(), loadStockPort, loadStockPricePort, loadWatchlistPort,
+            startupProperties, startupBenchmark);
+    }
+
+    @AfterEach
+    void tearDown() {
+        masterGate.countDown();
+        fullLoadGate.countDown();
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("빠른 기동 모드는 바로 반환하고, 주요 종목을 전체 적재보다 먼저 제공한다")
+    void fastStartupServesHotStocksBeforeFullLoad() {
+        startupProperties.setFast(true);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), cache::warmUp);
+        assertThatThrownBy(() -> cache.findByCode(code(1))).isInstanceOf(IllegalStateException.class);
+
+        masterGate.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> hotSeriesServed());
+        assertThat(cache.isReady()).isFalse();
+        assertThatThrownBy(() -> cache.findByCode(code(STOCKS))).isInstanceOf(IllegalStateException.class);
+
+        fullLoadGate.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(cache::isReady);
+        assertThat(cache.findByCode(code(STOCKS))).map(PriceSeries::size).hasValue(3);
+        assertThat(cache.all()).hasSize(STOCKS);
+    }
+
+    @Test
+    @DisplayName("일반 기동 모드는 종목 마스터와 주요 종목을 적재한 뒤 반환하고, 전체 적재는 백그라운드로 남긴다")
+    void normalStartupBlocksUntilHotStocksAreLoaded() throws InterruptedException {
+        startupProperties.setFast(false);
+        Thread warmUp = new Thread(cache::warmUp);
+        warmUp.start();
+
+        warmUp.join(200);
+        assertThat(warmUp.isAlive()).as("종목 마스터 적재 전에는 반환하지 않음").isTrue();
+
+        masterGate.countDown();
+        warmUp.join(5_000);
+        assertThat(warmUp.isAlive()).isFalse();
+        assertThat(hotSeriesServed()).isTrue();
+        assertThat(cache.isReady()).isFalse();
+
+        fullLoadGate.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(cache::isReady);
+    }
+
+    @Test
+    @DisplayName("워밍업 단계별 상태와 적재 건수를 기동 벤치마크에 기록한다")
+    void recordsWarmupPhases() {
+        startupProperties.setFast(true);
+        masterGate.countDown();
+        fullLoadGate.countDown();
+
+        cache.warmUp();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> startupBenchmark.report().warmup().size() == 3
+            && startupBenchmark.report().warmup().stream().allMatch(phase -> phase.status() == StartupReport.WarmupPhase.Status.DONE));
+
+        assertThat(startupBenchmark.report().warmup())
+            .extracting(StartupReport.WarmupPhase::name, StartupReport.WarmupPhase::items)
+            .containsExactlyInAnyOrder(
+                tuple("stock-master", (long) STOCKS),
+                tuple("hot-series", (long) HOT_STOCKS),
+                tuple("market-cache", (long) STOCKS));
+    }
+
+    private boolean hotSeriesServed() {
+        for (long id = 1; id <= HOT_STOCKS; id++) {
+            try {
+                if (cache.findByCode(code(id)).isEmpty()) {
+                    return false;
+                }
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Stock stock(long id) {
+        Stock stock = Stock.builder().stockCode(code(id)).stockName("종목" + id).market("KOSPI").build();
+        ReflectionTestUtils.setField(stock, "id", id);
+        return stock;
+    }
+
+    private static String code(long id) {
+        return String.format("%06d", id);
+    }
+
+    private static List<DailyBar> bars(long stockId) {
+        return List.of(
+            new DailyBar(stockId, LAST_SESSION.minusDays(2), 100.0, 101.0, 99.0, 100.0, 1_000L),
+            new DailyBar(stockId, LAST_SESSION.minusDays(1), 100.0, 102.0, 99.0, 101.0, 1_000L),
+            new DailyBar(stockId, LAST_SESSION, 101.0, 103.0, 100.0, 102.0, 1_000L));
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.stock.domain.stock.application.pattern;
+
+import com.project.stock.common.config.PatternIndexProperties;
+import com.project.stock.common.config.StartupProperties;
+import com.project.stock.domain.stock.application.port.out.LoadStockPort;
+import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.application.port.out.PatternIndexStorePort;
+import com.project.stock.domain.stock.application.startup.StartupBenchmark;
+import com.project.stock.domain.stock.domain.DailyBar;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.pattern.PatternMetric;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PatternIndexServiceTest {
+
+    private static final int WINDOW = 20;
+    private static final LocalDate START = LocalDate.of(2024, 1, 2);
+
+    private final LoadStockPort loadStockPort = mock(LoadStockPort.class);
+    private final LoadStockPricePort loadStockPricePort = mock(LoadStockPricePort.class);
+    private final PatternIndexStorePort patternIndexStorePort = mock(PatternIndexStorePort.class);
+    private final List<Stock> stocks = LongStream.rangeClosed(1, 5).mapToObj(PatternIndexServiceTest::stock).toList();
+    private final List<DailyBar> bars = bars();
+    private PatternIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        PatternIndexProperties properties = new PatternIndexProperties();
+        properties.setWindowSizes(List.of(WINDOW));
+        when(patternIndexStorePort.load(anyInt())).thenReturn(Optional.empty());
+        when(loadStockPort.loadAll()).thenReturn(stocks);
+        when(loadStockPort.loadByCode(any())).thenAnswer(invocation -> stocks.stream()
+            .filter(stock -> stock.getStockCode().equals(invocation.getArgument(0)))
+            .findFirst());
+        when(loadStockPricePort.findDailyBarsAfter(anyLong(), any())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            Consumer<DailyBar> consumer = invocation.getArgument(0);
+            bars.forEach(consumer);
+            return null;
+        }).when(loadStockPricePort).forEachDailyBar(any(Consumer.class));
+
+        service = new PatternIndexService(properties, loadStockPort, loadStockPricePort, patternIndexStorePort,
+            new StartupBenchmark(new StartupProperties(), new ApplicationAvailabilityBean()));
+        service.initialize();
+        await().until(() -> searchSucceeds());
+    }
+
+    @Test
+    @DisplayName("재빌드 중 시세 조회가 실패하면 이전 인덱스로 계속 검색한다")
+    void failedRebuildKeepsServingPreviousIndex() {
+        doThrow(new IllegalStateException("DB 연결 실패")).when(loadStockPricePort).forEachDailyBar(any(Consumer.class));
+
+        service.rebuildIndex();
+        service.shutdown();
+
+        assertThat(searchSucceeds()).isTrue();
+        assertThat(service.benchmark(WINDOW, 5, null, PatternMetric.EUCLIDEAN, 5).indexedWindows()).isEqualTo(5L * (60 - WINDOW + 1));
+    }
+
+    @Test
+    @DisplayName("준비되지 않은 상태에서 재빌드가 실패하면 준비 중으로 남는다")
+    void failedRebuildBeforeReadyStaysUnavailable() {
+        ReflectionTestUtils.setField(service, "ready", false);
+        doThrow(new IllegalStateException("DB 연결 실패")).when(loadStockPricePort).forEachDailyBar(any(Consumer.class));
+
+        service.rebuildIndex();
+        service.shutdown();
+
+        assertThatThrownBy(() -> service.findSimilarPatterns("000001", WINDOW, 5, null, PatternMetric.EUCLIDEAN))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private boolean searchSucceeds() {
+        try {
+            service.findSimilarPatterns("000001", WINDOW, 5, null, PatternMetric.EUCLIDEAN);
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private List<DailyBar> bars() {
+        Random random = new Random(3);
+        return stocks.stream()
+            .flatMap(stock -> {
+                double[] close = {10_000};
+                return LongStream.range(0, 60).mapToObj(day -> {
+                    close[0] *= 1 + random.nextGaussian() * 0.02;
+                    return new DailyBar(stock.getId(), START.plusDays(day), close[0], close[0], close[0], close[0], 1_000L);
+                });
+            })
+            .toList();
+    }
+
+    private static Stock stock(long id) {
+        Stock stock = Stock.builder().stockCode(String.format("%06d", id)).stockName("종목" + id).market("KOSPI").build();
+        ReflectionTestUtils.setField(stock, "id", id);
+        return stock;
+    }
+}
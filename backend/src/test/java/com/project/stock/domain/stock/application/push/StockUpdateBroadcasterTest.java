@@ -0,0 +1,120 @@
+package com.project.stock.domain.stock.application.push;
+
+import com.project.stock.common.config.StockUpdateStreamProperties;
+import com.project.stock.domain.stock.domain.push.StockUpdate;
+import com.project.stock.domain.stock.domain.push.StockUpdateType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class StockUpdateBroadcasterTest {
+
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private StockUpdateBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        StockUpdateStreamProperties properties = new StockUpdateStreamProperties();
+        properties.setDispatchThreads(2);
+        properties.setWriteTimeoutMs(200);
+        properties.setMaxLagMs(60_000);
+        broadcaster = new StockUpdateBroadcaster(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("쓰기가 막힌 구독자가 작업자 수만큼 있어도 나머지 구독자는 계속 알림을 받는다")
+    void healthySubscribersKeepReceivingWhileWritesAreStuck() {
+        AtomicInteger evicted = new AtomicInteger();
+        broadcaster.subscribe(List.of("005930"), this::blockUninterruptibly, evicted::incrementAndGet);
+        broadcaster.subscribe(List.of("005930"), this::blockUninterruptibly, evicted::incrementAndGet);
+        List<String> received = new CopyOnWriteArrayList<>();
+        broadcaster.subscribe(List.of("005930", "000660"), update -> received.add(update.stockCode()), () -> { });
+
+        broadcaster.publish(update("005930"));
+        await().atMost(Duration.ofSeconds(3)).until(() -> received.contains("005930"));
+        for (int i = 0; i < 5; i++) {
+            broadcaster.publish(update("000660"));
+            int expected = i + 2;
+            await().atMost(Duration.ofSeconds(1)).until(() -> received.size() == expected);
+        }
+
+        assertThat(broadcaster.stats().droppedStalled()).isEqualTo(2);
+        assertThat(broadcaster.stats().subscribers()).isEqualTo(1);
+        // 막힌 쓰기가 끝난 뒤에야 연결 종료 콜백을 실행한다
+        assertThat(evicted).hasValue(0);
+        unblock.countDown();
+        await().atMost(Duration.ofSeconds(2)).until(() -> evicted.get() == 2);
+    }
+
+    @Test
+    @DisplayName("인터럽트에 응답하는 쓰기는 시간 제한을 넘기면 풀리고 작업자를 돌려준다")
+    void interruptsStalledWrite() {
+        AtomicInteger evicted = new AtomicInteger();
+        Consumer<StockUpdate> interruptible = update -> {
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException("쓰기 중단", e);
+            }
+        };
+        broadcaster.subscribe(List.of("005930"), interruptible, evicted::incrementAndGet);
+
+        broadcaster.publish(update("005930"));
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> evicted.get() == 1);
+        assertThat(broadcaster.stats().droppedStalled()).isEqualTo(1);
+        assertThat(broadcaster.stats().delivered()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송 중이 아닌 구독자를 끊으면 연결 종료 콜백이 전송 작업자와 별도로 한 번 실행된다")
+    void notifiesEvictionOnce() {
+        AtomicInteger evicted = new AtomicInteger();
+        broadcaster.subscribe(List.of("005930"), update -> {
+            throw new IllegalStateException("연결 끊김");
+        }, evicted::incrementAndGet);
+
+        broadcaster.publish(update("005930"));
+        broadcaster.publish(update("005930"));
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> evicted.get() == 1);
+        assertThat(broadcaster.stats().droppedFailed()).isEqualTo(1);
+        assertThat(broadcaster.stats().subscribers()).isZero();
+    }
+
+    private void blockUninterruptibly(StockUpdate update) {
+        boolean interrupted = false;
+        while (unblock.getCount() > 0) {
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static StockUpdate update(String stockCode) {
+        return new StockUpdate(StockUpdateType.PRICES_SYNCED, stockCode, Instant.now(), null);
+    }
+}
@@ -0,0 +1,281 @@
+package com.project.stock.domain.stock.application.quota;
+
+import com.project.stock.common.config.QuotaProperties;
+import com.project.stock.domain.stock.domain.quota.QuotaExceededException;
+import com.project.stock.domain.stock.domain.quota.QuotaResource;
+import com.project.stock.domain.stock.domain.quota.QuotaStats;
+import com.project.stock.domain.stock.domain.quota.TrafficClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 작은 속도(초당 10회, 보유 상한 1)로 토큰 하나가 100ms마다 생기게 하여 승인 순서와 대기 시간을 확인합니다.
+ */
+class QuotaSchedulerTest {
+
+    private static final long TOKEN_MS = 100;
+
+    private final QuotaProperties properties = new QuotaProperties();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private QuotaScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties.setKisRequestsPerSecond(1000.0 / TOKEN_MS);
+        properties.setKisBurst(1);
+        properties.setInteractiveWeight(3);
+        properties.setBatchWeight(1);
+        properties.setInteractiveMaxWaitMs(5_000);
+        properties.setBatchMaxWaitMs(5_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("보유 상한보다 큰 요청은 상한만큼 모이면 승인하고, 나머지는 빚으로 남아 다음 요청이 그만큼 기다린다")
+    void carriesTokenDebt() {
+        properties.setKisBurst(2);
+        scheduler = new QuotaScheduler(properties);
+
+        long started = System.nanoTime();
+        scheduler.acquire(QuotaResource.KIS, 5);
+        assertThat(elapsedMs(started)).isLessThan(TOKEN_MS);
+        assertThat(kis().availableTokens()).isNegative();
+
+        scheduler.acquire(QuotaResource.KIS, 1);
+        // 빚 3개를 갚고 토큰 1개가 더 모일 때까지 (약 400ms)
+        assertThat(elapsedMs(started)).isGreaterThanOrEqualTo(3 * TOKEN_MS);
+    }
+
+    @Test
+    @DisplayName("배치 대기열은 도착 순서와 무관하게 우선순위가 높은(숫자가 낮은) 요청부터 승인한다")
+    void grantsBatchWaitersByPriority() throws Exception {
+        scheduler = new QuotaScheduler(properties);
+        drain(5);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+
+        List<Future<?>> waiters = new ArrayList<>();
+        for (int priority : new int[]{5, 1, 3}) {
+            waiters.add(executor.submit(() -> {
+                acquireAs(TrafficClass.BATCH, priority);
+                order.add(priority);
+            }));
+            awaitQueued(TrafficClass.BATCH, waiters.size());
+        }
+        for (Future<?> waiter : waiters) {
+            waiter.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(order).containsExactly(1, 3, 5);
+    }
+
+    @Test
+    @DisplayName("사용자 요청과 배치가 함께 기다리면 가중치 비율(3:1)로 번갈아 승인한다")
+    void sharesByWeightUnderContention() throws Exception {
+        scheduler = new QuotaScheduler(properties);
+        drain(5);
+        List<TrafficClass> order = new CopyOnWriteArrayList<>();
+
+        List<Future<?>> waiters = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            waiters.add(executor.submit(() -> {
+                acquireAs(TrafficClass.BATCH, 0);
+                order.add(TrafficClass.BATCH);
+            }));
+        }
+        for (int i = 0; i < 8; i++) {
+            waiters.add(executor.submit(() -> {
+                acquireAs(TrafficClass.INTERACTIVE, 0);
+                order.add(TrafficClass.INTERACTIVE);
+            }));
+        }
+        awaitQueued(TrafficClass.BATCH, 8);
+        awaitQueued(TrafficClass.INTERACTIVE, 8);
+        for (Future<?> waiter : waiters) {
+            waiter.get(5, TimeUnit.SECONDS);
+        }
+
+        // 둘 다 기다리는 동안은 사용자 3건당 배치 1건, 사용자 대기열이 빈 뒤(11번째부터)에는 배치가 전부 쓴다
+        assertThat(order.subList(0, 8)).filteredOn(TrafficClass.INTERACTIVE::equals).hasSize(6);
+        assertThat(order.subList(0, 11)).filteredOn(TrafficClass.INTERACTIVE::equals).hasSize(8);
+        assertThat(order.subList(11, 16)).containsOnly(TrafficClass.BATCH);
+    }
+
+    @Test
+    @DisplayName("한 종류만 기다리면 가중치와 무관하게 할당량 전부를 쓴다")
+    void singleClassUsesFullRate() throws Exception {
+        scheduler = new QuotaScheduler(properties);
+        drain();
+
+        long started = System.nanoTime();
+        List<Future<?>> waiters = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            waiters.add(executor.submit(() -> acquireAs(TrafficClass.BATCH, 0)));
+        }
+        for (Future<?> waiter : waiters) {
+            waiter.get(5, TimeUnit.SECONDS);
+        }
+
+        // 배치 몫(1/4)으로 나뉘었다면 2초가 걸린다
+        assertThat(elapsedMs(started)).isBetween(4 * TOKEN_MS, 10 * TOKEN_MS);
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간이 최대 대기 시간을 넘으면 기다리지 않고 바로 거절하며 재시도 가능 시각을 알려 준다")
+    void rejectsEarlyWhenEstimatedWaitIsTooLong() {
+        properties.setInteractiveMaxWaitMs(350);
+        scheduler = new QuotaScheduler(properties);
+        drain();
+        for (int i = 1; i <= 3; i++) {
+            executor.submit(() -> acquireAs(TrafficClass.INTERACTIVE, 0));
+            awaitQueued(TrafficClass.INTERACTIVE, i);
+        }
+
+        long started = System.nanoTime();
+        AtomicReference<QuotaExceededException> rejected = new AtomicReference<>();
+        assertThatThrownBy(() -> acquireAs(TrafficClass.INTERACTIVE, 0))
+            .isInstanceOfSatisfying(QuotaExceededException.class, rejected::set);
+
+        assertThat(elapsedMs(started)).isLessThan(TOKEN_MS);
+        // 앞선 3건 + 자기 몫 1건 = 토큰 4개
+        assertThat(rejected.get().getRetryAfterMs()).isBetween(3 * TOKEN_MS, 4 * TOKEN_MS + 1);
+        assertThat(rejected.get().getTrafficClass()).isEqualTo(TrafficClass.INTERACTIVE);
+        assertThat(classStats(TrafficClass.INTERACTIVE).rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거절 후 알려 준 시각이 지나서 다시 요청하면 승인된다")
+    void honoursRetryAfter() throws Exception {
+        properties.setInteractiveMaxWaitMs(150);
+        scheduler = new QuotaScheduler(properties);
+        drain();
+        Future<?> ahead = executor.submit(() -> acquireAs(TrafficClass.INTERACTIVE, 0));
+        awaitQueued(TrafficClass.INTERACTIVE, 1);
+
+        AtomicReference<QuotaExceededException> rejected = new AtomicReference<>();
+        assertThatThrownBy(() -> acquireAs(TrafficClass.INTERACTIVE, 0))
+            .isInstanceOfSatisfying(QuotaExceededException.class, rejected::set);
+        TimeUnit.MILLISECONDS.sleep(rejected.get().getRetryAfterMs());
+
+        long retried = System.nanoTime();
+        acquireAs(TrafficClass.INTERACTIVE, 0);
+        assertThat(elapsedMs(retried)).isLessThan(TOKEN_MS);
+        ahead.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("대기 중에 우선순위가 높은 요청이 앞질러 최대 대기 시간을 넘기면 시간 초과로 끝난다")
+    void timesOutWhenOvertaken() throws Exception {
+        properties.setBatchMaxWaitMs(450);
+        scheduler = new QuotaScheduler(properties);
+        // 빚 2개: 첫 승인은 300ms 뒤, 앞지른 두 요청이 300ms·400ms에 승인되면 우선순위 9 요청은 500ms가 되어 한도를 넘는다
+        drain(3);
+
+        CompletableFuture<Long> low = CompletableFuture.supplyAsync(() -> {
+            long started = System.nanoTime();
+            try {
+                acquireAs(TrafficClass.BATCH, 9);
+                return -1L;
+            } catch (QuotaExceededException e) {
+                return elapsedMs(started);
+            }
+        }, executor);
+        awaitQueued(TrafficClass.BATCH, 1);
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> acquireAs(TrafficClass.BATCH, 1));
+        }
+
+        assertThat(low.get(2, TimeUnit.SECONDS)).isGreaterThanOrEqualTo(450);
+        assertThat(classStats(TrafficClass.BATCH).timedOut()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중 인터럽트되면 대기열에서 빠지고 인터럽트 상태를 유지한 채 실패한다")
+    void leavesQueueWhenInterrupted() throws Exception {
+        scheduler = new QuotaScheduler(properties);
+        drain();
+        AtomicReference<Thread> waiterThread = new AtomicReference<>();
+        CompletableFuture<Boolean> interrupted = CompletableFuture.supplyAsync(() -> {
+            waiterThread.set(Thread.currentThread());
+            try {
+                acquireAs(TrafficClass.BATCH, 0);
+                return false;
+            } catch (IllegalStateException e) {
+                return !(e instanceof QuotaExceededException) && Thread.currentThread().isInterrupted();
+            }
+        }, executor);
+        awaitQueued(TrafficClass.BATCH, 1);
+
+        waiterThread.get().interrupt();
+
+        assertThat(interrupted.get(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(classStats(TrafficClass.BATCH).queued()).isZero();
+        assertThat(classStats(TrafficClass.BATCH).granted()).isZero();
+    }
+
+    /**
+     * 보유 토큰을 모두 써서 이후 요청이 대기열에 들어가게 합니다.
+     */
+    private void drain() {
+        drain(1);
+    }
+
+    /**
+     * 보유 상한(1)보다 큰 cost로 빚을 남겨, 첫 승인 전까지 대기 요청을 모두 줄 세울 시간((cost - 1) × 100ms)을 확보합니다.
+     */
+    private void drain(int cost) {
+        scheduler.acquire(QuotaResource.KIS, cost);
+    }
+
+    private void acquireAs(TrafficClass trafficClass, int priority) {
+        QuotaContext.Scope scope = QuotaContext.enter(trafficClass, priority);
+        try {
+            scheduler.acquire(QuotaResource.KIS, 1);
+        } finally {
+            scope.close();
+        }
+    }
+
+    private void awaitQueued(TrafficClass trafficClass, int count) {
+        await().atMost(Duration.ofSeconds(1)).pollInterval(Duration.ofMillis(1))
+            .until(() -> classStats(trafficClass).queued() >= count);
+    }
+
+    private QuotaStats kis() {
+        return scheduler.quotaStats().stream()
+            .filter(stats -> stats.resource() == QuotaResource.KIS)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private QuotaStats.ClassStats classStats(TrafficClass trafficClass) {
+        return kis().classes().stream()
+            .filter(stats -> stats.trafficClass() == trafficClass)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static long elapsedMs(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.stock.domain.stock.application.realtime;
+
+import com.project.stock.domain.stock.domain.realtime.IntradayBar;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BarAggregatorTest {
+
+    private static final long T0900 = Instant.parse("2026-10-16T00:00:00Z").toEpochMilli();
+    private static final long SECOND = 1_000;
+    private static final long MINUTE = 60 * SECOND;
+
+    private final BarAggregator aggregator = new BarAggregator("005930", 1);
+
+    @Test
+    @DisplayName("다음 분의 첫 틱이 들어오면 이전 분봉을 마감하고 새 봉을 시작한다")
+    void closesBarAtMinuteBoundary() {
+        assertThat(aggregator.onTick(T0900 + 5 * SECOND, 100, 10)).isNull();
+        assertThat(aggregator.onTick(T0900 + 30 * SECOND, 103, 5)).isNull();
+        assertThat(aggregator.onTick(T0900 + 59_999, 99, 1)).isNull();
+
+        IntradayBar closed = aggregator.onTick(T0900 + MINUTE, 101, 7);
+
+        assertThat(closed).isEqualTo(new IntradayBar("005930", 1, Instant.ofEpochMilli(T0900),
+            100, 103, 99, 99, 16, 3, true));
+        List<IntradayBar> bars = aggregator.bars();
+        assertThat(bars).hasSize(2);
+        assertThat(bars.get(1)).isEqualTo(new IntradayBar("005930", 1, Instant.ofEpochMilli(T0900 + MINUTE),
+            101, 101, 101, 101, 7, 1, false));
+    }
+
+    @Test
+    @DisplayName("이미 마감된 분에 늦게 도착한 틱은 마감된 봉을 고치지 않고 진행 중인 봉에 합친다")
+    void mergesLateTickIntoCurrentBar() {
+        aggregator.onTick(T0900 + 10 * SECOND, 100, 10);
+        IntradayBar closed = aggregator.onTick(T0900 + MINUTE + SECOND, 101, 1);
+
+        assertThat(aggregator.onTick(T0900 + 50 * SECOND, 95, 4)).isNull();
+
+        List<IntradayBar> bars = aggregator.bars();
+        assertThat(bars.get(0)).isEqualTo(closed);
+        assertThat(bars.get(1).start()).isEqualTo(Instant.ofEpochMilli(T0900 + MINUTE));
+        assertThat(bars.get(1).low()).isEqualTo(95);
+        assertThat(bars.get(1).close()).isEqualTo(95);
+        assertThat(bars.get(1).volume()).isEqualTo(5);
+        assertThat(bars.get(1).tickCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("늦은 틱으로 새 봉을 여는 경우에도 마지막 마감 봉 이후 구간에서 시작한다")
+    void lateTickAfterCloseStartsAfterLastClosedBar() {
+        aggregator.onTick(T0900 + 10 * SECOND, 100, 10);
+        assertThat(aggregator.closeIfDue(T0900 + MINUTE)).isNotNull();
+
+        aggregator.onTick(T0900 + 59 * SECOND, 98, 2);
+
+        IntradayBar current = aggregator.bars().get(1);
+        assertThat(current.start()).isEqualTo(Instant.ofEpochMilli(T0900 + MINUTE));
+        assertThat(current.closed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("체결이 끊겨도 구간 끝이 지나면 마감하고, 그 전에는 마감하지 않는다")
+    void closesIdleBarWhenDue() {
+        aggregator.onTick(T0900 + 10 * SECOND, 100, 10);
+
+        assertThat(aggregator.closeIfDue(T0900 + 59 * SECOND)).isNull();
+        assertThat(aggregator.closeIfDue(T0900 + MINUTE)).extracting(IntradayBar::closed).isEqualTo(true);
+        assertThat(aggregator.closeIfDue(T0900 + 2 * MINUTE)).isNull();
+    }
+}
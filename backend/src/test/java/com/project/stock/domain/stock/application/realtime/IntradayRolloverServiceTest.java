@@ -0,0 +1,111 @@
+package com.project.stock.domain.stock.application.realtime;
+
+import com.project.stock.domain.stock.application.port.out.LoadStockPort;
+import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.application.port.out.SaveStockPricePort;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.StockPrice;
+import com.project.stock.domain.stock.domain.StockPriceRow;
+import com.project.stock.domain.stock.domain.realtime.IntradaySummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IntradayRolloverServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 16);
+    private static final LocalDate YESTERDAY = TODAY.minusDays(1);
+
+    private final LoadStockPort loadStockPort = mock(LoadStockPort.class);
+    private final LoadStockPricePort loadStockPricePort = mock(LoadStockPricePort.class);
+    private final SaveStockPricePort saveStockPricePort = mock(SaveStockPricePort.class);
+    private final IntradayRolloverService service = new IntradayRolloverService(loadStockPort, loadStockPricePort,
+        saveStockPricePort, mock(ApplicationEventPublisher.class));
+
+    @Test
+    @DisplayName("기존 일봉과 직전 종가를 종목 수와 무관하게 한 번씩만 조회하여 일봉을 만들거나 갱신한다")
+    void loadsExistingBarsAndPreviousClosesInBulk() {
+        Stock samsung = stock(1L, "005930");
+        Stock hynix = stock(2L, "000660");
+        Stock newcomer = stock(3L, "035420");
+        when(loadStockPort.loadByCodes(anyCollection())).thenReturn(List.of(samsung, hynix, newcomer));
+        // 재실행이라 오늘 일봉이 이미 있는 종목
+        StockPrice existing = StockPrice.builder().stock(hynix).date(TODAY)
+            .openPrice(BigDecimal.ONE).highPrice(BigDecimal.ONE).lowPrice(BigDecimal.ONE).closePrice(BigDecimal.ONE)
+            .volume(1L).build();
+        when(loadStockPricePort.findAllById(anyCollection())).thenReturn(List.of(existing));
+        when(loadStockPricePort.findRecentPriceRows(anyCollection(), eq(2))).thenReturn(List.of(
+            row(1L, YESTERDAY, "1000"),
+            row(1L, YESTERDAY.minusDays(1), "900"),
+            row(2L, TODAY, "1"),
+            row(2L, YESTERDAY, "2000")
+        ));
+
+        int saved = service.rollover(TODAY, List.of(
+            summary("005930", 1100),
+            summary("000660", 1800),
+            summary("035420", 500),
+            summary("999999", 10)
+        ));
+
+        assertThat(saved).isEqualTo(3);
+        verify(loadStockPricePort, times(1)).findAllById(anyCollection());
+        verify(loadStockPricePort, times(1)).findRecentPriceRows(anyCollection(), anyInt());
+        verify(loadStockPricePort, never()).findById(any());
+        verify(loadStockPricePort, never()).findTopNByStockIdOrderByDateDesc(anyLong(), anyInt());
+
+        Map<Long, StockPrice> prices = savedPrices();
+        assertThat(prices.get(1L).getChangeRate()).isEqualByComparingTo("10");
+        assertThat(prices.get(2L)).isSameAs(existing);
+        assertThat(prices.get(2L).getClosePrice()).isEqualByComparingTo("1800");
+        assertThat(prices.get(2L).getChangeRate()).isEqualByComparingTo("-10");
+        assertThat(prices.get(3L).getChangeRate()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, StockPrice> savedPrices() {
+        ArgumentCaptor<List<StockPrice>> captor = ArgumentCaptor.forClass(List.class);
+        verify(saveStockPricePort).saveAll(captor.capture());
+        return captor.getValue().stream()
+            .collect(Collectors.toMap(price -> price.getId().getStockId(), Function.identity()));
+    }
+
+    private static Stock stock(long id, String stockCode) {
+        Stock stock = Stock.builder().stockCode(stockCode).stockName(stockCode).market("KOSPI").build();
+        ReflectionTestUtils.setField(stock, "id", id);
+        return stock;
+    }
+
+    private static StockPriceRow row(long stockId, LocalDate date, String close) {
+        BigDecimal price = new BigDecimal(close);
+        return new StockPriceRow(stockId, date, price, price, price, price, 100L, null);
+    }
+
+    private static IntradaySummary summary(String stockCode, double close) {
+        Instant at = TODAY.atTime(15, 30).toInstant(ZoneOffset.ofHours(9));
+        return new IntradaySummary(stockCode, at, at, close, close, close, close, 100, close, 1);
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.stock.domain.stock.application.realtime;
+
+import com.project.stock.common.config.KisRealtimeProperties;
+import com.project.stock.domain.stock.domain.realtime.IntradaySummary;
+import com.project.stock.domain.stock.domain.realtime.QuoteTick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntradayTickStoreTest {
+
+    private static final long T0900 = Instant.parse("2026-10-16T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("세그먼트 크기는 2의 거듭제곱으로 올리고, 경계를 넘는 틱은 새 세그먼트에 이어서 기록한다")
+    void rollsOverAtPowerOfTwoBoundary() {
+        // 3 → 4틱(128바이트) 세그먼트
+        IntradayTickStore store = store(3, 512);
+        IntradayTickStore.SymbolTicks ticks = store.currentDay().symbol("005930");
+
+        for (int i = 0; i < 4; i++) {
+            append(ticks, i);
+        }
+        assertThat(store.allocatedBytes()).isEqualTo(4 * IntradayTickStore.RECORD_BYTES);
+        append(ticks, 4);
+        assertThat(store.allocatedBytes()).isEqualTo(2 * 4 * IntradayTickStore.RECORD_BYTES);
+        for (int i = 5; i < 9; i++) {
+            append(ticks, i);
+        }
+
+        assertThat(store.allocatedBytes()).isEqualTo(3 * 4 * IntradayTickStore.RECORD_BYTES);
+        TickSnapshot snapshot = store.currentDay().snapshot("005930");
+        assertThat(snapshot.size()).isEqualTo(9);
+        for (int i = 0; i < 9; i++) {
+            assertThat(snapshot.timestamp(i)).isEqualTo(T0900 + i);
+            assertThat(snapshot.price(i)).isEqualTo(100 + i);
+            assertThat(snapshot.volume(i)).isEqualTo(i + 1);
+            assertThat(snapshot.cumulativeVolume(i)).isEqualTo((long) (i + 1) * (i + 2) / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷은 만든 시점까지의 틱만 보며 이후 추가(세그먼트 추가 포함)의 영향을 받지 않는다")
+    void snapshotIsIsolatedFromLaterAppends() {
+        IntradayTickStore store = store(4, 512);
+        IntradayTickStore.SymbolTicks ticks = store.currentDay().symbol("005930");
+        for (int i = 0; i < 5; i++) {
+            append(ticks, i);
+        }
+        TickSnapshot snapshot = ticks.snapshot();
+        IntradaySummary before = snapshot.summarize();
+
+        for (int i = 5; i < 15; i++) {
+            append(ticks, i);
+        }
+
+        assertThat(snapshot.size()).isEqualTo(5);
+        assertThat(snapshot.summarize()).isEqualTo(before);
+        assertThat(before.close()).isEqualTo(104);
+        assertThat(before.tickCount()).isEqualTo(5);
+        assertThat(snapshot.tail(10)).extracting(QuoteTick::timestamp)
+            .containsExactly(T0900, T0900 + 1, T0900 + 2, T0900 + 3, T0900 + 4);
+        assertThatThrownBy(() -> snapshot.price(5)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(ticks.snapshot().size()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("메모리 상한을 넘는 세그먼트는 할당하지 않고 틱을 버린 건수만 센다")
+    void dropsTicksOverMemoryLimit() {
+        // 512KB 세그먼트 두 개까지 1MB 상한에 들어간다
+        IntradayTickStore store = store(16_384, 1);
+        IntradayTickStore.SymbolTicks first = store.currentDay().symbol("005930");
+        for (int i = 0; i < 2 * 16_384; i++) {
+            assertThat(append(first, i)).isTrue();
+        }
+
+        assertThat(append(first, 0)).isFalse();
+        assertThat(append(store.currentDay().symbol("000660"), 0)).isFalse();
+
+        assertThat(store.droppedTicks()).isEqualTo(2);
+        assertThat(store.allocatedBytes()).isEqualTo(1024 * 1024);
+        assertThat(store.totalTicks()).isEqualTo(2 * 16_384);
+        assertThat(store.currentDay().snapshot("000660").size()).isZero();
+    }
+
+    @Test
+    @DisplayName("새 거래일로 바꾸면 이전 거래일에 이어 쓰는 틱은 새 거래일의 기록과 메모리 사용량에 섞이지 않는다")
+    void openDayIsolatesPreviousDay() {
+        IntradayTickStore store = store(4, 512);
+        IntradayTickStore.SymbolTicks yesterday = store.currentDay().symbol("005930");
+        append(yesterday, 0);
+
+        IntradayTickStore.Day today = store.openDay();
+        for (int i = 1; i < 10; i++) {
+            append(yesterday, i);
+        }
+        append(today.symbol("005930"), 0);
+
+        assertThat(store.currentDay()).isSameAs(today);
+        assertThat(store.totalTicks()).isEqualTo(1);
+        assertThat(store.allocatedBytes()).isEqualTo(4 * IntradayTickStore.RECORD_BYTES);
+        assertThat(today.stockCodes()).containsExactly("005930");
+        assertThat(yesterday.snapshot().size()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("틱이 없는 종목의 스냅샷은 비어 있고 요약이 없다")
+    void emptySnapshot() {
+        TickSnapshot snapshot = store(4, 512).currentDay().snapshot("005930");
+
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.summarize()).isNull();
+        assertThat(snapshot.tail(5)).isEmpty();
+    }
+
+    private static IntradayTickStore store(int ticksPerSegment, long maxStoreMemoryMb) {
+        KisRealtimeProperties properties = new KisRealtimeProperties();
+        properties.setTicksPerSegment(ticksPerSegment);
+        properties.setMaxStoreMemoryMb(maxStoreMemoryMb);
+        return new IntradayTickStore(properties);
+    }
+
+    private static boolean append(IntradayTickStore.SymbolTicks ticks, int i) {
+        return ticks.append(T0900 + i, 100 + i, i + 1, (long) (i + 1) * (i + 2) / 2);
+    }
+}
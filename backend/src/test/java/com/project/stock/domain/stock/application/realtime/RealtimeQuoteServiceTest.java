@@ -0,0 +1,79 @@
+package com.project.stock.domain.stock.application.realtime;
+
+import com.project.stock.common.config.KisRealtimeProperties;
+import com.project.stock.domain.stock.application.port.out.LoadWatchlistPort;
+import com.project.stock.domain.stock.application.port.out.RealtimeQuotePort;
+import com.project.stock.domain.stock.application.port.out.UpdateCurrentPricePort;
+import com.project.stock.domain.stock.domain.realtime.QuoteTick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RealtimeQuoteServiceTest {
+
+    private static final long T0900 = Instant.parse("2026-10-16T00:00:00Z").toEpochMilli();
+    private static final int TICKS_PER_SEGMENT = 64;
+
+    private final IntradayTickStore store;
+    private final RealtimeQuoteService service;
+
+    RealtimeQuoteServiceTest() {
+        KisRealtimeProperties properties = new KisRealtimeProperties();
+        properties.setTicksPerSegment(TICKS_PER_SEGMENT);
+        store = new IntradayTickStore(properties);
+        service = new RealtimeQuoteService(properties, mock(RealtimeQuotePort.class), mock(LoadWatchlistPort.class),
+            mock(UpdateCurrentPricePort.class), store, mock(IntradayRolloverService.class),
+            mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    @DisplayName("세션을 초기화하면 수신 종목은 유지한 채 빈 틱 기록과 집계로 시작한다")
+    void resetKeepsSubscriptionsWithEmptyState() {
+        for (int i = 0; i < 3; i++) {
+            service.onTick(tick("005930", i));
+        }
+
+        service.resetSession();
+
+        assertThat(service.getRecentTicks("005930", 10)).isEmpty();
+        assertThat(service.getSummary("005930")).isEmpty();
+        assertThat(service.getBars("005930", 1)).isEmpty();
+        assertThat(service.stats().subscribedStocks()).isEqualTo(1);
+        service.onTick(tick("005930", 3));
+        assertThat(service.getRecentTicks("005930", 10)).extracting(QuoteTick::timestamp).containsExactly(T0900 + 3);
+    }
+
+    @Test
+    @DisplayName("수신 중에 세션을 초기화해도 새 세션의 틱 기록과 메모리 사용량이 서로 맞는다")
+    void resetWhileReceivingKeepsNewSessionConsistent() throws Exception {
+        AtomicBoolean receiving = new AtomicBoolean(true);
+        CompletableFuture<Void> receiver = CompletableFuture.runAsync(() -> {
+            for (int i = 0; receiving.get(); i++) {
+                service.onTick(tick("005930", i));
+            }
+        });
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        service.resetSession();
+        TimeUnit.MILLISECONDS.sleep(50);
+        receiving.set(false);
+        receiver.get(2, TimeUnit.SECONDS);
+
+        long ticks = service.getSummary("005930").orElseThrow().tickCount();
+        long segments = (ticks + TICKS_PER_SEGMENT - 1) / TICKS_PER_SEGMENT;
+        assertThat(store.totalTicks()).isEqualTo(ticks);
+        assertThat(store.allocatedBytes()).isEqualTo(segments * TICKS_PER_SEGMENT * IntradayTickStore.RECORD_BYTES);
+    }
+
+    private static QuoteTick tick(String stockCode, int i) {
+        return new QuoteTick(stockCode, T0900 + i, 100 + i % 10, 1, i + 1);
+    }
+}
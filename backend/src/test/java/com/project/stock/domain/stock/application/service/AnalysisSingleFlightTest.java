@@ -0,0 +1,186 @@
+package com.project.stock.domain.stock.application.service;
+
+import com.project.stock.common.config.AnalysisCacheProperties;
+import com.project.stock.domain.stock.application.port.out.AnalysisLockPort;
+import com.project.stock.domain.stock.application.port.out.AnalysisResultCachePort;
+import com.project.stock.domain.stock.domain.AnalysisCacheKey;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class AnalysisSingleFlightTest {
+
+    private static final AnalysisCacheKey KEY = new AnalysisCacheKey(1L, LocalDate.of(2026, 10, 16), "0123456789abcdef");
+    private static final StockAnalysisResult RESULT = StockAnalysisResult.builder()
+        .recommendation(StockAnalysisResult.Recommendation.HOLD)
+        .confidenceScore(70)
+        .technicalAnalysis("횡보")
+        .supplyAnalysis("중립")
+        .riskFactors(List.of())
+        .build();
+
+    private final InMemoryLock lock = new InMemoryLock();
+    private final InMemoryResultCache cache = new InMemoryResultCache();
+    private final AtomicInteger workerCalls = new AtomicInteger();
+    private final CountDownLatch workerRelease = new CountDownLatch(1);
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        workerRelease.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 Worker를 한 번만 호출하고 모두 같은 결과를 받는다")
+    void concurrentCallsReachWorkerOnce() throws Exception {
+        AnalysisSingleFlight singleFlight = singleFlight(120);
+        int callers = 8;
+
+        List<Future<StockAnalysisResult>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(executor.submit(() -> singleFlight.execute(KEY, this::blockingWorker)));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> singleFlight.stats().localJoins() == callers - 1);
+        workerRelease.countDown();
+
+        for (Future<StockAnalysisResult> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(RESULT);
+        }
+        assertThat(workerCalls).hasValue(1);
+        assertThat(singleFlight.stats().executions()).isEqualTo(1);
+        assertThat(singleFlight.stats().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠금을 가진 동안에는 결과 캐시를 기다려 그 결과를 쓴다")
+    void otherInstanceWaitsForCachedResult() throws Exception {
+        AnalysisSingleFlight first = singleFlight(120);
+        AnalysisSingleFlight second = singleFlight(120);
+
+        Future<StockAnalysisResult> owner = executor.submit(() -> first.execute(KEY, this::blockingWorker));
+        await().atMost(Duration.ofSeconds(5)).until(() -> workerCalls.get() == 1);
+        Future<StockAnalysisResult> waiter = executor.submit(() -> second.execute(KEY, this::blockingWorker));
+        Thread.sleep(100);
+        workerRelease.countDown();
+
+        assertThat(owner.get(5, TimeUnit.SECONDS)).isEqualTo(RESULT);
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo(RESULT);
+        assertThat(workerCalls).hasValue(1);
+        assertThat(second.stats().remoteJoins()).isEqualTo(1);
+        assertThat(second.stats().executions()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 분석이 끝나지 않으면 대기 시간이 지나서 실패한다")
+    void remoteWaiterTimesOut() {
+        AnalysisSingleFlight singleFlight = singleFlight(1);
+        lock.tryAcquire(KEY, Duration.ofMinutes(3));
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> singleFlight.execute(KEY, this::blockingWorker))
+            .isInstanceOf(IllegalStateException.class);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(elapsedMs).isBetween(1_000L, 3_000L);
+        assertThat(workerCalls).hasValue(0);
+        assertThat(singleFlight.stats().timeouts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스의 진행 중인 분석에 합류한 요청도 대기 시간이 지나면 실패한다")
+    void localWaiterTimesOut() throws Exception {
+        AnalysisSingleFlight singleFlight = singleFlight(1);
+        Future<StockAnalysisResult> owner = executor.submit(() -> singleFlight.execute(KEY, this::blockingWorker));
+        await().atMost(Duration.ofSeconds(5)).until(() -> workerCalls.get() == 1);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> singleFlight.execute(KEY, this::blockingWorker))
+            .isInstanceOf(IllegalStateException.class);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(elapsedMs).isBetween(1_000L, 3_000L);
+        assertThat(singleFlight.stats().timeouts()).isEqualTo(1);
+        workerRelease.countDown();
+        assertThat(owner.get(5, TimeUnit.SECONDS)).isEqualTo(RESULT);
+        assertThat(workerCalls).hasValue(1);
+    }
+
+    private AnalysisSingleFlight singleFlight(long waitTimeoutSeconds) {
+        AnalysisCacheProperties properties = new AnalysisCacheProperties();
+        properties.setWaitTimeoutSeconds(waitTimeoutSeconds);
+        properties.setPollIntervalMs(10);
+        return new AnalysisSingleFlight(lock, cache, properties);
+    }
+
+    /**
+     * 분석 Worker 대역. 풀어 줄 때까지 막혀 있다가 결과를 캐시에 올리고 반환합니다.
+     */
+    private StockAnalysisResult blockingWorker() {
+        workerCalls.incrementAndGet();
+        try {
+            workerRelease.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        cache.put(KEY, RESULT);
+        return RESULT;
+    }
+
+    private static final class InMemoryLock implements AnalysisLockPort {
+
+        private final Map<AnalysisCacheKey, String> owners = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<String> tryAcquire(AnalysisCacheKey key, Duration lease) {
+            String token = UUID.randomUUID().toString();
+            return owners.putIfAbsent(key, token) == null ? Optional.of(token) : Optional.empty();
+        }
+
+        @Override
+        public void release(AnalysisCacheKey key, String token) {
+            owners.remove(key, token);
+        }
+    }
+
+    private static final class InMemoryResultCache implements AnalysisResultCachePort {
+
+        private final Map<AnalysisCacheKey, StockAnalysisResult> results = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<StockAnalysisResult> find(AnalysisCacheKey key) {
+            return Optional.ofNullable(results.get(key));
+        }
+
+        @Override
+        public void put(AnalysisCacheKey key, StockAnalysisResult result) {
+            results.put(key, result);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.stock.domain.stock.application.service;
+
+import com.project.stock.common.config.HttpCacheProperties;
+import com.project.stock.domain.stock.application.market.TradingCalendarService;
+import com.project.stock.domain.stock.application.port.out.PriceWatermarkPort;
+import com.project.stock.domain.stock.domain.StockPricesSyncedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceWatermarkServiceTest {
+
+    private final InMemoryWatermarks watermarks = new InMemoryWatermarks();
+    private final HttpCacheProperties properties = new HttpCacheProperties();
+    private PriceWatermarkService service;
+
+    @BeforeEach
+    void setUp() {
+        TradingCalendarService calendar = new TradingCalendarService(() -> List.of(LocalDate.of(2026, 1, 1)));
+        service = new PriceWatermarkService(watermarks, properties, calendar);
+    }
+
+    @Test
+    @DisplayName("시세가 바뀌지 않으면 같은 워터마크를 돌려준다")
+    void watermarkIsStableWithoutSync() {
+        Instant first = service.getPriceWatermark("005930").orElseThrow();
+
+        assertThat(service.getPriceWatermark("005930")).contains(first);
+    }
+
+    @Test
+    @DisplayName("시세 동기화가 커밋되면 해당 종목의 워터마크만 올라간다")
+    void syncAdvancesOnlyThatStock() {
+        Instant samsung = service.getPriceWatermark("005930").orElseThrow();
+        Instant hynix = service.getPriceWatermark("000660").orElseThrow();
+
+        service.onStockPricesSynced(new StockPricesSyncedEvent(1L, "005930", 3));
+
+        assertThat(service.getPriceWatermark("005930")).get().isNotEqualTo(samsung);
+        assertThat(service.getPriceWatermark("000660")).contains(hynix);
+    }
+
+    @Test
+    @DisplayName("워터마크 보관 기간은 영업일로 세므로 설정 일수보다 짧아지지 않는다")
+    void ttlCoversTradingDays() {
+        properties.setWatermarkTtlDays(5);
+
+        service.getPriceWatermark("005930");
+
+        assertThat(watermarks.lastTtl).isBetween(Duration.ofDays(5), Duration.ofDays(9));
+    }
+
+    @Test
+    @DisplayName("조건부 GET을 끄면 워터마크를 발급하지 않는다")
+    void disabledReturnsEmpty() {
+        properties.setEnabled(false);
+
+        assertThat(service.getPriceWatermark("005930")).isEmpty();
+        assertThat(watermarks.values).isEmpty();
+    }
+
+    /**
+     * 발급/갱신마다 1초씩 증가하는 시각을 쓰므로, 같은 밀리초 안에 호출되어도 워터마크가 구별됩니다.
+     */
+    private static final class InMemoryWatermarks implements PriceWatermarkPort {
+
+        private final Map<String, Instant> values = new HashMap<>();
+        private Instant clock = Instant.parse("2026-10-16T07:00:00Z");
+        private Duration lastTtl;
+
+        @Override
+        public Optional<Instant> getOrInit(String stockCode, Duration ttl) {
+            lastTtl = ttl;
+            return Optional.of(values.computeIfAbsent(stockCode, code -> tick()));
+        }
+
+        @Override
+        public void advance(String stockCode, Duration ttl) {
+            lastTtl = ttl;
+            values.put(stockCode, tick());
+        }
+
+        private Instant tick() {
+            clock = clock.plusSeconds(1);
+            return clock;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.project.stock.domain.stock.application.service;
+
+import com.project.stock.common.config.AiWorkerProperties;
+import com.project.stock.common.config.AnalysisCacheProperties;
+import com.project.stock.domain.stock.adapter.out.external.kis.KisClient;
+import com.project.stock.domain.stock.adapter.out.external.kis.KisOhlcvResponse;
+import com.project.stock.domain.stock.application.market.TradingCalendarService;
+import com.project.stock.domain.stock.application.port.out.AiAnalysisPort;
+import com.project.stock.domain.stock.application.port.out.AnalysisResultCachePort;
+import com.project.stock.domain.stock.application.port.out.LoadStockPort;
+import com.project.stock.domain.stock.application.port.out.LoadStockPricePort;
+import com.project.stock.domain.stock.application.port.out.SaveAnalysisHistoryPort;
+import com.project.stock.domain.stock.application.quota.QuotaScheduler;
+import com.project.stock.domain.stock.domain.AnalysisCacheKey;
+import com.project.stock.domain.stock.domain.DailyBar;
+import com.project.stock.domain.stock.domain.Stock;
+import com.project.stock.domain.stock.domain.StockAnalysisResult;
+import com.project.stock.domain.stock.domain.StockAnalysisResult.Recommendation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class StockServiceTest {
+
+    private static final String STOCK_CODE = "005930";
+    private static final LocalDate LATEST_BAR_DATE = LocalDate.of(2025, 2, 7);
+    private static final List<DailyBar> WINDOW = IntStream.range(0, 5)
+        .mapToObj(day -> new DailyBar(1L, LATEST_BAR_DATE.minusDays(4 - day), 100, 102, 99, 101 + day, 1_000L))
+        .toList();
+    private static final AnalysisCacheKey KEY = AnalysisCacheKey.of(1L, WINDOW);
+
+    private final LoadStockPort loadStockPort = mock(LoadStockPort.class);
+    private final AiAnalysisPort aiAnalysisPort = mock(AiAnalysisPort.class);
+    private final LoadStockPricePort loadStockPricePort = mock(LoadStockPricePort.class);
+    private final KisClient kisClient = mock(KisClient.class);
+    private final SaveAnalysisHistoryPort saveAnalysisHistoryPort = mock(SaveAnalysisHistoryPort.class);
+    private final AnalysisResultCachePort analysisResultCachePort = mock(AnalysisResultCachePort.class);
+    private final AnalysisSingleFlight analysisSingleFlight = mock(AnalysisSingleFlight.class);
+    private final QuotaScheduler quotaScheduler = mock(QuotaScheduler.class);
+    private final StockPriceWriter stockPriceWriter = mock(StockPriceWriter.class);
+    // 설 연휴: 2025-01-25(토) ~ 2025-01-30(목) 휴장
+    private final TradingCalendarService tradingCalendarService = new TradingCalendarService(() -> List.of(
+        LocalDate.of(2025, 1, 27), LocalDate.of(2025, 1, 28), LocalDate.of(2025, 1, 29), LocalDate.of(2025, 1, 30)));
+    private final AnalysisCacheProperties analysisCacheProperties = new AnalysisCacheProperties();
+    private StockService service;
+
+    @BeforeEach
+    void setUp() {
+        Stock stock = Stock.builder().stockCode(STOCK_CODE).stockName("삼성전자").market("KOSPI").build();
+        ReflectionTestUtils.setField(stock, "id", 1L);
+        when(loadStockPort.loadByCode(STOCK_CODE)).thenReturn(Optional.of(stock));
+        when(kisClient.fetchDailyPrices(anyString(), any(), any()))
+            .thenReturn(new KisOhlcvResponse("0", "MCA00000", "정상", List.of(), null));
+        when(loadStockPricePort.findRecentDailyBars(eq(1L), anyInt())).thenReturn(WINDOW);
+        when(analysisResultCachePort.find(any())).thenReturn(Optional.empty());
+        when(saveAnalysisHistoryPort.findResultByStockIdAndDate(anyLong(), any())).thenReturn(Optional.empty());
+        when(analysisSingleFlight.execute(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<StockAnalysisResult>>getArgument(1).get());
+
+        service = new StockService(loadStockPort, aiAnalysisPort, loadStockPricePort, kisClient, saveAnalysisHistoryPort,
+            analysisResultCachePort, new AiWorkerProperties(), analysisCacheProperties, analysisSingleFlight,
+            quotaScheduler, stockPriceWriter, tradingCalendarService);
+    }
+
+    @Test
+    @DisplayName("Redis 캐시에 결과가 있으면 분석 이력과 AI Worker를 조회하지 않는다")
+    void returnsCachedResultFirst() {
+        StockAnalysisResult cached = result(Recommendation.BUY);
+        when(analysisResultCachePort.find(KEY)).thenReturn(Optional.of(cached));
+
+        assertThat(service.analyze(STOCK_CODE)).isSameAs(cached);
+
+        verifyNoInteractions(saveAnalysisHistoryPort, analysisSingleFlight, aiAnalysisPort, quotaScheduler);
+        verify(analysisResultCachePort, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 최신 일봉 날짜의 분석 이력을 쓰고 캐시에 채워 둔다")
+    void fallsBackToHistoryOfLatestBarDateAndBackfillsCache() {
+        StockAnalysisResult history = result(Recommendation.HOLD);
+        when(saveAnalysisHistoryPort.findResultByStockIdAndDate(1L, LATEST_BAR_DATE)).thenReturn(Optional.of(history));
+
+        assertThat(service.analyze(STOCK_CODE)).isSameAs(history);
+
+        InOrder order = inOrder(analysisResultCachePort, saveAnalysisHistoryPort);
+        order.verify(analysisResultCachePort).find(KEY);
+        order.verify(saveAnalysisHistoryPort).findResultByStockIdAndDate(1L, LATEST_BAR_DATE);
+        order.verify(analysisResultCachePort).put(KEY, history);
+        verifyNoInteractions(analysisSingleFlight, aiAnalysisPort, quotaScheduler);
+    }
+
+    @Test
+    @DisplayName("캐시와 분석 이력이 모두 없으면 같은 입력 구간으로 AI Worker를 호출하고 결과를 캐시에 채운다")
+    void callsWorkerOnMissAndBackfillsCache() {
+        StockAnalysisResult analyzed = result(Recommendation.SELL);
+        when(aiAnalysisPort.requestAnalysis(any(), eq(WINDOW), any())).thenReturn(analyzed);
+
+        assertThat(service.analyze(STOCK_CODE)).isSameAs(analyzed);
+
+        InOrder order = inOrder(analysisResultCachePort, saveAnalysisHistoryPort, analysisSingleFlight, aiAnalysisPort);
+        order.verify(analysisResultCachePort).find(KEY);
+        order.verify(saveAnalysisHistoryPort).findResultByStockIdAndDate(1L, LATEST_BAR_DATE);
+        order.verify(analysisSingleFlight).execute(eq(KEY), any());
+        order.verify(aiAnalysisPort).requestAnalysis(any(), eq(WINDOW), any());
+        order.verify(analysisResultCachePort).put(KEY, analyzed);
+    }
+
+    @Test
+    @DisplayName("캐시가 꺼져 있으면 캐시와 분석 이력을 거치지 않고 바로 AI Worker를 호출한다")
+    void bypassesCacheWhenDisabled() {
+        analysisCacheProperties.setEnabled(false);
+        StockAnalysisResult analyzed = result(Recommendation.BUY);
+        when(aiAnalysisPort.requestAnalysis(any(), eq(WINDOW), any())).thenReturn(analyzed);
+
+        assertThat(service.analyze(STOCK_CODE)).isSameAs(analyzed);
+
+        verifyNoInteractions(analysisResultCachePort, saveAnalysisHistoryPort, analysisSingleFlight);
+    }
+
+    @Test
+    @DisplayName("기간 전체가 연휴이면 KIS를 호출하지 않고 할당량도 쓰지 않는다")
+    void skipsKisWhenRangeHasNoSession() {
+        int saved = service.syncStockPrices(STOCK_CODE, LocalDate.of(2025, 1, 25), LocalDate.of(2025, 1, 30));
+
+        assertThat(saved).isZero();
+        verifyNoInteractions(kisClient, quotaScheduler, stockPriceWriter);
+    }
+
+    @Test
+    @DisplayName("주말만 있는 기간도 KIS를 호출하지 않는다")
+    void skipsKisForWeekendOnlyRange() {
+        assertThat(service.syncStockPrices(STOCK_CODE, LocalDate.of(2025, 2, 8), LocalDate.of(2025, 2, 9))).isZero();
+
+        verify(kisClient, never()).fetchDailyPrices(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("요청 기간을 첫/마지막 영업일로 좁혀 한 번만 조회한다")
+    void narrowsRangeToSessions() {
+        service.syncStockPrices(STOCK_CODE, LocalDate.of(2025, 1, 25), LocalDate.of(2025, 2, 9));
+
+        verify(quotaScheduler).acquire(any(), anyInt());
+        verify(kisClient).fetchDailyPrices(STOCK_CODE, LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 7));
+    }
+
+    private static StockAnalysisResult result(Recommendation recommendation) {
+        return StockAnalysisResult.builder()
+            .recommendation(recommendation)
+            .confidenceScore(70)
+            .technicalAnalysis("추세")
+            .supplyAnalysis("수급")
+            .riskFactors(List.of())
+            .build();
+    }
+}
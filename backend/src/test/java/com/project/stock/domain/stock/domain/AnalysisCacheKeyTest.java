@@ -0,0 +1,76 @@
+package com.project.stock.domain.stock.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AnalysisCacheKeyTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 2, 3);
+    private static final List<DailyBar> WINDOW = IntStream.range(0, 5)
+        .mapToObj(day -> new DailyBar(1L, START.plusDays(day), 100 + day, 105 + day, 95 + day, 102 + day, 1_000L + day))
+        .toList();
+
+    @Test
+    @DisplayName("같은 종목, 같은 입력 구간이면 같은 키이고, 마지막 일봉 날짜와 해시로 키 문자열을 만든다")
+    void sameWindowGivesSameKey() {
+        AnalysisCacheKey key = AnalysisCacheKey.of(1L, WINDOW);
+
+        assertThat(AnalysisCacheKey.of(1L, List.copyOf(WINDOW))).isEqualTo(key);
+        assertThat(key.latestPriceDate()).isEqualTo(LocalDate.of(2025, 2, 7));
+        assertThat(key.windowHash()).hasSize(32).matches("[0-9a-f]+");
+        assertThat(key.asString()).isEqualTo("1:2025-02-07:" + key.windowHash());
+        assertThat(AnalysisCacheKey.of(2L, WINDOW)).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("입력 구간 중 한 일봉의 날짜나 OHLCV 값이 하나라도 바뀌면 해시가 바뀐다")
+    void anyOhlcvChangeChangesHash() {
+        String original = AnalysisCacheKey.of(1L, WINDOW).windowHash();
+        List<UnaryOperator<DailyBar>> changes = List.of(
+            bar -> new DailyBar(bar.stockId(), bar.date().minusDays(1), bar.open(), bar.high(), bar.low(), bar.close(), bar.volume()),
+            bar -> new DailyBar(bar.stockId(), bar.date(), bar.open() + 0.5, bar.high(), bar.low(), bar.close(), bar.volume()),
+            bar -> new DailyBar(bar.stockId(), bar.date(), bar.open(), bar.high() + 0.5, bar.low(), bar.close(), bar.volume()),
+            bar -> new DailyBar(bar.stockId(), bar.date(), bar.open(), bar.high(), bar.low() - 0.5, bar.close(), bar.volume()),
+            bar -> new DailyBar(bar.stockId(), bar.date(), bar.open(), bar.high(), bar.low(), bar.close() + 0.5, bar.volume()),
+            bar -> new DailyBar(bar.stockId(), bar.date(), bar.open(), bar.high(), bar.low(), bar.close(), bar.volume() + 1)
+        );
+
+        for (UnaryOperator<DailyBar> change : changes) {
+            // 마지막 일봉은 날짜가 키에 따로 들어가므로, 해시만으로 구분되는지 보려고 가운데 일봉을 바꾼다
+            List<DailyBar> changed = new ArrayList<>(WINDOW);
+            changed.set(2, change.apply(WINDOW.get(2)));
+
+            AnalysisCacheKey key = AnalysisCacheKey.of(1L, changed);
+
+            assertThat(key.latestPriceDate()).isEqualTo(LocalDate.of(2025, 2, 7));
+            assertThat(key.windowHash()).isNotEqualTo(original);
+        }
+    }
+
+    @Test
+    @DisplayName("구간이 한 일봉만큼 밀리면 마지막 일봉 날짜가 바뀌어 다른 키가 된다")
+    void newBarGivesNewKey() {
+        List<DailyBar> shifted = new ArrayList<>(WINDOW.subList(1, WINDOW.size()));
+        shifted.add(new DailyBar(1L, START.plusDays(7), 110, 115, 105, 112, 2_000L));
+
+        AnalysisCacheKey key = AnalysisCacheKey.of(1L, shifted);
+
+        assertThat(key.latestPriceDate()).isEqualTo(LocalDate.of(2025, 2, 10));
+        assertThat(key.windowHash()).isNotEqualTo(AnalysisCacheKey.of(1L, WINDOW).windowHash());
+    }
+
+    @Test
+    @DisplayName("빈 입력 구간으로는 키를 만들 수 없다")
+    void rejectsEmptyWindow() {
+        assertThatThrownBy(() -> AnalysisCacheKey.of(1L, List.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,199 @@
+package com.project.stock.domain.stock.domain.backtest;
+
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BacktestEngineTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 2);
+    private static final double CAPITAL = 1_000_000;
+
+    /**
+     * 시가 100 → 110 → 120 → 130, 종가 105 → 115 → 125 → 135.
+     */
+    private static final double[][] RISING = {
+        {100, 106, 99, 105},
+        {110, 116, 109, 115},
+        {120, 126, 119, 125},
+        {130, 136, 129, 135},
+    };
+
+    @Test
+    @DisplayName("종가 신호는 다음 거래일 시가에 체결되고, 기간 종료 시 마지막 종가로 청산한다")
+    void fillsAtNextOpenAndLiquidatesAtEnd() {
+        BacktestRun run = run(single(RISING), signals(on(4, 0)), noSignals(4), config(0, 0, 0, 100, 1, 0, 0));
+
+        // 2일차 시가 110에 9,090주, 잔액 100원 → 4일차 종가 135로 청산
+        double[] curve = run.equityCurve();
+        assertThat(curve[0]).isEqualTo(CAPITAL);
+        assertThat(curve[1]).isCloseTo(100 + 9_090 * 115.0, within(1e-6));
+        assertThat(curve[3]).isCloseTo(100 + 9_090 * 135.0, within(1e-6));
+        assertThat(run.statistics().finalEquity()).isCloseTo(100 + 9_090 * 135.0, within(1e-6));
+        assertThat(run.statistics().trades()).isEqualTo(1);
+        assertThat(run.statistics().winRatePct()).isEqualTo(100);
+        assertThat(run.statistics().exposurePct()).isEqualTo(75);
+    }
+
+    @Test
+    @DisplayName("마지막 거래일 신호는 체결할 다음 날이 없으므로 무시한다")
+    void ignoresSignalOnLastDay() {
+        BacktestRun run = run(single(RISING), signals(on(4, 3)), noSignals(4), config(0, 0, 0, 100, 1, 0, 0));
+
+        assertThat(run.statistics().trades()).isZero();
+        assertThat(run.statistics().finalEquity()).isEqualTo(CAPITAL);
+    }
+
+    @Test
+    @DisplayName("매수는 슬리피지와 수수료를, 매도는 슬리피지와 수수료, 매도세를 반영한다")
+    void appliesSlippageCommissionAndTax() {
+        // 수수료 15bp, 매도세 20bp, 슬리피지 10bp. 0일 진입 신호 → 1일 시가 매수, 1일 청산 신호 → 2일 시가 매도
+        BacktestRun run = run(single(RISING), signals(on(4, 0)), signals(on(4, 1)), config(15, 20, 10, 100, 1, 0, 0));
+
+        // 매수 체결가 110 × 1.001, 수량 floor(1,000,000 / (110.11 × 1.0015)) = 9,068
+        double cost = 9_068 * 110 * 1.001 * 1.0015;
+        // 매도 체결가 120 × 0.999, 수수료와 매도세 차감
+        double proceeds = 9_068 * 120 * 0.999 * (1 - 0.0015 - 0.002);
+        assertThat(run.statistics().finalEquity()).isCloseTo(CAPITAL - cost + proceeds, within(1e-6));
+        assertThat(run.statistics().finalEquity()).isCloseTo(1_083_291.89234, within(1e-4));
+        assertThat(run.statistics().trades()).isEqualTo(1);
+        assertThat(run.statistics().avgTradeReturnPct()).isCloseTo((proceeds / cost - 1) * 100, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("같은 봉에서 손절가와 익절가를 모두 지나면 손절로 체결한다")
+    void stopLossWinsOverTakeProfit() {
+        double[][] bars = {
+            {100, 100, 100, 100},
+            {100, 106, 94, 100},
+            {100, 100, 100, 100},
+        };
+
+        BacktestRun run = run(single(bars), signals(on(3, 0)), noSignals(3), config(0, 0, 0, 100, 1, 5, 5));
+
+        assertThat(run.statistics().finalEquity()).isCloseTo(10_000 * 95.0, within(1e-6));
+        assertThat(run.statistics().trades()).isEqualTo(1);
+        assertThat(run.statistics().winRatePct()).isZero();
+    }
+
+    @Test
+    @DisplayName("익절가에 닿으면 익절가로 체결한다")
+    void takeProfitFillsAtTarget() {
+        double[][] bars = {
+            {100, 100, 100, 100},
+            {100, 106, 99, 103},
+            {100, 100, 100, 100},
+        };
+
+        BacktestRun run = run(single(bars), signals(on(3, 0)), noSignals(3), config(0, 0, 0, 100, 1, 5, 5));
+
+        assertThat(run.statistics().finalEquity()).isCloseTo(10_000 * 105.0, within(1e-6));
+        assertThat(run.statistics().winRatePct()).isEqualTo(100);
+        assertThat(run.statistics().profitFactor()).isNaN();
+    }
+
+    @Test
+    @DisplayName("손절은 같은 날 종가 청산 신호보다 먼저 체결되고, 갭 하락이면 시가에 체결한다")
+    void stopLossPrecedesExitSignalAndFillsGapAtOpen() {
+        double[][] bars = {
+            {100, 100, 100, 100},
+            {100, 103, 97, 98},
+            {90, 92, 88, 91},
+            {91, 91, 91, 91},
+        };
+        // 손절가 95: 1일차 저가 97은 닿지 않고, 1일차 종가 청산 신호로 2일차 시가 90에 청산
+        BacktestRun exitSignal = run(single(bars), signals(on(4, 0)), signals(on(4, 1)), config(0, 0, 0, 100, 1, 5, 0));
+        // 청산 신호 없이 2일차 시가 90이 손절가 95 아래로 갭 하락 → 손절가가 아닌 시가 90에 체결
+        BacktestRun gap = run(single(bars), signals(on(4, 0)), noSignals(4), config(0, 0, 0, 100, 1, 5, 0));
+
+        assertThat(exitSignal.statistics().finalEquity()).isCloseTo(10_000 * 90.0, within(1e-6));
+        assertThat(exitSignal.statistics().trades()).isEqualTo(1);
+        assertThat(gap.statistics().finalEquity()).isCloseTo(10_000 * 90.0, within(1e-6));
+        assertThat(gap.statistics().trades()).isEqualTo(1);
+
+        // 1일차 장중 손절(저가 97 ≤ 손절가 97)이면 같은 날 종가 청산 신호는 보유 종목이 없어 무시됨
+        BacktestRun intraday = run(single(bars), signals(on(4, 0)), signals(on(4, 1)), config(0, 0, 0, 100, 1, 3, 0));
+        assertThat(intraday.statistics().finalEquity()).isCloseTo(10_000 * 97.0, within(1e-6));
+        assertThat(intraday.statistics().trades()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진입 금액은 직전 평가금액 대비 비율이며 최대 보유 종목 수를 넘지 않는다")
+    void sizesPositionsAndCapsOpenPositions() {
+        List<double[][]> stocks = List.of(RISING, RISING, RISING);
+        BacktestSignals entries = signals(on(4, 0), on(4, 0), on(4, 0));
+        BacktestSignals exits = new BacktestSignals(List.of(), List.of());
+
+        BacktestRun capped = run(stocks, entries, exits, config(0, 0, 0, 30, 2, 0, 0));
+
+        // 종목당 300,000원 / 110 → 2,727주씩 2종목, 세 번째 종목은 상한으로 건너뜀
+        double invested = 2 * 2_727 * 110.0;
+        assertThat(capped.equityCurve()[1]).isCloseTo(CAPITAL - invested + 2 * 2_727 * 115.0, within(1e-6));
+        assertThat(capped.statistics().trades()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("현금이 부족하면 남은 현금 안에서만 매수한다")
+    void entryIsLimitedByCash() {
+        List<double[][]> stocks = List.of(RISING, RISING);
+        BacktestRun run = run(stocks, signals(on(4, 0), on(4, 0)), new BacktestSignals(List.of(), List.of()),
+            config(0, 0, 0, 60, 2, 0, 0));
+
+        // 첫 종목 600,000원 → 5,454주, 두 번째 종목은 남은 현금 400,060원 → 3,636주
+        double cash = CAPITAL - 5_454 * 110.0 - 3_636 * 110.0;
+        assertThat(cash).isBetween(0.0, 110.0);
+        assertThat(run.equityCurve()[1]).isCloseTo(cash + (5_454 + 3_636) * 115.0, within(1e-6));
+    }
+
+    private static BacktestRun run(List<double[][]> bars, BacktestSignals entries, BacktestSignals exits,
+                                   BacktestConfig config) {
+        List<PriceSeries> series = new ArrayList<>();
+        for (int k = 0; k < bars.size(); k++) {
+            series.add(series(k + 1, bars.get(k)));
+        }
+        BacktestUniverse universe = BacktestUniverse.of(series, null, null);
+        BacktestSignals signals = new BacktestSignals(entries.entryConditions(), exits.entryConditions());
+        return BacktestEngine.run(universe, signals, config, Map.of(), true);
+    }
+
+    private static List<double[][]> single(double[][] bars) {
+        return List.<double[][]>of(bars);
+    }
+
+    private static BacktestConfig config(double commissionBps, double sellTaxBps, double slippageBps,
+                                         double positionSizePct, int maxPositions,
+                                         double stopLossPct, double takeProfitPct) {
+        return new BacktestConfig(CAPITAL, commissionBps, sellTaxBps, slippageBps, positionSizePct, maxPositions,
+            stopLossPct, takeProfitPct, 0);
+    }
+
+    private static boolean[] on(int days, int day) {
+        boolean[] signal = new boolean[days];
+        signal[day] = true;
+        return signal;
+    }
+
+    private static BacktestSignals signals(boolean[]... perStock) {
+        return new BacktestSignals(List.<boolean[][]>of(perStock), List.of());
+    }
+
+    private static BacktestSignals noSignals(int days) {
+        return signals(new boolean[days]);
+    }
+
+    private static PriceSeries series(long stockId, double[][] bars) {
+        PriceSeries.Builder builder = new PriceSeries.Builder(stockId, String.format("%06d", stockId), null);
+        for (int i = 0; i < bars.length; i++) {
+            builder.add(START.plusDays(i), bars[i][0], bars[i][1], bars[i][2], bars[i][3], 1_000L);
+        }
+        return builder.build();
+    }
+}
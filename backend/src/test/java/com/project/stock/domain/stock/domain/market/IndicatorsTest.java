@@ -0,0 +1,94 @@
+package com.project.stock.domain.stock.domain.market;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 기대값은 ai-worker(app/engine/indicators.py)의 pandas 정의를 손으로 풀어 계산한 값입니다.
+ */
+class IndicatorsTest {
+
+    private static final double[] CLOSE = {10, 11, 12, 11, 13, 14};
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    @DisplayName("SMA는 rolling(period, min_periods=period).mean()과 같다")
+    void sma() {
+        assertThat(Indicators.sma(CLOSE, 5, 3)).isCloseTo(38.0 / 3, within(EPSILON));
+        assertThat(Indicators.sma(CLOSE, 1, 3)).isNaN();
+    }
+
+    @Test
+    @DisplayName("EMA는 ewm(span=period, adjust=False)처럼 첫 값에서 시작한다")
+    void ema() {
+        double[] expected = {10, 10.5, 11.25, 11.125, 12.0625, 13.03125};
+        assertThat(Indicators.emaSeries(CLOSE, 3)).containsExactly(expected, within(EPSILON));
+        for (int i = 0; i < CLOSE.length; i++) {
+            assertThat(Indicators.ema(CLOSE, i, 3)).isCloseTo(expected[i], within(EPSILON));
+        }
+    }
+
+    @Test
+    @DisplayName("표준편차는 rolling(period).std()처럼 표본 표준편차(ddof=1)이다")
+    void stddev() {
+        assertThat(Indicators.stddev(CLOSE, 5, 3)).isCloseTo(Math.sqrt(7.0 / 3), within(EPSILON));
+        assertThat(Indicators.stddev(CLOSE, 5, 1)).isNaN();
+    }
+
+    @Test
+    @DisplayName("RSI는 기간 내 평균 상승폭/하락폭 비율로 계산한다")
+    void rsi() {
+        // 마지막 3개 변화량: -1, +2, +1 → RS = 3
+        assertThat(Indicators.rsi(CLOSE, 5, 3)).isCloseTo(75.0, within(EPSILON));
+    }
+
+    @Test
+    @DisplayName("RSI는 ai-worker처럼 첫 시점의 변화량을 0으로 보고 period - 1 시점부터 값이 있다")
+    void rsiStartsAtPeriodMinusOne() {
+        // pandas: diff()의 첫 NaN이 where(..., 0.0)로 0이 되어 창에 포함됨 → 변화량 0, +1, +1, -1
+        assertThat(Indicators.rsi(CLOSE, 3, 4)).isCloseTo(200.0 / 3, within(EPSILON));
+        assertThat(Indicators.rsi(CLOSE, 2, 4)).isNaN();
+    }
+
+    @Test
+    @DisplayName("기간 내 하락이 없으면 RSI는 NaN이다 (avg_loss 0 → NaN)")
+    void rsiWithoutLossesIsNaN() {
+        assertThat(Indicators.rsi(CLOSE, 2, 2)).isNaN();
+        assertThat(Indicators.rsi(new double[]{10, 10, 10, 10}, 3, 3)).isNaN();
+    }
+
+    @Test
+    @DisplayName("MACD와 시그널은 EMA12 - EMA26과 그 EMA9이며, 첫 시점에서 시작한다")
+    void macd() {
+        double[] close = {10, 11};
+        double macd = 2.0 / 13 - 2.0 / 27;
+        assertThat(Indicators.macd(close, 0)).isZero();
+        assertThat(Indicators.macd(close, 1)).isCloseTo(macd, within(EPSILON));
+        assertThat(Indicators.macdSignal(close, 1)).isCloseTo(0.2 * macd, within(EPSILON));
+    }
+
+    @Test
+    @DisplayName("전체 구간 계산은 시점별 계산과 같은 값을 낸다")
+    void seriesMatchPointwise() {
+        Random random = new Random(5);
+        double[] close = new double[300];
+        close[0] = 10_000;
+        for (int i = 1; i < close.length; i++) {
+            close[i] = close[i - 1] * (1 + random.nextGaussian() * 0.02);
+        }
+
+        double[] ema = Indicators.emaSeries(close, 20);
+        double[] macd = Indicators.macdSeries(close);
+        double[] signal = Indicators.macdSignalSeries(close);
+        for (int i = 0; i < close.length; i++) {
+            assertThat(ema[i]).isCloseTo(Indicators.ema(close, i, 20), within(1e-9));
+            assertThat(macd[i]).isCloseTo(Indicators.macd(close, i), within(1e-9));
+            assertThat(signal[i]).isCloseTo(Indicators.macdSignal(close, i), within(1e-9));
+        }
+    }
+}
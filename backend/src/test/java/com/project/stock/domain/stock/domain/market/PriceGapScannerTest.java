@@ -0,0 +1,199 @@
+package com.project.stock.domain.stock.domain.market;
+
+import com.project.stock.domain.stock.domain.market.PriceGapReport.Gap;
+import com.project.stock.domain.stock.domain.market.PriceGapReport.RepairRequest;
+import com.project.stock.domain.stock.domain.market.PriceGapReport.StockGaps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 점검 기간은 2025-01-02(목) ~ 2025-01-24(금)의 영업일 17일입니다. 영업일 번호는 다음과 같습니다.
+ * <pre>
+ *  0: 01-02  1: 01-03
+ *  2: 01-06  3: 01-07  4: 01-08  5: 01-09  6: 01-10
+ *  7: 01-13  8: 01-14  9: 01-15 10: 01-16 11: 01-17
+ * 12: 01-20 13: 01-21 14: 01-22 15: 01-23 16: 01-24
+ * </pre>
+ */
+class PriceGapScannerTest {
+
+    private static final TradingCalendar CALENDAR = TradingCalendar.of(List.of(
+        LocalDate.of(2025, 1, 1),
+        LocalDate.of(2025, 1, 27), LocalDate.of(2025, 1, 28), LocalDate.of(2025, 1, 29), LocalDate.of(2025, 1, 30)));
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 2);
+    private static final LocalDate UNTIL = LocalDate.of(2025, 1, 24);
+    private static final List<LocalDate> SESSIONS = CALENDAR.sessionsBetween(FROM, UNTIL);
+
+    @Test
+    @DisplayName("첫 저장일 바로 뒤와 점검 종료일까지 이어지는 누락을 각각 구간으로 보고한다")
+    void reportsGapsAtBothEnds() {
+        PriceGapScanner scanner = scanner(20, Map.of(1L, "005930"));
+        acceptSessions(scanner, 1L, Set.of(1, 2, 14, 15, 16));
+
+        PriceGapReport report = scanner.finish(0);
+
+        assertThat(report.stocksScanned()).isEqualTo(1);
+        assertThat(report.missingSessions()).isEqualTo(5);
+        StockGaps stock = report.stocks().get(0);
+        assertThat(stock.stockCode()).isEqualTo("005930");
+        assertThat(stock.firstDate()).isEqualTo(date(0));
+        assertThat(stock.storedSessions()).isEqualTo(12);
+        assertThat(stock.gaps()).containsExactly(
+            new Gap(date(1), date(2), 2),
+            new Gap(date(14), date(16), 3));
+        // 한 페이지에 모두 들어가므로 첫 누락일부터 마지막 누락일까지 한 번에 조회한다
+        assertThat(stock.repairs()).containsExactly(new RepairRequest(date(1), date(16), 16, 5));
+    }
+
+    @Test
+    @DisplayName("기간 중간에 상장된 종목은 첫 저장일 이전을 누락으로 보지 않는다")
+    void ignoresSessionsBeforeListing() {
+        PriceGapScanner scanner = scanner(20, Map.of(1L, "005930", 2L, "000660"));
+        // 1: 01-13 상장 후 빠짐없이 저장, 2: 01-13 상장 후 01-20 누락
+        for (int i = 7; i < SESSIONS.size(); i++) {
+            scanner.accept(1L, date(i));
+        }
+        for (int i = 7; i < SESSIONS.size(); i++) {
+            if (i != 12) {
+                scanner.accept(2L, date(i));
+            }
+        }
+
+        PriceGapReport report = scanner.finish(0);
+
+        assertThat(report.stocksScanned()).isEqualTo(2);
+        assertThat(report.missingSessions()).isEqualTo(1);
+        assertThat(report.stocks()).hasSize(1);
+        StockGaps stock = report.stocks().get(0);
+        assertThat(stock.stockId()).isEqualTo(2L);
+        assertThat(stock.firstDate()).isEqualTo(date(7));
+        assertThat(stock.storedSessions()).isEqualTo(9);
+        assertThat(stock.gaps()).containsExactly(new Gap(date(12), date(12), 1));
+        assertThat(report.stocksWithoutPrices()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("휴장일 시세는 저장된 영업일로 세지 않고 따로 세며, 점검 종료일 이후 시세는 무시한다")
+    void countsOffSessionBarsSeparately() {
+        PriceGapScanner scanner = scanner(20, Map.of(1L, "005930"));
+        scanner.accept(1L, date(0));
+        scanner.accept(1L, date(1));
+        // 토요일, 일요일
+        scanner.accept(1L, LocalDate.of(2025, 1, 4));
+        scanner.accept(1L, LocalDate.of(2025, 1, 5));
+        for (int i = 3; i < SESSIONS.size(); i++) {
+            scanner.accept(1L, date(i));
+        }
+        // 오늘 시세 (점검 범위 밖)
+        scanner.accept(1L, LocalDate.of(2025, 1, 31));
+
+        PriceGapReport report = scanner.finish(0);
+
+        assertThat(report.offSessionBars()).isEqualTo(2);
+        assertThat(report.missingSessions()).isEqualTo(1);
+        assertThat(report.stocks().get(0).gaps()).containsExactly(new Gap(date(2), date(2), 1));
+    }
+
+    @Test
+    @DisplayName("떨어진 누락 구간도 한 페이지 안이면 한 요청으로 묶어 최소 요청 수로 보정한다")
+    void coversGapsWithMinimumRequests() {
+        PriceGapScanner scanner = scanner(5, Map.of(1L, "005930"));
+        // 누락: 1, 4, 5, 6, 9 → 구간별로 나누면 3건, 페이지(5영업일) 단위로 묶으면 [1..5], [6..9] 2건
+        acceptSessions(scanner, 1L, Set.of(1, 4, 5, 6, 9));
+
+        PriceGapReport report = scanner.finish(0);
+
+        StockGaps stock = report.stocks().get(0);
+        assertThat(stock.gaps()).hasSize(3);
+        assertThat(stock.repairs()).containsExactly(
+            new RepairRequest(date(1), date(5), 5, 3),
+            new RepairRequest(date(6), date(9), 4, 2));
+        assertThat(report.repairRequests()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 페이지보다 긴 누락은 페이지 크기로 나누고, 마지막 요청은 마지막 누락일에서 끝난다")
+    void splitsLongGapsByPageSize() {
+        PriceGapScanner scanner = scanner(5, Map.of(1L, "005930"));
+        // 누락 1 ~ 12 (12영업일) → 5 + 5 + 2
+        scanner.accept(1L, date(0));
+        for (int i = 13; i < SESSIONS.size(); i++) {
+            scanner.accept(1L, date(i));
+        }
+
+        PriceGapReport report = scanner.finish(0);
+
+        assertThat(report.stocks().get(0).repairs()).containsExactly(
+            new RepairRequest(date(1), date(5), 5, 5),
+            new RepairRequest(date(6), date(10), 5, 5),
+            new RepairRequest(date(11), date(12), 2, 2));
+        assertThat(report.stocks().get(0).repairs())
+            .allSatisfy(request -> assertThat(request.sessions()).isLessThanOrEqualTo(5));
+    }
+
+    @Test
+    @DisplayName("기간 안에 영업일 시세가 하나도 없는 등록 종목은 종목코드 순으로 따로 보고한다")
+    void reportsStocksWithoutPrices() {
+        PriceGapScanner scanner = scanner(20, Map.of(1L, "005930", 2L, "000660", 3L, "035420"));
+        // 2: 휴장일 시세만 있음, 3: 시세 없음
+        acceptSessions(scanner, 1L, Set.of());
+        scanner.accept(2L, LocalDate.of(2025, 1, 4));
+
+        PriceGapReport report = scanner.finish(0);
+
+        assertThat(report.stocksScanned()).isEqualTo(1);
+        assertThat(report.stocks()).isEmpty();
+        assertThat(report.stocksWithoutPrices()).containsExactly("000660", "035420");
+    }
+
+    @Test
+    @DisplayName("누락이 많은 종목부터, 같으면 종목 ID 순으로 정렬한다")
+    void sortsByMissingSessions() {
+        PriceGapScanner scanner = scanner(20, Map.of());
+        acceptSessions(scanner, 1L, Set.of(3));
+        acceptSessions(scanner, 2L, Set.of(3, 4));
+        acceptSessions(scanner, 3L, Set.of(5));
+
+        PriceGapReport report = scanner.finish(0);
+
+        assertThat(report.stocks()).extracting(StockGaps::stockId).containsExactly(2L, 1L, 3L);
+        assertThat(report.stocks().get(0).stockCode()).isNull();
+        assertThat(report.missingSessions()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("기간이 뒤집혔거나 페이지 크기가 1 미만이면 거부한다")
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> new PriceGapScanner(CALENDAR, UNTIL, FROM, 20, Map.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PriceGapScanner(CALENDAR, FROM, UNTIL, 0, Map.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PriceGapScanner scanner(int pageSize, Map<Long, String> stockCodes) {
+        return new PriceGapScanner(CALENDAR, FROM, UNTIL, pageSize, stockCodes);
+    }
+
+    /**
+     * 첫 영업일부터 마지막 영업일까지 missing에 든 번호만 빼고 저장된 것으로 넘깁니다.
+     */
+    private static void acceptSessions(PriceGapScanner scanner, long stockId, Set<Integer> missing) {
+        for (int i = 0; i < SESSIONS.size(); i++) {
+            if (!missing.contains(i)) {
+                scanner.accept(stockId, date(i));
+            }
+        }
+    }
+
+    private static LocalDate date(int sessionIndex) {
+        return SESSIONS.get(sessionIndex);
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.stock.domain.stock.domain.market;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 휴장일은 KRX 2024~2025년 일정 중 연휴/연말 구간만 추렸습니다.
+ */
+class TradingCalendarTest {
+
+    private static final TradingCalendar CALENDAR = TradingCalendar.of(List.of(
+        // 추석 (월~수, 앞뒤 주말 포함 5일 휴장)
+        LocalDate.of(2024, 9, 16), LocalDate.of(2024, 9, 17), LocalDate.of(2024, 9, 18),
+        // 연말 휴장일, 신정
+        LocalDate.of(2024, 12, 31), LocalDate.of(2025, 1, 1),
+        // 임시 공휴일 + 설날 (앞 주말 포함 토~목 6일 휴장)
+        LocalDate.of(2025, 1, 27), LocalDate.of(2025, 1, 28), LocalDate.of(2025, 1, 29), LocalDate.of(2025, 1, 30)
+    ));
+
+    @Test
+    @DisplayName("주말을 낀 긴 연휴에서도 다음/이전 영업일은 연휴 양 끝 밖의 첫 영업일이다")
+    void skipsLongHolidays() {
+        assertThat(CALENDAR.sessionOnOrAfter(LocalDate.of(2025, 1, 25))).isEqualTo(LocalDate.of(2025, 1, 31));
+        assertThat(CALENDAR.sessionOnOrAfter(LocalDate.of(2025, 1, 29))).isEqualTo(LocalDate.of(2025, 1, 31));
+        assertThat(CALENDAR.sessionOnOrBefore(LocalDate.of(2025, 1, 30))).isEqualTo(LocalDate.of(2025, 1, 24));
+        assertThat(CALENDAR.nextSession(LocalDate.of(2025, 1, 24))).isEqualTo(LocalDate.of(2025, 1, 31));
+        assertThat(CALENDAR.previousSession(LocalDate.of(2025, 1, 31))).isEqualTo(LocalDate.of(2025, 1, 24));
+
+        assertThat(CALENDAR.sessionOnOrAfter(LocalDate.of(2024, 9, 14))).isEqualTo(LocalDate.of(2024, 9, 19));
+        assertThat(CALENDAR.sessionOnOrBefore(LocalDate.of(2024, 9, 18))).isEqualTo(LocalDate.of(2024, 9, 13));
+        assertThat(CALENDAR.sessionsBetween(LocalDate.of(2025, 1, 25), LocalDate.of(2025, 1, 30))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영업일은 그 자신이 당일 이후/이전 세션이며, 다음/이전 세션은 당일을 제외한다")
+    void sessionOnOrAfterIncludesTradingDay() {
+        LocalDate friday = LocalDate.of(2024, 9, 13);
+
+        assertThat(CALENDAR.sessionOnOrAfter(friday)).isEqualTo(friday);
+        assertThat(CALENDAR.sessionOnOrBefore(friday)).isEqualTo(friday);
+        assertThat(CALENDAR.nextSession(friday)).isEqualTo(LocalDate.of(2024, 9, 19));
+        assertThat(CALENDAR.previousSession(friday)).isEqualTo(LocalDate.of(2024, 9, 12));
+    }
+
+    @Test
+    @DisplayName("연말 휴장과 신정을 건너 해를 넘긴다")
+    void crossesYearBoundary() {
+        assertThat(CALENDAR.sessionOnOrAfter(LocalDate.of(2024, 12, 31))).isEqualTo(LocalDate.of(2025, 1, 2));
+        assertThat(CALENDAR.previousSession(LocalDate.of(2025, 1, 2))).isEqualTo(LocalDate.of(2024, 12, 30));
+        assertThat(CALENDAR.sessionsBetween(LocalDate.of(2024, 12, 28), LocalDate.of(2025, 1, 3)))
+            .containsExactly(LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 3));
+    }
+
+    @Test
+    @DisplayName("휴장일 데이터 범위는 목록에 나온 첫 해 1월 1일부터 마지막 해 12월 31일까지이고, 밖에서는 주말만 휴장이다")
+    void coversWholeYearsOfData() {
+        assertThat(CALENDAR.firstYear()).isEqualTo(2024);
+        assertThat(CALENDAR.lastYear()).isEqualTo(2025);
+        assertThat(CALENDAR.covers(LocalDate.of(2023, 12, 31))).isFalse();
+        assertThat(CALENDAR.covers(LocalDate.of(2024, 1, 1))).isTrue();
+        assertThat(CALENDAR.covers(LocalDate.of(2025, 12, 31))).isTrue();
+        assertThat(CALENDAR.covers(LocalDate.of(2026, 1, 1))).isFalse();
+
+        // 범위 밖의 신정(목)은 영업일, 토요일은 휴장
+        assertThat(CALENDAR.isTradingDay(LocalDate.of(2026, 1, 1))).isTrue();
+        assertThat(CALENDAR.isTradingDay(LocalDate.of(2026, 1, 3))).isFalse();
+        assertThat(CALENDAR.sessionOnOrBefore(LocalDate.of(2024, 1, 1))).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(CALENDAR.previousSession(LocalDate.of(2024, 1, 1))).isEqualTo(LocalDate.of(2023, 12, 29));
+        assertThat(CALENDAR.holidayCount()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("휴장일 목록이 비었거나 영업일이 한 달 넘게 없으면 잘못된 데이터로 본다")
+    void rejectsInvalidHolidayData() {
+        assertThatThrownBy(() -> TradingCalendar.of(List.of())).isInstanceOf(IllegalArgumentException.class);
+
+        TradingCalendar closedTwoMonths = TradingCalendar.of(Stream.iterate(LocalDate.of(2024, 1, 1), day -> day.plusDays(1))
+            .limit(60)
+            .filter(day -> day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY)
+            .toList());
+        assertThatThrownBy(() -> closedTwoMonths.sessionOnOrAfter(LocalDate.of(2024, 1, 1)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> closedTwoMonths.sessionOnOrBefore(LocalDate.of(2024, 2, 29)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,161 @@
+package com.project.stock.domain.stock.domain.pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DtwMatcherTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    @DisplayName("가지치기 DTW는 한계값이 없으면 밴드 DTW와 같은 거리를 낸다")
+    void prunedDistanceMatchesBandedDistance() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 200; trial++) {
+            int length = 8 + random.nextInt(40);
+            int band = random.nextInt(length);
+            double[] query = randomWalk(random, length);
+            double[] candidate = randomWalk(random, length);
+
+            DtwMatcher matcher = new DtwMatcher(query, band);
+            double expected = DtwMatcher.bandedDistance(zNormalize(query), zNormalize(candidate), matcher.band());
+
+            assertThat(matcher.distance(candidate, Double.POSITIVE_INFINITY)).isCloseTo(expected, within(EPSILON));
+            assertThat(matcher.distance(toFloat(candidate), 0, Double.POSITIVE_INFINITY)).isCloseTo(expected, within(1e-4));
+        }
+    }
+
+    @Test
+    @DisplayName("밴드를 넓히면 제약 없는 DTW와 같아지고, 밴드 0은 유클리드 거리와 같다")
+    void bandedDistanceBoundsAgainstFullDistance() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 200; trial++) {
+            int length = 8 + random.nextInt(40);
+            double[] a = zNormalize(randomWalk(random, length));
+            double[] b = zNormalize(randomWalk(random, length));
+            double full = DtwMatcher.fullDistance(a, b);
+
+            assertThat(DtwMatcher.bandedDistance(a, b, length - 1)).isCloseTo(full, within(EPSILON));
+            double previous = Double.POSITIVE_INFINITY;
+            for (int band = 0; band < length; band++) {
+                double banded = DtwMatcher.bandedDistance(a, b, band);
+                assertThat(banded).isGreaterThanOrEqualTo(full - EPSILON).isLessThanOrEqualTo(previous + EPSILON);
+                previous = banded;
+            }
+            assertThat(DtwMatcher.bandedDistance(a, b, 0)).isCloseTo(euclidean(a, b), within(EPSILON));
+        }
+    }
+
+    @Test
+    @DisplayName("조기 종료는 실제 거리가 한계값 이상일 때만 일어나고, 그 밖에는 정확한 거리를 낸다")
+    void earlyAbandonOnlyAboveBound() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 2_000; trial++) {
+            int length = 10 + random.nextInt(30);
+            double[] query = randomWalk(random, length);
+            double[] candidate = randomWalk(random, length);
+            DtwMatcher matcher = new DtwMatcher(query, DtwMatcher.bandFor(length, 0.1));
+            double exact = DtwMatcher.bandedDistance(zNormalize(query), zNormalize(candidate), matcher.band());
+            double bound = exact * (0.5 + random.nextDouble());
+
+            double pruned = matcher.distance(candidate, bound);
+
+            if (pruned == Double.POSITIVE_INFINITY) {
+                assertThat(exact).isGreaterThanOrEqualTo(bound - EPSILON);
+            } else {
+                assertThat(pruned).isCloseTo(exact, within(EPSILON)).isLessThan(bound);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("가지치기 상위 K 탐색은 전수 밴드 DTW 상위 K 이웃을 하나도 놓치지 않는다")
+    void pruningNeverDropsTrueTopK() {
+        Random random = new Random(4);
+        int length = 30;
+        int k = 10;
+        for (int trial = 0; trial < 20; trial++) {
+            double[] query = randomWalk(random, length);
+            List<double[]> candidates = IntStream.range(0, 500).mapToObj(i -> randomWalk(random, length)).toList();
+            DtwMatcher matcher = new DtwMatcher(query, DtwMatcher.bandFor(length, 0.1));
+            double[] normalizedQuery = zNormalize(query);
+
+            List<Integer> expected = IntStream.range(0, candidates.size()).boxed()
+                .sorted(Comparator.comparingDouble(i ->
+                    DtwMatcher.bandedDistance(normalizedQuery, zNormalize(candidates.get(i)), matcher.band())))
+                .limit(k)
+                .toList();
+
+            PriorityQueue<double[]> topK = new PriorityQueue<>(Comparator.comparingDouble((double[] e) -> e[1]).reversed());
+            for (int i = 0; i < candidates.size(); i++) {
+                double bound = topK.size() < k ? Double.POSITIVE_INFINITY : topK.peek()[1];
+                double distance = matcher.distance(candidates.get(i), bound);
+                if (distance < bound) {
+                    topK.add(new double[]{i, distance});
+                    if (topK.size() > k) {
+                        topK.poll();
+                    }
+                }
+            }
+            List<Integer> actual = new ArrayList<>();
+            topK.forEach(entry -> actual.add((int) entry[0]));
+
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(matcher.kimPruned() + matcher.keoghPruned() + matcher.dtwAbandoned()).isPositive();
+        }
+    }
+
+    private static double[] randomWalk(Random random, int length) {
+        double[] series = new double[length];
+        double value = 100;
+        for (int i = 0; i < length; i++) {
+            value += random.nextGaussian();
+            series[i] = value;
+        }
+        return series;
+    }
+
+    private static double[] zNormalize(double[] series) {
+        double mean = 0;
+        for (double v : series) {
+            mean += v;
+        }
+        mean /= series.length;
+        double variance = 0;
+        for (double v : series) {
+            variance += (v - mean) * (v - mean);
+        }
+        double std = Math.sqrt(variance / series.length);
+        double[] normalized = new double[series.length];
+        for (int i = 0; i < series.length; i++) {
+            normalized[i] = std == 0 ? 0 : (series[i] - mean) / std;
+        }
+        return normalized;
+    }
+
+    private static float[] toFloat(double[] series) {
+        float[] copy = new float[series.length];
+        for (int i = 0; i < series.length; i++) {
+            copy[i] = (float) series[i];
+        }
+        return copy;
+    }
+
+    private static double euclidean(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += (a[i] - b[i]) * (a[i] - b[i]);
+        }
+        return Math.sqrt(sum);
+    }
+}
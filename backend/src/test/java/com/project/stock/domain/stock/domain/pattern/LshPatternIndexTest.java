@@ -0,0 +1,105 @@
+package com.project.stock.domain.stock.domain.pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LshPatternIndexTest {
+
+    private static final int WINDOW = 20;
+    private static final int TABLES = 8;
+    private static final int BITS = 18;
+    private static final long SEED = 20240601L;
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+    /**
+     * 이 규모(300종목 × 400일, 윈도우 약 11만 개)에서 측정한 값은 약 0.86입니다. 데이터가 늘면 이웃이 촘촘해져 재현율이 오릅니다.
+     */
+    private static final double RECALL_FLOOR = 0.8;
+
+    @Test
+    @DisplayName("멀티 프로브 근사 검색의 recall@10이 전수 탐색 대비 기준 이상이다")
+    void recallAgainstExactSearch() {
+        int stocks = 300;
+        int days = 400;
+        LshPatternIndex index = new LshPatternIndex(WINDOW, TABLES, BITS, SEED);
+        Random random = new Random(7);
+        for (long stockId = 1; stockId <= stocks; stockId++) {
+            double close = 10_000;
+            for (int day = 0; day < days; day++) {
+                close *= 1 + random.nextGaussian() * 0.02;
+                index.append(stockId, START.plusDays(day), close);
+            }
+        }
+
+        double recallSum = 0;
+        int queries = 0;
+        for (long stockId = 1; stockId <= stocks; stockId += 10) {
+            List<PatternMatch> exact = index.exactSearch(stockId, 10);
+            List<PatternMatch> approximate = index.search(stockId, 10, 4);
+            Set<String> exactKeys = new HashSet<>();
+            exact.forEach(match -> exactKeys.add(key(match)));
+            long hits = approximate.stream().filter(match -> exactKeys.contains(key(match))).count();
+            recallSum += (double) hits / exact.size();
+            queries++;
+        }
+
+        assertThat(recallSum / queries).isGreaterThanOrEqualTo(RECALL_FLOOR);
+    }
+
+    @Test
+    @DisplayName("이미 인덱싱된 날짜를 다시 넣으면 종가를 고치고 해당 윈도우를 다시 등록한다")
+    void revisedBarIsReindexed() {
+        Random random = new Random(11);
+        double[][] closes = new double[40][120];
+        for (double[] series : closes) {
+            double close = 5_000;
+            for (int day = 0; day < series.length; day++) {
+                close *= 1 + random.nextGaussian() * 0.02;
+                series[day] = close;
+            }
+        }
+        int last = closes[0].length - 1;
+        double provisional = closes[0][last];
+        double settled = provisional * 1.08;
+
+        LshPatternIndex revised = new LshPatternIndex(WINDOW, TABLES, BITS, SEED);
+        LshPatternIndex expected = new LshPatternIndex(WINDOW, TABLES, BITS, SEED);
+        for (int s = 0; s < closes.length; s++) {
+            for (int day = 0; day < closes[s].length; day++) {
+                LocalDate date = START.plusDays(day);
+                revised.append(s + 1, date, closes[s][day]);
+                expected.append(s + 1, date, s == 0 && day == last ? settled : closes[s][day]);
+            }
+        }
+
+        assertThat(revised.append(1, START.plusDays(last), settled)).isTrue();
+        assertThat(revised.append(1, START.plusDays(last), settled)).isFalse();
+        assertThat(revised.windowCount()).isEqualTo(expected.windowCount());
+        assertThat(revised.lastDate(1)).contains(START.plusDays(last));
+        assertThat(revised.search(1, 10, 4)).isEqualTo(expected.search(1, 10, 4));
+        assertThat(revised.exactSearch(1, 10)).isEqualTo(expected.exactSearch(1, 10));
+    }
+
+    @Test
+    @DisplayName("인덱싱된 적 없는 과거 날짜는 무시한다")
+    void unknownPastDateIsIgnored() {
+        LshPatternIndex index = new LshPatternIndex(WINDOW, TABLES, BITS, SEED);
+        for (int day = 0; day < 30; day += 2) {
+            index.append(1, START.plusDays(day), 1_000 + day);
+        }
+
+        assertThat(index.append(1, START.plusDays(3), 999)).isFalse();
+        assertThat(index.lastDate(1)).contains(START.plusDays(28));
+    }
+
+    private static String key(PatternMatch match) {
+        return match.stockId() + ":" + match.endDate();
+    }
+}
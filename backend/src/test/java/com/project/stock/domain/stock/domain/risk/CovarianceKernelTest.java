@@ -0,0 +1,114 @@
+package com.project.stock.domain.stock.domain.risk;
+
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CovarianceKernelTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 2);
+    private static final double TOLERANCE = 1e-12;
+
+    @Test
+    @DisplayName("블록 크기와 관계없이 단순 Pearson 계산과 같은 공분산/상관계수를 낸다")
+    void matchesNaivePearson() {
+        // 37종목은 어떤 블록 크기(1 제외)로도 나누어떨어지지 않고, 관측 121일은 4배 풀기 내적의 나머지 경로를 지난다
+        int stocks = 37;
+        int lookback = 121;
+        Random random = new Random(17);
+        double[] common = closes(random, lookback + 1);
+        List<PriceSeries> series = new ArrayList<>();
+        for (int k = 0; k < stocks; k++) {
+            double beta = random.nextDouble();
+            double[] own = closes(random, lookback + 1);
+            double[] close = new double[lookback + 1];
+            for (int i = 0; i < close.length; i++) {
+                close[i] = Math.pow(common[i], beta) * Math.pow(own[i], 1 - beta);
+            }
+            series.add(series(k + 1, close));
+        }
+        ReturnMatrix returns = ReturnMatrix.of(series, lookback, 0.9);
+        double[][] naiveCovariance = naiveCovariance(series, lookback);
+
+        for (int blockSize : new int[]{1, 3, 8, 16, 37, 64}) {
+            double[] covariance = CovarianceKernel.covariance(returns, blockSize);
+            double[] correlation = CovarianceKernel.correlation(covariance, stocks);
+            for (int i = 0; i < stocks; i++) {
+                for (int j = 0; j < stocks; j++) {
+                    double expectedCorrelation = naiveCovariance[i][j]
+                        / Math.sqrt(naiveCovariance[i][i] * naiveCovariance[j][j]);
+                    assertThat(covariance[i * stocks + j]).as("block %d cov(%d,%d)", blockSize, i, j)
+                        .isCloseTo(naiveCovariance[i][j], within(TOLERANCE));
+                    assertThat(correlation[i * stocks + j]).as("block %d corr(%d,%d)", blockSize, i, j)
+                        .isCloseTo(expectedCorrelation, within(TOLERANCE));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("분산이 0인 종목의 상관계수는 0이고 대각은 1이다")
+    void zeroVarianceStockHasZeroCorrelation() {
+        double[] flat = new double[11];
+        Arrays.fill(flat, 1_000);
+        double[] moving = closes(new Random(3), 11);
+        ReturnMatrix returns = ReturnMatrix.of(List.of(series(1, flat), series(2, moving)), 10, 1.0);
+
+        double[] correlation = CovarianceKernel.correlation(CovarianceKernel.covariance(returns, 4), 2);
+
+        assertThat(correlation).containsExactly(1.0, 0.0, 0.0, 1.0);
+    }
+
+    /**
+     * 로그 수익률에서 평균을 따로 구해 빼는 두 단계 표본 공분산.
+     */
+    private static double[][] naiveCovariance(List<PriceSeries> series, int lookback) {
+        int n = series.size();
+        double[][] returns = new double[n][lookback];
+        double[] mean = new double[n];
+        for (int k = 0; k < n; k++) {
+            PriceSeries s = series.get(k);
+            for (int t = 0; t < lookback; t++) {
+                returns[k][t] = Math.log(s.close(t + 1) / s.close(t));
+                mean[k] += returns[k][t] / lookback;
+            }
+        }
+        double[][] covariance = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0;
+                for (int t = 0; t < lookback; t++) {
+                    sum += (returns[i][t] - mean[i]) * (returns[j][t] - mean[j]);
+                }
+                covariance[i][j] = sum / (lookback - 1);
+            }
+        }
+        return covariance;
+    }
+
+    private static double[] closes(Random random, int days) {
+        double[] close = new double[days];
+        close[0] = 10_000;
+        for (int i = 1; i < days; i++) {
+            close[i] = close[i - 1] * Math.exp(random.nextGaussian() * 0.02);
+        }
+        return close;
+    }
+
+    private static PriceSeries series(long stockId, double[] close) {
+        PriceSeries.Builder builder = new PriceSeries.Builder(stockId, String.format("%06d", stockId), null);
+        for (int i = 0; i < close.length; i++) {
+            builder.add(START.plusDays(i), close[i], close[i], close[i], close[i], 1_000L);
+        }
+        return builder.build();
+    }
+}
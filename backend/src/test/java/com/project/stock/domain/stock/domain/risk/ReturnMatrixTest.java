@@ -0,0 +1,99 @@
+package com.project.stock.domain.stock.domain.risk;
+
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ReturnMatrixTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 2);
+
+    @Test
+    @DisplayName("타임라인은 대상 종목 거래일 합집합의 최근 lookback+1일이다")
+    void timelineIsRecentUnionOfSessions() {
+        PriceSeries full = bars(1, 0, 100, 101, 102, 103, 104, 105);
+        PriceSeries late = bars(2, 3, 200, 202, 204);
+
+        ReturnMatrix returns = ReturnMatrix.of(List.of(full, late), 4, 0);
+
+        assertThat(returns.startDate()).isEqualTo(START.plusDays(1));
+        assertThat(returns.endDate()).isEqualTo(START.plusDays(5));
+        assertThat(returns.observations()).isEqualTo(4);
+        assertThat(returns.stockCodes()).containsExactly("000001", "000002");
+    }
+
+    @Test
+    @DisplayName("거래가 없는 날은 직전 종가로 채워 수익률 0이 되고, 다음 거래일 수익률은 직전 종가 기준이다")
+    void forwardFillsMissingSessions() {
+        PriceSeries reference = bars(1, 0, 100, 100, 100, 100, 100);
+        // 2일차 거래 없음
+        PriceSeries gappy = new PriceSeries.Builder(2L, "000002", null)
+            .add(START, 100, 100, 100, 100, 1L)
+            .add(START.plusDays(1), 110, 110, 110, 110, 1L)
+            .add(START.plusDays(3), 121, 121, 121, 121, 1L)
+            .add(START.plusDays(4), 121, 121, 121, 121, 1L)
+            .build();
+
+        ReturnMatrix returns = ReturnMatrix.of(List.of(reference, gappy), 4, 0.8);
+
+        double[] raw = {Math.log(1.1), 0, Math.log(1.1), 0};
+        double mean = (raw[0] + raw[2]) / 4;
+        double[] row = Arrays.copyOfRange(returns.values(), 4, 8);
+        for (int t = 0; t < 4; t++) {
+            assertThat(row[t]).isCloseTo(raw[t] - mean, within(1e-15));
+        }
+    }
+
+    @Test
+    @DisplayName("커버리지 기준에 못 미치는 종목은 제외하고 제외 목록에 남긴다")
+    void excludesStocksBelowCoverage() {
+        PriceSeries full = bars(1, 0, 100, 101, 102, 103, 104, 105);
+        PriceSeries sparse = bars(2, 4, 50, 51);
+
+        ReturnMatrix returns = ReturnMatrix.of(List.of(full, sparse), 5, 0.5);
+
+        assertThat(returns.stockCodes()).containsExactly("000001");
+        assertThat(returns.excludedCodes()).containsExactly("000002");
+        assertThat(returns.size()).isEqualTo(1);
+        assertThat(returns.values()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("타임라인 중간에 상장한 종목은 상장 전 구간을 수익률 0으로 채운다")
+    void fillsPreListingWithFirstClose() {
+        PriceSeries full = bars(1, 0, 100, 101, 102, 103, 104);
+        PriceSeries listed = bars(2, 2, 200, 220, 242);
+
+        ReturnMatrix returns = ReturnMatrix.of(List.of(full, listed), 4, 0.6);
+
+        double r = Math.log(1.1);
+        double mean = 2 * r / 4;
+        double[] row = Arrays.copyOfRange(returns.values(), 4, 8);
+        assertThat(row).containsExactly(new double[]{-mean, -mean, r - mean, r - mean}, within(1e-15));
+    }
+
+    @Test
+    @DisplayName("관측 일수가 부족하면 거부한다")
+    void rejectsTooFewSessions() {
+        assertThatThrownBy(() -> ReturnMatrix.of(List.of(bars(1, 0, 100, 101)), 5, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReturnMatrix.of(List.of(bars(1, 0, 100, 101, 102)), 1, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PriceSeries bars(long stockId, int firstDay, double... close) {
+        PriceSeries.Builder builder = new PriceSeries.Builder(stockId, String.format("%06d", stockId), null);
+        for (int i = 0; i < close.length; i++) {
+            builder.add(START.plusDays(firstDay + i), close[i], close[i], close[i], close[i], 1_000L);
+        }
+        return builder.build();
+    }
+}
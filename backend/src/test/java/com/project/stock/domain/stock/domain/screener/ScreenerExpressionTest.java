@@ -0,0 +1,156 @@
+package com.project.stock.domain.stock.domain.screener;
+
+import com.project.stock.domain.stock.domain.market.PriceSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ScreenerExpressionTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 2);
+    private static final double[] CLOSE = {10, 11, 12, 11, 13, 14};
+
+    private final PriceSeries series = series(CLOSE);
+    private final int last = CLOSE.length - 1;
+
+    @Test
+    @DisplayName("산술 연산자 우선순위와 단항 음수를 따른다")
+    void arithmeticPrecedence() {
+        assertThat(value("1 + 2 * 3")).isEqualTo(7);
+        assertThat(value("(1 + 2) * 3")).isEqualTo(9);
+        assertThat(value("10 - 4 - 3")).isEqualTo(3);
+        assertThat(value("-2 * -3")).isEqualTo(6);
+        assertThat(value("1 / 0")).isNaN();
+    }
+
+    @Test
+    @DisplayName("비교, AND/OR/NOT과 기호 표기, 대소문자 무시를 지원한다")
+    void logicAndComparison() {
+        assertThat(matches("close > open and volume >= 1000")).isTrue();
+        assertThat(matches("close > 100 or close == 14")).isTrue();
+        assertThat(matches("close = 14 && !(close > 20)")).isTrue();
+        assertThat(matches("CLOSE > 0 AND Volume > 0")).isTrue();
+        assertThat(matches("not close > 0 || close < 0")).isFalse();
+        assertThat(value("1 < 2 and 2 < 3 or 0")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("NaN과의 비교는 ==, != 포함 항상 거짓이다")
+    void nanComparisonsAreFalse() {
+        // 6봉 시계열에서 sma(10)은 NaN
+        assertThat(matches("sma(10) > 0")).isFalse();
+        assertThat(matches("sma(10) <= 0")).isFalse();
+        assertThat(matches("sma(10) == sma(10)")).isFalse();
+        assertThat(matches("sma(10) != 0")).isFalse();
+        assertThat(matches("sma(10)")).isFalse();
+    }
+
+    @Test
+    @DisplayName("[n]은 n봉 전 값이며 시계열 앞쪽을 벗어나면 NaN이다")
+    void lag() {
+        assertThat(value("close[1]")).isEqualTo(13);
+        assertThat(value("close[2][1]")).isEqualTo(12);
+        assertThat(value("sma(3)[1]")).isCloseTo(12.0, within(1e-12));
+        assertThat(ScreenerExpression.parse("close[1]").evaluate(series, 0)).isNaN();
+        assertThat(ScreenerExpression.parse("close > close[1]").matches(series, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("지표 함수는 Indicators 정의로 계산한다")
+    void indicatorFunctions() {
+        assertThat(value("sma(3)")).isCloseTo(38.0 / 3, within(1e-12));
+        assertThat(value("ema(3)")).isCloseTo(13.03125, within(1e-12));
+        assertThat(value("rsi(3)")).isCloseTo(75.0, within(1e-12));
+        assertThat(value("bb_upper(3) - bb_lower(3)")).isCloseTo(4 * Math.sqrt(7.0 / 3), within(1e-12));
+        assertThat(value("highest(3)")).isEqualTo(14);
+        assertThat(value("lowest(3)")).isEqualTo(11);
+        assertThat(value("change_pct(5)")).isCloseTo(40.0, within(1e-12));
+        assertThat(value("volume_sma(2)")).isEqualTo(1_050);
+        assertThat(value("macd_hist()")).isCloseTo(value("macd() - macd_signal()"), within(1e-12));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        " ",
+        "close $ 1",
+        "price > 0",
+        "foo(3) > 0",
+        "sma(3",
+        "sma() > 0",
+        "sma(0) > 0",
+        "sma(1001) > 0",
+        "sma(2.5) > 0",
+        "macd(3)",
+        "close 1",
+        "close >",
+        "(close > 1",
+        "close[-1]",
+        "1..2",
+    })
+    @DisplayName("문법 오류는 IllegalArgumentException으로 거부한다")
+    void rejectsInvalidExpressions(String source) {
+        assertThatThrownBy(() -> ScreenerExpression.parse(source))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("스크리너 식");
+    }
+
+    @Test
+    @DisplayName("너무 긴 식은 거부한다")
+    void rejectsTooLongExpression() {
+        String source = "close > 0" + " and close > 0".repeat(100);
+
+        assertThatThrownBy(() -> ScreenerExpression.parse(source))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("너무 깁니다");
+    }
+
+    @Test
+    @DisplayName("전체 구간 평가는 시점별 평가와 같은 값을 낸다")
+    void evaluateAllMatchesPointwise() {
+        Random random = new Random(13);
+        double[] close = new double[400];
+        close[0] = 10_000;
+        for (int i = 1; i < close.length; i++) {
+            close[i] = close[i - 1] * (1 + random.nextGaussian() * 0.02);
+        }
+        PriceSeries longSeries = series(close);
+        ScreenerExpression expression = ScreenerExpression.parse(
+            "(ema(12) > ema(26) and rsi(14) < 70 or macd_hist()[1] < 0) and close > sma(20) - 2 * stddev(20)"
+                + " and volume > volume_sma(5)[3] * 0.5 and not change_pct(10) > 30");
+
+        double[] all = expression.evaluateAll(longSeries);
+        boolean[] matches = expression.matchesAll(longSeries);
+        assertThat(all).hasSize(close.length);
+        for (int i = 0; i < close.length; i++) {
+            assertThat(all[i]).as("index %d", i).isEqualTo(expression.evaluate(longSeries, i));
+            assertThat(matches[i]).as("index %d", i).isEqualTo(expression.matches(longSeries, i));
+        }
+        assertThat(matches).contains(true, false);
+    }
+
+    private double value(String source) {
+        return ScreenerExpression.parse(source).evaluate(series, last);
+    }
+
+    private boolean matches(String source) {
+        return ScreenerExpression.parse(source).matches(series, last);
+    }
+
+    private static PriceSeries series(double[] close) {
+        PriceSeries.Builder builder = new PriceSeries.Builder(1L, "005930", "삼성전자");
+        for (int i = 0; i < close.length; i++) {
+            double open = i == 0 ? close[i] : close[i - 1];
+            builder.add(START.plusDays(i), open, Math.max(open, close[i]) + 1, Math.min(open, close[i]) - 1, close[i],
+                1_000L + (i % 2) * 100L);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.stock.support;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * PostgreSQL 통합 테스트 지원.
+ * 테스트 클래스는 {@code @Container @ServiceConnection}으로 컨테이너를 데이터소스에 연결하고,
+ * 스키마는 엔티티 매핑으로 만듭니다({@link #SCHEMA_FROM_ENTITIES}). Docker가 없는 환경에서는 건너뛰어집니다.
+ */
+public final class PostgresTestSupport {
+
+    /**
+     * 운영은 ddl-auto=validate이므로, 테스트에서는 엔티티 매핑으로 스키마를 만들고 끝나면 지웁니다.
+     */
+    public static final String SCHEMA_FROM_ENTITIES = "spring.jpa.hibernate.ddl-auto=create-drop";
+
+    private PostgresTestSupport() {
+    }
+
+    /**
+     * docker-compose와 같은 버전의 PostgreSQL.
+     */
+    public static PostgreSQLContainer<?> container() {
+        return new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+    }
+}
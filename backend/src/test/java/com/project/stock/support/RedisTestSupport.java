@@ -0,0 +1,46 @@
+package com.project.stock.support;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Redis 통합 테스트 지원.
+ * 테스트 클래스는 {@code @Testcontainers(disabledWithoutDocker = true)}와 {@code @Container}로 컨테이너를 띄우며,
+ * Docker가 없는 환경에서는 건너뛰어집니다.
+ */
+public final class RedisTestSupport {
+
+    private static final int REDIS_PORT = 6379;
+
+    private RedisTestSupport() {
+    }
+
+    public static GenericContainer<?> container() {
+        return new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(REDIS_PORT);
+    }
+
+    public static LettuceConnectionFactory connectionFactory(GenericContainer<?> redis) {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
+        config.setHostName(redis.getHost());
+        config.setPort(redis.getMappedPort(REDIS_PORT));
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    /**
+     * 운영 설정(RedisConfig)과 같은 직렬화 방식의 템플릿.
+     */
+    public static RedisTemplate<String, String> template(LettuceConnectionFactory connectionFactory) {
+        RedisTemplate<String, String> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+}